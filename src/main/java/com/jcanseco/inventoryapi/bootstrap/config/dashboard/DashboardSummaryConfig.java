@@ -0,0 +1,36 @@
+package com.jcanseco.inventoryapi.bootstrap.config.dashboard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * The dashboard summary computes its widgets on its own bounded pool, so a burst of dashboard
+ * loads queues here instead of starving the event listeners or the request threads.
+ */
+@Configuration
+public class DashboardSummaryConfig {
+
+    @Value("${app.dashboard.summary.max-threads:8}")
+    private int maxThreads;
+
+    @Value("${app.dashboard.summary.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Bean("dashboardTaskExecutor")
+    public ThreadPoolTaskExecutor dashboardTaskExecutor() {
+        var taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(maxThreads);
+        taskExecutor.setMaxPoolSize(maxThreads);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setThreadNamePrefix("inventory-api-dashboard-");
+        return taskExecutor;
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,33 @@
+package com.jcanseco.inventoryapi.bootstrap.config.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Streaming responses run on their own pool so long downloads do not hold the threads used by event
+ * listeners or by the rest of the asynchronous requests.
+ */
+@Configuration
+public class StreamingConfig {
+
+    @Value("${app.streaming.max-concurrent:4}")
+    private int maxConcurrent;
+
+    @Bean("streamingTaskExecutor")
+    public ThreadPoolTaskExecutor streamingTaskExecutor() {
+        var taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(maxConcurrent);
+        taskExecutor.setMaxPoolSize(maxConcurrent);
+        taskExecutor.setQueueCapacity(maxConcurrent * 4);
+        taskExecutor.setThreadNamePrefix("inventory-api-streaming-");
+        return taskExecutor;
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,32 @@
+package com.jcanseco.inventoryapi.bootstrap.data.catalog;
+
+import com.jcanseco.inventoryapi.catalog.products.search.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the product search index once the seed products are in place.
+ */
+@Profile("!test")
+@Order(14)
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexInitializer implements ApplicationRunner {
+
+    private final ProductSearchIndex productSearchIndex;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        productSearchIndex.reload();
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,32 @@
+package com.jcanseco.inventoryapi.bootstrap.data.customers;
+
+import com.jcanseco.inventoryapi.customers.search.CustomerTypeaheadIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the customer typeahead index once the seed customers are in place.
+ */
+@Profile("!test")
+@Order(15)
+@Component
+@RequiredArgsConstructor
+public class CustomerTypeaheadIndexInitializer implements ApplicationRunner {
+
+    private final CustomerTypeaheadIndex customerTypeaheadIndex;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        customerTypeaheadIndex.reload();
+    }
+}
+
+
+
+
+
+
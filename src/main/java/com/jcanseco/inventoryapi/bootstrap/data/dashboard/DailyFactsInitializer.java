@@ -0,0 +1,32 @@
+package com.jcanseco.inventoryapi.bootstrap.data.dashboard;
+
+import com.jcanseco.inventoryapi.dashboard.usecases.RebuildDailyFactsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the dashboard daily facts once the seed orders and purchases are in place.
+ */
+@Profile("!test")
+@Order(17)
+@Component
+@RequiredArgsConstructor
+public class DailyFactsInitializer implements ApplicationRunner {
+
+    private final RebuildDailyFactsUseCase rebuildDailyFactsUseCase;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        rebuildDailyFactsUseCase.execute();
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,32 @@
+package com.jcanseco.inventoryapi.bootstrap.data.dashboard;
+
+import com.jcanseco.inventoryapi.dashboard.rankings.DashboardRankings;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the dashboard rankings once the daily facts are built.
+ */
+@Profile("!test")
+@Order(18)
+@Component
+@RequiredArgsConstructor
+public class DashboardRankingsInitializer implements ApplicationRunner {
+
+    private final DashboardRankings dashboardRankings;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        dashboardRankings.reload();
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,38 @@
+package com.jcanseco.inventoryapi.bootstrap.data.dashboard;
+
+import com.jcanseco.inventoryapi.dashboard.aggregates.InventoryAggregates;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the inventory aggregates once the seed stock is in place.
+ */
+@Profile("!test")
+@Order(20)
+@Component
+@RequiredArgsConstructor
+public class InventoryAggregatesInitializer implements ApplicationRunner {
+
+    private final InventoryAggregates inventoryAggregates;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        inventoryAggregates.reload();
+    }
+}
+
+
+
+
+
+
+
+
+
+
+
+
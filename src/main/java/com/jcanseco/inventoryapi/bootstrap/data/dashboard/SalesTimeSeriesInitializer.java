@@ -0,0 +1,32 @@
+package com.jcanseco.inventoryapi.bootstrap.data.dashboard;
+
+import com.jcanseco.inventoryapi.dashboard.series.SalesTimeSeries;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the sales series once the seed orders are delivered.
+ */
+@Profile("!test")
+@Order(19)
+@Component
+@RequiredArgsConstructor
+public class SalesTimeSeriesInitializer implements ApplicationRunner {
+
+    private final SalesTimeSeries salesTimeSeries;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        salesTimeSeries.reload();
+    }
+}
+
+
+
+
+
+
@@ -227,9 +227,12 @@ public class RolesDataInitializer implements ApplicationRunner {
                         permissionOf(Users, View),
                         permissionOf(Users, Export),
                         permissionOf(Products, View),
+                        permissionOf(Products, Export),
                         permissionOf(Purchases, View),
                         permissionOf(Orders, View),
+                        permissionOf(Orders, Export),
                         permissionOf(Customers, View),
+                        permissionOf(Customers, Export),
                         permissionOf(Suppliers, View)
                 )),
 
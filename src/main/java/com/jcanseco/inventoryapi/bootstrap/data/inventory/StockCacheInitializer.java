@@ -0,0 +1,26 @@
+package com.jcanseco.inventoryapi.bootstrap.data.inventory;
+
+import com.jcanseco.inventoryapi.inventory.stock.cache.StockCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the stock cache once the seed data and reservations are in place.
+ */
+@Profile("!test")
+@Order(13)
+@Component
+@RequiredArgsConstructor
+public class StockCacheInitializer implements ApplicationRunner {
+
+    private final StockCache stockCache;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        stockCache.reload();
+    }
+}
@@ -0,0 +1,34 @@
+package com.jcanseco.inventoryapi.bootstrap.data.inventory;
+
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockMovementRepository;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Opens the stock movement ledger with the current quantity of every product that has no movements yet,
+ * so the stock that existed before the ledger is part of the as-of quantities.
+ */
+@Profile("!test")
+@Order(12)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockLedgerDataInitializer implements ApplicationRunner {
+
+    private final StockMovementRepository stockMovementRepository;
+    private final ClockProvider clockProvider;
+
+    @Transactional
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        var openedProducts = stockMovementRepository.recordOpeningBalances(clockProvider.now());
+        log.info("Recorded opening stock balances for {} products.", openedProducts);
+    }
+}
@@ -0,0 +1,33 @@
+package com.jcanseco.inventoryapi.bootstrap.data.inventory;
+
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Rebuilds the reserved quantities from the orders that are still pending delivery,
+ * so orders created before reservations existed keep holding their stock.
+ */
+@Profile("!test")
+@Order(11)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationDataInitializer implements ApplicationRunner {
+
+    private final StockRepository stockRepository;
+
+    @Transactional
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Recalculating stock reservations from pending orders.");
+        var updatedRows = stockRepository.recalculateReservations();
+        log.info("Stock reservations recalculated for {} products.", updatedRows);
+    }
+}
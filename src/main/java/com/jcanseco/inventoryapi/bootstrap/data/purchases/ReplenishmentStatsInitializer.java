@@ -0,0 +1,32 @@
+package com.jcanseco.inventoryapi.bootstrap.data.purchases;
+
+import com.jcanseco.inventoryapi.purchases.replenishment.ReplenishmentStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the replenishment statistics once the seed orders and purchases are in place.
+ */
+@Profile("!test")
+@Order(21)
+@Component
+@RequiredArgsConstructor
+public class ReplenishmentStatsInitializer implements ApplicationRunner {
+
+    private final ReplenishmentStats replenishmentStats;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        replenishmentStats.reload();
+    }
+}
+
+
+
+
+
+
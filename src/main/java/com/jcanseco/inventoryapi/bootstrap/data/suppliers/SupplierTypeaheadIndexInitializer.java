@@ -0,0 +1,32 @@
+package com.jcanseco.inventoryapi.bootstrap.data.suppliers;
+
+import com.jcanseco.inventoryapi.suppliers.search.SupplierTypeaheadIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the supplier typeahead index once the seed suppliers are in place.
+ */
+@Profile("!test")
+@Order(16)
+@Component
+@RequiredArgsConstructor
+public class SupplierTypeaheadIndexInitializer implements ApplicationRunner {
+
+    private final SupplierTypeaheadIndex supplierTypeaheadIndex;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        supplierTypeaheadIndex.reload();
+    }
+}
+
+
+
+
+
+
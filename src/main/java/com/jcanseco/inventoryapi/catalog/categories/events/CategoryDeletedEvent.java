@@ -0,0 +1,3 @@
+package com.jcanseco.inventoryapi.catalog.categories.events;
+
+public record CategoryDeletedEvent(long categoryId) {}
@@ -1,10 +1,13 @@
 package com.jcanseco.inventoryapi.catalog.categories.usecases.create;
 
 import com.jcanseco.inventoryapi.catalog.categories.dto.CreateCategoryDto;
+import com.jcanseco.inventoryapi.catalog.categories.events.CategorySavedEvent;
 import com.jcanseco.inventoryapi.catalog.categories.mapping.CategoryMapper;
 import com.jcanseco.inventoryapi.catalog.categories.persistence.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -12,10 +15,13 @@ public class CreateCategoryUseCase {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public Long execute(CreateCategoryDto dto) {
         var category = categoryMapper.createDtoToEntity(dto);
         var newCategory = categoryRepository.saveAndFlush(category);
+        eventPublisher.publishEvent(new CategorySavedEvent(newCategory.getId(), newCategory.getName()));
         return newCategory.getId();
     }
 }
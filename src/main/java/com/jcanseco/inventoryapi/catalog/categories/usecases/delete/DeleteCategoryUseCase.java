@@ -1,9 +1,12 @@
 package com.jcanseco.inventoryapi.catalog.categories.usecases.delete;
 
+import com.jcanseco.inventoryapi.catalog.categories.events.CategoryDeletedEvent;
 import com.jcanseco.inventoryapi.catalog.categories.persistence.CategoryRepository;
 import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -12,13 +15,16 @@ public class DeleteCategoryUseCase {
     private static final String NOT_FOUND_CATEGORY_MESSAGE = "Category with the Id {%d} was not found.";
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public void execute(Long categoryId) {
         var category = categoryRepository
                 .findById(categoryId)
                 .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_CATEGORY_MESSAGE, categoryId)));
 
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CategoryDeletedEvent(categoryId));
     }
 }
 
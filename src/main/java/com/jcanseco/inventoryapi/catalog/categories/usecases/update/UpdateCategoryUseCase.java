@@ -1,10 +1,13 @@
 package com.jcanseco.inventoryapi.catalog.categories.usecases.update;
 
 import com.jcanseco.inventoryapi.catalog.categories.dto.UpdateCategoryDto;
+import com.jcanseco.inventoryapi.catalog.categories.events.CategorySavedEvent;
 import com.jcanseco.inventoryapi.catalog.categories.persistence.CategoryRepository;
 import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -13,7 +16,9 @@ public class UpdateCategoryUseCase {
     private static final String NOT_FOUND_CATEGORY_MESSAGE = "Category with the Id {%d} was not found.";
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public void execute(UpdateCategoryDto dto) {
         var category = categoryRepository
                 .findById(dto.getCategoryId())
@@ -21,6 +26,7 @@ public class UpdateCategoryUseCase {
 
         category.setName(dto.getName());
         categoryRepository.saveAndFlush(category);
+        eventPublisher.publishEvent(new CategorySavedEvent(category.getId(), category.getName()));
     }
 }
 
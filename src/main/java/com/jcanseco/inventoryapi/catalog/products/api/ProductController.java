@@ -4,20 +4,33 @@ import com.jcanseco.inventoryapi.catalog.products.dto.CreateProductDto;
 import com.jcanseco.inventoryapi.catalog.products.dto.GetProductsRequest;
 import com.jcanseco.inventoryapi.catalog.products.dto.ProductDetailsDto;
 import com.jcanseco.inventoryapi.catalog.products.dto.ProductDto;
+import com.jcanseco.inventoryapi.catalog.products.dto.ProductImportDto;
 import com.jcanseco.inventoryapi.catalog.products.dto.UpdateProductDto;
 import com.jcanseco.inventoryapi.catalog.products.usecases.create.CreateProductUseCase;
 import com.jcanseco.inventoryapi.catalog.products.usecases.delete.DeleteProductUseCase;
+import com.jcanseco.inventoryapi.catalog.products.usecases.export.ExportProductsUseCase;
 import com.jcanseco.inventoryapi.catalog.products.usecases.getall.GetProductsUseCase;
 import com.jcanseco.inventoryapi.catalog.products.usecases.getbyid.GetProductByIdUseCase;
+import com.jcanseco.inventoryapi.catalog.products.usecases.getimport.GetProductImportUseCase;
+import com.jcanseco.inventoryapi.catalog.products.usecases.importcsv.ImportProductsUseCase;
 import com.jcanseco.inventoryapi.catalog.products.usecases.update.UpdateProductUseCase;
+import com.jcanseco.inventoryapi.shared.export.ExportResponses;
+import com.jcanseco.inventoryapi.shared.streaming.StreamingResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @Validated
 @RestControllerAdvice
@@ -31,6 +44,11 @@ public class ProductController {
     private final DeleteProductUseCase deleteProductUseCase;
     private final GetProductByIdUseCase getProductByIdUseCase;
     private final GetProductsUseCase getProductsUseCase;
+    private final ExportProductsUseCase exportProductsUseCase;
+    private final ImportProductsUseCase importProductsUseCase;
+    private final GetProductImportUseCase getProductImportUseCase;
+    private final ExportResponses exportResponses;
+    private final StreamingResponses streamingResponses;
 
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.Create))")
     @PostMapping
@@ -40,6 +58,31 @@ public class ProductController {
         return ResponseEntity.created(location).body(productId);
     }
 
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.Create))")
+    @PostMapping(value = "imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProductImportDto> importProducts(@RequestParam("file") MultipartFile file) throws URISyntaxException {
+        var response = importProductsUseCase.execute(file);
+        var location = new URI("/api/products/imports/" + response.getId());
+        return ResponseEntity.accepted().location(location).body(response);
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.Create))")
+    @GetMapping("imports/{importId}")
+    public ResponseEntity<ProductImportDto> getImport(@PathVariable String importId) {
+        return ResponseEntity.ok(getProductImportUseCase.execute(importId));
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.Create))")
+    @GetMapping("imports/{importId}/errors")
+    public ResponseEntity<Resource> getImportErrors(@PathVariable String importId) {
+        var report = getProductImportUseCase.getErrorReport(importId);
+        var fileName = "product-import-errors-" + importId + ".csv";
+        return ResponseEntity.ok()
+                .contentType(StreamingResponses.TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(report);
+    }
+
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.Update))")
     @PutMapping("{productId}")
     public ResponseEntity<?> update(@PathVariable Long productId, @RequestBody @Valid UpdateProductDto dto) {
@@ -67,9 +110,30 @@ public class ProductController {
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.View))")
     @GetMapping
     public ResponseEntity<?> getAll(@Valid GetProductsRequest request) {
+        if (request.getCursor() != null) {
+            return ResponseEntity.ok(getProductsUseCase.executeCursorPaged(request));
+        }
         if (request.getPageSize() == null || request.getPageNumber() == null) {
             return ResponseEntity.ok(getProductsUseCase.execute(request));
         }
         return ResponseEntity.ok(getProductsUseCase.executePaged(request));
     }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.Export))")
+    @GetMapping("export")
+    public WebAsyncTask<Void> export(
+            @RequestParam(defaultValue = "csv") String format,
+            @Valid GetProductsRequest request,
+            HttpServletResponse response) {
+        return exportResponses.ok(format, exportProductsUseCase.execute(request), response);
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.View))")
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, StreamingResponses.TEXT_CSV_VALUE})
+    public WebAsyncTask<Void> stream(
+            @RequestHeader(HttpHeaders.ACCEPT) String accept,
+            @Valid GetProductsRequest request,
+            HttpServletResponse response) {
+        return streamingResponses.ok(accept, getProductsUseCase.stream(request), response);
+    }
 }
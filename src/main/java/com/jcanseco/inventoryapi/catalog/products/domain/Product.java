@@ -25,6 +25,9 @@ import lombok.*;
 @Entity
 @Table(name = "products")
 public class Product {
+    public static final long DEFAULT_REORDER_POINT = 10L;
+    public static final long DEFAULT_REORDER_QUANTITY = 0L;
+
     @GeneratedValue(strategy =  GenerationType.IDENTITY)
     @Id
     private Long id;
@@ -38,6 +41,20 @@ public class Product {
     @Column(nullable = false, precision = 8, scale = 2)
     private BigDecimal salePrice;
 
+    /**
+     * Stock level at or below which the product needs replenishing.
+     */
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 10")
+    private Long reorderPoint = DEFAULT_REORDER_POINT;
+
+    /**
+     * Quantity usually ordered when the product is replenished.
+     */
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long reorderQuantity = DEFAULT_REORDER_QUANTITY;
+
     @ManyToOne
     @JoinColumn(name = "supplier_id", referencedColumnName = "id")
     private Supplier supplier;
@@ -0,0 +1,51 @@
+package com.jcanseco.inventoryapi.catalog.products.dto;
+
+import com.jcanseco.inventoryapi.catalog.products.validation.ValidProductPrices;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+/**
+ * One row of a products CSV import. Supplier, category and unit hold either an id or a name.
+ */
+@EqualsAndHashCode(callSuper = false)
+@Builder
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ValidProductPrices
+public class ImportProductRowDto extends ProductPricesDto {
+
+    @NotBlank
+    @Size(max = 50)
+    private String name;
+
+    @NotBlank
+    private String supplier;
+
+    @NotBlank
+    private String category;
+
+    @NotBlank
+    private String unit;
+
+    @DecimalMin(value = "0.01")
+    @DecimalMax(value = "999999.99")
+    @NotNull
+    private Double purchasePrice;
+
+    @DecimalMin(value = "0.01")
+    @DecimalMax(value = "999999.99")
+    @NotNull
+    private Double salePrice;
+
+    @Min(0)
+    @NotNull
+    private Long quantity;
+}
+
+
+
+
+
+
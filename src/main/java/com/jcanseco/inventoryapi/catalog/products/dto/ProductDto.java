@@ -27,6 +27,8 @@ public class ProductDto {
     private Long stock;
     private Double purchasePrice;
     private Double salePrice;
+    private Long reorderPoint;
+    private Long reorderQuantity;
 }
 
 
@@ -0,0 +1,35 @@
+package com.jcanseco.inventoryapi.catalog.products.dto;
+
+import com.jcanseco.inventoryapi.catalog.products.imports.ProductImportStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@EqualsAndHashCode
+@Builder
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportDto {
+    private String id;
+    private String fileName;
+    private ProductImportStatus status;
+    private String message;
+    private int progress;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
+
+
+
+
+
+
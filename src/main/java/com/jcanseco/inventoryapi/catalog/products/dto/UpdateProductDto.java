@@ -41,6 +41,12 @@ public class UpdateProductDto extends ProductPricesDto {
     @DecimalMin(value = "0.01")
     @NotNull
     private Double salePrice;
+
+    @Min(0)
+    private Long reorderPoint;
+
+    @Min(0)
+    private Long reorderQuantity;
 }
 
 
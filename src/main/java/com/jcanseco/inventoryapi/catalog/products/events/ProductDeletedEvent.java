@@ -0,0 +1,3 @@
+package com.jcanseco.inventoryapi.catalog.products.events;
+
+public record ProductDeletedEvent(long productId) {}
@@ -0,0 +1,6 @@
+package com.jcanseco.inventoryapi.catalog.products.events;
+
+import java.math.BigDecimal;
+
+public record ProductUpdatedEvent(long productId, String name, long supplierId, long categoryId, long unitId,
+                                  BigDecimal purchasePrice, long reorderPoint, long reorderQuantity) {}
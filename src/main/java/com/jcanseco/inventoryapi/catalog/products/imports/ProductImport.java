@@ -0,0 +1,85 @@
+package com.jcanseco.inventoryapi.catalog.products.imports;
+
+import com.jcanseco.inventoryapi.catalog.products.dto.ProductImportDto;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * Progress of one products CSV import. Counters are updated by the import thread and read by pollers.
+ */
+@Getter
+public class ProductImport {
+
+    private final String id;
+    private final String fileName;
+    private final long fileSize;
+    private final Path file;
+    private final Path errorReport;
+    private final LocalDateTime startedAt;
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private volatile ProductImportStatus status = ProductImportStatus.PENDING;
+    private volatile String message;
+    private volatile LocalDateTime finishedAt;
+
+    public ProductImport(String id, String fileName, long fileSize, Path file, Path errorReport, LocalDateTime startedAt) {
+        this.id = id;
+        this.fileName = fileName;
+        this.fileSize = fileSize;
+        this.file = file;
+        this.errorReport = errorReport;
+        this.startedAt = startedAt;
+    }
+
+    public boolean isFinished() {
+        return status == ProductImportStatus.COMPLETED || status == ProductImportStatus.FAILED;
+    }
+
+    public void start() {
+        status = ProductImportStatus.RUNNING;
+    }
+
+    public void complete(LocalDateTime now) {
+        finishedAt = now;
+        status = ProductImportStatus.COMPLETED;
+    }
+
+    public void fail(String message, LocalDateTime now) {
+        this.message = message;
+        finishedAt = now;
+        status = ProductImportStatus.FAILED;
+    }
+
+    // Progress is measured in bytes because the number of rows is unknown until the file is fully read.
+    public int getProgress() {
+        if (status == ProductImportStatus.COMPLETED) {
+            return 100;
+        }
+        return fileSize == 0 ? 0 : (int) Math.min(99, bytesRead.get() * 100 / fileSize);
+    }
+
+    public ProductImportDto toDto() {
+        return ProductImportDto.builder()
+                .id(id)
+                .fileName(fileName)
+                .status(status)
+                .message(message)
+                .progress(getProgress())
+                .processedRows(processedRows.get())
+                .importedRows(importedRows.get())
+                .failedRows(failedRows.get())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
+
+
+
+
+
+
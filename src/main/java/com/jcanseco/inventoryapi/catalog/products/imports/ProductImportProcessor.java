@@ -0,0 +1,245 @@
+package com.jcanseco.inventoryapi.catalog.products.imports;
+
+import com.jcanseco.inventoryapi.catalog.products.dto.ImportProductRowDto;
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import com.jcanseco.inventoryapi.shared.export.CsvTableWriter;
+import com.jcanseco.inventoryapi.shared.export.TableWriter;
+import com.jcanseco.inventoryapi.shared.streaming.CsvReader;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import jakarta.validation.Validator;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads an uploaded products CSV row by row, validates each row like {@code POST api/products} does and
+ * hands valid rows to {@link ProductImportWriter} in batches. Rejected rows are written to the import's
+ * error report together with their line number.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductImportProcessor {
+
+    public static final int BATCH_SIZE = 500;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "supplier", "category", "unit", "purchasePrice", "salePrice");
+    private static final List<String> REPORT_HEADER = List.of("Line", "Name", "Errors");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductImportWriter productImportWriter;
+    private final Validator validator;
+    private final ClockProvider clockProvider;
+
+    @Async
+    public void process(ProductImport productImport) {
+        productImport.start();
+        try (var input = new CountingInputStream(Files.newInputStream(productImport.getFile()), productImport.getBytesRead());
+             var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+             var report = new BufferedOutputStream(Files.newOutputStream(productImport.getErrorReport()))) {
+            var errors = new CsvTableWriter(report);
+            errors.writeRow(REPORT_HEADER);
+            importRows(productImport, new CsvReader(reader), errors);
+            errors.finish();
+            productImport.complete(clockProvider.now());
+            log.info("Product import {} completed: {} imported, {} failed.",
+                    productImport.getId(), productImport.getImportedRows(), productImport.getFailedRows());
+        } catch (DomainException e) {
+            productImport.fail(e.getMessage(), clockProvider.now());
+        } catch (IOException | RuntimeException e) {
+            log.error("Product import {} failed.", productImport.getId(), e);
+            productImport.fail("The file could not be imported.", clockProvider.now());
+        } finally {
+            ProductImportRegistry.deleteQuietly(productImport.getFile());
+        }
+    }
+
+    private void importRows(ProductImport productImport, CsvReader csv, TableWriter errors) throws IOException {
+        var columns = readColumns(csv);
+        var references = ProductImportReferences.load(jdbcTemplate);
+        var batch = new ArrayList<ProductImportRow>(BATCH_SIZE);
+
+        for (var values = csv.readRow(); values != null; values = csv.readRow()) {
+            productImport.getProcessedRows().incrementAndGet();
+            var line = csv.getLineNumber();
+            var rowErrors = new LinkedHashMap<String, String>();
+            var row = parseRow(line, values, columns, references, rowErrors);
+            if (row == null) {
+                productImport.getFailedRows().incrementAndGet();
+                errors.writeRow(List.of(line, valueOf(values, columns, "name"), describe(rowErrors)));
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                writeBatch(productImport, batch, errors);
+            }
+        }
+        writeBatch(productImport, batch, errors);
+    }
+
+    private void writeBatch(ProductImport productImport, List<ProductImportRow> batch, TableWriter errors) {
+        var inserted = productImportWriter.insert(batch, (row, message) -> {
+            productImport.getFailedRows().incrementAndGet();
+            try {
+                errors.writeRow(List.of(row.line(), row.name(), message));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        productImport.getImportedRows().addAndGet(inserted);
+        batch.clear();
+    }
+
+    // Header names are matched ignoring case, spaces and underscores; "supplierId" is accepted for "supplier".
+    private static Map<String, Integer> readColumns(CsvReader csv) throws IOException {
+        var header = csv.readRow();
+        if (header == null) {
+            throw new DomainException("The file is empty.");
+        }
+        var columns = new HashMap<String, Integer>();
+        for (int i = 0; i < header.size(); i++) {
+            var name = header.get(i).replace("\uFEFF", "").replaceAll("[\\s_]", "").toLowerCase(Locale.ROOT);
+            if (name.endsWith("id") && name.length() > 2) {
+                name = name.substring(0, name.length() - 2);
+            }
+            columns.putIfAbsent(name, i);
+        }
+        var missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column.toLowerCase(Locale.ROOT)))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new DomainException(String.format("The file is missing the columns : %s.", missing));
+        }
+        return columns;
+    }
+
+    private ProductImportRow parseRow(
+            long line,
+            List<String> values,
+            Map<String, Integer> columns,
+            ProductImportReferences references,
+            Map<String, String> errors) {
+        var dto = ImportProductRowDto.builder()
+                .name(valueOf(values, columns, "name"))
+                .supplier(valueOf(values, columns, "supplier"))
+                .category(valueOf(values, columns, "category"))
+                .unit(valueOf(values, columns, "unit"))
+                .purchasePrice(parseDouble(valueOf(values, columns, "purchasePrice"), "purchasePrice", errors))
+                .salePrice(parseDouble(valueOf(values, columns, "salePrice"), "salePrice", errors))
+                .quantity(parseQuantity(valueOf(values, columns, "quantity"), errors))
+                .build();
+
+        for (var violation : validator.validate(dto)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        var supplierId = references.resolveSupplier(dto.getSupplier(), errors);
+        var categoryId = references.resolveCategory(dto.getCategory(), errors);
+        var unitId = references.resolveUnit(dto.getUnit(), errors);
+        if (!errors.isEmpty()) {
+            return null;
+        }
+
+        return new ProductImportRow(
+                line,
+                dto.getName().trim(),
+                supplierId,
+                categoryId,
+                unitId,
+                BigDecimal.valueOf(dto.getPurchasePrice()),
+                BigDecimal.valueOf(dto.getSalePrice()),
+                dto.getQuantity());
+    }
+
+    private static String valueOf(List<String> values, Map<String, Integer> columns, String column) {
+        var index = columns.get(column.toLowerCase(Locale.ROOT));
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        var value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Double parseDouble(String value, String column, Map<String, String> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            errors.put(column, String.format("'%s' is not a valid number", value));
+            return null;
+        }
+    }
+
+    // The quantity column is optional and defaults to no stock.
+    private static Long parseQuantity(String value, Map<String, String> errors) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            errors.put("quantity", String.format("'%s' is not a valid quantity", value));
+            return null;
+        }
+    }
+
+    private static String describe(Map<String, String> errors) {
+        return errors.entrySet().stream()
+                .map(error -> error.getKey() + ": " + error.getValue())
+                .collect(Collectors.joining("; "));
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        CountingInputStream(InputStream input, AtomicLong count) {
+            super(input);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = super.read();
+            if (b != -1) {
+                count.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var n = super.read(b, off, len);
+            if (n > 0) {
+                count.addAndGet(n);
+            }
+            return n;
+        }
+    }
+}
+
+
+
+
+
+
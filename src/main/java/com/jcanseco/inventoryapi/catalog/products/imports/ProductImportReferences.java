@@ -0,0 +1,99 @@
+package com.jcanseco.inventoryapi.catalog.products.imports;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Snapshot of the suppliers, categories and units taken when an import starts, so each row is resolved
+ * in memory instead of with three lookups. A value is matched as an id first and then as a name.
+ */
+public class ProductImportReferences {
+
+    private final Table suppliers;
+    private final Table categories;
+    private final Table units;
+
+    private ProductImportReferences(Table suppliers, Table categories, Table units) {
+        this.suppliers = suppliers;
+        this.categories = categories;
+        this.units = units;
+    }
+
+    public static ProductImportReferences load(JdbcTemplate jdbcTemplate) {
+        return new ProductImportReferences(
+                Table.load(jdbcTemplate, "SELECT id, company_name FROM suppliers", "Supplier"),
+                Table.load(jdbcTemplate, "SELECT id, name FROM categories", "Category"),
+                Table.load(jdbcTemplate, "SELECT id, name FROM units_of_measurement", "Unit Of Measurement")
+        );
+    }
+
+    public Long resolveSupplier(String value, Map<String, String> errors) {
+        return suppliers.resolve(value, "supplier", errors);
+    }
+
+    public Long resolveCategory(String value, Map<String, String> errors) {
+        return categories.resolve(value, "category", errors);
+    }
+
+    public Long resolveUnit(String value, Map<String, String> errors) {
+        return units.resolve(value, "unit", errors);
+    }
+
+    private record Table(String entityName, Set<Long> ids, Map<String, Long> idsByName, Set<String> ambiguousNames) {
+
+        static Table load(JdbcTemplate jdbcTemplate, String sql, String entityName) {
+            var table = new Table(entityName, new HashSet<>(), new HashMap<>(), new HashSet<>());
+            jdbcTemplate.query(sql, rs -> {
+                var id = rs.getLong(1);
+                var name = normalize(rs.getString(2));
+                table.ids().add(id);
+                if (table.idsByName().putIfAbsent(name, id) != null) {
+                    table.ambiguousNames().add(name);
+                }
+            });
+            return table;
+        }
+
+        Long resolve(String value, String column, Map<String, String> errors) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            var id = parseId(value);
+            if (id != null && ids.contains(id)) {
+                return id;
+            }
+            var name = normalize(value);
+            if (ambiguousNames.contains(name)) {
+                errors.put(column, String.format("More than one %s is named '%s', use its Id instead.", entityName, value.trim()));
+                return null;
+            }
+            id = idsByName.get(name);
+            if (id == null) {
+                errors.put(column, String.format("The %s '%s' was not found.", entityName, value.trim()));
+            }
+            return id;
+        }
+
+        private static Long parseId(String value) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static String normalize(String name) {
+            return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
+
+
+
+
+
+
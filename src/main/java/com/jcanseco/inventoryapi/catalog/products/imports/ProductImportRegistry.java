@@ -0,0 +1,75 @@
+package com.jcanseco.inventoryapi.catalog.products.imports;
+
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the imports of this instance so their progress and error report can be polled. Finished
+ * imports and their files are dropped after {@code app.products.imports.retention}.
+ */
+@Slf4j
+@Component
+public class ProductImportRegistry {
+
+    private final ClockProvider clockProvider;
+    private final Duration retention;
+    private final Map<String, ProductImport> imports = new ConcurrentHashMap<>();
+
+    public ProductImportRegistry(
+            ClockProvider clockProvider,
+            @Value("${app.products.imports.retention:PT24H}") Duration retention) {
+        this.clockProvider = clockProvider;
+        this.retention = retention;
+    }
+
+    public ProductImport create(String fileName, long fileSize) throws IOException {
+        var id = UUID.randomUUID().toString();
+        var file = Files.createTempFile("product-import-" + id, ".csv");
+        var errorReport = Files.createTempFile("product-import-errors-" + id, ".csv");
+        var productImport = new ProductImport(id, fileName, fileSize, file, errorReport, clockProvider.now());
+        imports.put(id, productImport);
+        return productImport;
+    }
+
+    public Optional<ProductImport> find(String id) {
+        return Optional.ofNullable(imports.get(id));
+    }
+
+    @Scheduled(cron = "${app.products.imports.purge-cron:0 */15 * * * *}")
+    public void purgeExpired() {
+        var threshold = clockProvider.now().minus(retention);
+        imports.values().removeIf(productImport -> {
+            if (!productImport.isFinished() || productImport.getFinishedAt().isAfter(threshold)) {
+                return false;
+            }
+            deleteQuietly(productImport.getFile());
+            deleteQuietly(productImport.getErrorReport());
+            return true;
+        });
+    }
+
+    static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", path, e);
+        }
+    }
+}
+
+
+
+
+
+
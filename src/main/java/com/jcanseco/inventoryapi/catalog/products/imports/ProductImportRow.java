@@ -0,0 +1,20 @@
+package com.jcanseco.inventoryapi.catalog.products.imports;
+
+import java.math.BigDecimal;
+
+record ProductImportRow(
+        long line,
+        String name,
+        long supplierId,
+        long categoryId,
+        long unitId,
+        BigDecimal purchasePrice,
+        BigDecimal salePrice,
+        long quantity) {
+}
+
+
+
+
+
+
@@ -0,0 +1,14 @@
+package com.jcanseco.inventoryapi.catalog.products.imports;
+
+public enum ProductImportStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
+
+
+
+
+
+
@@ -0,0 +1,162 @@
+package com.jcanseco.inventoryapi.catalog.products.imports;
+
+import com.jcanseco.inventoryapi.catalog.products.domain.Product;
+import com.jcanseco.inventoryapi.catalog.products.events.ProductCreatedEvent;
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockMovement;
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockMovementType;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockMovementRepository;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Inserts imported products, their stock rows and the opening balance movements of their starting
+ * quantities with JDBC batches, one transaction per batch. When a batch is rejected by the database its
+ * rows are retried one by one so only the offending rows fail.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductImportWriter {
+
+    private static final String INSERT_PRODUCT_SQL = """
+            INSERT INTO products (name, supplier_id, category_id, unit_id, purchase_price, sale_price, reorder_point, reorder_quantity)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_STOCK_SQL = """
+            INSERT INTO products_stock (product_id, quantity, reserved, updated_at)
+            VALUES (?, ?, 0, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StockMovementRepository stockMovementRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClockProvider clockProvider;
+
+    /**
+     * Returns the number of inserted rows; rows that could not be inserted are passed to {@code onError}.
+     */
+    public int insert(List<ProductImportRow> rows, BiConsumer<ProductImportRow, String> onError) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        try {
+            insertInTransaction(rows);
+            return rows.size();
+        } catch (DataAccessException e) {
+            if (rows.size() == 1) {
+                onError.accept(rows.get(0), e.getMostSpecificCause().getMessage());
+                return 0;
+            }
+            log.debug("Import batch of {} rows was rejected, retrying row by row.", rows.size(), e);
+        }
+        var inserted = 0;
+        for (var row : rows) {
+            inserted += insert(List.of(row), onError);
+        }
+        return inserted;
+    }
+
+    private void insertInTransaction(List<ProductImportRow> rows) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            var now = clockProvider.now();
+            var productIds = insertProducts(rows);
+            insertStock(rows, productIds, now);
+            insertOpeningBalances(rows, productIds, now);
+            for (int i = 0; i < rows.size(); i++) {
+                var row = rows.get(i);
+                eventPublisher.publishEvent(new ProductCreatedEvent(productIds.get(i), row.name(), row.supplierId(),
+                        row.categoryId(), row.unitId(), row.purchasePrice(), Product.DEFAULT_REORDER_POINT,
+                        Product.DEFAULT_REORDER_QUANTITY, row.quantity()));
+            }
+        });
+    }
+
+    private List<Long> insertProducts(List<ProductImportRow> rows) {
+        var keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_PRODUCT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        var row = rows.get(i);
+                        ps.setString(1, row.name());
+                        ps.setLong(2, row.supplierId());
+                        ps.setLong(3, row.categoryId());
+                        ps.setLong(4, row.unitId());
+                        ps.setBigDecimal(5, row.purchasePrice());
+                        ps.setBigDecimal(6, row.salePrice());
+                        ps.setLong(7, Product.DEFAULT_REORDER_POINT);
+                        ps.setLong(8, Product.DEFAULT_REORDER_QUANTITY);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        var productIds = new ArrayList<Long>(rows.size());
+        for (var keys : keyHolder.getKeyList()) {
+            productIds.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return productIds;
+    }
+
+    private void insertStock(List<ProductImportRow> rows, List<Long> productIds, LocalDateTime now) {
+        var updatedAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_STOCK_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, productIds.get(i));
+                ps.setLong(2, rows.get(i).quantity());
+                ps.setTimestamp(3, updatedAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private void insertOpeningBalances(List<ProductImportRow> rows, List<Long> productIds, LocalDateTime now) {
+        var movements = new ArrayList<StockMovement>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).quantity() != 0) {
+                movements.add(StockMovement.builder()
+                        .productId(productIds.get(i))
+                        .quantity(rows.get(i).quantity())
+                        .type(StockMovementType.OpeningBalance)
+                        .occurredAt(now)
+                        .build());
+            }
+        }
+        stockMovementRepository.insertAll(movements);
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,41 @@
+package com.jcanseco.inventoryapi.catalog.products.listeners;
+
+import com.jcanseco.inventoryapi.catalog.products.events.ProductCreatedEvent;
+import com.jcanseco.inventoryapi.catalog.products.events.ProductDeletedEvent;
+import com.jcanseco.inventoryapi.catalog.products.events.ProductUpdatedEvent;
+import com.jcanseco.inventoryapi.catalog.products.search.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexListener {
+    private final ProductSearchIndex productSearchIndex;
+
+    /**
+     * Hands the change to the index before the commit, so it is applied once the product is committed
+     * and dropped if the transaction rolls back.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(ProductCreatedEvent event) {
+        productSearchIndex.onProductSaved(event.productId(), event.name(), event.supplierId(), event.categoryId(), event.unitId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(ProductUpdatedEvent event) {
+        productSearchIndex.onProductSaved(event.productId(), event.name(), event.supplierId(), event.categoryId(), event.unitId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(ProductDeletedEvent event) {
+        productSearchIndex.onProductDeleted(event.productId());
+    }
+}
+
+
+
+
+
+
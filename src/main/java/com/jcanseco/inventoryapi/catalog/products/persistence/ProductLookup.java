@@ -0,0 +1,83 @@
+package com.jcanseco.inventoryapi.catalog.products.persistence;
+
+import com.jcanseco.inventoryapi.catalog.products.domain.Product;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Loads products by id with a single query and keeps them for the rest of the current request,
+ * so the {@code AllProductsExist} validation and the use case that follows share the same lookup.
+ * Outside a web request every call goes straight to the database.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductLookup {
+
+    private static final String REQUEST_ATTRIBUTE = ProductLookup.class.getName() + ".products";
+
+    private final ProductRepository productRepository;
+
+    public List<Product> findAllById(Collection<Long> ids) {
+        var products = load(ids);
+        return ids.stream()
+                .distinct()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public List<Long> findMissingIds(Collection<Long> ids) {
+        var products = load(ids);
+        return ids.stream()
+                .distinct()
+                .filter(id -> products.get(id) == null)
+                .sorted()
+                .toList();
+    }
+
+    // Ids that were looked up but not found are kept with a null value so they are not queried again.
+    private Map<Long, Product> load(Collection<Long> ids) {
+        var products = requestProducts();
+        var pending = ids.stream()
+                .filter(id -> id != null && !products.containsKey(id))
+                .distinct()
+                .toList();
+
+        if (!pending.isEmpty()) {
+            pending.forEach(id -> products.put(id, null));
+            productRepository.findAllWithDetailsByIdIn(pending)
+                    .forEach(product -> products.put(product.getId(), product));
+        }
+
+        return products;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Product> requestProducts() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+
+        var products = (Map<Long, Product>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (products == null) {
+            products = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, products, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return products;
+    }
+}
+
+
+
+
+
+
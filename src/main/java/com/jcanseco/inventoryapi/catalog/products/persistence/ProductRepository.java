@@ -1,12 +1,27 @@
 package com.jcanseco.inventoryapi.catalog.products.persistence;
 
 import com.jcanseco.inventoryapi.catalog.products.domain.Product;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> { }
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+    @Query("""
+     SELECT p
+     FROM Product p
+     LEFT JOIN FETCH p.supplier
+     LEFT JOIN FETCH p.category
+     LEFT JOIN FETCH p.unit
+     LEFT JOIN FETCH p.stock
+     WHERE p.id IN :ids
+     """)
+    List<Product> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+}
 
 
 
@@ -7,11 +7,23 @@ import com.jcanseco.inventoryapi.inventory.stock.domain.Stock;
 import com.jcanseco.inventoryapi.suppliers.domain.Supplier;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import java.util.Collection;
 import org.springframework.data.jpa.domain.Specification;
 
 
 public class ProductSpecifications {
 
+    // Loads the associations shown in the product list in the same query, only meant for queries that are not counted.
+    public static Specification<Product> fetchDetails() {
+        return (root, query, builder) -> {
+            root.fetch("supplier", JoinType.LEFT);
+            root.fetch("category", JoinType.LEFT);
+            root.fetch("unit", JoinType.LEFT);
+            root.fetch("stock", JoinType.LEFT);
+            return null;
+        };
+    }
+
     public static Specification<Product> bySupplier(Supplier supplier) {
         return (root, query, builder) -> builder.equal(root.get("supplier"), supplier);
     }
@@ -22,6 +34,10 @@ public class ProductSpecifications {
         return (root, query, builder) -> builder.equal(root.get("unit"), unit);
     }
 
+    public static Specification<Product> byIdIn(Collection<Long> ids) {
+        return (root, query, builder) -> ids.isEmpty() ? builder.disjunction() : root.get("id").in(ids);
+    }
+
     public static Specification<Product> byNameLike(String name) {
         return (root, query, builder) -> builder.like(root.get("name"), "%" + name + "%");
     }
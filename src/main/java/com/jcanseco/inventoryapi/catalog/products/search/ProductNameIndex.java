@@ -0,0 +1,162 @@
+package com.jcanseco.inventoryapi.catalog.products.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Trigram inverted index over product names with posting sets for supplier, category and unit. A query
+ * intersects the postings of its trigrams and of the requested filters, smallest set first, and the
+ * candidates are then checked against the whole query so results match {@code LIKE '%name%'}.
+ * Names are compared ignoring case and accents. Not thread-safe; {@link ProductSearchIndex} guards
+ * every access.
+ */
+public class ProductNameIndex {
+
+    public static final int GRAM_LENGTH = 3;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Set<Long>> bySupplier = new HashMap<>();
+    private final Map<Long, Set<Long>> byCategory = new HashMap<>();
+    private final Map<Long, Set<Long>> byUnit = new HashMap<>();
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void put(long productId, String name, Long supplierId, Long categoryId, Long unitId) {
+        remove(productId);
+        var entry = new Entry(productId, normalize(name), supplierId, categoryId, unitId);
+        entries.put(productId, entry);
+        for (var gram : gramsOf(entry.name())) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(productId);
+        }
+        addPosting(bySupplier, supplierId, productId);
+        addPosting(byCategory, categoryId, productId);
+        addPosting(byUnit, unitId, productId);
+    }
+
+    public void remove(long productId) {
+        var entry = entries.remove(productId);
+        if (entry == null) {
+            return;
+        }
+        for (var gram : gramsOf(entry.name())) {
+            removePosting(postings, gram, productId);
+        }
+        removePosting(bySupplier, entry.supplierId(), productId);
+        removePosting(byCategory, entry.categoryId(), productId);
+        removePosting(byUnit, entry.unitId(), productId);
+    }
+
+    /**
+     * Returns the ids of the products whose name contains {@code query}, best matches first: exact
+     * names, then names starting with the query, then names with a word starting with the query, and
+     * shorter names before longer ones within each group. Null filters are ignored.
+     */
+    public List<Long> search(String query, Long supplierId, Long categoryId, Long unitId) {
+        var text = normalize(query);
+        var sets = new ArrayList<Set<Long>>();
+        if (!addFilter(sets, bySupplier, supplierId) || !addFilter(sets, byCategory, categoryId) || !addFilter(sets, byUnit, unitId)) {
+            return List.of();
+        }
+        for (var gram : gramsOf(text)) {
+            var posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            sets.add(posting);
+        }
+
+        // Queries shorter than a trigram without filters are checked against every name.
+        var candidates = sets.isEmpty() ? entries.keySet() : sets.stream().min(Comparator.comparingInt(Set::size)).orElseThrow();
+        var matches = new ArrayList<Entry>();
+        for (var productId : candidates) {
+            if (sets.stream().allMatch(set -> set == candidates || set.contains(productId))) {
+                var entry = entries.get(productId);
+                if (entry.name().contains(text)) {
+                    matches.add(entry);
+                }
+            }
+        }
+
+        matches.sort(Comparator.<Entry>comparingInt(entry -> rankOf(entry.name(), text))
+                .thenComparingInt(entry -> entry.name().length())
+                .thenComparing(Entry::name)
+                .thenComparingLong(Entry::productId));
+        return matches.stream().map(Entry::productId).toList();
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> gramsOf(String text) {
+        var grams = new LinkedHashSet<String>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static int rankOf(String name, String query) {
+        if (name.equals(query)) {
+            return 0;
+        }
+        if (name.startsWith(query)) {
+            return 1;
+        }
+        return name.contains(" " + query) ? 2 : 3;
+    }
+
+    private static boolean addFilter(List<Set<Long>> sets, Map<Long, Set<Long>> index, Long value) {
+        if (value == null) {
+            return true;
+        }
+        var posting = index.get(value);
+        if (posting == null) {
+            return false;
+        }
+        sets.add(posting);
+        return true;
+    }
+
+    private static <K> void addPosting(Map<K, Set<Long>> index, K key, long productId) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new HashSet<>()).add(productId);
+        }
+    }
+
+    private static <K> void removePosting(Map<K, Set<Long>> index, K key, long productId) {
+        if (key == null) {
+            return;
+        }
+        var posting = index.get(key);
+        if (posting != null && posting.remove(productId) && posting.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private record Entry(long productId, String name, Long supplierId, Long categoryId, Long unitId) {
+    }
+}
+
+
+
+
+
+
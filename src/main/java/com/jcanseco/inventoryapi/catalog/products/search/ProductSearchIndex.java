@@ -0,0 +1,71 @@
+package com.jcanseco.inventoryapi.catalog.products.search;
+
+import com.jcanseco.inventoryapi.shared.utils.LockedState;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-local search index over product names, so name searches do not scan {@code products}.
+ * <p>
+ * Product changes are reported here by the product event listener and applied once the surrounding transaction commits,
+ * and replayed on the fresh copy when they commit while {@link #reload()} reads the products. Until the first
+ * reload the index is not loaded, changes are ignored and callers are expected to fall back to the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final String SELECT_PRODUCTS_SQL = "SELECT id, name, supplier_id, category_id, unit_id FROM products";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LockedState<ProductNameIndex> index = new LockedState<>();
+
+    public boolean isLoaded() {
+        return index.isLoaded();
+    }
+
+    /**
+     * Replaces the index with a fresh copy of {@code products}.
+     */
+    public void reload() {
+        var newIndex = index.load(() -> {
+            var loaded = new ProductNameIndex();
+            jdbcTemplate.query(SELECT_PRODUCTS_SQL, rs -> {
+                loaded.put(rs.getLong(1), rs.getString(2), nullableLong(rs.getLong(3), rs.wasNull()),
+                        nullableLong(rs.getLong(4), rs.wasNull()), nullableLong(rs.getLong(5), rs.wasNull()));
+            });
+            return loaded;
+        });
+        log.info("Product search index loaded with {} products.", newIndex.size());
+    }
+
+    /**
+     * Returns the ranked ids of the products matching the name and filters, or {@code null} when the
+     * index is not loaded.
+     */
+    public List<Long> search(String name, Long supplierId, Long categoryId, Long unitId) {
+        return index.read(current -> current.search(name, supplierId, categoryId, unitId));
+    }
+
+    public void onProductSaved(long productId, String name, Long supplierId, Long categoryId, Long unitId) {
+        index.updateAfterCommit(current -> current.put(productId, name, supplierId, categoryId, unitId));
+    }
+
+    public void onProductDeleted(long productId) {
+        index.updateAfterCommit(current -> current.remove(productId));
+    }
+
+    private static Long nullableLong(long value, boolean wasNull) {
+        return wasNull ? null : value;
+    }
+}
+
+
+
+
+
+
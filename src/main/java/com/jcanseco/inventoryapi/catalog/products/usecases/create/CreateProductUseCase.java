@@ -3,6 +3,7 @@ package com.jcanseco.inventoryapi.catalog.products.usecases.create;
 import com.jcanseco.inventoryapi.catalog.categories.persistence.CategoryRepository;
 import com.jcanseco.inventoryapi.catalog.products.dto.CreateProductDto;
 import com.jcanseco.inventoryapi.catalog.products.domain.Product;
+import com.jcanseco.inventoryapi.catalog.products.events.ProductCreatedEvent;
 import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
 import com.jcanseco.inventoryapi.catalog.units.persistence.UnitOfMeasurementRepository;
 import com.jcanseco.inventoryapi.inventory.stock.domain.Stock;
@@ -11,6 +12,7 @@ import com.jcanseco.inventoryapi.shared.errors.DomainException;
 import com.jcanseco.inventoryapi.suppliers.persistence.SupplierRepository;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class CreateProductUseCase {
     private final CategoryRepository categoryRepository;
     private final UnitOfMeasurementRepository unitRepository;
     private final StockRepository stockRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long execute(CreateProductDto dto) {
@@ -45,6 +48,12 @@ public class CreateProductUseCase {
                 .purchasePrice(BigDecimal.valueOf(dto.getPurchasePrice()))
                 .salePrice(BigDecimal.valueOf(dto.getSalePrice()))
                 .build();
+        if (dto.getReorderPoint() != null) {
+            product.setReorderPoint(dto.getReorderPoint());
+        }
+        if (dto.getReorderQuantity() != null) {
+            product.setReorderQuantity(dto.getReorderQuantity());
+        }
 
         var newProduct = productRepository.save(product);
 
@@ -55,6 +64,9 @@ public class CreateProductUseCase {
                 .build();
 
         stockRepository.save(productStock);
+        eventPublisher.publishEvent(new ProductCreatedEvent(newProduct.getId(), newProduct.getName(), supplier.getId(),
+                category.getId(), unit.getId(), newProduct.getPurchasePrice(), newProduct.getReorderPoint(),
+                newProduct.getReorderQuantity(), productStock.getQuantity()));
         return newProduct.getId();
     }
 
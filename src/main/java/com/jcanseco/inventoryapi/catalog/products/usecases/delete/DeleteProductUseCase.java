@@ -1,8 +1,10 @@
 package com.jcanseco.inventoryapi.catalog.products.usecases.delete;
 
+import com.jcanseco.inventoryapi.catalog.products.events.ProductDeletedEvent;
 import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
 import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteProductUseCase {
 
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void execute(Long productId) {
@@ -18,6 +21,7 @@ public class DeleteProductUseCase {
                 .orElseThrow(() -> new NotFoundException(String.format("The Product with the Id {%d} was not found.", productId)));
 
         productRepository.delete(product);
+        eventPublisher.publishEvent(new ProductDeletedEvent(productId));
     }
 }
 
@@ -0,0 +1,38 @@
+package com.jcanseco.inventoryapi.catalog.products.usecases.export;
+
+import com.jcanseco.inventoryapi.catalog.products.dto.GetProductsRequest;
+import com.jcanseco.inventoryapi.catalog.products.dto.ProductDto;
+import com.jcanseco.inventoryapi.catalog.products.usecases.getall.GetProductsUseCase;
+import com.jcanseco.inventoryapi.shared.export.ExportColumn;
+import com.jcanseco.inventoryapi.shared.export.ExportTable;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ExportProductsUseCase {
+
+    private static final List<ExportColumn<ProductDto>> COLUMNS = List.of(
+            new ExportColumn<>("Id", ProductDto::getId),
+            new ExportColumn<>("Name", ProductDto::getName),
+            new ExportColumn<>("Supplier", ProductDto::getSupplier),
+            new ExportColumn<>("Category", ProductDto::getCategory),
+            new ExportColumn<>("Unit", ProductDto::getUnit),
+            new ExportColumn<>("Stock", ProductDto::getStock),
+            new ExportColumn<>("Purchase Price", ProductDto::getPurchasePrice),
+            new ExportColumn<>("Sale Price", ProductDto::getSalePrice)
+    );
+
+    private final GetProductsUseCase getProductsUseCase;
+
+    public ExportTable<ProductDto> execute(GetProductsRequest request) {
+        return new ExportTable<>("products", COLUMNS, getProductsUseCase.stream(request));
+    }
+}
+
+
+
+
+
+
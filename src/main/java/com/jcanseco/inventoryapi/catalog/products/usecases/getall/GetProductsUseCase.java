@@ -6,21 +6,34 @@ import com.jcanseco.inventoryapi.catalog.products.dto.ProductDto;
 import com.jcanseco.inventoryapi.catalog.products.domain.Product;
 import com.jcanseco.inventoryapi.catalog.products.mapping.ProductMapper;
 import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
+import com.jcanseco.inventoryapi.catalog.products.search.ProductSearchIndex;
 import com.jcanseco.inventoryapi.catalog.units.persistence.UnitOfMeasurementRepository;
+import com.jcanseco.inventoryapi.shared.pagination.Cursor;
+import com.jcanseco.inventoryapi.shared.pagination.CursorPagedList;
 import com.jcanseco.inventoryapi.shared.pagination.PagedList;
+import com.jcanseco.inventoryapi.shared.streaming.EntityStreamer;
+import com.jcanseco.inventoryapi.shared.streaming.RowSource;
 import com.jcanseco.inventoryapi.shared.utils.IndexUtility;
 import com.jcanseco.inventoryapi.suppliers.persistence.SupplierRepository;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import static com.jcanseco.inventoryapi.shared.pagination.KeysetSpecifications.seek;
 import static com.jcanseco.inventoryapi.catalog.products.persistence.ProductSpecifications.byCategory;
+import static com.jcanseco.inventoryapi.catalog.products.persistence.ProductSpecifications.byIdIn;
 import static com.jcanseco.inventoryapi.catalog.products.persistence.ProductSpecifications.byNameLike;
 import static com.jcanseco.inventoryapi.catalog.products.persistence.ProductSpecifications.bySupplier;
 import static com.jcanseco.inventoryapi.catalog.products.persistence.ProductSpecifications.byUnit;
+import static com.jcanseco.inventoryapi.catalog.products.persistence.ProductSpecifications.fetchDetails;
 import static com.jcanseco.inventoryapi.catalog.products.persistence.ProductSpecifications.orderByCategoryAsc;
 import static com.jcanseco.inventoryapi.catalog.products.persistence.ProductSpecifications.orderByCategoryDesc;
 import static com.jcanseco.inventoryapi.catalog.products.persistence.ProductSpecifications.orderByIdAsc;
@@ -38,16 +51,29 @@ import static com.jcanseco.inventoryapi.catalog.products.persistence.ProductSpec
 @RequiredArgsConstructor
 public class GetProductsUseCase {
 
+    /**
+     * Most ranked ids handed to the database in one {@code IN} list. A short name can match most of the
+     * catalog, so longer rankings are hydrated in chunks, and when they have to be sorted or paged by the
+     * database the name and filters are applied by the query instead.
+     */
+    static final int MAX_SEARCHED_IDS = 1_000;
+
     private final ProductRepository productRepository;
     private final SupplierRepository supplierRepository;
     private final CategoryRepository categoryRepository;
     private final UnitOfMeasurementRepository unitRepository;
     private final ProductMapper productMapper;
     private final IndexUtility indexUtility;
+    private final EntityStreamer entityStreamer;
+    private final ProductSearchIndex productSearchIndex;
 
     @Transactional(readOnly = true)
     public List<ProductDto> execute(GetProductsRequest request) {
-        var spec = composeSpecification(request);
+        var rankedIds = searchIndex(request);
+        if (rankedIds != null && !StringUtils.hasText(request.getOrderBy())) {
+            return hydrate(rankedIds);
+        }
+        var spec = composeSpecification(request, rankedIds);
         return productRepository.findAll(spec)
                 .stream()
                 .map(productMapper::entityToDto)
@@ -58,13 +84,80 @@ public class GetProductsUseCase {
     public PagedList<ProductDto> executePaged(GetProductsRequest request) {
         var pageNumber = indexUtility.toZeroBasedIndex(request.getPageNumber());
         var pageSize = request.getPageSize();
-        var specification = composeSpecification(request);
         var pageRequest = PageRequest.of(pageNumber, pageSize);
+        var rankedIds = searchIndex(request);
+        if (rankedIds != null && !StringUtils.hasText(request.getOrderBy())) {
+            var from = (int) Math.min(pageRequest.getOffset(), rankedIds.size());
+            var to = Math.min(from + pageSize, rankedIds.size());
+            var products = hydrateEntities(rankedIds.subList(from, to));
+            return productMapper.pageToPagedList(new PageImpl<>(products, pageRequest, rankedIds.size()));
+        }
+        var specification = composeSpecification(request, rankedIds);
         var page = productRepository.findAll(specification, pageRequest);
         return productMapper.pageToPagedList(page);
     }
 
-    private Specification<Product> composeSpecification(GetProductsRequest request) {
+    @Transactional(readOnly = true)
+    public CursorPagedList<ProductDto> executeCursorPaged(GetProductsRequest request) {
+        var pageSize = request.getPageSize() != null ? request.getPageSize() : CursorPagedList.DEFAULT_PAGE_SIZE;
+        var orderBy = !StringUtils.hasText(request.getOrderBy()) ? "name" : request.getOrderBy();
+        var isAscending = indexUtility.isAscendingOrder(request.getSortOrder());
+        var cursor = Cursor.decodeFor(request.getCursor(), orderBy, isAscending);
+        var specification = seek(composeSpecification(request, searchIndex(request)), cursor);
+        var rows = productRepository.findBy(specification, query -> query.limit(pageSize + 1).all());
+        return CursorPagedList.fromRows(
+                rows,
+                pageSize,
+                productMapper::entityToDto,
+                product -> Cursor.of(orderBy, isAscending, sortKeyOf(product, orderBy), product.getId())
+        );
+    }
+
+    // The specification is built right away, rows are only read and mapped one at a time once the source is written.
+    public RowSource<ProductDto> stream(GetProductsRequest request) {
+        var specification = composeSpecification(request, searchIndex(request)).and(fetchDetails());
+        return writer -> entityStreamer.stream(Product.class, specification, product -> writer.write(productMapper.entityToDto(product)));
+    }
+
+    /**
+     * Returns the ranked ids of the products matching the name and filters, or {@code null} when there
+     * is no name to search or the index is not loaded and the database has to filter instead.
+     */
+    private List<Long> searchIndex(GetProductsRequest request) {
+        if (!StringUtils.hasText(request.getName())) {
+            return null;
+        }
+        return productSearchIndex.search(request.getName(), request.getSupplierId(), request.getCategoryId(), request.getUnitId());
+    }
+
+    private List<ProductDto> hydrate(List<Long> rankedIds) {
+        return hydrateEntities(rankedIds).stream()
+                .map(productMapper::entityToDto)
+                .toList();
+    }
+
+    // Loads the products one chunk of the ranking per query and puts them back in ranking order.
+    private List<Product> hydrateEntities(List<Long> rankedIds) {
+        var products = new ArrayList<Product>(rankedIds.size());
+        for (int from = 0; from < rankedIds.size(); from += MAX_SEARCHED_IDS) {
+            var chunk = rankedIds.subList(from, Math.min(from + MAX_SEARCHED_IDS, rankedIds.size()));
+            var productsById = productRepository.findAllWithDetailsByIdIn(chunk)
+                    .stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+            chunk.stream()
+                    .map(productsById::get)
+                    .filter(Objects::nonNull)
+                    .forEach(products::add);
+        }
+        return products;
+    }
+
+    // The name and the filters were already applied by the index when few enough of its ids are given.
+    private Specification<Product> composeSpecification(GetProductsRequest request, List<Long> searchedIds) {
+        if (searchedIds != null && searchedIds.size() <= MAX_SEARCHED_IDS) {
+            return orderBySpecification(Specification.where(byIdIn(searchedIds)), request);
+        }
+
         Specification<Product> spec = Specification.where(null);
 
         if (StringUtils.hasText(request.getName())) {
@@ -102,5 +195,16 @@ public class GetProductsUseCase {
             default -> isAscending ? orderByNameAsc(spec) : orderByNameDesc(spec);
         };
     }
+
+    private Object sortKeyOf(Product product, String orderBy) {
+        return switch (orderBy) {
+            case "id" -> product.getId();
+            case "supplier" -> product.getSupplier().getCompanyName();
+            case "category" -> product.getCategory().getName();
+            case "unit" -> product.getUnit().getName();
+            case "stock" -> product.getStock() != null ? product.getStock().getQuantity() : null;
+            default -> product.getName();
+        };
+    }
 }
 
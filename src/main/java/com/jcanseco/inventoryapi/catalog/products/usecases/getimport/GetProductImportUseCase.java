@@ -0,0 +1,41 @@
+package com.jcanseco.inventoryapi.catalog.products.usecases.getimport;
+
+import com.jcanseco.inventoryapi.catalog.products.dto.ProductImportDto;
+import com.jcanseco.inventoryapi.catalog.products.imports.ProductImport;
+import com.jcanseco.inventoryapi.catalog.products.imports.ProductImportRegistry;
+import com.jcanseco.inventoryapi.shared.errors.ConflictException;
+import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GetProductImportUseCase {
+
+    private final ProductImportRegistry productImportRegistry;
+
+    public ProductImportDto execute(String importId) {
+        return findImport(importId).toDto();
+    }
+
+    public Resource getErrorReport(String importId) {
+        var productImport = findImport(importId);
+        if (!productImport.isFinished()) {
+            throw new ConflictException(String.format("The Product Import with the Id {%s} is still running.", importId));
+        }
+        return new FileSystemResource(productImport.getErrorReport());
+    }
+
+    private ProductImport findImport(String importId) {
+        return productImportRegistry.find(importId)
+                .orElseThrow(() -> new NotFoundException(String.format("The Product Import with the Id {%s} was not found.", importId)));
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,40 @@
+package com.jcanseco.inventoryapi.catalog.products.usecases.importcsv;
+
+import com.jcanseco.inventoryapi.catalog.products.dto.ProductImportDto;
+import com.jcanseco.inventoryapi.catalog.products.imports.ProductImportProcessor;
+import com.jcanseco.inventoryapi.catalog.products.imports.ProductImportRegistry;
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+@RequiredArgsConstructor
+public class ImportProductsUseCase {
+
+    private final ProductImportRegistry productImportRegistry;
+    private final ProductImportProcessor productImportProcessor;
+
+    // The upload is copied to a temporary file because the multipart content is gone once the request ends.
+    public ProductImportDto execute(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new DomainException("The file to import is empty.");
+        }
+        try {
+            var productImport = productImportRegistry.create(file.getOriginalFilename(), file.getSize());
+            file.transferTo(productImport.getFile());
+            productImportProcessor.process(productImport);
+            return productImport.toDto();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
+
+
+
+
+
+
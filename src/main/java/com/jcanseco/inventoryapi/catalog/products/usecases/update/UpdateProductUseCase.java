@@ -2,6 +2,7 @@ package com.jcanseco.inventoryapi.catalog.products.usecases.update;
 
 import com.jcanseco.inventoryapi.catalog.categories.persistence.CategoryRepository;
 import com.jcanseco.inventoryapi.catalog.products.dto.UpdateProductDto;
+import com.jcanseco.inventoryapi.catalog.products.events.ProductUpdatedEvent;
 import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
 import com.jcanseco.inventoryapi.catalog.units.persistence.UnitOfMeasurementRepository;
 import com.jcanseco.inventoryapi.shared.errors.DomainException;
@@ -9,6 +10,7 @@ import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
 import com.jcanseco.inventoryapi.suppliers.persistence.SupplierRepository;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class UpdateProductUseCase {
     private final SupplierRepository supplierRepository;
     private final CategoryRepository categoryRepository;
     private final UnitOfMeasurementRepository unitRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void execute(UpdateProductDto dto) {
@@ -49,8 +52,17 @@ public class UpdateProductUseCase {
         product.setName(dto.getName());
         product.setPurchasePrice(BigDecimal.valueOf(dto.getPurchasePrice()));
         product.setSalePrice(BigDecimal.valueOf(dto.getSalePrice()));
+        if (dto.getReorderPoint() != null) {
+            product.setReorderPoint(dto.getReorderPoint());
+        }
+        if (dto.getReorderQuantity() != null) {
+            product.setReorderQuantity(dto.getReorderQuantity());
+        }
 
         productRepository.saveAndFlush(product);
+        eventPublisher.publishEvent(new ProductUpdatedEvent(product.getId(), product.getName(), product.getSupplier().getId(),
+                product.getCategory().getId(), product.getUnit().getId(), product.getPurchasePrice(),
+                product.getReorderPoint(), product.getReorderQuantity()));
     }
 
     private void validatePrices(double purchasePrice, double salePrice) {
@@ -2,21 +2,33 @@ package com.jcanseco.inventoryapi.customers.api;
 
 import com.jcanseco.inventoryapi.customers.dto.CreateCustomerDto;
 import com.jcanseco.inventoryapi.customers.dto.CustomerDetailsDto;
+import com.jcanseco.inventoryapi.customers.dto.CustomerDto;
+import com.jcanseco.inventoryapi.customers.dto.CustomerSuggestionDto;
 import com.jcanseco.inventoryapi.customers.dto.GetCustomersRequest;
 import com.jcanseco.inventoryapi.customers.dto.UpdateCustomerDto;
 import com.jcanseco.inventoryapi.customers.usecases.create.CreateCustomerUseCase;
 import com.jcanseco.inventoryapi.customers.usecases.delete.DeleteCustomerUseCase;
+import com.jcanseco.inventoryapi.customers.usecases.export.ExportCustomersUseCase;
 import com.jcanseco.inventoryapi.customers.usecases.getall.GetCustomersUseCase;
 import com.jcanseco.inventoryapi.customers.usecases.getbyid.GetCustomerByIdUseCase;
+import com.jcanseco.inventoryapi.customers.usecases.typeahead.CustomerTypeaheadUseCase;
 import com.jcanseco.inventoryapi.customers.usecases.update.UpdateCustomerUseCase;
+import com.jcanseco.inventoryapi.shared.export.ExportResponses;
+import com.jcanseco.inventoryapi.shared.search.TypeaheadRequest;
+import com.jcanseco.inventoryapi.shared.streaming.StreamingResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @Validated
 @RestControllerAdvice
@@ -30,6 +42,10 @@ public class CustomerController {
     private final DeleteCustomerUseCase deleteCustomerUseCase;
     private final GetCustomerByIdUseCase getCustomerByIdUseCase;
     private final GetCustomersUseCase getCustomersUseCase;
+    private final ExportCustomersUseCase exportCustomersUseCase;
+    private final CustomerTypeaheadUseCase customerTypeaheadUseCase;
+    private final ExportResponses exportResponses;
+    private final StreamingResponses streamingResponses;
 
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Customers, @Action.Create))")
     @PostMapping
@@ -56,6 +72,12 @@ public class CustomerController {
         return ResponseEntity.noContent().build();
     }
 
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Customers, @Action.View))")
+    @GetMapping("typeahead")
+    public ResponseEntity<List<CustomerSuggestionDto>> typeahead(@Valid TypeaheadRequest request) {
+        return ResponseEntity.ok(customerTypeaheadUseCase.execute(request));
+    }
+
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Customers, @Action.View))")
     @GetMapping("{customerId}")
     public ResponseEntity<CustomerDetailsDto> getById(@PathVariable Long customerId) {
@@ -66,9 +88,30 @@ public class CustomerController {
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Customers, @Action.View))")
     @GetMapping
     public ResponseEntity<?> getAll(@Valid GetCustomersRequest request) {
+        if (request.getCursor() != null) {
+            return ResponseEntity.ok(getCustomersUseCase.executeCursorPaged(request));
+        }
         if (request.getPageSize() == null || request.getPageNumber() == null) {
             return ResponseEntity.ok(getCustomersUseCase.execute(request));
         }
         return ResponseEntity.ok(getCustomersUseCase.executePaged(request));
     }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Customers, @Action.Export))")
+    @GetMapping("export")
+    public WebAsyncTask<Void> export(
+            @RequestParam(defaultValue = "csv") String format,
+            @Valid GetCustomersRequest request,
+            HttpServletResponse response) {
+        return exportResponses.ok(format, exportCustomersUseCase.execute(request), response);
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Customers, @Action.View))")
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, StreamingResponses.TEXT_CSV_VALUE})
+    public WebAsyncTask<Void> stream(
+            @RequestHeader(HttpHeaders.ACCEPT) String accept,
+            @Valid GetCustomersRequest request,
+            HttpServletResponse response) {
+        return streamingResponses.ok(accept, getCustomersUseCase.stream(request), response);
+    }
 }
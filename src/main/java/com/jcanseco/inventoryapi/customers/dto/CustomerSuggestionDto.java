@@ -0,0 +1,27 @@
+package com.jcanseco.inventoryapi.customers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@EqualsAndHashCode
+@Builder
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerSuggestionDto {
+    private Long id;
+    private String fullName;
+    private String dni;
+    private String phone;
+}
+
+
+
+
+
+
@@ -23,6 +23,9 @@ public class GetCustomersRequest {
     @Min(1)
     private Integer pageSize;
 
+    // Opt-in keyset pagination, an empty cursor requests the first page.
+    private String cursor;
+
     @OrderBy(
             message = "Invalid Order By field. The following options are valid: 'id', 'dni', 'fullName', 'phone'.",
             fields = {"id", "dni", "fullName", "phone"}
@@ -20,6 +20,14 @@ public class CustomerSpecifications {
         return (root, query, builder) -> builder.like(root.get("phone"), "%" + phone + "%");
     }
 
+    public static Specification<Customer> byAnyFieldStartingWith(String prefix) {
+        return (root, query, builder) -> builder.or(
+                builder.like(root.get("fullName"), prefix + "%"),
+                builder.like(root.get("dni"), prefix + "%"),
+                builder.like(root.get("phone"), prefix + "%")
+        );
+    }
+
     public static Specification<Customer> byFullNameLike(String fullName) {
         return (root, query, builder) -> builder.like(root.get("fullName"), "%" + fullName + "%");
     }
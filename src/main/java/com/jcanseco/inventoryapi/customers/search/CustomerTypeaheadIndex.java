@@ -0,0 +1,45 @@
+package com.jcanseco.inventoryapi.customers.search;
+
+import com.jcanseco.inventoryapi.customers.domain.Customer;
+import com.jcanseco.inventoryapi.customers.dto.CustomerSuggestionDto;
+import com.jcanseco.inventoryapi.shared.search.PrefixIndex;
+import com.jcanseco.inventoryapi.shared.search.TypeaheadIndex;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Customers by full name, dni and phone prefixes.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerTypeaheadIndex extends TypeaheadIndex<CustomerSuggestionDto> {
+
+    private static final String SELECT_CUSTOMERS_SQL = "SELECT id, full_name, dni, phone FROM customers";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    protected List<PrefixIndex.Document<CustomerSuggestionDto>> loadDocuments() {
+        return jdbcTemplate.query(SELECT_CUSTOMERS_SQL, (rs, rowNumber) -> documentOf(
+                new CustomerSuggestionDto(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4))));
+    }
+
+    public void onCustomerSaved(Customer customer) {
+        var document = documentOf(new CustomerSuggestionDto(customer.getId(), customer.getFullName(), customer.getDni(), customer.getPhone()));
+        onSaved(document.id(), document.value(), document.texts());
+    }
+
+    private static PrefixIndex.Document<CustomerSuggestionDto> documentOf(CustomerSuggestionDto suggestion) {
+        return new PrefixIndex.Document<>(suggestion.getId(), suggestion,
+                Arrays.asList(suggestion.getFullName(), suggestion.getDni(), suggestion.getPhone()));
+    }
+}
+
+
+
+
+
+
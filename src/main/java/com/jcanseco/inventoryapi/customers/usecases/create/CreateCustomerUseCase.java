@@ -3,6 +3,7 @@ package com.jcanseco.inventoryapi.customers.usecases.create;
 import com.jcanseco.inventoryapi.customers.dto.CreateCustomerDto;
 import com.jcanseco.inventoryapi.customers.mapping.CustomerMapper;
 import com.jcanseco.inventoryapi.customers.persistence.CustomerRepository;
+import com.jcanseco.inventoryapi.customers.search.CustomerTypeaheadIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,11 +12,13 @@ import org.springframework.stereotype.Service;
 public class CreateCustomerUseCase {
 
     private final CustomerRepository customerRepository;
+    private final CustomerTypeaheadIndex customerTypeaheadIndex;
     private final CustomerMapper customerMapper;
 
     public Long execute(CreateCustomerDto dto) {
         var customer = customerMapper.createDtoToEntity(dto);
         var newCustomer = customerRepository.saveAndFlush(customer);
+        customerTypeaheadIndex.onCustomerSaved(newCustomer);
         return newCustomer.getId();
     }
 }
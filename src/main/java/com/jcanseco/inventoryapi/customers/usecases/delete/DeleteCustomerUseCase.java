@@ -1,6 +1,7 @@
 package com.jcanseco.inventoryapi.customers.usecases.delete;
 
 import com.jcanseco.inventoryapi.customers.persistence.CustomerRepository;
+import com.jcanseco.inventoryapi.customers.search.CustomerTypeaheadIndex;
 import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,6 +13,7 @@ public class DeleteCustomerUseCase {
     private static final String NOT_FOUND_MESSAGE = "Customer with the Id {%d} was not found.";
 
     private final CustomerRepository customerRepository;
+    private final CustomerTypeaheadIndex customerTypeaheadIndex;
 
     public void execute(Long customerId) {
         var customer = customerRepository
@@ -19,6 +21,7 @@ public class DeleteCustomerUseCase {
                 .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_MESSAGE, customerId)));
 
         customerRepository.delete(customer);
+        customerTypeaheadIndex.onDeleted(customerId);
     }
 }
 
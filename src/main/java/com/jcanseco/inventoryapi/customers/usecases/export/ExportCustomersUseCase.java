@@ -0,0 +1,34 @@
+package com.jcanseco.inventoryapi.customers.usecases.export;
+
+import com.jcanseco.inventoryapi.customers.dto.CustomerDto;
+import com.jcanseco.inventoryapi.customers.dto.GetCustomersRequest;
+import com.jcanseco.inventoryapi.customers.usecases.getall.GetCustomersUseCase;
+import com.jcanseco.inventoryapi.shared.export.ExportColumn;
+import com.jcanseco.inventoryapi.shared.export.ExportTable;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ExportCustomersUseCase {
+
+    private static final List<ExportColumn<CustomerDto>> COLUMNS = List.of(
+            new ExportColumn<>("Id", CustomerDto::getId),
+            new ExportColumn<>("DNI", CustomerDto::getDni),
+            new ExportColumn<>("Full Name", CustomerDto::getFullName),
+            new ExportColumn<>("Phone", CustomerDto::getPhone)
+    );
+
+    private final GetCustomersUseCase getCustomersUseCase;
+
+    public ExportTable<CustomerDto> execute(GetCustomersRequest request) {
+        return new ExportTable<>("customers", COLUMNS, getCustomersUseCase.stream(request));
+    }
+}
+
+
+
+
+
+
@@ -6,7 +6,11 @@ import com.jcanseco.inventoryapi.customers.domain.Customer;
 import com.jcanseco.inventoryapi.customers.mapping.CustomerMapper;
 import com.jcanseco.inventoryapi.customers.persistence.CustomerRepository;
 import com.jcanseco.inventoryapi.customers.persistence.CustomerSpecifications;
+import com.jcanseco.inventoryapi.shared.pagination.Cursor;
+import com.jcanseco.inventoryapi.shared.pagination.CursorPagedList;
 import com.jcanseco.inventoryapi.shared.pagination.PagedList;
+import com.jcanseco.inventoryapi.shared.streaming.EntityStreamer;
+import com.jcanseco.inventoryapi.shared.streaming.RowSource;
 import com.jcanseco.inventoryapi.shared.utils.IndexUtility;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +18,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import static com.jcanseco.inventoryapi.shared.pagination.KeysetSpecifications.seek;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +27,7 @@ public class GetCustomersUseCase {
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
     private final IndexUtility indexUtility;
+    private final EntityStreamer entityStreamer;
 
     public List<CustomerDto> execute(GetCustomersRequest request) {
         var specification = composeSpecification(request);
@@ -40,6 +46,27 @@ public class GetCustomersUseCase {
         return customerMapper.pageToPagedList(page);
     }
 
+    public CursorPagedList<CustomerDto> executeCursorPaged(GetCustomersRequest request) {
+        var pageSize = request.getPageSize() != null ? request.getPageSize() : CursorPagedList.DEFAULT_PAGE_SIZE;
+        var orderBy = !StringUtils.hasText(request.getOrderBy()) ? "id" : request.getOrderBy();
+        var isAscending = indexUtility.isAscendingOrder(request.getSortOrder());
+        var cursor = Cursor.decodeFor(request.getCursor(), orderBy, isAscending);
+        var specification = seek(composeSpecification(request), cursor);
+        var rows = customerRepository.findBy(specification, query -> query.limit(pageSize + 1).all());
+        return CursorPagedList.fromRows(
+                rows,
+                pageSize,
+                customerMapper::entityToDto,
+                customer -> Cursor.of(orderBy, isAscending, sortKeyOf(customer, orderBy), customer.getId())
+        );
+    }
+
+    // The specification is built right away, rows are only read and mapped one at a time once the source is written.
+    public RowSource<CustomerDto> stream(GetCustomersRequest request) {
+        var specification = composeSpecification(request);
+        return writer -> entityStreamer.stream(Customer.class, specification, customer -> writer.write(customerMapper.entityToDto(customer)));
+    }
+
     private Specification<Customer> composeSpecification(GetCustomersRequest request) {
         Specification<Customer> specification = Specification.where(null);
 
@@ -58,5 +85,14 @@ public class GetCustomersUseCase {
 
         return CustomerSpecifications.orderBy(specification, orderByField, isAscendingOrder);
     }
+
+    private Object sortKeyOf(Customer customer, String orderBy) {
+        return switch (orderBy) {
+            case "dni" -> customer.getDni();
+            case "fullName" -> customer.getFullName();
+            case "phone" -> customer.getPhone();
+            default -> customer.getId();
+        };
+    }
 }
 
@@ -0,0 +1,41 @@
+package com.jcanseco.inventoryapi.customers.usecases.typeahead;
+
+import com.jcanseco.inventoryapi.customers.dto.CustomerSuggestionDto;
+import com.jcanseco.inventoryapi.customers.persistence.CustomerRepository;
+import com.jcanseco.inventoryapi.customers.search.CustomerTypeaheadIndex;
+import com.jcanseco.inventoryapi.shared.search.TypeaheadRequest;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import static com.jcanseco.inventoryapi.customers.persistence.CustomerSpecifications.byAnyFieldStartingWith;
+import static com.jcanseco.inventoryapi.customers.persistence.CustomerSpecifications.orderBy;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerTypeaheadUseCase {
+
+    private final CustomerTypeaheadIndex customerTypeaheadIndex;
+    private final CustomerRepository customerRepository;
+
+    // Falls back to a prefix query while the index is not loaded.
+    @Transactional(readOnly = true)
+    public List<CustomerSuggestionDto> execute(TypeaheadRequest request) {
+        var limit = request.limitOrDefault();
+        var suggestions = customerTypeaheadIndex.complete(request.getQuery(), limit);
+        if (suggestions != null) {
+            return suggestions;
+        }
+        var specification = orderBy(byAnyFieldStartingWith(request.getQuery().trim()), "fullName", true);
+        return customerRepository.findBy(specification, query -> query.limit(limit).all())
+                .stream()
+                .map(customer -> new CustomerSuggestionDto(customer.getId(), customer.getFullName(), customer.getDni(), customer.getPhone()))
+                .toList();
+    }
+}
+
+
+
+
+
+
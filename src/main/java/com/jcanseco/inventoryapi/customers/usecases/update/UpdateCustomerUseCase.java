@@ -3,6 +3,7 @@ package com.jcanseco.inventoryapi.customers.usecases.update;
 import com.jcanseco.inventoryapi.customers.dto.UpdateCustomerDto;
 import com.jcanseco.inventoryapi.customers.mapping.CustomerMapper;
 import com.jcanseco.inventoryapi.customers.persistence.CustomerRepository;
+import com.jcanseco.inventoryapi.customers.search.CustomerTypeaheadIndex;
 import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,6 +15,7 @@ public class UpdateCustomerUseCase {
     private static final String NOT_FOUND_MESSAGE = "Customer with the Id {%d} was not found.";
 
     private final CustomerRepository customerRepository;
+    private final CustomerTypeaheadIndex customerTypeaheadIndex;
     private final CustomerMapper customerMapper;
 
     public void execute(UpdateCustomerDto dto) {
@@ -27,6 +29,7 @@ public class UpdateCustomerUseCase {
         customer.setAddress(customerMapper.dtoToAddress(dto.getAddress()));
 
         customerRepository.saveAndFlush(customer);
+        customerTypeaheadIndex.onCustomerSaved(customer);
     }
 }
 
@@ -0,0 +1,181 @@
+package com.jcanseco.inventoryapi.dashboard.aggregates;
+
+import com.jcanseco.inventoryapi.dashboard.dto.ProductWithLowStockDto;
+import com.jcanseco.inventoryapi.dashboard.dto.ProductsByCategoryDto;
+import com.jcanseco.inventoryapi.shared.utils.LockedState;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-local running totals behind the inventory value, out-of-stock, products by category and
+ * low-stock widgets, so polling them does not scan {@code products} and {@code products_stock}.
+ * <p>
+ * The stock and catalog event listeners report what changed here, and the
+ * totals are adjusted once the surrounding transaction commits. {@link #reconcile()} periodically
+ * recomputes everything from the database and logs any drift. Until {@link #reload()} runs the
+ * aggregates are not loaded, changes are ignored and readers are expected to fall back to the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryAggregates {
+
+    private static final String SELECT_CATEGORIES_SQL = "SELECT id, name FROM categories";
+    private static final String SELECT_PRODUCTS_SQL = """
+            SELECT p.id, p.name, p.category_id, p.purchase_price, p.reorder_point, p.reorder_quantity, s.quantity
+            FROM products p
+            LEFT JOIN products_stock s ON s.product_id = p.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LockedState<InventoryTotals> totals = new LockedState<>();
+
+    public boolean isLoaded() {
+        return totals.isLoaded();
+    }
+
+    /**
+     * Replaces the totals with a fresh aggregation of {@code products} and {@code products_stock}.
+     */
+    public void reload() {
+        var newTotals = totals.load(this::load);
+        log.info("Inventory aggregates loaded with {} products.", newTotals.size());
+    }
+
+    /**
+     * Recomputes the totals from the database and swaps them in, logging the widgets that had drifted.
+     * Changes committing meanwhile are replayed on the fresh totals before they are compared, so only
+     * real drift is logged.
+     */
+    @Scheduled(
+            initialDelayString = "${app.dashboard.aggregates.reconcile-interval:PT15M}",
+            fixedDelayString = "${app.dashboard.aggregates.reconcile-interval:PT15M}"
+    )
+    public void reconcile() {
+        if (!isLoaded()) {
+            return;
+        }
+        totals.load(this::load, (current, newTotals) -> {
+            if (current != null && (current.getValueCents() != newTotals.getValueCents()
+                    || current.getOutOfStockCount() != newTotals.getOutOfStockCount()
+                    || current.getLowStockCount() != newTotals.getLowStockCount()
+                    || !current.getCountByCategory().equals(newTotals.getCountByCategory()))) {
+                log.warn("Inventory aggregates drifted: value {} -> {}, out of stock {} -> {}, low stock {} -> {}.",
+                        fromCents(current.getValueCents()), fromCents(newTotals.getValueCents()),
+                        current.getOutOfStockCount(), newTotals.getOutOfStockCount(),
+                        current.getLowStockCount(), newTotals.getLowStockCount());
+            }
+        });
+    }
+
+    /**
+     * Returns the value at purchase price of the stock on hand, or {@code null} when not loaded.
+     */
+    public BigDecimal getTotalValue() {
+        return totals.read(current -> fromCents(current.getValueCents()));
+    }
+
+    /**
+     * Returns the number of products with no stock on hand, or {@code null} when not loaded.
+     */
+    public Long getOutOfStockCount() {
+        return totals.read(InventoryTotals::getOutOfStockCount);
+    }
+
+    /**
+     * Returns the product count of every category with products, or {@code null} when not loaded.
+     */
+    public List<ProductsByCategoryDto> getCountByCategory() {
+        return totals.read(InventoryTotals::getCountByCategory);
+    }
+
+    /**
+     * Returns the number of products at or below their reorder point, or {@code null} when not loaded.
+     */
+    public Long getLowStockCount() {
+        return totals.read(current -> (long) current.getLowStockCount());
+    }
+
+    /**
+     * Returns one page of the products at or below their reorder point, most urgent first, or
+     * {@code null} when not loaded.
+     */
+    public List<ProductWithLowStockDto> getLowStock(int offset, int limit) {
+        return totals.read(current -> current.getLowStock(offset, limit));
+    }
+
+    /**
+     * Adds the signed change of each product to its quantity on hand.
+     */
+    public void onQuantitiesChanged(Map<Long, Long> quantityChanges) {
+        totals.updateAfterCommit(current -> quantityChanges.forEach(current::addQuantity));
+    }
+
+    public void onProductCreated(long productId, String name, long categoryId, BigDecimal purchasePrice,
+                                 long reorderPoint, long reorderQuantity, long quantity) {
+        var purchasePriceCents = toCents(purchasePrice);
+        totals.updateAfterCommit(current -> current.putProduct(productId, name, categoryId, purchasePriceCents,
+                reorderPoint, reorderQuantity, quantity));
+    }
+
+    /**
+     * Moves the product to its current category, revalues its stock at the new purchase price and
+     * checks it against its new reorder point.
+     */
+    public void onProductUpdated(long productId, String name, long categoryId, BigDecimal purchasePrice,
+                                 long reorderPoint, long reorderQuantity) {
+        var purchasePriceCents = toCents(purchasePrice);
+        totals.updateAfterCommit(current -> current.putProduct(productId, name, categoryId, purchasePriceCents,
+                reorderPoint, reorderQuantity, null));
+    }
+
+    public void onProductDeleted(long productId) {
+        totals.updateAfterCommit(current -> current.removeProduct(productId));
+    }
+
+    public void onCategorySaved(long categoryId, String name) {
+        totals.updateAfterCommit(current -> current.putCategory(categoryId, name));
+    }
+
+    public void onCategoryDeleted(long categoryId) {
+        totals.updateAfterCommit(current -> current.removeCategory(categoryId));
+    }
+
+    private InventoryTotals load() {
+        var newTotals = new InventoryTotals();
+        jdbcTemplate.query(SELECT_CATEGORIES_SQL, rs -> {
+            newTotals.putCategory(rs.getLong(1), rs.getString(2));
+        });
+        jdbcTemplate.query(SELECT_PRODUCTS_SQL, rs -> {
+            var categoryId = rs.getLong(3);
+            var categoryIsNull = rs.wasNull();
+            var purchasePrice = rs.getBigDecimal(4);
+            var quantity = rs.getLong(7);
+            var quantityIsNull = rs.wasNull();
+            newTotals.putProduct(rs.getLong(1), rs.getString(2), categoryIsNull ? null : categoryId,
+                    purchasePrice == null ? 0 : toCents(purchasePrice), rs.getLong(5), rs.getLong(6),
+                    quantityIsNull ? null : quantity);
+        });
+        return newTotals;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,205 @@
+package com.jcanseco.inventoryapi.dashboard.aggregates;
+
+import com.jcanseco.inventoryapi.dashboard.dto.ProductWithLowStockDto;
+import com.jcanseco.inventoryapi.dashboard.dto.ProductsByCategoryDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Running inventory aggregates: the value at purchase price of the stock on hand, the number of
+ * products out of stock, the number of products per category and the products at or below their
+ * reorder point ordered by urgency. Every change adjusts the totals by the difference it makes, so
+ * reading them never walks the products. Not thread-safe; {@link InventoryAggregates} guards every access.
+ */
+class InventoryTotals {
+
+    /**
+     * Most urgent first: the lowest share of the reorder point still on hand, then the largest shortfall.
+     * A reorder point of zero only lets empty products in, which count as having nothing left.
+     */
+    private static final Comparator<ProductState> URGENCY = Comparator
+            .<ProductState>comparingDouble(product -> product.reorderPoint == 0 ? 0 : (double) product.quantity / product.reorderPoint)
+            .thenComparing(product -> product.reorderPoint - product.quantity, Comparator.reverseOrder())
+            .thenComparingLong(product -> product.productId);
+
+    private final Map<Long, ProductState> products = new HashMap<>();
+    private final Map<Long, String> categoryNames = new HashMap<>();
+    private final Map<Long, Long> categoryCounts = new HashMap<>();
+    private final TreeSet<ProductState> lowStock = new TreeSet<>(URGENCY);
+    private long valueCents;
+    private long outOfStockCount;
+    private List<ProductsByCategoryDto> countByCategory;
+
+    public int size() {
+        return products.size();
+    }
+
+    public long getValueCents() {
+        return valueCents;
+    }
+
+    public long getOutOfStockCount() {
+        return outOfStockCount;
+    }
+
+    /**
+     * Returns the categories with at least one product, ordered like the SQL widget: most products
+     * first, then by name. The list is only sorted again after a category or product changes.
+     */
+    public List<ProductsByCategoryDto> getCountByCategory() {
+        if (countByCategory == null) {
+            var counts = new ArrayList<ProductsByCategoryDto>(categoryCounts.size());
+            categoryCounts.forEach((categoryId, count) ->
+                    counts.add(new ProductsByCategoryDto(categoryId, categoryNames.get(categoryId), count)));
+            counts.sort(Comparator.comparing(ProductsByCategoryDto::productCount).reversed()
+                    .thenComparing(ProductsByCategoryDto::categoryName, Comparator.nullsLast(Comparator.naturalOrder())));
+            countByCategory = List.copyOf(counts);
+        }
+        return countByCategory;
+    }
+
+    public int getLowStockCount() {
+        return lowStock.size();
+    }
+
+    /**
+     * Returns one page of the products at or below their reorder point, most urgent first. Only the
+     * low-stock products before the page are walked.
+     */
+    public List<ProductWithLowStockDto> getLowStock(int offset, int limit) {
+        var page = new ArrayList<ProductWithLowStockDto>(Math.min(limit, Math.max(lowStock.size() - offset, 0)));
+        var skipped = 0;
+        for (var product : lowStock) {
+            if (page.size() == limit) {
+                break;
+            }
+            if (skipped++ >= offset) {
+                page.add(new ProductWithLowStockDto(product.productId, product.name, product.quantity,
+                        product.reorderPoint, product.reorderQuantity));
+            }
+        }
+        return page;
+    }
+
+    public void putCategory(long categoryId, String name) {
+        if (!Objects.equals(categoryNames.put(categoryId, name), name)) {
+            countByCategory = null;
+        }
+    }
+
+    public void removeCategory(long categoryId) {
+        categoryNames.remove(categoryId);
+        if (categoryCounts.remove(categoryId) != null) {
+            countByCategory = null;
+        }
+    }
+
+    /**
+     * Adds a product or replaces its details, keeping the stock already counted for it. A {@code null}
+     * quantity leaves the stock of a known product untouched and marks a new one as having no stock row.
+     */
+    public void putProduct(long productId, String name, Long categoryId, long purchasePriceCents,
+                           long reorderPoint, long reorderQuantity, Long quantity) {
+        var product = products.get(productId);
+        if (product == null) {
+            product = new ProductState(productId);
+            products.put(productId, product);
+        } else {
+            subtract(product);
+        }
+        product.name = name;
+        product.categoryId = categoryId;
+        product.purchasePriceCents = purchasePriceCents;
+        product.reorderPoint = reorderPoint;
+        product.reorderQuantity = reorderQuantity;
+        if (quantity != null) {
+            product.quantity = quantity;
+        }
+        add(product);
+    }
+
+    public void removeProduct(long productId) {
+        var product = products.remove(productId);
+        if (product != null) {
+            subtract(product);
+        }
+    }
+
+    /**
+     * Adds the delta to the on-hand quantity of a stocked product. Returns {@code false} when the
+     * product is unknown or has no stock row.
+     */
+    public boolean addQuantity(long productId, long delta) {
+        var product = products.get(productId);
+        if (product == null || product.quantity == null) {
+            return false;
+        }
+        subtractStock(product);
+        product.quantity += delta;
+        addStock(product);
+        return true;
+    }
+
+    private void add(ProductState product) {
+        addStock(product);
+        if (product.categoryId != null) {
+            categoryCounts.merge(product.categoryId, 1L, Long::sum);
+            countByCategory = null;
+        }
+    }
+
+    private void subtract(ProductState product) {
+        subtractStock(product);
+        if (product.categoryId != null) {
+            categoryCounts.computeIfPresent(product.categoryId, (categoryId, count) -> count == 1 ? null : count - 1);
+            countByCategory = null;
+        }
+    }
+
+    private void addStock(ProductState product) {
+        if (product.quantity != null) {
+            valueCents += product.purchasePriceCents * product.quantity;
+            if (product.quantity == 0) {
+                outOfStockCount++;
+            }
+            if (product.quantity <= product.reorderPoint) {
+                lowStock.add(product);
+            }
+        }
+    }
+
+    private void subtractStock(ProductState product) {
+        if (product.quantity != null) {
+            valueCents -= product.purchasePriceCents * product.quantity;
+            if (product.quantity == 0) {
+                outOfStockCount--;
+            }
+            lowStock.remove(product);
+        }
+    }
+
+    private static class ProductState {
+        private final long productId;
+        private String name;
+        private Long categoryId;
+        private long purchasePriceCents;
+        private long reorderPoint;
+        private long reorderQuantity;
+        private Long quantity;
+
+        private ProductState(long productId) {
+            this.productId = productId;
+        }
+    }
+}
+
+
+
+
+
+
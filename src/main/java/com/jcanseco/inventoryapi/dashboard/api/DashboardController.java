@@ -1,17 +1,22 @@
 package com.jcanseco.inventoryapi.dashboard.api;
 
+import com.jcanseco.inventoryapi.dashboard.dto.GetDashboardSummaryRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.GetProductsWithLowStockCountRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.GetProductsWithLowStockRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.GetTopCustomersByRevenueRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.GetTopSoldProductsRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.GetTopSuppliersByRevenueRequest;
+import com.jcanseco.inventoryapi.dashboard.dto.GetSalesSeriesRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.GetValueSummaryRequest;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetDashboardCacheStatsUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetDashboardSummaryUseCase;
 import com.jcanseco.inventoryapi.dashboard.usecases.GetMonthlySalesSeriesUseCase;
 import com.jcanseco.inventoryapi.dashboard.usecases.GetOutOfStockProductsCountUseCase;
 import com.jcanseco.inventoryapi.dashboard.usecases.GetProductsWithLowStockCountUseCase;
 import com.jcanseco.inventoryapi.dashboard.usecases.GetProductsCountByCategoryUseCase;
 import com.jcanseco.inventoryapi.dashboard.usecases.GetProductsWithLowStockUseCase;
 import com.jcanseco.inventoryapi.dashboard.usecases.GetPurchasesValueSummaryByPeriodUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetSalesSeriesUseCase;
 import com.jcanseco.inventoryapi.dashboard.usecases.GetSalesValueSummaryByPeriodUseCase;
 import com.jcanseco.inventoryapi.dashboard.usecases.GetTopCustomersByRevenueUseCase;
 import com.jcanseco.inventoryapi.dashboard.usecases.GetTopSoldProductsUseCase;
@@ -46,6 +51,9 @@ public class DashboardController {
     private final GetTopSoldProductsUseCase getTopSoldProductsUseCase;
     private final GetTopSuppliersByRevenueUseCase getTopSuppliersByRevenueUseCase;
     private final GetTotalInventoryValueSummaryUseCase getTotalInventoryValueSummaryUseCase;
+    private final GetDashboardCacheStatsUseCase getDashboardCacheStatsUseCase;
+    private final GetDashboardSummaryUseCase getDashboardSummaryUseCase;
+    private final GetSalesSeriesUseCase getSalesSeriesUseCase;
 
     @GetMapping("purchases-value/summary/by-period")
     public ResponseEntity<?> getPurchasesValueSummaryByPeriod(@Valid GetValueSummaryRequest request) {
@@ -57,6 +65,11 @@ public class DashboardController {
         return ResponseEntity.ok(getMonthlySalesSeriesUseCase.execute(request));
     }
 
+    @GetMapping("sales-value/series")
+    public ResponseEntity<?> getSalesSeries(@Valid GetSalesSeriesRequest request) {
+        return ResponseEntity.ok(getSalesSeriesUseCase.execute(request));
+    }
+
     @GetMapping("products/out-of-stock/count")
     public ResponseEntity<?> getOutOfStockProductsCount() {
         return ResponseEntity.ok(getOutOfStockProductsCountUseCase.execute());
@@ -101,4 +114,20 @@ public class DashboardController {
     public ResponseEntity<?> getTotalInventoryValueSummary() {
         return ResponseEntity.ok(getTotalInventoryValueSummaryUseCase.execute());
     }
+
+    @GetMapping("summary")
+    public ResponseEntity<?> getSummary(@Valid GetDashboardSummaryRequest request) {
+        return ResponseEntity.ok(getDashboardSummaryUseCase.execute(request));
+    }
+
+    @GetMapping("cache/stats")
+    public ResponseEntity<?> getCacheStats() {
+        return ResponseEntity.ok(getDashboardCacheStatsUseCase.execute());
+    }
 }
+
+
+
+
+
+
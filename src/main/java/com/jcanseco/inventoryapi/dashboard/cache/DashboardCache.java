@@ -0,0 +1,191 @@
+package com.jcanseco.inventoryapi.dashboard.cache;
+
+import com.jcanseco.inventoryapi.dashboard.dto.DashboardCacheStatsDto;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Results of the dashboard use cases keyed by widget and request parameters, held in a bounded LRU map.
+ * Concurrent misses for the same key wait for a single computation. Delivered orders and received
+ * purchases evict the widgets they affect; every other entry expires after {@code app.dashboard.cache.ttl},
+ * which bounds how stale widgets fed by changes that publish no event can get.
+ */
+@Component
+public class DashboardCache {
+
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Map<DashboardCacheKey, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public DashboardCache(
+            @Value("${app.dashboard.cache.ttl:PT1M}") Duration ttl,
+            @Value("${app.dashboard.cache.max-entries:500}") int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    DashboardCache(Duration ttl, int maxEntries, LongSupplier nanoTime) {
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DashboardCacheKey, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result for the widget and parameters, computing it with the loader on a miss.
+     * Failed computations are not cached; the failure is rethrown to every caller waiting on it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(DashboardWidget widget, List<?> parameters, Supplier<T> loader) {
+        var key = new DashboardCacheKey(widget, parameters);
+        Entry entry;
+        boolean loading = false;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry == null || entry.isExpired(nanoTime.getAsLong())) {
+                entry = new Entry();
+                entries.put(key, entry);
+                loading = true;
+            }
+        }
+
+        if (!loading) {
+            hits.increment();
+            return (T) await(entry.value);
+        }
+
+        misses.increment();
+        var startedAt = nanoTime.getAsLong();
+        try {
+            var value = loader.get();
+            var finishedAt = nanoTime.getAsLong();
+            entry.expiresAt = finishedAt + ttlNanos;
+            entry.value.complete(value);
+            loads.increment();
+            loadNanos.add(finishedAt - startedAt);
+            return value;
+        } catch (Throwable exception) {
+            // Errors too, or the entry would stay incomplete and every later caller would wait on it.
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            loadFailures.increment();
+            entry.value.completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    public <T> T get(DashboardWidget widget, Supplier<T> loader) {
+        return get(widget, List.of(), loader);
+    }
+
+    /**
+     * Helper for parameter lists that may contain {@code null}, such as open period bounds.
+     */
+    public static List<?> parameters(Object... values) {
+        return Arrays.asList(values);
+    }
+
+    /**
+     * Evicts the entries of every widget that reads any of the changed data, including computations
+     * still in flight, so callers arriving after the change never join a load that read older data.
+     */
+    public void invalidate(DashboardChange... changes) {
+        var changed = EnumSet.noneOf(DashboardChange.class);
+        changed.addAll(Arrays.asList(changes));
+        synchronized (entries) {
+            var iterator = entries.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().widget().isAffectedBy(changed)) {
+                    iterator.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    public DashboardCacheStatsDto getStats() {
+        var hitCount = hits.sum();
+        var missCount = misses.sum();
+        var requests = hitCount + missCount;
+        var loadCount = loads.sum();
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new DashboardCacheStatsDto(
+                hitCount,
+                missCount,
+                requests == 0 ? 0 : (double) hitCount / requests,
+                loadFailures.sum(),
+                loadCount == 0 ? 0 : loadNanos.sum() / 1_000_000.0 / loadCount,
+                invalidations.sum(),
+                evictions.sum(),
+                size
+        );
+    }
+
+    private static Object await(CompletableFuture<Object> value) {
+        try {
+            return value.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Object> value = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private boolean isExpired(long now) {
+            return value.isDone() && now - expiresAt >= 0;
+        }
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,12 @@
+package com.jcanseco.inventoryapi.dashboard.cache;
+
+import java.util.List;
+
+record DashboardCacheKey(DashboardWidget widget, List<?> parameters) {
+}
+
+
+
+
+
+
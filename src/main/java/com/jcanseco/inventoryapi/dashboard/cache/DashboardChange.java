@@ -0,0 +1,18 @@
+package com.jcanseco.inventoryapi.dashboard.cache;
+
+/**
+ * The kinds of data a dashboard widget is computed from. Events name the changes they cause
+ * so the cache only evicts the widgets that read the changed data.
+ */
+public enum DashboardChange {
+    SALES,
+    PURCHASES,
+    STOCK,
+    CATALOG
+}
+
+
+
+
+
+
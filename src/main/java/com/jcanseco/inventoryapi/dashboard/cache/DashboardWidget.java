@@ -0,0 +1,42 @@
+package com.jcanseco.inventoryapi.dashboard.cache;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+public enum DashboardWidget {
+    SALES_VALUE_SUMMARY(EnumSet.of(DashboardChange.SALES)),
+    PURCHASES_VALUE_SUMMARY(EnumSet.of(DashboardChange.PURCHASES)),
+    MONTHLY_SALES_SERIES(EnumSet.of(DashboardChange.SALES)),
+    TOP_CUSTOMERS_BY_REVENUE(EnumSet.of(DashboardChange.SALES)),
+    TOP_SOLD_PRODUCTS(EnumSet.of(DashboardChange.SALES)),
+    TOP_SUPPLIERS_BY_REVENUE(EnumSet.of(DashboardChange.PURCHASES)),
+    PRODUCTS_WITH_LOW_STOCK(EnumSet.of(DashboardChange.STOCK)),
+    PRODUCTS_WITH_LOW_STOCK_COUNT(EnumSet.of(DashboardChange.STOCK)),
+    OUT_OF_STOCK_PRODUCTS_COUNT(EnumSet.of(DashboardChange.STOCK)),
+    TOTAL_INVENTORY_VALUE(EnumSet.of(DashboardChange.STOCK, DashboardChange.CATALOG)),
+    PRODUCTS_COUNT_BY_CATEGORY(EnumSet.of(DashboardChange.CATALOG));
+
+    private final Set<DashboardChange> dependencies;
+
+    DashboardWidget(Set<DashboardChange> dependencies) {
+        this.dependencies = dependencies;
+    }
+
+    public boolean isAffectedBy(Set<DashboardChange> changes) {
+        return changes.stream().anyMatch(dependencies::contains);
+    }
+
+    /**
+     * The widget name used in configuration keys and API payloads, e.g. {@code top-sold-products}.
+     */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,43 @@
+package com.jcanseco.inventoryapi.dashboard.domain;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.*;
+
+/**
+ * Delivered orders of a customer aggregated per day.
+ */
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@Entity
+@Table(name = "daily_customer_sales", uniqueConstraints = {
+        @UniqueConstraint(name = "ux_daily_customer_sales_date_customer", columnNames = {"sales_date", "customer_id"})
+})
+public class DailyCustomerSales {
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "orders_count", nullable = false)
+    private Long ordersCount;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal total;
+}
+
+
+
+
+
+
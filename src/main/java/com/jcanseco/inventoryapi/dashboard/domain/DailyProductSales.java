@@ -0,0 +1,43 @@
+package com.jcanseco.inventoryapi.dashboard.domain;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.*;
+
+/**
+ * Delivered quantities and revenue of a product aggregated per day.
+ */
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@Entity
+@Table(name = "daily_product_sales", uniqueConstraints = {
+        @UniqueConstraint(name = "ux_daily_product_sales_date_product", columnNames = {"sales_date", "product_id"})
+})
+public class DailyProductSales {
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal total;
+}
+
+
+
+
+
+
@@ -0,0 +1,41 @@
+package com.jcanseco.inventoryapi.dashboard.domain;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.*;
+
+/**
+ * Delivered orders aggregated per day. Maintained incrementally when orders are delivered
+ * and rebuilt from the orders table by {@code RebuildDailyFactsUseCase}.
+ */
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@Entity
+@Table(name = "daily_sales", uniqueConstraints = {
+        @UniqueConstraint(name = "ux_daily_sales_date", columnNames = "sales_date")
+})
+public class DailySales {
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "orders_count", nullable = false)
+    private Long ordersCount;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal total;
+}
+
+
+
+
+
+
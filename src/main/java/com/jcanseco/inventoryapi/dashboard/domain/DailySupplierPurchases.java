@@ -0,0 +1,44 @@
+package com.jcanseco.inventoryapi.dashboard.domain;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.*;
+
+/**
+ * Received purchases of a supplier aggregated per day. Summing every supplier of a day
+ * gives the purchases of that day.
+ */
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@Entity
+@Table(name = "daily_supplier_purchases", uniqueConstraints = {
+        @UniqueConstraint(name = "ux_daily_supplier_purchases_date_supplier", columnNames = {"purchase_date", "supplier_id"})
+})
+public class DailySupplierPurchases {
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    @Column(name = "purchase_date", nullable = false)
+    private LocalDate purchaseDate;
+
+    @Column(name = "supplier_id", nullable = false)
+    private Long supplierId;
+
+    @Column(name = "purchases_count", nullable = false)
+    private Long purchasesCount;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal total;
+}
+
+
+
+
+
+
@@ -0,0 +1,19 @@
+package com.jcanseco.inventoryapi.dashboard.dto;
+
+public record DashboardCacheStatsDto(
+        long hits,
+        long misses,
+        double hitRate,
+        long loadFailures,
+        double averageLoadMillis,
+        long invalidations,
+        long evictions,
+        int size
+) {
+}
+
+
+
+
+
+
@@ -0,0 +1,34 @@
+package com.jcanseco.inventoryapi.dashboard.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Every dashboard widget computed for one parameter set. A widget that failed or timed out is
+ * left {@code null} and reported in {@code failures}.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardSummaryDto {
+    private InventoryValueSummaryDto salesValue;
+    private InventoryValueSummaryDto purchasesValue;
+    private List<MonthlySalesPointDto> monthlySales;
+    private List<TopCustomerByRevenueDto> topCustomers;
+    private List<TopSoldProductDto> topProducts;
+    private List<TopSupplierByRevenueDto> topSuppliers;
+    private List<ProductWithLowStockDto> lowStockProducts;
+    private Long lowStockCount;
+    private Long outOfStockCount;
+    private InventoryValueSummaryDto inventoryValue;
+    private List<ProductsByCategoryDto> productsByCategory;
+    private List<DashboardWidgetFailureDto> failures;
+}
+
+
+
+
+
+
@@ -0,0 +1,10 @@
+package com.jcanseco.inventoryapi.dashboard.dto;
+
+public record DashboardWidgetFailureDto(String widget, String error) {
+}
+
+
+
+
+
+
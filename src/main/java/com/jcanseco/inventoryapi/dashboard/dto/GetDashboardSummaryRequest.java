@@ -0,0 +1,41 @@
+package com.jcanseco.inventoryapi.dashboard.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetDashboardSummaryRequest {
+
+    public static final int DEFAULT_LIMIT = 5;
+
+    private LocalDateTime startDate;
+
+    private LocalDateTime endDate;
+
+    @Min(1)
+    @Max(50)
+    private Integer limit;
+
+    /**
+     * Single low-stock threshold for every product; when missing each product uses its own reorder point.
+     */
+    @Min(0)
+    private Long stockThreshold;
+
+    public int limitOrDefault() {
+        return limit != null ? limit : DEFAULT_LIMIT;
+    }
+}
+
+
+
+
+
+
@@ -9,6 +9,9 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 public class GetProductsWithLowStockCountRequest {
+    /**
+     * Single threshold applied to every product; when missing each product uses its own reorder point.
+     */
     @Min(0)
     Long stockThreshold;
 }
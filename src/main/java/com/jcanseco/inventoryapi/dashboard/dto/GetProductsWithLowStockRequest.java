@@ -10,9 +10,19 @@ import lombok.*;
 @NoArgsConstructor
 public class GetProductsWithLowStockRequest {
 
+    /**
+     * Single threshold applied to every product; when missing each product uses its own reorder point.
+     */
     @Min(0)
     Long stockThreshold;
 
     @Min(1)
     int limit;
+
+    @Min(1)
+    Integer pageNumber;
+
+    public int pageNumberOrDefault() {
+        return pageNumber == null ? 1 : pageNumber;
+    }
 }
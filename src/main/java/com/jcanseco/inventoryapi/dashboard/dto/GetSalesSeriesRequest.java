@@ -0,0 +1,47 @@
+package com.jcanseco.inventoryapi.dashboard.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Builder
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetSalesSeriesRequest {
+
+    public static final String DEFAULT_GRANULARITY = "day";
+    public static final int DEFAULT_MAX_POINTS = 366;
+
+    @NotNull
+    private LocalDate startDate;
+
+    @NotNull
+    private LocalDate endDate;
+
+    private String granularity;
+
+    private String zone;
+
+    @Min(1)
+    @Max(1000)
+    private Integer maxPoints;
+
+    public String granularityOrDefault() {
+        return granularity != null ? granularity : DEFAULT_GRANULARITY;
+    }
+
+    public int maxPointsOrDefault() {
+        return maxPoints != null ? maxPoints : DEFAULT_MAX_POINTS;
+    }
+}
+
+
+
+
+
+
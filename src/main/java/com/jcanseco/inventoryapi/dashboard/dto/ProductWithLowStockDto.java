@@ -3,7 +3,9 @@ package com.jcanseco.inventoryapi.dashboard.dto;
 public record ProductWithLowStockDto(
         Long id,
         String name,
-        Long stockQuantity
+        Long stockQuantity,
+        Long reorderPoint,
+        Long reorderQuantity
 ) {
 
 }
@@ -0,0 +1,16 @@
+package com.jcanseco.inventoryapi.dashboard.dto;
+
+import java.util.List;
+
+public record SalesSeriesDto(
+        String granularity,
+        String zone,
+        List<SalesSeriesPointDto> points
+) {
+}
+
+
+
+
+
+
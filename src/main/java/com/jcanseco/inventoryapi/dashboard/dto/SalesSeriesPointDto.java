@@ -0,0 +1,18 @@
+package com.jcanseco.inventoryapi.dashboard.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record SalesSeriesPointDto(
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal totalValue,
+        long unitsSold
+) {
+}
+
+
+
+
+
+
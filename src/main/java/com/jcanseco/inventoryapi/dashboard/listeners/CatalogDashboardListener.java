@@ -0,0 +1,94 @@
+package com.jcanseco.inventoryapi.dashboard.listeners;
+
+import com.jcanseco.inventoryapi.catalog.categories.events.CategoryDeletedEvent;
+import com.jcanseco.inventoryapi.catalog.categories.events.CategorySavedEvent;
+import com.jcanseco.inventoryapi.catalog.products.events.ProductCreatedEvent;
+import com.jcanseco.inventoryapi.catalog.products.events.ProductDeletedEvent;
+import com.jcanseco.inventoryapi.catalog.products.events.ProductUpdatedEvent;
+import com.jcanseco.inventoryapi.dashboard.aggregates.InventoryAggregates;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogDashboardListener {
+    private final InventoryAggregates inventoryAggregates;
+    private final DashboardCache dashboardCache;
+
+    /**
+     * Hands the product and category changes to the inventory aggregates before the commit, so the
+     * totals only move once the catalog change is committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(ProductCreatedEvent event) {
+        inventoryAggregates.onProductCreated(event.productId(), event.name(), event.categoryId(), event.purchasePrice(),
+                event.reorderPoint(), event.reorderQuantity(), event.quantity());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(ProductUpdatedEvent event) {
+        inventoryAggregates.onProductUpdated(event.productId(), event.name(), event.categoryId(), event.purchasePrice(),
+                event.reorderPoint(), event.reorderQuantity());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(ProductDeletedEvent event) {
+        inventoryAggregates.onProductDeleted(event.productId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(CategorySavedEvent event) {
+        inventoryAggregates.onCategorySaved(event.categoryId(), event.name());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(CategoryDeletedEvent event) {
+        inventoryAggregates.onCategoryDeleted(event.categoryId());
+    }
+
+    /**
+     * Evicts the widgets fed by the catalog once the change is committed. A product also carries the
+     * reorder point and the stock row the stock widgets read.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(ProductCreatedEvent event) {
+        dashboardCache.invalidate(DashboardChange.CATALOG, DashboardChange.STOCK);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(ProductUpdatedEvent event) {
+        dashboardCache.invalidate(DashboardChange.CATALOG, DashboardChange.STOCK);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(ProductDeletedEvent event) {
+        dashboardCache.invalidate(DashboardChange.CATALOG, DashboardChange.STOCK);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(CategorySavedEvent event) {
+        dashboardCache.invalidate(DashboardChange.CATALOG);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(CategoryDeletedEvent event) {
+        dashboardCache.invalidate(DashboardChange.CATALOG);
+    }
+}
+
+
+
+
+
+
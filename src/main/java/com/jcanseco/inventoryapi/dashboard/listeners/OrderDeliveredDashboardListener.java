@@ -1,24 +1,72 @@
 package com.jcanseco.inventoryapi.dashboard.listeners;
 
-import com.jcanseco.inventoryapi.dashboard.realtime.DashboardSocketPublisher;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardChange;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailyFactsRepository;
+import com.jcanseco.inventoryapi.dashboard.rankings.DashboardRankings;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaCalculator;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardUpdateNotifier;
+import com.jcanseco.inventoryapi.dashboard.series.SalesTimeSeries;
 import com.jcanseco.inventoryapi.orders.events.OrderDeliveredEvent;
+import com.jcanseco.inventoryapi.orders.events.OrdersDeliveredEvent;
+import com.jcanseco.inventoryapi.shared.utils.AfterCommit;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-@Slf4j
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class OrderDeliveredDashboardListener {
-    private final DashboardSocketPublisher dashboardSocketPublisher;
+    private final DailyFactsRepository dailyFactsRepository;
+    private final DashboardRankings dashboardRankings;
+    private final SalesTimeSeries salesTimeSeries;
+    private final DashboardCache dashboardCache;
+    private final DashboardUpdateNotifier dashboardUpdateNotifier;
+    private final DashboardDeltaCalculator dashboardDeltaCalculator;
+
+    /**
+     * Folds the delivered orders into the daily facts inside the same transaction, so the facts,
+     * rankings and sales series are committed or rolled back together with the orders themselves.
+     * The products the deliveries took to or below their reorder point are read here too, and handed
+     * to the notifier with the orders once they are committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(OrderDeliveredEvent event) {
+        record(List.of(event.orderId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(OrdersDeliveredEvent event) {
+        record(event.orderIds());
+    }
 
-    @Async
+    /**
+     * Evicts the widgets fed by the delivered orders right after the commit and before the
+     * update goes out, so clients refreshing on the update never read cached values.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handle(OrderDeliveredEvent event) {
-        log.info("Publishing dashboard update signal after delivered order {}", event.orderId());
-        dashboardSocketPublisher.publishUpdateSignal();
+    public void evict(OrderDeliveredEvent event) {
+        dashboardCache.invalidate(DashboardChange.SALES, DashboardChange.STOCK);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(OrdersDeliveredEvent event) {
+        dashboardCache.invalidate(DashboardChange.SALES, DashboardChange.STOCK);
+    }
+
+    private void record(List<Long> orderIds) {
+        dailyFactsRepository.addDeliveredOrders(orderIds);
+        dashboardRankings.onOrdersDelivered(orderIds);
+        salesTimeSeries.onOrdersDelivered(orderIds);
+        var newLowStockProductIds = dashboardDeltaCalculator.findNewLowStockProducts(orderIds);
+        // The notifier merges them with the rest of the current window instead of publishing once per event.
+        AfterCommit.run(() -> dashboardUpdateNotifier.ordersDelivered(orderIds, newLowStockProductIds));
     }
 }
@@ -1,24 +1,72 @@
 package com.jcanseco.inventoryapi.dashboard.listeners;
 
-import com.jcanseco.inventoryapi.dashboard.realtime.DashboardSocketPublisher;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardChange;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailyFactsRepository;
+import com.jcanseco.inventoryapi.dashboard.rankings.DashboardRankings;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardUpdateNotifier;
 import com.jcanseco.inventoryapi.purchases.events.PurchaseReceivedEvent;
+import com.jcanseco.inventoryapi.purchases.events.PurchasesReceivedEvent;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-@Slf4j
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class PurchaseReceivedDashboardEventListener {
-    private final DashboardSocketPublisher dashboardSocketPublisher;
+    private final DailyFactsRepository dailyFactsRepository;
+    private final DashboardRankings dashboardRankings;
+    private final DashboardCache dashboardCache;
+    private final DashboardUpdateNotifier dashboardUpdateNotifier;
+
+    /**
+     * Folds the received purchases into the daily facts inside the same transaction, so the facts
+     * and rankings are committed or rolled back together with the purchases themselves.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(PurchaseReceivedEvent event) {
+        dailyFactsRepository.addReceivedPurchases(List.of(event.purchaseId()));
+        dashboardRankings.onPurchasesReceived(List.of(event.purchaseId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(PurchasesReceivedEvent event) {
+        dailyFactsRepository.addReceivedPurchases(event.purchaseIds());
+        dashboardRankings.onPurchasesReceived(event.purchaseIds());
+    }
+
+    /**
+     * Evicts the widgets fed by the received purchases right after the commit and before the
+     * update goes out, so clients refreshing on the update never read cached values.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(PurchaseReceivedEvent event) {
+        dashboardCache.invalidate(DashboardChange.PURCHASES, DashboardChange.STOCK);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(PurchasesReceivedEvent event) {
+        dashboardCache.invalidate(DashboardChange.PURCHASES, DashboardChange.STOCK);
+    }
 
-    @Async
+    /**
+     * Hands the purchases to the notifier, which merges them with the rest of the current window
+     * instead of publishing once per event.
+     */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(PurchaseReceivedEvent event) {
-        log.info("Publishing dashboard update signal after received purchase {}", event.purchaseId());
-        dashboardSocketPublisher.publishUpdateSignal();
+        dashboardUpdateNotifier.purchasesReceived(List.of(event.purchaseId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PurchasesReceivedEvent event) {
+        dashboardUpdateNotifier.purchasesReceived(event.purchaseIds());
     }
 }
@@ -0,0 +1,32 @@
+package com.jcanseco.inventoryapi.dashboard.listeners;
+
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardChange;
+import com.jcanseco.inventoryapi.inventory.stock.events.StockAdjustedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class StockAdjustedDashboardListener {
+    private final DashboardCache dashboardCache;
+
+    /**
+     * Evicts the stock widgets once a manual adjustment is committed.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(StockAdjustedEvent event) {
+        dashboardCache.invalidate(DashboardChange.STOCK);
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,29 @@
+package com.jcanseco.inventoryapi.dashboard.listeners;
+
+import com.jcanseco.inventoryapi.dashboard.aggregates.InventoryAggregates;
+import com.jcanseco.inventoryapi.inventory.stock.events.StockQuantitiesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class StockQuantitiesDashboardListener {
+    private final InventoryAggregates inventoryAggregates;
+
+    /**
+     * Hands the quantity changes to the inventory aggregates before the commit, so the totals only move
+     * once the stock change is committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(StockQuantitiesChangedEvent event) {
+        inventoryAggregates.onQuantitiesChanged(event.quantityChanges());
+    }
+}
+
+
+
+
+
+
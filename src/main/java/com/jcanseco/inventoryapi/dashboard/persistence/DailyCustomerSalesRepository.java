@@ -0,0 +1,40 @@
+package com.jcanseco.inventoryapi.dashboard.persistence;
+
+import com.jcanseco.inventoryapi.dashboard.domain.DailyCustomerSales;
+import com.jcanseco.inventoryapi.dashboard.dto.TopCustomerByRevenueDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyCustomerSalesRepository extends JpaRepository<DailyCustomerSales, Long> {
+    @Query("""
+    SELECT new com.jcanseco.inventoryapi.dashboard.dto.TopCustomerByRevenueDto(
+        c.id,
+        c.fullName,
+        SUM(f.total)
+    )
+    FROM DailyCustomerSales f
+    INNER JOIN Customer c ON c.id = f.customerId
+    WHERE f.salesDate >= :startDay
+    AND   f.salesDate < :endDay
+    GROUP BY c.id, c.fullName
+    ORDER BY SUM(f.total) DESC, c.id ASC
+    """)
+    List<TopCustomerByRevenueDto> getTopCustomersByRevenue(
+            @Param("startDay") LocalDate startDay,
+            @Param("endDay") LocalDate endDay,
+            Pageable pageable
+    );
+}
+
+
+
+
+
+
@@ -0,0 +1,124 @@
+package com.jcanseco.inventoryapi.dashboard.persistence;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes the daily fact tables read by the dashboard. Every statement aggregates the source
+ * rows per day and adds them to the existing facts, so the same statements fold in newly
+ * delivered orders or received purchases and, with no id filter, rebuild the tables from scratch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyFactsRepository {
+
+    private static final String ORDERS_FILTER = "AND o.id IN (:ids)";
+    private static final String PURCHASES_FILTER = "AND p.id IN (:ids)";
+
+    private static final String ADD_DAILY_SALES_SQL = """
+            INSERT INTO daily_sales (sales_date, orders_count, total)
+            SELECT f.sales_date, f.orders_count, f.total FROM (
+                SELECT DATE(o.delivered_at) AS sales_date, COUNT(*) AS orders_count, SUM(o.total) AS total
+                FROM orders o
+                WHERE o.delivered = true %s
+                GROUP BY DATE(o.delivered_at)
+            ) AS f
+            ON DUPLICATE KEY UPDATE
+                orders_count = daily_sales.orders_count + f.orders_count,
+                total = daily_sales.total + f.total
+            """;
+
+    private static final String ADD_DAILY_PRODUCT_SALES_SQL = """
+            INSERT INTO daily_product_sales (sales_date, product_id, quantity, total)
+            SELECT f.sales_date, f.product_id, f.quantity, f.total FROM (
+                SELECT DATE(o.delivered_at) AS sales_date, oi.product_id, SUM(oi.quantity) AS quantity, SUM(oi.total) AS total
+                FROM orders o
+                INNER JOIN order_items oi ON oi.order_id = o.id
+                WHERE o.delivered = true %s
+                GROUP BY DATE(o.delivered_at), oi.product_id
+            ) AS f
+            ON DUPLICATE KEY UPDATE
+                quantity = daily_product_sales.quantity + f.quantity,
+                total = daily_product_sales.total + f.total
+            """;
+
+    private static final String ADD_DAILY_CUSTOMER_SALES_SQL = """
+            INSERT INTO daily_customer_sales (sales_date, customer_id, orders_count, total)
+            SELECT f.sales_date, f.customer_id, f.orders_count, f.total FROM (
+                SELECT DATE(o.delivered_at) AS sales_date, o.customer_id, COUNT(*) AS orders_count, SUM(o.total) AS total
+                FROM orders o
+                WHERE o.delivered = true %s
+                GROUP BY DATE(o.delivered_at), o.customer_id
+            ) AS f
+            ON DUPLICATE KEY UPDATE
+                orders_count = daily_customer_sales.orders_count + f.orders_count,
+                total = daily_customer_sales.total + f.total
+            """;
+
+    private static final String ADD_DAILY_SUPPLIER_PURCHASES_SQL = """
+            INSERT INTO daily_supplier_purchases (purchase_date, supplier_id, purchases_count, total)
+            SELECT f.purchase_date, f.supplier_id, f.purchases_count, f.total FROM (
+                SELECT DATE(p.arrived_at) AS purchase_date, p.supplier_id, COUNT(*) AS purchases_count, SUM(p.total) AS total
+                FROM purchases p
+                WHERE p.arrived = true %s
+                GROUP BY DATE(p.arrived_at), p.supplier_id
+            ) AS f
+            ON DUPLICATE KEY UPDATE
+                purchases_count = daily_supplier_purchases.purchases_count + f.purchases_count,
+                total = daily_supplier_purchases.total + f.total
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Adds the given orders to the sales facts. Orders that are not delivered are skipped,
+     * and each delivered order must be added only once.
+     */
+    public void addDeliveredOrders(Collection<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return;
+        }
+        var parameters = new MapSqlParameterSource("ids", orderIds);
+        namedParameterJdbcTemplate.update(ADD_DAILY_SALES_SQL.formatted(ORDERS_FILTER), parameters);
+        namedParameterJdbcTemplate.update(ADD_DAILY_PRODUCT_SALES_SQL.formatted(ORDERS_FILTER), parameters);
+        namedParameterJdbcTemplate.update(ADD_DAILY_CUSTOMER_SALES_SQL.formatted(ORDERS_FILTER), parameters);
+    }
+
+    /**
+     * Adds the given purchases to the purchase facts. Purchases that have not arrived are skipped,
+     * and each received purchase must be added only once.
+     */
+    public void addReceivedPurchases(Collection<Long> purchaseIds) {
+        if (purchaseIds == null || purchaseIds.isEmpty()) {
+            return;
+        }
+        var parameters = new MapSqlParameterSource("ids", purchaseIds);
+        namedParameterJdbcTemplate.update(ADD_DAILY_SUPPLIER_PURCHASES_SQL.formatted(PURCHASES_FILTER), parameters);
+    }
+
+    /**
+     * Replaces every fact with a fresh aggregation of all delivered orders and received purchases.
+     * Must run inside a transaction so readers never see the tables half rebuilt.
+     */
+    public void rebuild() {
+        jdbcTemplate.update("DELETE FROM daily_sales");
+        jdbcTemplate.update("DELETE FROM daily_product_sales");
+        jdbcTemplate.update("DELETE FROM daily_customer_sales");
+        jdbcTemplate.update("DELETE FROM daily_supplier_purchases");
+        jdbcTemplate.update(ADD_DAILY_SALES_SQL.formatted(""));
+        jdbcTemplate.update(ADD_DAILY_PRODUCT_SALES_SQL.formatted(""));
+        jdbcTemplate.update(ADD_DAILY_CUSTOMER_SALES_SQL.formatted(""));
+        jdbcTemplate.update(ADD_DAILY_SUPPLIER_PURCHASES_SQL.formatted(""));
+    }
+}
+
+
+
+
+
+
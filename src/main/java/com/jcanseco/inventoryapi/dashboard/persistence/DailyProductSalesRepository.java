@@ -0,0 +1,40 @@
+package com.jcanseco.inventoryapi.dashboard.persistence;
+
+import com.jcanseco.inventoryapi.dashboard.domain.DailyProductSales;
+import com.jcanseco.inventoryapi.dashboard.dto.TopSoldProductDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyProductSalesRepository extends JpaRepository<DailyProductSales, Long> {
+    @Query("""
+    SELECT new com.jcanseco.inventoryapi.dashboard.dto.TopSoldProductDto(
+        p.id,
+        p.name,
+        SUM(f.quantity)
+    )
+    FROM DailyProductSales f
+    INNER JOIN Product p ON p.id = f.productId
+    WHERE f.salesDate >= :startDay
+    AND   f.salesDate < :endDay
+    GROUP BY p.id, p.name
+    ORDER BY SUM(f.quantity) DESC, p.id ASC
+    """)
+    List<TopSoldProductDto> getTopSoldProducts(
+            @Param("startDay") LocalDate startDay,
+            @Param("endDay") LocalDate endDay,
+            Pageable pageable
+    );
+}
+
+
+
+
+
+
@@ -0,0 +1,49 @@
+package com.jcanseco.inventoryapi.dashboard.persistence;
+
+import com.jcanseco.inventoryapi.dashboard.domain.DailySales;
+import com.jcanseco.inventoryapi.dashboard.dto.MonthlySalesPointDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailySalesRepository extends JpaRepository<DailySales, Long> {
+    @Query("""
+    SELECT COALESCE(SUM(f.total), 0)
+    FROM DailySales f
+    WHERE f.salesDate >= :startDay
+    AND   f.salesDate < :endDay
+    """)
+    BigDecimal getSalesTotal(
+            @Param("startDay") LocalDate startDay,
+            @Param("endDay") LocalDate endDay
+    );
+
+    @Query("""
+    SELECT new com.jcanseco.inventoryapi.dashboard.dto.MonthlySalesPointDto(
+        YEAR(f.salesDate),
+        MONTH(f.salesDate),
+        COALESCE(SUM(f.total), 0)
+    )
+    FROM DailySales f
+    WHERE f.salesDate >= :startDay
+    AND   f.salesDate < :endDay
+    GROUP BY YEAR(f.salesDate), MONTH(f.salesDate)
+    ORDER BY YEAR(f.salesDate), MONTH(f.salesDate)
+    """)
+    List<MonthlySalesPointDto> getMonthlySales(
+            @Param("startDay") LocalDate startDay,
+            @Param("endDay") LocalDate endDay
+    );
+}
+
+
+
+
+
+
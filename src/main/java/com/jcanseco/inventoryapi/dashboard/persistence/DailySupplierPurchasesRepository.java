@@ -0,0 +1,52 @@
+package com.jcanseco.inventoryapi.dashboard.persistence;
+
+import com.jcanseco.inventoryapi.dashboard.domain.DailySupplierPurchases;
+import com.jcanseco.inventoryapi.dashboard.dto.TopSupplierByRevenueDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailySupplierPurchasesRepository extends JpaRepository<DailySupplierPurchases, Long> {
+    @Query("""
+    SELECT COALESCE(SUM(f.total), 0)
+    FROM DailySupplierPurchases f
+    WHERE f.purchaseDate >= :startDay
+    AND   f.purchaseDate < :endDay
+    """)
+    BigDecimal getPurchasesTotal(
+            @Param("startDay") LocalDate startDay,
+            @Param("endDay") LocalDate endDay
+    );
+
+    @Query("""
+    SELECT NEW com.jcanseco.inventoryapi.dashboard.dto.TopSupplierByRevenueDto(
+        s.id,
+        s.companyName,
+        SUM(f.total)
+    )
+    FROM DailySupplierPurchases f
+    INNER JOIN Supplier s ON s.id = f.supplierId
+    WHERE f.purchaseDate >= :startDay
+    AND   f.purchaseDate < :endDay
+    GROUP BY s.id, s.companyName
+    ORDER BY SUM(f.total) DESC, s.id ASC
+    """)
+    List<TopSupplierByRevenueDto> getTopSuppliersByRevenue(
+            @Param("startDay") LocalDate startDay,
+            @Param("endDay") LocalDate endDay,
+            Pageable pageable
+    );
+}
+
+
+
+
+
+
@@ -0,0 +1,183 @@
+package com.jcanseco.inventoryapi.dashboard.persistence;
+
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaMessage.DailyTotal;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaMessage.RevenueDelta;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaMessage.StockLevel;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads what a set of delivered orders or received purchases changed, to build the deltas pushed
+ * to the dashboard. Orders that are not delivered and purchases that have not arrived are ignored.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DashboardDeltaRepository {
+
+    private static final String SALES_BY_DAY_SQL = """
+            SELECT DATE(o.delivered_at) AS day, SUM(o.total) AS total
+            FROM orders o
+            WHERE o.id IN (:ids) AND o.delivered = true
+            GROUP BY DATE(o.delivered_at)
+            ORDER BY day
+            """;
+
+    private static final String REVENUE_BY_CUSTOMER_SQL = """
+            SELECT o.customer_id AS id, SUM(o.total) AS total
+            FROM orders o
+            WHERE o.id IN (:ids) AND o.delivered = true
+            GROUP BY o.customer_id
+            """;
+
+    private static final String DELIVERED_QUANTITIES_SQL = """
+            SELECT oi.product_id, SUM(oi.quantity) AS quantity
+            FROM order_items oi
+            INNER JOIN orders o ON o.id = oi.order_id
+            WHERE o.id IN (:ids) AND o.delivered = true
+            GROUP BY oi.product_id
+            """;
+
+    private static final String DELIVERED_VALUE_SQL = """
+            SELECT COALESCE(SUM(p.purchase_price * oi.quantity), 0)
+            FROM order_items oi
+            INNER JOIN orders o ON o.id = oi.order_id
+            INNER JOIN products p ON p.id = oi.product_id
+            WHERE o.id IN (:ids) AND o.delivered = true
+            """;
+
+    private static final String PURCHASES_BY_DAY_SQL = """
+            SELECT DATE(p.arrived_at) AS day, SUM(p.total) AS total
+            FROM purchases p
+            WHERE p.id IN (:ids) AND p.arrived = true
+            GROUP BY DATE(p.arrived_at)
+            ORDER BY day
+            """;
+
+    private static final String REVENUE_BY_SUPPLIER_SQL = """
+            SELECT p.supplier_id AS id, SUM(p.total) AS total
+            FROM purchases p
+            WHERE p.id IN (:ids) AND p.arrived = true
+            GROUP BY p.supplier_id
+            """;
+
+    private static final String RECEIVED_QUANTITIES_SQL = """
+            SELECT pi.product_id, SUM(pi.quantity) AS quantity
+            FROM purchase_items pi
+            INNER JOIN purchases p ON p.id = pi.purchase_id
+            WHERE p.id IN (:ids) AND p.arrived = true
+            GROUP BY pi.product_id
+            """;
+
+    private static final String RECEIVED_VALUE_SQL = """
+            SELECT COALESCE(SUM(pr.purchase_price * pi.quantity), 0)
+            FROM purchase_items pi
+            INNER JOIN purchases p ON p.id = pi.purchase_id
+            INNER JOIN products pr ON pr.id = pi.product_id
+            WHERE p.id IN (:ids) AND p.arrived = true
+            """;
+
+    private static final String STOCK_LEVELS_SQL = """
+            SELECT p.id, p.name, s.quantity, p.reorder_point, p.reorder_quantity
+            FROM products p
+            INNER JOIN products_stock s ON s.product_id = p.id
+            WHERE p.id IN (:ids)
+            ORDER BY p.id
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<DailyTotal> getSalesByDay(Collection<Long> orderIds) {
+        return getDailyTotals(SALES_BY_DAY_SQL, orderIds);
+    }
+
+    public List<RevenueDelta> getRevenueByCustomer(Collection<Long> orderIds) {
+        return getRevenue(REVENUE_BY_CUSTOMER_SQL, orderIds);
+    }
+
+    public Map<Long, Long> getDeliveredQuantities(Collection<Long> orderIds) {
+        return getQuantities(DELIVERED_QUANTITIES_SQL, orderIds);
+    }
+
+    /**
+     * Value at purchase price of the stock the orders consumed.
+     */
+    public BigDecimal getDeliveredValue(Collection<Long> orderIds) {
+        return getValue(DELIVERED_VALUE_SQL, orderIds);
+    }
+
+    public List<DailyTotal> getPurchasesByDay(Collection<Long> purchaseIds) {
+        return getDailyTotals(PURCHASES_BY_DAY_SQL, purchaseIds);
+    }
+
+    public List<RevenueDelta> getRevenueBySupplier(Collection<Long> purchaseIds) {
+        return getRevenue(REVENUE_BY_SUPPLIER_SQL, purchaseIds);
+    }
+
+    public Map<Long, Long> getReceivedQuantities(Collection<Long> purchaseIds) {
+        return getQuantities(RECEIVED_QUANTITIES_SQL, purchaseIds);
+    }
+
+    /**
+     * Value at purchase price of the stock the purchases added.
+     */
+    public BigDecimal getReceivedValue(Collection<Long> purchaseIds) {
+        return getValue(RECEIVED_VALUE_SQL, purchaseIds);
+    }
+
+    public List<StockLevel> getStockLevels(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(STOCK_LEVELS_SQL, new MapSqlParameterSource("ids", productIds),
+                (rs, rowNum) -> new StockLevel(rs.getLong("id"), rs.getString("name"), rs.getLong("quantity"),
+                        rs.getLong("reorder_point"), rs.getLong("reorder_quantity")));
+    }
+
+    private List<DailyTotal> getDailyTotals(String sql, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids),
+                (rs, rowNum) -> new DailyTotal(rs.getDate("day").toLocalDate(), rs.getBigDecimal("total")));
+    }
+
+    private List<RevenueDelta> getRevenue(String sql, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids),
+                (rs, rowNum) -> new RevenueDelta(rs.getLong("id"), rs.getBigDecimal("total")));
+    }
+
+    private Map<Long, Long> getQuantities(String sql, Collection<Long> ids) {
+        var quantities = new LinkedHashMap<Long, Long>();
+        if (ids.isEmpty()) {
+            return quantities;
+        }
+        namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    quantities.put(rs.getLong("product_id"), rs.getLong("quantity"));
+                });
+        return quantities;
+    }
+
+    private BigDecimal getValue(String sql, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+        return namedParameterJdbcTemplate.queryForObject(sql, new MapSqlParameterSource("ids", ids), BigDecimal.class);
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,119 @@
+package com.jcanseco.inventoryapi.dashboard.persistence;
+
+import com.jcanseco.inventoryapi.dashboard.rankings.RankingDimension;
+import com.jcanseco.inventoryapi.dashboard.rankings.RankingFact;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Feeds the in-memory dashboard rankings. Every row is a per-day score: units sold for products and
+ * revenue in cents for customers and suppliers. The full load reads the daily fact tables only.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DashboardRankingsRepository {
+
+    private static final Map<RankingDimension, String> FACTS_SQL = Map.of(
+            RankingDimension.SOLD_PRODUCTS,
+            "SELECT sales_date AS day, product_id AS id, quantity AS score FROM daily_product_sales",
+            RankingDimension.CUSTOMERS_BY_REVENUE,
+            "SELECT sales_date AS day, customer_id AS id, total * 100 AS score FROM daily_customer_sales",
+            RankingDimension.SUPPLIERS_BY_REVENUE,
+            "SELECT purchase_date AS day, supplier_id AS id, total * 100 AS score FROM daily_supplier_purchases"
+    );
+
+    private static final Map<RankingDimension, String> NAMES_SQL = Map.of(
+            RankingDimension.SOLD_PRODUCTS, "SELECT id, name FROM products WHERE id IN (:ids)",
+            RankingDimension.CUSTOMERS_BY_REVENUE, "SELECT id, full_name AS name FROM customers WHERE id IN (:ids)",
+            RankingDimension.SUPPLIERS_BY_REVENUE, "SELECT id, company_name AS name FROM suppliers WHERE id IN (:ids)"
+    );
+
+    private static final String DELIVERED_PRODUCT_SALES_SQL = """
+            SELECT DATE(o.delivered_at) AS day, oi.product_id AS id, SUM(oi.quantity) AS score
+            FROM orders o
+            INNER JOIN order_items oi ON oi.order_id = o.id
+            WHERE o.id IN (:ids) AND o.delivered = true
+            GROUP BY DATE(o.delivered_at), oi.product_id
+            """;
+
+    private static final String DELIVERED_CUSTOMER_SALES_SQL = """
+            SELECT DATE(o.delivered_at) AS day, o.customer_id AS id, SUM(o.total) * 100 AS score
+            FROM orders o
+            WHERE o.id IN (:ids) AND o.delivered = true
+            GROUP BY DATE(o.delivered_at), o.customer_id
+            """;
+
+    private static final String RECEIVED_SUPPLIER_PURCHASES_SQL = """
+            SELECT DATE(p.arrived_at) AS day, p.supplier_id AS id, SUM(p.total) * 100 AS score
+            FROM purchases p
+            WHERE p.id IN (:ids) AND p.arrived = true
+            GROUP BY DATE(p.arrived_at), p.supplier_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Streams every daily fact of the ranking to {@code consumer} and returns how many there were.
+     */
+    public long forEachFact(RankingDimension dimension, Consumer<RankingFact> consumer) {
+        var count = new long[1];
+        jdbcTemplate.query(FACTS_SQL.get(dimension), rs -> {
+            consumer.accept(toFact(rs));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    public List<RankingFact> getDeliveredProductSales(Collection<Long> orderIds) {
+        return getFacts(DELIVERED_PRODUCT_SALES_SQL, orderIds);
+    }
+
+    public List<RankingFact> getDeliveredCustomerSales(Collection<Long> orderIds) {
+        return getFacts(DELIVERED_CUSTOMER_SALES_SQL, orderIds);
+    }
+
+    public List<RankingFact> getReceivedSupplierPurchases(Collection<Long> purchaseIds) {
+        return getFacts(RECEIVED_SUPPLIER_PURCHASES_SQL, purchaseIds);
+    }
+
+    public Map<Long, String> getNames(RankingDimension dimension, Collection<Long> ids) {
+        var names = new HashMap<Long, String>();
+        if (ids.isEmpty()) {
+            return names;
+        }
+        namedParameterJdbcTemplate.query(NAMES_SQL.get(dimension), new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    names.put(rs.getLong("id"), rs.getString("name"));
+                });
+        return names;
+    }
+
+    private List<RankingFact> getFacts(String sql, Collection<Long> ids) {
+        return namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), (rs, rowNum) -> toFact(rs));
+    }
+
+    private static RankingFact toFact(ResultSet rs) throws SQLException {
+        return new RankingFact(
+                rs.getDate("day").toLocalDate(),
+                rs.getLong("id"),
+                rs.getBigDecimal("score").longValueExact()
+        );
+    }
+}
+
+
+
+
+
+
@@ -26,7 +26,9 @@ public interface ProductReportsRepository extends JpaRepository<Product, Long> {
      SELECT NEW com.jcanseco.inventoryapi.dashboard.dto.ProductWithLowStockDto(
           p.id,
           p.name,
-          s.quantity
+          s.quantity,
+          p.reorderPoint,
+          p.reorderQuantity
           )
           FROM Product p INNER JOIN p.stock s
           WHERE s.quantity <= :stockThreshold
@@ -37,6 +39,33 @@ public interface ProductReportsRepository extends JpaRepository<Product, Long> {
             Pageable pageable
     );
 
+    /**
+     * Products at or below their own reorder point, most urgent first: the lowest share of the reorder
+     * point still on hand, then the largest shortfall.
+     */
+    @Query("""
+     SELECT NEW com.jcanseco.inventoryapi.dashboard.dto.ProductWithLowStockDto(
+          p.id,
+          p.name,
+          s.quantity,
+          p.reorderPoint,
+          p.reorderQuantity
+          )
+          FROM Product p INNER JOIN p.stock s
+          WHERE s.quantity <= p.reorderPoint
+          ORDER BY CASE WHEN p.reorderPoint = 0 THEN 0.0 ELSE s.quantity * 1.0 / p.reorderPoint END ASC,
+              (p.reorderPoint - s.quantity) DESC,
+              p.id ASC
+    """)
+    List<ProductWithLowStockDto> getProductsBelowReorderPoint(Pageable pageable);
+
+    @Query("""
+    SELECT COALESCE(COUNT(p), 0)
+    FROM Product p INNER JOIN p.stock s
+    WHERE s.quantity <= p.reorderPoint
+    """)
+    Long getProductsBelowReorderPointCount();
+
     @Query("""
     SELECT new com.jcanseco.inventoryapi.dashboard.dto.TopSoldProductDto(
          p.id,
@@ -0,0 +1,84 @@
+package com.jcanseco.inventoryapi.dashboard.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Aggregates delivered orders into the 15-minute slots of the in-memory sales series, each
+ * identified by its start on the storage clock.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalesSeriesRepository {
+
+    private static final int SLOT_MINUTES = 15;
+
+    private static final String SLOTS_SQL = """
+            SELECT DATE(o.delivered_at) AS day,
+                   HOUR(o.delivered_at) AS hour,
+                   FLOOR(MINUTE(o.delivered_at) / %1$d) AS quarter,
+                   SUM(o.total) * 100 AS revenue,
+                   COALESCE(SUM(i.units), 0) AS units
+            FROM orders o
+            LEFT JOIN (
+                SELECT oi.order_id, SUM(oi.quantity) AS units
+                FROM order_items oi
+                %2$s
+                GROUP BY oi.order_id
+            ) AS i ON i.order_id = o.id
+            WHERE o.delivered = true %3$s
+            GROUP BY day, hour, quarter
+            ORDER BY day, hour, quarter
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public interface SlotConsumer {
+        void accept(LocalDateTime slotStart, long revenueCents, long units);
+    }
+
+    /**
+     * Streams the slots delivered in {@code [start, end)} in ascending order; a {@code null} bound is open.
+     */
+    public void forEachSlot(LocalDateTime start, LocalDateTime end, SlotConsumer consumer) {
+        var filter = new StringBuilder();
+        var parameters = new MapSqlParameterSource();
+        if (start != null) {
+            filter.append(" AND o.delivered_at >= :start");
+            parameters.addValue("start", start);
+        }
+        if (end != null) {
+            filter.append(" AND o.delivered_at < :end");
+            parameters.addValue("end", end);
+        }
+        query(SLOTS_SQL.formatted(SLOT_MINUTES, "", filter), parameters, consumer);
+    }
+
+    /**
+     * Streams the slots of the given orders, skipping those that are not delivered.
+     */
+    public void forEachDeliveredSlot(Collection<Long> orderIds, SlotConsumer consumer) {
+        var sql = SLOTS_SQL.formatted(SLOT_MINUTES, "WHERE oi.order_id IN (:ids)", "AND o.id IN (:ids)");
+        query(sql, new MapSqlParameterSource("ids", orderIds), consumer);
+    }
+
+    private void query(String sql, MapSqlParameterSource parameters, SlotConsumer consumer) {
+        namedParameterJdbcTemplate.query(sql, parameters, rs -> {
+            consumer.accept(
+                    rs.getDate("day").toLocalDate().atTime(rs.getInt("hour"), rs.getInt("quarter") * SLOT_MINUTES),
+                    rs.getBigDecimal("revenue").longValueExact(),
+                    rs.getLong("units")
+            );
+        });
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,155 @@
+package com.jcanseco.inventoryapi.dashboard.rankings;
+
+import com.jcanseco.inventoryapi.dashboard.persistence.DashboardRankingsRepository;
+import com.jcanseco.inventoryapi.shared.utils.AfterCommit;
+import com.jcanseco.inventoryapi.shared.utils.LockedState;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-local top-N rankings of sold products, customers and suppliers, bucketed per day.
+ * <p>
+ * The rankings are loaded from the daily fact tables and the delivered orders and received purchases
+ * report their contributions here, which are applied once the surrounding transaction commits, so
+ * rolled back changes never reach the rankings; those committing while {@link #reload()} reads the facts
+ * are replayed on the fresh copy. Until the first reload nothing is loaded, changes are ignored and
+ * readers are expected to fall back to the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardRankings {
+
+    private static final Comparator<RankedEntry> WORST_FIRST = Comparator
+            .comparingLong(RankedEntry::score)
+            .thenComparing(Comparator.comparingLong(RankedEntry::id).reversed());
+
+    private final DashboardRankingsRepository repository;
+    private final LockedState<Map<RankingDimension, RankingBuckets>> rankings = new LockedState<>();
+
+    public boolean isLoaded() {
+        return rankings.isLoaded();
+    }
+
+    /**
+     * Replaces the rankings with a fresh copy of the daily facts.
+     */
+    public void reload() {
+        var count = new long[1];
+        rankings.load(() -> {
+            var loaded = new EnumMap<RankingDimension, RankingBuckets>(RankingDimension.class);
+            for (var dimension : RankingDimension.values()) {
+                var buckets = new RankingBuckets();
+                count[0] += repository.forEachFact(dimension, fact -> buckets.add(fact.day(), fact.id(), fact.score()));
+                loaded.put(dimension, buckets);
+            }
+            return loaded;
+        });
+        log.info("Dashboard rankings loaded with {} facts.", count[0]);
+    }
+
+    /**
+     * Reads what the given orders add to the rankings and applies it after commit. Must be called
+     * inside the transaction that delivers them, and only once per order.
+     */
+    public void onOrdersDelivered(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        rankings.readAndUpdateAfterCommit(() -> {
+            var products = repository.getDeliveredProductSales(orderIds);
+            var customers = repository.getDeliveredCustomerSales(orderIds);
+            return current -> {
+                apply(current.get(RankingDimension.SOLD_PRODUCTS), products);
+                apply(current.get(RankingDimension.CUSTOMERS_BY_REVENUE), customers);
+            };
+        });
+    }
+
+    /**
+     * Reads what the given purchases add to the rankings and applies it after commit. Must be called
+     * inside the transaction that receives them, and only once per purchase.
+     */
+    public void onPurchasesReceived(Collection<Long> purchaseIds) {
+        if (purchaseIds.isEmpty()) {
+            return;
+        }
+        rankings.readAndUpdateAfterCommit(() -> {
+            var suppliers = repository.getReceivedSupplierPurchases(purchaseIds);
+            return current -> apply(current.get(RankingDimension.SUPPLIERS_BY_REVENUE), suppliers);
+        });
+    }
+
+    /**
+     * Reloads the rankings after commit, once the daily facts were rebuilt from scratch.
+     */
+    public void onFactsRebuilt() {
+        if (!rankings.isTracking()) {
+            return;
+        }
+        AfterCommit.run(this::reload);
+    }
+
+    /**
+     * Returns the {@code limit} best scored entities of the days in {@code [startDay, endDay)}, best first
+     * and ties broken by id. {@code extraScores} are added before ranking, for the partial days at the
+     * edges of a period. Returns an empty list when the rankings are not loaded.
+     */
+    public List<RankedEntry> top(RankingDimension dimension, LocalDate startDay, LocalDate endDay,
+                                 Map<Long, Long> extraScores, int limit) {
+        var totals = new LongCounterTable(extraScores.size());
+        var loaded = rankings.read(current -> {
+            current.get(dimension).sum(startDay, endDay, totals);
+            return true;
+        });
+        if (loaded == null) {
+            return List.of();
+        }
+        extraScores.forEach(totals::add);
+
+        var heap = new PriorityQueue<RankedEntry>(Math.min(limit, totals.size()) + 1, WORST_FIRST);
+        totals.forEach((id, score) -> {
+            heap.add(new RankedEntry(id, null, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        var best = new ArrayList<>(heap);
+        best.sort(WORST_FIRST.reversed());
+
+        // Names are read at the end so renames show up immediately; deleted entities drop out.
+        var names = repository.getNames(dimension, best.stream().map(RankedEntry::id).toList());
+        return best.stream()
+                .filter(entry -> names.containsKey(entry.id()))
+                .map(entry -> new RankedEntry(entry.id(), names.get(entry.id()), entry.score()))
+                .toList();
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static void apply(RankingBuckets buckets, List<RankingFact> facts) {
+        facts.forEach(fact -> buckets.add(fact.day(), fact.id(), fact.score()));
+    }
+}
+
+
+
+
+
+
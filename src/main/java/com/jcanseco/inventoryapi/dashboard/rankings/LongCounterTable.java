@@ -0,0 +1,114 @@
+package com.jcanseco.inventoryapi.dashboard.rankings;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table from an entity id to a running score, stored in parallel {@code long[]}
+ * arrays so counting never boxes. Ids are always positive, so {@code 0} marks a free slot. Not thread-safe.
+ */
+class LongCounterTable {
+
+    private static final long FREE = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    interface EntryConsumer {
+        void accept(long id, long score);
+    }
+
+    private long[] keys;
+    private long[] scores;
+    private int size;
+    private int mask;
+
+    LongCounterTable(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the score of the id, or {@code 0} when it was never counted.
+     */
+    long get(long id) {
+        var index = slotOf(id);
+        return keys[index] == FREE ? 0 : scores[index];
+    }
+
+    void add(long id, long score) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Ids must be positive: " + id);
+        }
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        var index = slotOf(id);
+        if (keys[index] == FREE) {
+            keys[index] = id;
+            size++;
+        }
+        scores[index] += score;
+    }
+
+    void addAll(LongCounterTable other) {
+        other.forEach(this::add);
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                consumer.accept(keys[i], scores[i]);
+            }
+        }
+    }
+
+    private int slotOf(long id) {
+        var index = mix(id) & mask;
+        while (keys[index] != FREE && keys[index] != id) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldScores = scores;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                var index = slotOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                scores[index] = oldScores[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        scores = new long[capacity];
+        Arrays.fill(keys, FREE);
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        var capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int mix(long id) {
+        var hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,10 @@
+package com.jcanseco.inventoryapi.dashboard.rankings;
+
+public record RankedEntry(long id, String name, long score) {
+}
+
+
+
+
+
+
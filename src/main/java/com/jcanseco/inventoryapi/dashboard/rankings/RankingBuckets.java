@@ -0,0 +1,51 @@
+package com.jcanseco.inventoryapi.dashboard.rankings;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.TreeMap;
+
+/**
+ * Exact scores of one ranking bucketed per day, plus a per-month roll-up so long periods sum a
+ * handful of months instead of every day in them. Not thread-safe; {@link DashboardRankings}
+ * guards every access.
+ */
+class RankingBuckets {
+
+    private final TreeMap<LocalDate, LongCounterTable> days = new TreeMap<>();
+    private final TreeMap<YearMonth, LongCounterTable> months = new TreeMap<>();
+
+    void add(LocalDate day, long id, long score) {
+        days.computeIfAbsent(day, key -> new LongCounterTable(0)).add(id, score);
+        months.computeIfAbsent(YearMonth.from(day), key -> new LongCounterTable(0)).add(id, score);
+    }
+
+    /**
+     * Adds the scores of the days in {@code [startDay, endDay)} to {@code totals}.
+     */
+    void sum(LocalDate startDay, LocalDate endDay, LongCounterTable totals) {
+        if (!startDay.isBefore(endDay)) {
+            return;
+        }
+        var firstMonth = startDay.getDayOfMonth() == 1 ? YearMonth.from(startDay) : YearMonth.from(startDay).plusMonths(1);
+        var endMonth = YearMonth.from(endDay);
+        if (!firstMonth.isBefore(endMonth)) {
+            sumDays(startDay, endDay, totals);
+            return;
+        }
+        sumDays(startDay, firstMonth.atDay(1), totals);
+        months.subMap(firstMonth, endMonth).values().forEach(totals::addAll);
+        sumDays(endMonth.atDay(1), endDay, totals);
+    }
+
+    private void sumDays(LocalDate startDay, LocalDate endDay, LongCounterTable totals) {
+        if (startDay.isBefore(endDay)) {
+            days.subMap(startDay, endDay).values().forEach(totals::addAll);
+        }
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,17 @@
+package com.jcanseco.inventoryapi.dashboard.rankings;
+
+/**
+ * The rankings kept by {@link DashboardRankings}. Product scores are units sold; customer and
+ * supplier scores are revenue in cents, so every score is a plain {@code long}.
+ */
+public enum RankingDimension {
+    SOLD_PRODUCTS,
+    CUSTOMERS_BY_REVENUE,
+    SUPPLIERS_BY_REVENUE
+}
+
+
+
+
+
+
@@ -0,0 +1,12 @@
+package com.jcanseco.inventoryapi.dashboard.rankings;
+
+import java.time.LocalDate;
+
+public record RankingFact(LocalDate day, long id, long score) {
+}
+
+
+
+
+
+
@@ -0,0 +1,76 @@
+package com.jcanseco.inventoryapi.dashboard.realtime;
+
+import com.jcanseco.inventoryapi.dashboard.dto.ProductWithLowStockDto;
+import com.jcanseco.inventoryapi.dashboard.persistence.DashboardDeltaRepository;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaMessage.SoldProduct;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaMessage.StockLevel;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the dashboard delta caused by a set of delivered orders and received purchases. A product is
+ * reported as newly low on stock when one of those deliveries took it from above its reorder point to at
+ * or below it, as seen by the delivering transaction, and it is still low when the delta is built.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardDeltaCalculator {
+
+    private final DashboardDeltaRepository repository;
+
+    /**
+     * Returns the products the given deliveries took to or below their reorder point. Must be called inside
+     * the delivering transaction, before it commits, so the stock read is exactly what the deliveries left
+     * and not what later adjustments, imports or receipts made of it.
+     */
+    public List<Long> findNewLowStockProducts(Collection<Long> orderIds) {
+        var deliveredQuantities = repository.getDeliveredQuantities(orderIds);
+        return repository.getStockLevels(deliveredQuantities.keySet()).stream()
+                .filter(level -> level.quantity() <= level.reorderPoint()
+                        && level.quantity() + deliveredQuantities.get(level.productId()) > level.reorderPoint())
+                .map(StockLevel::productId)
+                .toList();
+    }
+
+    public DashboardDeltaMessage calculate(Collection<Long> orderIds, Collection<Long> purchaseIds,
+                                           Collection<Long> newLowStockProductIds, int absorbedEvents) {
+        var hasOrders = !orderIds.isEmpty();
+        var hasPurchases = !purchaseIds.isEmpty();
+        Map<Long, Long> deliveredQuantities = hasOrders ? repository.getDeliveredQuantities(orderIds) : Map.of();
+        Map<Long, Long> receivedQuantities = hasPurchases ? repository.getReceivedQuantities(purchaseIds) : Map.of();
+
+        var productIds = new LinkedHashSet<>(deliveredQuantities.keySet());
+        productIds.addAll(receivedQuantities.keySet());
+        var stockLevels = repository.getStockLevels(productIds);
+        var newLowStockProducts = stockLevels.stream()
+                .filter(level -> level.quantity() <= level.reorderPoint() && newLowStockProductIds.contains(level.productId()))
+                .map(level -> new ProductWithLowStockDto(level.productId(), level.productName(), level.quantity(),
+                        level.reorderPoint(), level.reorderQuantity()))
+                .toList();
+
+        var deliveredValue = hasOrders ? repository.getDeliveredValue(orderIds) : BigDecimal.ZERO;
+        var receivedValue = hasPurchases ? repository.getReceivedValue(purchaseIds) : BigDecimal.ZERO;
+
+        return new DashboardDeltaMessage(
+                DashboardDeltaMessage.TYPE,
+                List.copyOf(orderIds),
+                List.copyOf(purchaseIds),
+                absorbedEvents,
+                hasOrders ? repository.getSalesByDay(orderIds) : List.of(),
+                hasPurchases ? repository.getPurchasesByDay(purchaseIds) : List.of(),
+                hasOrders ? repository.getRevenueByCustomer(orderIds) : List.of(),
+                hasPurchases ? repository.getRevenueBySupplier(purchaseIds) : List.of(),
+                deliveredQuantities.entrySet().stream()
+                        .map(entry -> new SoldProduct(entry.getKey(), entry.getValue()))
+                        .toList(),
+                stockLevels,
+                newLowStockProducts,
+                receivedValue.subtract(deliveredValue)
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package com.jcanseco.inventoryapi.dashboard.realtime;
+
+import com.jcanseco.inventoryapi.dashboard.dto.ProductWithLowStockDto;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * What changed on the dashboard since the previous message. Amounts are deltas to add to the
+ * widgets the client already shows; stock levels are the current quantities of the products touched.
+ * Sales and purchases are split by day so a client can apply them to whatever period it displays.
+ * {@code absorbedEvents} is the number of delivery and receipt events merged into this message.
+ */
+public record DashboardDeltaMessage(
+        String type,
+        List<Long> orderIds,
+        List<Long> purchaseIds,
+        int absorbedEvents,
+        List<DailyTotal> sales,
+        List<DailyTotal> purchases,
+        List<RevenueDelta> customers,
+        List<RevenueDelta> suppliers,
+        List<SoldProduct> soldProducts,
+        List<StockLevel> stockLevels,
+        List<ProductWithLowStockDto> newLowStockProducts,
+        BigDecimal inventoryValueDelta
+) {
+    public static final String TYPE = "dashboard.delta";
+
+    public record DailyTotal(LocalDate date, BigDecimal total) {
+    }
+
+    public record RevenueDelta(Long id, BigDecimal total) {
+    }
+
+    public record SoldProduct(Long productId, Long quantity) {
+    }
+
+    public record StockLevel(Long productId, String productName, Long quantity, Long reorderPoint, Long reorderQuantity) {
+    }
+}
+
+
+
+
+
+
@@ -4,6 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * Pushes dashboard changes to {@value #DASHBOARD_UPDATES_TOPIC}. The bare update signal asks clients
+ * to re-fetch everything and is only sent when the figures change wholesale, e.g. after the daily
+ * facts are rebuilt; regular changes go out as deltas through {@link DashboardUpdateNotifier}.
+ */
 @Service
 @RequiredArgsConstructor
 public class DashboardSocketPublisher {
@@ -16,4 +21,8 @@ public class DashboardSocketPublisher {
         var message = DashboardUpdatedMessage.create();
         messagingTemplate.convertAndSend(DASHBOARD_UPDATES_TOPIC, message);
     }
+
+    public void publishDelta(DashboardDeltaMessage delta) {
+        messagingTemplate.convertAndSend(DASHBOARD_UPDATES_TOPIC, delta);
+    }
 }
@@ -0,0 +1,81 @@
+package com.jcanseco.inventoryapi.dashboard.realtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces delivery and receipt events into at most one dashboard message per
+ * {@code app.dashboard.updates.interval}. Recording an event only adds its ids to the pending
+ * window, so a burst of commits neither queues tasks nor floods the broker; the delta for the
+ * whole window is computed once, on the merged ids, when the window is flushed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardUpdateNotifier {
+
+    private final DashboardDeltaCalculator dashboardDeltaCalculator;
+    private final DashboardSocketPublisher dashboardSocketPublisher;
+
+    private Set<Long> pendingOrderIds = new LinkedHashSet<>();
+    private Set<Long> pendingPurchaseIds = new LinkedHashSet<>();
+    private Set<Long> pendingLowStockProductIds = new LinkedHashSet<>();
+    private int absorbedEvents;
+
+    /**
+     * Records committed deliveries with the products they took to or below their reorder point.
+     */
+    public synchronized void ordersDelivered(Collection<Long> orderIds, Collection<Long> newLowStockProductIds) {
+        pendingOrderIds.addAll(orderIds);
+        pendingLowStockProductIds.addAll(newLowStockProductIds);
+        absorbedEvents++;
+    }
+
+    public synchronized void purchasesReceived(Collection<Long> purchaseIds) {
+        pendingPurchaseIds.addAll(purchaseIds);
+        absorbedEvents++;
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.updates.interval:PT1S}")
+    public void flush() {
+        List<Long> orderIds;
+        List<Long> purchaseIds;
+        Set<Long> lowStockProductIds;
+        int events;
+        synchronized (this) {
+            if (absorbedEvents == 0) {
+                return;
+            }
+            orderIds = new ArrayList<>(pendingOrderIds);
+            purchaseIds = new ArrayList<>(pendingPurchaseIds);
+            lowStockProductIds = pendingLowStockProductIds;
+            events = absorbedEvents;
+            pendingOrderIds = new LinkedHashSet<>();
+            pendingPurchaseIds = new LinkedHashSet<>();
+            pendingLowStockProductIds = new LinkedHashSet<>();
+            absorbedEvents = 0;
+        }
+
+        log.info("Publishing dashboard delta for {} orders and {} purchases from {} events",
+                orderIds.size(), purchaseIds.size(), events);
+        try {
+            dashboardSocketPublisher.publishDelta(dashboardDeltaCalculator.calculate(orderIds, purchaseIds, lowStockProductIds, events));
+        } catch (RuntimeException ex) {
+            log.error("Could not publish the dashboard delta, asking clients to refresh instead", ex);
+            dashboardSocketPublisher.publishUpdateSignal();
+        }
+    }
+}
+
+
+
+
+
+
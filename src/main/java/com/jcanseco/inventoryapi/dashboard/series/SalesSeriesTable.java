@@ -0,0 +1,115 @@
+package com.jcanseco.inventoryapi.dashboard.series;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Delivered revenue (in cents) and units sold in consecutive 15-minute slots of the storage clock,
+ * kept only as running prefix sums in two {@code long[]} columns, so the totals of any range are two
+ * lookups per column. Slots are small enough for every zone offset in use to fall on a slot boundary.
+ * Additions at the end of the table are O(1); earlier slots shift every later prefix. Not thread-safe.
+ */
+class SalesSeriesTable {
+
+    static final int SLOT_SECONDS = 15 * 60;
+    private static final int MIN_CAPACITY = 64;
+
+    private long originSlot;
+    private int size;
+    // prefix[i] holds the totals of the slots [0, i), so both arrays have size + 1 meaningful entries.
+    private long[] revenuePrefix = new long[MIN_CAPACITY];
+    private long[] unitsPrefix = new long[MIN_CAPACITY];
+
+    static long slotOf(LocalDateTime storageTime) {
+        return Math.floorDiv(storageTime.toEpochSecond(ZoneOffset.UTC), SLOT_SECONDS);
+    }
+
+    static LocalDateTime startOf(long slot) {
+        return LocalDateTime.ofEpochSecond(slot * SLOT_SECONDS, 0, ZoneOffset.UTC);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long firstSlot() {
+        return originSlot;
+    }
+
+    /**
+     * Returns the slot right after the last one holding sales.
+     */
+    long endSlot() {
+        return originSlot + size;
+    }
+
+    void add(long slot, long revenueCents, long units) {
+        if (size == 0) {
+            originSlot = slot;
+        } else if (slot < originSlot) {
+            prepend(Math.toIntExact(originSlot - slot));
+        }
+        var index = Math.toIntExact(slot - originSlot);
+        if (index >= size) {
+            extend(index + 1);
+        }
+        for (int i = index + 1; i <= size; i++) {
+            revenuePrefix[i] += revenueCents;
+            unitsPrefix[i] += units;
+        }
+    }
+
+    /**
+     * Returns the totals of the slots in {@code [fromSlot, toSlot)}.
+     */
+    SalesTotals sum(long fromSlot, long toSlot) {
+        if (toSlot <= fromSlot) {
+            return new SalesTotals(0, 0);
+        }
+        var from = indexOf(fromSlot);
+        var to = indexOf(toSlot);
+        return new SalesTotals(revenuePrefix[to] - revenuePrefix[from], unitsPrefix[to] - unitsPrefix[from]);
+    }
+
+    private int indexOf(long slot) {
+        if (slot <= originSlot) {
+            return 0;
+        }
+        return (int) Math.min(slot - originSlot, size);
+    }
+
+    private void extend(int newSize) {
+        ensureCapacity(newSize + 1);
+        Arrays.fill(revenuePrefix, size + 1, newSize + 1, revenuePrefix[size]);
+        Arrays.fill(unitsPrefix, size + 1, newSize + 1, unitsPrefix[size]);
+        size = newSize;
+    }
+
+    private void prepend(int slots) {
+        var capacity = Math.max(revenuePrefix.length, size + slots + 1);
+        var newRevenue = new long[capacity];
+        var newUnits = new long[capacity];
+        System.arraycopy(revenuePrefix, 0, newRevenue, slots, size + 1);
+        System.arraycopy(unitsPrefix, 0, newUnits, slots, size + 1);
+        revenuePrefix = newRevenue;
+        unitsPrefix = newUnits;
+        originSlot -= slots;
+        size += slots;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= revenuePrefix.length) {
+            return;
+        }
+        var newCapacity = Math.max(capacity, revenuePrefix.length * 2);
+        revenuePrefix = Arrays.copyOf(revenuePrefix, newCapacity);
+        unitsPrefix = Arrays.copyOf(unitsPrefix, newCapacity);
+    }
+}
+
+
+
+
+
+
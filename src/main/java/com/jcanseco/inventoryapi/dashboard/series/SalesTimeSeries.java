@@ -0,0 +1,142 @@
+package com.jcanseco.inventoryapi.dashboard.series;
+
+import com.jcanseco.inventoryapi.dashboard.persistence.SalesSeriesRepository;
+import com.jcanseco.inventoryapi.shared.utils.AfterCommit;
+import com.jcanseco.inventoryapi.shared.utils.LockedState;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-local series of delivered revenue and units sold, in 15-minute slots of the clock the
+ * delivery times are stored with ({@code app.dashboard.series.storage-zone}, the JVM zone by default).
+ * <p>
+ * Delivered orders report their sales here and they are applied once the surrounding transaction
+ * commits; those committing while {@link #reload()} aggregates the orders are replayed on the fresh
+ * series. Until the first reload the series is not loaded, changes are ignored and every read is
+ * answered from the orders of the requested range instead.
+ */
+@Slf4j
+@Component
+public class SalesTimeSeries {
+
+    private final SalesSeriesRepository repository;
+    private final ZoneId storageZone;
+    private final LockedState<SalesSeriesTable> table = new LockedState<>();
+
+    public SalesTimeSeries(
+            SalesSeriesRepository repository,
+            @Value("${app.dashboard.series.storage-zone:}") String storageZone) {
+        this.repository = repository;
+        this.storageZone = storageZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(storageZone);
+    }
+
+    public boolean isLoaded() {
+        return table.isLoaded();
+    }
+
+    public ZoneId getStorageZone() {
+        return storageZone;
+    }
+
+    /**
+     * Converts an instant to the local time delivery times are stored with.
+     */
+    public LocalDateTime toStorageTime(ZonedDateTime time) {
+        return time.withZoneSameInstant(storageZone).toLocalDateTime();
+    }
+
+    /**
+     * Replaces the series with a fresh aggregation of every delivered order.
+     */
+    public void reload() {
+        var newTable = table.load(() -> {
+            var loaded = new SalesSeriesTable();
+            repository.forEachSlot(null, null, (start, revenueCents, units) -> loaded.add(SalesSeriesTable.slotOf(start), revenueCents, units));
+            return loaded;
+        });
+        log.info("Sales series loaded{}.", newTable.isEmpty() ? " empty" : " from " + SalesSeriesTable.startOf(newTable.firstSlot()));
+    }
+
+    /**
+     * Reads the sales of the given orders and adds them after commit. Must be called inside the
+     * transaction that delivers them, and only once per order.
+     */
+    public void onOrdersDelivered(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        table.readAndUpdateAfterCommit(() -> {
+            var slots = new ArrayList<long[]>();
+            repository.forEachDeliveredSlot(orderIds, (start, revenueCents, units) -> slots.add(new long[]{SalesSeriesTable.slotOf(start), revenueCents, units}));
+            return current -> slots.forEach(slot -> current.add(slot[0], slot[1], slot[2]));
+        });
+    }
+
+    /**
+     * Reloads the series after commit, when the sales were rebuilt from scratch.
+     */
+    public void onSalesRebuilt() {
+        if (!table.isTracking()) {
+            return;
+        }
+        AfterCommit.run(this::reload);
+    }
+
+    /**
+     * Returns the totals between each pair of consecutive storage times in {@code boundaries}, which
+     * must be ascending. Times inside a slot are floored to its start.
+     */
+    public List<SalesTotals> sum(List<LocalDateTime> boundaries) {
+        if (boundaries.size() < 2) {
+            return List.of();
+        }
+        var loaded = table.read(current -> sum(current, boundaries));
+        if (loaded != null) {
+            return loaded;
+        }
+        var rangeTable = new SalesSeriesTable();
+        var start = SalesSeriesTable.startOf(SalesSeriesTable.slotOf(boundaries.get(0)));
+        var end = SalesSeriesTable.startOf(SalesSeriesTable.slotOf(boundaries.get(boundaries.size() - 1)));
+        repository.forEachSlot(start, end,
+                (slotStart, revenueCents, units) -> rangeTable.add(SalesSeriesTable.slotOf(slotStart), revenueCents, units));
+        return sum(rangeTable, boundaries);
+    }
+
+    /**
+     * Returns the storage times of the first slot with sales and of the end of the last one, or
+     * {@code null} when there are none. Only answered while loaded.
+     */
+    public LocalDateTime[] getLoadedRange() {
+        return table.read(current -> current.isEmpty()
+                ? null
+                : new LocalDateTime[]{SalesSeriesTable.startOf(current.firstSlot()), SalesSeriesTable.startOf(current.endSlot())});
+    }
+
+    public static boolean isSlotAligned(LocalDateTime storageTime) {
+        return storageTime == null || storageTime.equals(SalesSeriesTable.startOf(SalesSeriesTable.slotOf(storageTime)));
+    }
+
+    private static List<SalesTotals> sum(SalesSeriesTable source, List<LocalDateTime> boundaries) {
+        var result = new ArrayList<SalesTotals>(boundaries.size() - 1);
+        var from = SalesSeriesTable.slotOf(boundaries.get(0));
+        for (int i = 1; i < boundaries.size(); i++) {
+            var to = SalesSeriesTable.slotOf(boundaries.get(i));
+            result.add(source.sum(from, to));
+            from = to;
+        }
+        return result;
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,16 @@
+package com.jcanseco.inventoryapi.dashboard.series;
+
+import java.math.BigDecimal;
+
+public record SalesTotals(long revenueCents, long units) {
+
+    public BigDecimal revenue() {
+        return BigDecimal.valueOf(revenueCents, 2);
+    }
+}
+
+
+
+
+
+
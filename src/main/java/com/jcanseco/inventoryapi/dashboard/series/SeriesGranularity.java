@@ -0,0 +1,83 @@
+package com.jcanseco.inventoryapi.dashboard.series;
+
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Calendar buckets of a sales series, finest first. Weeks follow ISO-8601 and start on Monday.
+ */
+public enum SeriesGranularity {
+    DAY(ChronoUnit.DAYS, 1),
+    WEEK(ChronoUnit.WEEKS, 1),
+    MONTH(ChronoUnit.MONTHS, 1),
+    QUARTER(ChronoUnit.MONTHS, 3),
+    YEAR(ChronoUnit.YEARS, 1);
+
+    private final ChronoUnit unit;
+    private final int step;
+
+    SeriesGranularity(ChronoUnit unit, int step) {
+        this.unit = unit;
+        this.step = step;
+    }
+
+    /**
+     * Returns the first day of the bucket containing {@code day}.
+     */
+    public LocalDate floor(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+            case QUARTER -> day.withMonth(day.getMonth().firstMonthOfQuarter().getValue()).withDayOfMonth(1);
+            case YEAR -> day.withDayOfYear(1);
+        };
+    }
+
+    /**
+     * Returns the first day of the bucket following the one containing {@code day}.
+     */
+    public LocalDate next(LocalDate day) {
+        return floor(day).plus(step, unit);
+    }
+
+    /**
+     * Returns how many buckets the days in {@code [startDay, endDay)} fall into.
+     */
+    public long count(LocalDate startDay, LocalDate endDay) {
+        if (!startDay.isBefore(endDay)) {
+            return 0;
+        }
+        return unit.between(floor(startDay), floor(endDay.minusDays(1))) / step + 1;
+    }
+
+    /**
+     * Returns the next coarser granularity, or {@code null} for years.
+     */
+    public SeriesGranularity coarser() {
+        var values = values();
+        return ordinal() + 1 < values.length ? values[ordinal() + 1] : null;
+    }
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static SeriesGranularity fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(granularity -> granularity.key().equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new DomainException(String.format("Granularity '%s' is not supported. The following granularities are valid: 'day', 'week', 'month', 'quarter', 'year'.", key)));
+    }
+}
+
+
+
+
+
+
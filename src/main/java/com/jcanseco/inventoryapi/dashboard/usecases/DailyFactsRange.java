@@ -0,0 +1,57 @@
+package com.jcanseco.inventoryapi.dashboard.usecases;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a requested period into the whole days answered by the daily facts and the partial
+ * days at its edges, which are still read from the orders and purchases. Periods bounded at
+ * midnight have no edges; an open bound covers every day on that side.
+ */
+record DailyFactsRange(LocalDate startDay, LocalDate endDay, List<Edge> edges) {
+
+    static final LocalDate FIRST_DAY = LocalDate.of(1970, 1, 1);
+    static final LocalDate LAST_DAY = LocalDate.of(9999, 12, 31);
+
+    record Edge(LocalDateTime start, LocalDateTime end) {
+    }
+
+    static DailyFactsRange of(LocalDateTime start, LocalDateTime end) {
+        var startDay = start == null ? FIRST_DAY : ceilToDay(start);
+        var endDay = end == null ? LAST_DAY : end.toLocalDate();
+
+        if (!startDay.isBefore(endDay)) {
+            // No whole day fits, so the period lies within a single day and is read as an edge.
+            var edges = start != null && end != null && start.isBefore(end)
+                    ? List.of(new Edge(start, end))
+                    : List.<Edge>of();
+            return new DailyFactsRange(startDay, startDay, edges);
+        }
+
+        var edges = new ArrayList<Edge>();
+        if (start != null && !start.equals(startDay.atStartOfDay())) {
+            edges.add(new Edge(start, startDay.atStartOfDay()));
+        }
+        if (end != null && !end.equals(endDay.atStartOfDay())) {
+            edges.add(new Edge(endDay.atStartOfDay(), end));
+        }
+        return new DailyFactsRange(startDay, endDay, List.copyOf(edges));
+    }
+
+    boolean hasWholeDays() {
+        return startDay.isBefore(endDay);
+    }
+
+    private static LocalDate ceilToDay(LocalDateTime dateTime) {
+        var day = dateTime.toLocalDate();
+        return dateTime.equals(day.atStartOfDay()) ? day : day.plusDays(1);
+    }
+}
+
+
+
+
+
+
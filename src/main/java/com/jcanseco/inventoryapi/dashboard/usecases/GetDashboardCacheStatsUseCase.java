@@ -0,0 +1,22 @@
+package com.jcanseco.inventoryapi.dashboard.usecases;
+
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.dto.DashboardCacheStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GetDashboardCacheStatsUseCase {
+    private final DashboardCache dashboardCache;
+
+    public DashboardCacheStatsDto execute() {
+        return dashboardCache.getStats();
+    }
+}
+
+
+
+
+
+
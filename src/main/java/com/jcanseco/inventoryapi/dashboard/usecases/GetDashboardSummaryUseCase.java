@@ -0,0 +1,180 @@
+package com.jcanseco.inventoryapi.dashboard.usecases;
+
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
+import com.jcanseco.inventoryapi.dashboard.dto.DashboardSummaryDto;
+import com.jcanseco.inventoryapi.dashboard.dto.DashboardWidgetFailureDto;
+import com.jcanseco.inventoryapi.dashboard.dto.GetDashboardSummaryRequest;
+import com.jcanseco.inventoryapi.dashboard.dto.GetProductsWithLowStockCountRequest;
+import com.jcanseco.inventoryapi.dashboard.dto.GetProductsWithLowStockRequest;
+import com.jcanseco.inventoryapi.dashboard.dto.GetTopCustomersByRevenueRequest;
+import com.jcanseco.inventoryapi.dashboard.dto.GetTopSoldProductsRequest;
+import com.jcanseco.inventoryapi.dashboard.dto.GetTopSuppliersByRevenueRequest;
+import com.jcanseco.inventoryapi.dashboard.dto.GetValueSummaryRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Computes every dashboard widget for one parameter set. The widgets run concurrently on the
+ * dashboard pool, so the response takes about as long as the slowest widget instead of the sum
+ * of all of them. Each widget waits at most its own timeout ({@code app.dashboard.summary.timeouts.<widget>},
+ * falling back to {@code app.dashboard.summary.timeout}); a widget that fails or times out is left
+ * empty and reported instead of failing the whole summary.
+ */
+@Slf4j
+@Service
+public class GetDashboardSummaryUseCase {
+
+    private final GetSalesValueSummaryByPeriodUseCase getSalesValueSummaryByPeriodUseCase;
+    private final GetPurchasesValueSummaryByPeriodUseCase getPurchasesValueSummaryByPeriodUseCase;
+    private final GetMonthlySalesSeriesUseCase getMonthlySalesSeriesUseCase;
+    private final GetTopCustomersByRevenueUseCase getTopCustomersByRevenueUseCase;
+    private final GetTopSoldProductsUseCase getTopSoldProductsUseCase;
+    private final GetTopSuppliersByRevenueUseCase getTopSuppliersByRevenueUseCase;
+    private final GetProductsWithLowStockUseCase getProductsWithLowStockUseCase;
+    private final GetProductsWithLowStockCountUseCase getProductsWithLowStockCountUseCase;
+    private final GetOutOfStockProductsCountUseCase getOutOfStockProductsCountUseCase;
+    private final GetTotalInventoryValueSummaryUseCase getTotalInventoryValueSummaryUseCase;
+    private final GetProductsCountByCategoryUseCase getProductsCountByCategoryUseCase;
+    private final AsyncTaskExecutor executor;
+    private final Map<DashboardWidget, Duration> timeouts = new EnumMap<>(DashboardWidget.class);
+
+    public GetDashboardSummaryUseCase(
+            GetSalesValueSummaryByPeriodUseCase getSalesValueSummaryByPeriodUseCase,
+            GetPurchasesValueSummaryByPeriodUseCase getPurchasesValueSummaryByPeriodUseCase,
+            GetMonthlySalesSeriesUseCase getMonthlySalesSeriesUseCase,
+            GetTopCustomersByRevenueUseCase getTopCustomersByRevenueUseCase,
+            GetTopSoldProductsUseCase getTopSoldProductsUseCase,
+            GetTopSuppliersByRevenueUseCase getTopSuppliersByRevenueUseCase,
+            GetProductsWithLowStockUseCase getProductsWithLowStockUseCase,
+            GetProductsWithLowStockCountUseCase getProductsWithLowStockCountUseCase,
+            GetOutOfStockProductsCountUseCase getOutOfStockProductsCountUseCase,
+            GetTotalInventoryValueSummaryUseCase getTotalInventoryValueSummaryUseCase,
+            GetProductsCountByCategoryUseCase getProductsCountByCategoryUseCase,
+            @Qualifier("dashboardTaskExecutor") AsyncTaskExecutor executor,
+            Environment environment,
+            @Value("${app.dashboard.summary.timeout:PT2S}") Duration defaultTimeout) {
+        this.getSalesValueSummaryByPeriodUseCase = getSalesValueSummaryByPeriodUseCase;
+        this.getPurchasesValueSummaryByPeriodUseCase = getPurchasesValueSummaryByPeriodUseCase;
+        this.getMonthlySalesSeriesUseCase = getMonthlySalesSeriesUseCase;
+        this.getTopCustomersByRevenueUseCase = getTopCustomersByRevenueUseCase;
+        this.getTopSoldProductsUseCase = getTopSoldProductsUseCase;
+        this.getTopSuppliersByRevenueUseCase = getTopSuppliersByRevenueUseCase;
+        this.getProductsWithLowStockUseCase = getProductsWithLowStockUseCase;
+        this.getProductsWithLowStockCountUseCase = getProductsWithLowStockCountUseCase;
+        this.getOutOfStockProductsCountUseCase = getOutOfStockProductsCountUseCase;
+        this.getTotalInventoryValueSummaryUseCase = getTotalInventoryValueSummaryUseCase;
+        this.getProductsCountByCategoryUseCase = getProductsCountByCategoryUseCase;
+        this.executor = executor;
+        for (var widget : DashboardWidget.values()) {
+            var key = "app.dashboard.summary.timeouts." + widget.key();
+            var timeout = environment.getProperty(key);
+            timeouts.put(widget, timeout != null ? DurationStyle.detectAndParse(timeout) : defaultTimeout);
+        }
+    }
+
+    public DashboardSummaryDto execute(GetDashboardSummaryRequest request) {
+        var period = GetValueSummaryRequest.builder()
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .build();
+        var limit = request.limitOrDefault();
+        var stockThreshold = request.getStockThreshold();
+
+        var startedAt = System.nanoTime();
+        var salesValue = submit(DashboardWidget.SALES_VALUE_SUMMARY, startedAt,
+                () -> getSalesValueSummaryByPeriodUseCase.execute(period));
+        var purchasesValue = submit(DashboardWidget.PURCHASES_VALUE_SUMMARY, startedAt,
+                () -> getPurchasesValueSummaryByPeriodUseCase.execute(period));
+        var monthlySales = submit(DashboardWidget.MONTHLY_SALES_SERIES, startedAt,
+                () -> getMonthlySalesSeriesUseCase.execute(period));
+        var topCustomers = submit(DashboardWidget.TOP_CUSTOMERS_BY_REVENUE, startedAt,
+                () -> getTopCustomersByRevenueUseCase.execute(GetTopCustomersByRevenueRequest.builder().startDate(request.getStartDate()).endDate(request.getEndDate()).limit(limit).build()));
+        var topProducts = submit(DashboardWidget.TOP_SOLD_PRODUCTS, startedAt,
+                () -> getTopSoldProductsUseCase.execute(GetTopSoldProductsRequest.builder().startDate(request.getStartDate()).endDate(request.getEndDate()).limit(limit).build()));
+        var topSuppliers = submit(DashboardWidget.TOP_SUPPLIERS_BY_REVENUE, startedAt,
+                () -> getTopSuppliersByRevenueUseCase.execute(GetTopSuppliersByRevenueRequest.builder().startDate(request.getStartDate()).endDate(request.getEndDate()).limit(limit).build()));
+        var lowStockProducts = submit(DashboardWidget.PRODUCTS_WITH_LOW_STOCK, startedAt,
+                () -> getProductsWithLowStockUseCase.execute(GetProductsWithLowStockRequest.builder().stockThreshold(stockThreshold).limit(limit).build()));
+        var lowStockCount = submit(DashboardWidget.PRODUCTS_WITH_LOW_STOCK_COUNT, startedAt,
+                () -> getProductsWithLowStockCountUseCase.execute(GetProductsWithLowStockCountRequest.builder().stockThreshold(stockThreshold).build()));
+        var outOfStockCount = submit(DashboardWidget.OUT_OF_STOCK_PRODUCTS_COUNT, startedAt,
+                getOutOfStockProductsCountUseCase::execute);
+        var inventoryValue = submit(DashboardWidget.TOTAL_INVENTORY_VALUE, startedAt,
+                getTotalInventoryValueSummaryUseCase::execute);
+        var productsByCategory = submit(DashboardWidget.PRODUCTS_COUNT_BY_CATEGORY, startedAt,
+                getProductsCountByCategoryUseCase::execute);
+
+        var failures = new ArrayList<DashboardWidgetFailureDto>();
+        return DashboardSummaryDto.builder()
+                .salesValue(salesValue.await(failures))
+                .purchasesValue(purchasesValue.await(failures))
+                .monthlySales(monthlySales.await(failures))
+                .topCustomers(topCustomers.await(failures))
+                .topProducts(topProducts.await(failures))
+                .topSuppliers(topSuppliers.await(failures))
+                .lowStockProducts(lowStockProducts.await(failures))
+                .lowStockCount(lowStockCount.await(failures))
+                .outOfStockCount(outOfStockCount.await(failures))
+                .inventoryValue(inventoryValue.await(failures))
+                .productsByCategory(productsByCategory.await(failures))
+                .failures(failures)
+                .build();
+    }
+
+    private <T> PendingWidget<T> submit(DashboardWidget widget, long startedAt, Supplier<T> supplier) {
+        var deadline = startedAt + timeouts.get(widget).toNanos();
+        try {
+            return new PendingWidget<>(widget, executor.submit(supplier::get), deadline);
+        } catch (TaskRejectedException exception) {
+            return new PendingWidget<>(widget, CompletableFuture.failedFuture(exception), deadline);
+        }
+    }
+
+    private record PendingWidget<T>(DashboardWidget widget, Future<T> future, long deadline) {
+
+        T await(List<DashboardWidgetFailureDto> failures) {
+            try {
+                return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException exception) {
+                future.cancel(true);
+                log.warn("Dashboard widget {} timed out.", widget.key());
+                failures.add(new DashboardWidgetFailureDto(widget.key(), "The widget timed out."));
+            } catch (ExecutionException exception) {
+                var cause = exception.getCause() instanceof TaskRejectedException
+                        ? "The dashboard is busy, try again later."
+                        : "The widget could not be computed.";
+                log.warn("Dashboard widget {} failed.", widget.key(), exception.getCause());
+                failures.add(new DashboardWidgetFailureDto(widget.key(), cause));
+            } catch (InterruptedException exception) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                failures.add(new DashboardWidgetFailureDto(widget.key(), "The widget was interrupted."));
+            }
+            return null;
+        }
+    }
+}
+
+
+
+
+
+
@@ -1,34 +1,68 @@
 package com.jcanseco.inventoryapi.dashboard.usecases;
 
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
 import com.jcanseco.inventoryapi.dashboard.dto.GetValueSummaryRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.MonthlySalesPointDto;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailySalesRepository;
 import com.jcanseco.inventoryapi.dashboard.persistence.OrderReportsRepository;
+import com.jcanseco.inventoryapi.dashboard.series.SalesTimeSeries;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
 public class GetMonthlySalesSeriesUseCase {
+    private final DailySalesRepository dailySalesRepository;
     private final OrderReportsRepository repository;
+    private final DashboardCache dashboardCache;
+    private final SalesTimeSeries salesTimeSeries;
 
     public List<MonthlySalesPointDto> execute(GetValueSummaryRequest request) {
-        var monthlySales = repository.getMonthlySalesSummary(request.getStartDate(), request.getEndDate());
-        if (request.getStartDate() == null || request.getEndDate() == null) {
-            return monthlySales;
+        if (salesTimeSeries.isLoaded()
+                && SalesTimeSeries.isSlotAligned(request.getStartDate())
+                && SalesTimeSeries.isSlotAligned(request.getEndDate())) {
+            return fromSeries(request);
         }
+        return dashboardCache.get(
+                DashboardWidget.MONTHLY_SALES_SERIES,
+                DashboardCache.parameters(request.getStartDate(), request.getEndDate()),
+                () -> compute(request)
+        );
+    }
+
+    private List<MonthlySalesPointDto> compute(GetValueSummaryRequest request) {
+        var range = DailyFactsRange.of(request.getStartDate(), request.getEndDate());
 
-        var salesByMonth = new HashMap<YearMonth, BigDecimal>();
-        monthlySales.forEach(item -> salesByMonth.put(
+        var salesByMonth = new TreeMap<YearMonth, BigDecimal>();
+        var monthlySales = new ArrayList<MonthlySalesPointDto>();
+        if (range.hasWholeDays()) {
+            monthlySales.addAll(dailySalesRepository.getMonthlySales(range.startDay(), range.endDay()));
+        }
+        range.edges().forEach(edge -> monthlySales.addAll(repository.getMonthlySalesSummary(edge.start(), edge.end())));
+        monthlySales.forEach(item -> salesByMonth.merge(
                 YearMonth.of(item.year(), item.month()),
-                item.totalValue()
+                item.totalValue(),
+                BigDecimal::add
         ));
 
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            return salesByMonth.entrySet().stream()
+                    .map(entry -> new MonthlySalesPointDto(
+                            entry.getKey().getYear(),
+                            entry.getKey().getMonthValue(),
+                            entry.getValue()
+                    ))
+                    .toList();
+        }
+
         var result = new ArrayList<MonthlySalesPointDto>();
         var currentMonth = YearMonth.from(request.getStartDate());
         var lastMonth = YearMonth.from(request.getEndDate().minusNanos(1));
@@ -44,4 +78,45 @@ public class GetMonthlySalesSeriesUseCase {
 
         return result;
     }
+
+    /**
+     * Sums every month from the in-memory sales series. Open bounds cover the loaded sales and,
+     * as with the facts, only report the months that had any.
+     */
+    private List<MonthlySalesPointDto> fromSeries(GetValueSummaryRequest request) {
+        var start = request.getStartDate();
+        var end = request.getEndDate();
+        var openBounds = start == null || end == null;
+        if (openBounds) {
+            var loadedRange = salesTimeSeries.getLoadedRange();
+            if (loadedRange == null) {
+                return List.of();
+            }
+            start = start == null ? loadedRange[0] : start;
+            end = end == null ? loadedRange[1] : end;
+        }
+        if (!start.isBefore(end)) {
+            return List.of();
+        }
+
+        var months = new ArrayList<YearMonth>();
+        var boundaries = new ArrayList<LocalDateTime>();
+        boundaries.add(start);
+        for (var month = YearMonth.from(start); month.atDay(1).atStartOfDay().isBefore(end); month = month.plusMonths(1)) {
+            var nextMonth = month.plusMonths(1).atDay(1).atStartOfDay();
+            months.add(month);
+            boundaries.add(nextMonth.isBefore(end) ? nextMonth : end);
+        }
+        var totals = salesTimeSeries.sum(boundaries);
+
+        var result = new ArrayList<MonthlySalesPointDto>();
+        for (int i = 0; i < months.size(); i++) {
+            var monthTotals = totals.get(i);
+            if (openBounds && monthTotals.revenueCents() == 0 && monthTotals.units() == 0) {
+                continue;
+            }
+            result.add(new MonthlySalesPointDto(months.get(i).getYear(), months.get(i).getMonthValue(), monthTotals.revenue()));
+        }
+        return result;
+    }
 }
@@ -1,6 +1,10 @@
 package com.jcanseco.inventoryapi.dashboard.usecases;
 
+import com.jcanseco.inventoryapi.dashboard.aggregates.InventoryAggregates;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
 import com.jcanseco.inventoryapi.dashboard.persistence.ProductReportsRepository;
+import com.jcanseco.inventoryapi.inventory.stock.cache.StockCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -8,8 +12,17 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class GetOutOfStockProductsCountUseCase {
     private final ProductReportsRepository repository;
+    private final StockCache stockCache;
+    private final DashboardCache dashboardCache;
+    private final InventoryAggregates inventoryAggregates;
 
     public Long execute() {
-        return repository.getOutOfStockProductsCount();
+        if (inventoryAggregates.isLoaded()) {
+            return inventoryAggregates.getOutOfStockCount();
+        }
+        if (stockCache.isLoaded()) {
+            return stockCache.countOutOfStock();
+        }
+        return dashboardCache.get(DashboardWidget.OUT_OF_STOCK_PRODUCTS_COUNT, repository::getOutOfStockProductsCount);
     }
 }
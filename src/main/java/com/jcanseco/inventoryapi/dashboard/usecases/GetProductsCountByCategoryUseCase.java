@@ -1,5 +1,8 @@
 package com.jcanseco.inventoryapi.dashboard.usecases;
 
+import com.jcanseco.inventoryapi.dashboard.aggregates.InventoryAggregates;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
 import com.jcanseco.inventoryapi.dashboard.dto.ProductsByCategoryDto;
 import com.jcanseco.inventoryapi.dashboard.persistence.ProductReportsRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +14,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GetProductsCountByCategoryUseCase {
     private final ProductReportsRepository repository;
+    private final DashboardCache dashboardCache;
+    private final InventoryAggregates inventoryAggregates;
 
     public List<ProductsByCategoryDto> execute() {
-        return repository.getProductsCountByCategory();
+        if (inventoryAggregates.isLoaded()) {
+            return inventoryAggregates.getCountByCategory();
+        }
+        return dashboardCache.get(DashboardWidget.PRODUCTS_COUNT_BY_CATEGORY, repository::getProductsCountByCategory);
     }
 }
@@ -1,7 +1,11 @@
 package com.jcanseco.inventoryapi.dashboard.usecases;
 
+import com.jcanseco.inventoryapi.dashboard.aggregates.InventoryAggregates;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
 import com.jcanseco.inventoryapi.dashboard.dto.GetProductsWithLowStockCountRequest;
 import com.jcanseco.inventoryapi.dashboard.persistence.ProductReportsRepository;
+import com.jcanseco.inventoryapi.inventory.stock.cache.StockCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -9,7 +13,24 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class GetProductsWithLowStockCountUseCase {
     private final ProductReportsRepository repository;
+    private final StockCache stockCache;
+    private final DashboardCache dashboardCache;
+    private final InventoryAggregates inventoryAggregates;
+
     public Long execute(GetProductsWithLowStockCountRequest request) {
-        return repository.getProductsWithLowStockCount(request.getStockThreshold());
+        if (request.getStockThreshold() == null) {
+            if (inventoryAggregates.isLoaded()) {
+                return inventoryAggregates.getLowStockCount();
+            }
+            return dashboardCache.get(DashboardWidget.PRODUCTS_WITH_LOW_STOCK_COUNT, repository::getProductsBelowReorderPointCount);
+        }
+        if (stockCache.isLoaded()) {
+            return stockCache.countWithQuantityAtMost(request.getStockThreshold());
+        }
+        return dashboardCache.get(
+                DashboardWidget.PRODUCTS_WITH_LOW_STOCK_COUNT,
+                DashboardCache.parameters(request.getStockThreshold()),
+                () -> repository.getProductsWithLowStockCount(request.getStockThreshold())
+        );
     }
 }
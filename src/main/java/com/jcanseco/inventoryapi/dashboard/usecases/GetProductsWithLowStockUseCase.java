@@ -1,5 +1,8 @@
 package com.jcanseco.inventoryapi.dashboard.usecases;
 
+import com.jcanseco.inventoryapi.dashboard.aggregates.InventoryAggregates;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
 import com.jcanseco.inventoryapi.dashboard.dto.GetProductsWithLowStockRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.ProductWithLowStockDto;
 import com.jcanseco.inventoryapi.dashboard.persistence.ProductReportsRepository;
@@ -13,10 +16,25 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GetProductsWithLowStockUseCase {
     private final ProductReportsRepository repository;
+    private final DashboardCache dashboardCache;
+    private final InventoryAggregates inventoryAggregates;
+
     public List<ProductWithLowStockDto> execute(GetProductsWithLowStockRequest request) {
-        return repository.getProductsWithLowStock(
-                        request.getStockThreshold(),
-                        Pageable.ofSize(request.getLimit())
-                );
+        var pageable = Pageable.ofSize(request.getLimit()).withPage(request.pageNumberOrDefault() - 1);
+        if (request.getStockThreshold() == null) {
+            if (inventoryAggregates.isLoaded()) {
+                return inventoryAggregates.getLowStock((int) pageable.getOffset(), request.getLimit());
+            }
+            return dashboardCache.get(
+                    DashboardWidget.PRODUCTS_WITH_LOW_STOCK,
+                    DashboardCache.parameters(null, request.getLimit(), request.pageNumberOrDefault()),
+                    () -> repository.getProductsBelowReorderPoint(pageable)
+            );
+        }
+        return dashboardCache.get(
+                DashboardWidget.PRODUCTS_WITH_LOW_STOCK,
+                DashboardCache.parameters(request.getStockThreshold(), request.getLimit(), request.pageNumberOrDefault()),
+                () -> repository.getProductsWithLowStock(request.getStockThreshold(), pageable)
+        );
     }
 }
@@ -1,18 +1,39 @@
 package com.jcanseco.inventoryapi.dashboard.usecases;
 
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
 import com.jcanseco.inventoryapi.dashboard.dto.GetValueSummaryRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.InventoryValueSummaryDto;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailySupplierPurchasesRepository;
 import com.jcanseco.inventoryapi.dashboard.persistence.PurchaseReportsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+
 @Service
 @RequiredArgsConstructor
 public class GetPurchasesValueSummaryByPeriodUseCase {
+    private final DailySupplierPurchasesRepository dailyPurchasesRepository;
     private final PurchaseReportsRepository repository;
+    private final DashboardCache dashboardCache;
 
     public InventoryValueSummaryDto execute(GetValueSummaryRequest request) {
-        var totalValue = repository.getPurchasesSummaryByPeriod(request.getStartDate(), request.getEndDate());
+        return dashboardCache.get(
+                DashboardWidget.PURCHASES_VALUE_SUMMARY,
+                DashboardCache.parameters(request.getStartDate(), request.getEndDate()),
+                () -> compute(request)
+        );
+    }
+
+    private InventoryValueSummaryDto compute(GetValueSummaryRequest request) {
+        var range = DailyFactsRange.of(request.getStartDate(), request.getEndDate());
+        var totalValue = range.hasWholeDays()
+                ? dailyPurchasesRepository.getPurchasesTotal(range.startDay(), range.endDay())
+                : BigDecimal.ZERO;
+        for (var edge : range.edges()) {
+            totalValue = totalValue.add(repository.getPurchasesSummaryByPeriod(edge.start(), edge.end()));
+        }
         return new InventoryValueSummaryDto(totalValue);
     }
 }
@@ -0,0 +1,86 @@
+package com.jcanseco.inventoryapi.dashboard.usecases;
+
+import com.jcanseco.inventoryapi.dashboard.dto.GetSalesSeriesRequest;
+import com.jcanseco.inventoryapi.dashboard.dto.SalesSeriesDto;
+import com.jcanseco.inventoryapi.dashboard.dto.SalesSeriesPointDto;
+import com.jcanseco.inventoryapi.dashboard.series.SalesTimeSeries;
+import com.jcanseco.inventoryapi.dashboard.series.SeriesGranularity;
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+
+/**
+ * Serves the sales of a period bucketed by calendar day, week, month, quarter or year in the requested
+ * zone. When the requested granularity would exceed {@code maxPoints} buckets the series is
+ * downsampled to the finest coarser granularity that fits.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetSalesSeriesUseCase {
+
+    private final SalesTimeSeries salesTimeSeries;
+
+    public SalesSeriesDto execute(GetSalesSeriesRequest request) {
+        var startDate = request.getStartDate();
+        var endDate = request.getEndDate();
+        if (!startDate.isBefore(endDate)) {
+            throw new DomainException("The start date must be before the end date.");
+        }
+        var zone = resolveZone(request.getZone());
+        var granularity = SeriesGranularity.fromKey(request.granularityOrDefault());
+        while (granularity.count(startDate, endDate) > request.maxPointsOrDefault() && granularity.coarser() != null) {
+            granularity = granularity.coarser();
+        }
+        if (granularity.count(startDate, endDate) > request.maxPointsOrDefault()) {
+            throw new DomainException(String.format("The period does not fit in %d points.", request.maxPointsOrDefault()));
+        }
+
+        var bucketStarts = new ArrayList<LocalDate>();
+        for (var day = startDate; day.isBefore(endDate); day = min(granularity.next(day), endDate)) {
+            bucketStarts.add(day);
+        }
+        bucketStarts.add(endDate);
+
+        var boundaries = new ArrayList<LocalDateTime>(bucketStarts.size());
+        bucketStarts.forEach(day -> boundaries.add(salesTimeSeries.toStorageTime(day.atStartOfDay(zone))));
+        var totals = salesTimeSeries.sum(boundaries);
+
+        var points = new ArrayList<SalesSeriesPointDto>(totals.size());
+        for (int i = 0; i < totals.size(); i++) {
+            points.add(new SalesSeriesPointDto(
+                    bucketStarts.get(i),
+                    bucketStarts.get(i + 1),
+                    totals.get(i).revenue(),
+                    totals.get(i).units()
+            ));
+        }
+        return new SalesSeriesDto(granularity.key(), zone.getId(), points);
+    }
+
+    private ZoneId resolveZone(String zone) {
+        if (zone == null || zone.isBlank()) {
+            return salesTimeSeries.getStorageZone();
+        }
+        try {
+            return ZoneId.of(zone);
+        } catch (DateTimeException ex) {
+            throw new DomainException(String.format("Time zone '%s' is not valid.", zone));
+        }
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
+
+
+
+
+
+
@@ -1,17 +1,38 @@
 package com.jcanseco.inventoryapi.dashboard.usecases;
 
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
 import com.jcanseco.inventoryapi.dashboard.dto.GetValueSummaryRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.InventoryValueSummaryDto;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailySalesRepository;
 import com.jcanseco.inventoryapi.dashboard.persistence.OrderReportsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+
 @Service
 @RequiredArgsConstructor
 public class GetSalesValueSummaryByPeriodUseCase {
+    private final DailySalesRepository dailySalesRepository;
     private final OrderReportsRepository orderRepository;
+    private final DashboardCache dashboardCache;
     public InventoryValueSummaryDto execute(GetValueSummaryRequest request) {
-        var totalValue = orderRepository.getOrdersSummaryByPeriod(request.getStartDate(), request.getEndDate());
+        return dashboardCache.get(
+                DashboardWidget.SALES_VALUE_SUMMARY,
+                DashboardCache.parameters(request.getStartDate(), request.getEndDate()),
+                () -> compute(request)
+        );
+    }
+
+    private InventoryValueSummaryDto compute(GetValueSummaryRequest request) {
+        var range = DailyFactsRange.of(request.getStartDate(), request.getEndDate());
+        var totalValue = range.hasWholeDays()
+                ? dailySalesRepository.getSalesTotal(range.startDay(), range.endDay())
+                : BigDecimal.ZERO;
+        for (var edge : range.edges()) {
+            totalValue = totalValue.add(orderRepository.getOrdersSummaryByPeriod(edge.start(), edge.end()));
+        }
         return new InventoryValueSummaryDto(totalValue);
     }
 }
@@ -1,23 +1,77 @@
 package com.jcanseco.inventoryapi.dashboard.usecases;
 
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
 import com.jcanseco.inventoryapi.dashboard.dto.GetTopCustomersByRevenueRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.TopCustomerByRevenueDto;
 import com.jcanseco.inventoryapi.dashboard.persistence.CustomerReportsRepository;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailyCustomerSalesRepository;
+import com.jcanseco.inventoryapi.dashboard.rankings.DashboardRankings;
+import com.jcanseco.inventoryapi.dashboard.rankings.RankingDimension;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class GetTopCustomersByRevenueUseCase {
+    private final DailyCustomerSalesRepository dailyCustomerSalesRepository;
     private final CustomerReportsRepository repository;
+    private final DashboardCache dashboardCache;
+    private final DashboardRankings dashboardRankings;
     public List<TopCustomerByRevenueDto> execute(GetTopCustomersByRevenueRequest request) {
-        return repository.getTopCustomerByRevenue(
-                request.getStartDate(),
-                request.getEndDate(),
-                Pageable.ofSize(request.getLimit())
+        if (dashboardRankings.isLoaded()) {
+            return rank(request);
+        }
+        return dashboardCache.get(
+                DashboardWidget.TOP_CUSTOMERS_BY_REVENUE,
+                DashboardCache.parameters(request.getStartDate(), request.getEndDate(), request.getLimit()),
+                () -> compute(request)
         );
     }
+
+    private List<TopCustomerByRevenueDto> compute(GetTopCustomersByRevenueRequest request) {
+        var range = DailyFactsRange.of(request.getStartDate(), request.getEndDate());
+        if (range.edges().isEmpty()) {
+            return dailyCustomerSalesRepository.getTopCustomersByRevenue(
+                    range.startDay(),
+                    range.endDay(),
+                    Pageable.ofSize(request.getLimit())
+            );
+        }
+
+        var rows = new ArrayList<TopCustomerByRevenueDto>();
+        if (range.hasWholeDays()) {
+            rows.addAll(dailyCustomerSalesRepository.getTopCustomersByRevenue(range.startDay(), range.endDay(), Pageable.unpaged()));
+        }
+        range.edges().forEach(edge -> rows.addAll(repository.getTopCustomerByRevenue(edge.start(), edge.end(), Pageable.unpaged())));
+
+        return TopRankings.merge(
+                rows,
+                TopCustomerByRevenueDto::id,
+                (a, b) -> new TopCustomerByRevenueDto(a.id(), a.fullName(), a.totalRevenue().add(b.totalRevenue())),
+                Comparator.comparing(TopCustomerByRevenueDto::totalRevenue).reversed().thenComparing(TopCustomerByRevenueDto::id),
+                request.getLimit()
+        );
+    }
+
+    /**
+     * Ranks the whole days from the in-memory rankings; only partial days at the edges are read from the database.
+     */
+    private List<TopCustomerByRevenueDto> rank(GetTopCustomersByRevenueRequest request) {
+        var range = DailyFactsRange.of(request.getStartDate(), request.getEndDate());
+        var edgeScores = new HashMap<Long, Long>();
+        range.edges().forEach(edge -> repository.getTopCustomerByRevenue(edge.start(), edge.end(), Pageable.unpaged())
+                .forEach(row -> edgeScores.merge(row.id(), DashboardRankings.toCents(row.totalRevenue()), Long::sum)));
+
+        return dashboardRankings.top(RankingDimension.CUSTOMERS_BY_REVENUE, range.startDay(), range.endDay(), edgeScores, request.getLimit())
+                .stream()
+                .map(entry -> new TopCustomerByRevenueDto(entry.id(), entry.name(), DashboardRankings.fromCents(entry.score())))
+                .toList();
+    }
 }
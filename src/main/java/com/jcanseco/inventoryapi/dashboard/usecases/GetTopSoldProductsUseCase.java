@@ -1,24 +1,80 @@
 package com.jcanseco.inventoryapi.dashboard.usecases;
 
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
 import com.jcanseco.inventoryapi.dashboard.dto.GetTopSoldProductsRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.TopSoldProductDto;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailyProductSalesRepository;
 import com.jcanseco.inventoryapi.dashboard.persistence.ProductReportsRepository;
+import com.jcanseco.inventoryapi.dashboard.rankings.DashboardRankings;
+import com.jcanseco.inventoryapi.dashboard.rankings.RankingDimension;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class GetTopSoldProductsUseCase {
 
+    private final DailyProductSalesRepository dailyProductSalesRepository;
     private final ProductReportsRepository repository;
+    private final DashboardCache dashboardCache;
+    private final DashboardRankings dashboardRankings;
 
     public List<TopSoldProductDto> execute(GetTopSoldProductsRequest request) {
-        return repository.getTopSoldProducts(
-                request.getStartDate(),
-                request.getEndDate(),
-                Pageable.ofSize(request.getLimit())
+        if (dashboardRankings.isLoaded()) {
+            return rank(request);
+        }
+        return dashboardCache.get(
+                DashboardWidget.TOP_SOLD_PRODUCTS,
+                DashboardCache.parameters(request.getStartDate(), request.getEndDate(), request.getLimit()),
+                () -> compute(request)
         );
     }
+
+    private List<TopSoldProductDto> compute(GetTopSoldProductsRequest request) {
+        var range = DailyFactsRange.of(request.getStartDate(), request.getEndDate());
+        if (range.edges().isEmpty()) {
+            return dailyProductSalesRepository.getTopSoldProducts(
+                    range.startDay(),
+                    range.endDay(),
+                    Pageable.ofSize(request.getLimit())
+            );
+        }
+
+        // Sales on the partial days can lift any product into the top, so the whole period is ranked here.
+        var rows = new ArrayList<TopSoldProductDto>();
+        if (range.hasWholeDays()) {
+            rows.addAll(dailyProductSalesRepository.getTopSoldProducts(range.startDay(), range.endDay(), Pageable.unpaged()));
+        }
+        range.edges().forEach(edge -> rows.addAll(repository.getTopSoldProducts(edge.start(), edge.end(), Pageable.unpaged())));
+
+        return TopRankings.merge(
+                rows,
+                TopSoldProductDto::productId,
+                (a, b) -> new TopSoldProductDto(a.productId(), a.productName(), a.totalSold() + b.totalSold()),
+                Comparator.comparing(TopSoldProductDto::totalSold).reversed().thenComparing(TopSoldProductDto::productId),
+                request.getLimit()
+        );
+    }
+
+    /**
+     * Ranks the whole days from the in-memory rankings; only partial days at the edges are read from the database.
+     */
+    private List<TopSoldProductDto> rank(GetTopSoldProductsRequest request) {
+        var range = DailyFactsRange.of(request.getStartDate(), request.getEndDate());
+        var edgeScores = new HashMap<Long, Long>();
+        range.edges().forEach(edge -> repository.getTopSoldProducts(edge.start(), edge.end(), Pageable.unpaged())
+                .forEach(row -> edgeScores.merge(row.productId(), row.totalSold(), Long::sum)));
+
+        return dashboardRankings.top(RankingDimension.SOLD_PRODUCTS, range.startDay(), range.endDay(), edgeScores, request.getLimit())
+                .stream()
+                .map(entry -> new TopSoldProductDto(entry.id(), entry.name(), entry.score()))
+                .toList();
+    }
 }
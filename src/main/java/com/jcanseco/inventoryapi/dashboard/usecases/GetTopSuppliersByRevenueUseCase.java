@@ -1,22 +1,77 @@
 package com.jcanseco.inventoryapi.dashboard.usecases;
 
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
 import com.jcanseco.inventoryapi.dashboard.dto.GetTopSuppliersByRevenueRequest;
 import com.jcanseco.inventoryapi.dashboard.dto.TopSupplierByRevenueDto;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailySupplierPurchasesRepository;
 import com.jcanseco.inventoryapi.dashboard.persistence.SuppliersReportsRepository;
+import com.jcanseco.inventoryapi.dashboard.rankings.DashboardRankings;
+import com.jcanseco.inventoryapi.dashboard.rankings.RankingDimension;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class GetTopSuppliersByRevenueUseCase {
+    private final DailySupplierPurchasesRepository dailyPurchasesRepository;
     private final SuppliersReportsRepository repository;
+    private final DashboardCache dashboardCache;
+    private final DashboardRankings dashboardRankings;
     public List<TopSupplierByRevenueDto> execute(GetTopSuppliersByRevenueRequest request) {
-        return repository.getTopSuppliersByRevenue(
-                request.getStartDate(),
-                request.getEndDate(),
-                Pageable.ofSize(request.getLimit())
+        if (dashboardRankings.isLoaded()) {
+            return rank(request);
+        }
+        return dashboardCache.get(
+                DashboardWidget.TOP_SUPPLIERS_BY_REVENUE,
+                DashboardCache.parameters(request.getStartDate(), request.getEndDate(), request.getLimit()),
+                () -> compute(request)
         );
     }
+
+    private List<TopSupplierByRevenueDto> compute(GetTopSuppliersByRevenueRequest request) {
+        var range = DailyFactsRange.of(request.getStartDate(), request.getEndDate());
+        if (range.edges().isEmpty()) {
+            return dailyPurchasesRepository.getTopSuppliersByRevenue(
+                    range.startDay(),
+                    range.endDay(),
+                    Pageable.ofSize(request.getLimit())
+            );
+        }
+
+        var rows = new ArrayList<TopSupplierByRevenueDto>();
+        if (range.hasWholeDays()) {
+            rows.addAll(dailyPurchasesRepository.getTopSuppliersByRevenue(range.startDay(), range.endDay(), Pageable.unpaged()));
+        }
+        range.edges().forEach(edge -> rows.addAll(repository.getTopSuppliersByRevenue(edge.start(), edge.end(), Pageable.unpaged())));
+
+        return TopRankings.merge(
+                rows,
+                TopSupplierByRevenueDto::id,
+                (a, b) -> new TopSupplierByRevenueDto(a.id(), a.name(), a.totalRevenue().add(b.totalRevenue())),
+                Comparator.comparing(TopSupplierByRevenueDto::totalRevenue).reversed().thenComparing(TopSupplierByRevenueDto::id),
+                request.getLimit()
+        );
+    }
+
+    /**
+     * Ranks the whole days from the in-memory rankings; only partial days at the edges are read from the database.
+     */
+    private List<TopSupplierByRevenueDto> rank(GetTopSuppliersByRevenueRequest request) {
+        var range = DailyFactsRange.of(request.getStartDate(), request.getEndDate());
+        var edgeScores = new HashMap<Long, Long>();
+        range.edges().forEach(edge -> repository.getTopSuppliersByRevenue(edge.start(), edge.end(), Pageable.unpaged())
+                .forEach(row -> edgeScores.merge(row.id(), DashboardRankings.toCents(row.totalRevenue()), Long::sum)));
+
+        return dashboardRankings.top(RankingDimension.SUPPLIERS_BY_REVENUE, range.startDay(), range.endDay(), edgeScores, request.getLimit())
+                .stream()
+                .map(entry -> new TopSupplierByRevenueDto(entry.id(), entry.name(), DashboardRankings.fromCents(entry.score())))
+                .toList();
+    }
 }
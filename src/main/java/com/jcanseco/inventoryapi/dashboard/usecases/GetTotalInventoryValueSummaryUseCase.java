@@ -1,5 +1,8 @@
 package com.jcanseco.inventoryapi.dashboard.usecases;
 
+import com.jcanseco.inventoryapi.dashboard.aggregates.InventoryAggregates;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardWidget;
 import com.jcanseco.inventoryapi.dashboard.dto.InventoryValueSummaryDto;
 import com.jcanseco.inventoryapi.dashboard.persistence.ProductReportsRepository;
 import lombok.RequiredArgsConstructor;
@@ -9,8 +12,16 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class GetTotalInventoryValueSummaryUseCase {
     private final ProductReportsRepository repository;
+    private final DashboardCache dashboardCache;
+    private final InventoryAggregates inventoryAggregates;
+
     public InventoryValueSummaryDto execute() {
-        var totalValue = repository.getTotalInventoryValue();
-        return new InventoryValueSummaryDto(totalValue);
+        if (inventoryAggregates.isLoaded()) {
+            return new InventoryValueSummaryDto(inventoryAggregates.getTotalValue());
+        }
+        return dashboardCache.get(
+                DashboardWidget.TOTAL_INVENTORY_VALUE,
+                () -> new InventoryValueSummaryDto(repository.getTotalInventoryValue())
+        );
     }
 }
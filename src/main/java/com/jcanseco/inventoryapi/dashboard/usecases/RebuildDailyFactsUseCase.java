@@ -0,0 +1,46 @@
+package com.jcanseco.inventoryapi.dashboard.usecases;
+
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardChange;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailyFactsRepository;
+import com.jcanseco.inventoryapi.dashboard.rankings.DashboardRankings;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardSocketPublisher;
+import com.jcanseco.inventoryapi.dashboard.series.SalesTimeSeries;
+import com.jcanseco.inventoryapi.shared.utils.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Recomputes the daily fact tables from the orders and purchases. The listeners keep the facts
+ * current between runs; the rebuild repairs any drift, e.g. rows changed outside the application.
+ * Once committed, the cached sales and purchase widgets are dropped and clients are asked to
+ * re-fetch, since a repaired drift cannot be expressed as a delta.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RebuildDailyFactsUseCase {
+
+    private final DailyFactsRepository dailyFactsRepository;
+    private final DashboardCache dashboardCache;
+    private final DashboardSocketPublisher dashboardSocketPublisher;
+    private final DashboardRankings dashboardRankings;
+    private final SalesTimeSeries salesTimeSeries;
+
+    @Scheduled(cron = "${app.dashboard.facts.rebuild-cron:0 30 3 * * *}")
+    @Transactional
+    public void execute() {
+        dailyFactsRepository.rebuild();
+        log.info("Rebuilt the dashboard daily facts.");
+        // Registered first so the rankings and series are reloaded before clients are told to refresh.
+        dashboardRankings.onFactsRebuilt();
+        salesTimeSeries.onSalesRebuilt();
+        AfterCommit.run(() -> {
+            dashboardCache.invalidate(DashboardChange.SALES, DashboardChange.PURCHASES);
+            dashboardSocketPublisher.publishUpdateSignal();
+        });
+    }
+}
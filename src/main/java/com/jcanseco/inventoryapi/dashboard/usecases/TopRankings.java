@@ -0,0 +1,31 @@
+package com.jcanseco.inventoryapi.dashboard.usecases;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Merges the rankings read from the daily facts and from the edges of a period into one top list.
+ */
+final class TopRankings {
+
+    private TopRankings() {
+    }
+
+    static <T, K> List<T> merge(List<T> rows, Function<T, K> key, BinaryOperator<T> combine, Comparator<T> order, int limit) {
+        var merged = new LinkedHashMap<K, T>();
+        rows.forEach(row -> merged.merge(key.apply(row), row, combine));
+        return merged.values().stream()
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+}
+
+
+
+
+
+
@@ -105,13 +105,15 @@ public class PermissionCatalog {
                         new Action(1, Customers, View, "View Customers", true),
                         new Action(2, Customers, Create, "Create Customers", false),
                         new Action(3, Customers, Update, "Update Customers", false),
-                        new Action(4, Customers, Delete, "Delete Customers", false)
+                        new Action(4, Customers, Delete, "Delete Customers", false),
+                        new Action(5, Customers, Export, "Export Customers", false)
                 )),
                 new Resource(8, Products, List.of(
                         new Action(1, Products, View, "View Products", true),
                         new Action(2, Products, Create, "Create Products", false),
                         new Action(3, Products, Update, "Update Products", false),
-                        new Action(4, Products, Delete, "Delete Products", false)
+                        new Action(4, Products, Delete, "Delete Products", false),
+                        new Action(5, Products, Export, "Export Products", false)
                 )),
                 new Resource(9, Purchases, List.of(
                         new Action(1, Purchases, View, "View Purchases", true),
@@ -125,7 +127,8 @@ public class PermissionCatalog {
                         new Action(2, Orders, Create, "Create Orders", false),
                         new Action(3, Orders, Update, "Update Orders", false),
                         new Action(4, Orders, Delete, "Delete Orders", false),
-                        new Action(5, Orders, Deliver, "Deliver Orders", false)
+                        new Action(5, Orders, Deliver, "Deliver Orders", false),
+                        new Action(6, Orders, Export, "Export Orders", false)
                 ))
         );
     }
@@ -8,9 +8,12 @@ import com.jcanseco.inventoryapi.identity.users.dto.UserDetailsDto;
 import com.jcanseco.inventoryapi.identity.users.usecases.changerole.ChangeUserRoleUseCase;
 import com.jcanseco.inventoryapi.identity.users.usecases.create.CreateUserUseCase;
 import com.jcanseco.inventoryapi.identity.users.usecases.delete.DeleteUserUseCase;
+import com.jcanseco.inventoryapi.identity.users.usecases.export.ExportUsersUseCase;
 import com.jcanseco.inventoryapi.identity.users.usecases.getall.GetUsersUseCase;
 import com.jcanseco.inventoryapi.identity.users.usecases.getbyid.GetUserByIdUseCase;
 import com.jcanseco.inventoryapi.identity.users.usecases.update.UpdateUserUseCase;
+import com.jcanseco.inventoryapi.shared.export.ExportResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -19,6 +22,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @Validated
 @RestControllerAdvice
@@ -33,6 +37,8 @@ public class UserController {
     private final DeleteUserUseCase deleteUserUseCase;
     private final GetUserByIdUseCase getUserByIdUseCase;
     private final GetUsersUseCase getUsersUseCase;
+    private final ExportUsersUseCase exportUsersUseCase;
+    private final ExportResponses exportResponses;
 
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Users, @Action.Create))")
     @PostMapping
@@ -84,4 +90,13 @@ public class UserController {
         }
         return ResponseEntity.ok(getUsersUseCase.executePaged(request));
     }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Users, @Action.Export))")
+    @GetMapping("export")
+    public WebAsyncTask<Void> export(
+            @RequestParam(defaultValue = "csv") String format,
+            @Valid GetUsersRequest request,
+            HttpServletResponse response) {
+        return exportResponses.ok(format, exportUsersUseCase.execute(request), response);
+    }
 }
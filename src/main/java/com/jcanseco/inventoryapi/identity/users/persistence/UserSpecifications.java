@@ -2,10 +2,24 @@ package com.jcanseco.inventoryapi.identity.users.persistence;
 
 import com.jcanseco.inventoryapi.identity.roles.domain.Role;
 import com.jcanseco.inventoryapi.identity.users.domain.User;
+import jakarta.persistence.criteria.JoinType;
 import org.springframework.data.jpa.domain.Specification;
 
 public class UserSpecifications {
 
+    // Loads the role in the same query, so streamed users never trigger a second select while the result is open.
+    public static Specification<User> fetchRole() {
+        return (root, query, builder) -> {
+            var isCountQuery = Long.class == query.getResultType();
+            var alreadyFetched = root.getFetches().stream()
+                    .anyMatch(fetch -> fetch.getAttribute().getName().equals("role"));
+            if (!isCountQuery && !alreadyFetched) {
+                root.fetch("role", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
     public static Specification<User> excludeCurrentUser(Long currentUserId) {
         return (root, query, builder) -> builder.notEqual(root.get("id"), currentUserId);
     }
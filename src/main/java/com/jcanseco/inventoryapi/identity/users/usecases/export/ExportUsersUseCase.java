@@ -0,0 +1,36 @@
+package com.jcanseco.inventoryapi.identity.users.usecases.export;
+
+import com.jcanseco.inventoryapi.identity.users.dto.GetUsersRequest;
+import com.jcanseco.inventoryapi.identity.users.dto.UserDto;
+import com.jcanseco.inventoryapi.identity.users.usecases.getall.GetUsersUseCase;
+import com.jcanseco.inventoryapi.shared.export.ExportColumn;
+import com.jcanseco.inventoryapi.shared.export.ExportTable;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ExportUsersUseCase {
+
+    private static final List<ExportColumn<UserDto>> COLUMNS = List.of(
+            new ExportColumn<>("Id", UserDto::getId),
+            new ExportColumn<>("Full Name", UserDto::getFullName),
+            new ExportColumn<>("Email", UserDto::getEmail),
+            new ExportColumn<>("Role", UserDto::getRole),
+            new ExportColumn<>("Created At", UserDto::getCreatedAt),
+            new ExportColumn<>("Updated At", UserDto::getUpdatedAt)
+    );
+
+    private final GetUsersUseCase getUsersUseCase;
+
+    public ExportTable<UserDto> execute(GetUsersRequest request) {
+        return new ExportTable<>("users", COLUMNS, getUsersUseCase.stream(request));
+    }
+}
+
+
+
+
+
+
@@ -7,6 +7,8 @@ import com.jcanseco.inventoryapi.identity.users.domain.User;
 import com.jcanseco.inventoryapi.identity.users.mapping.UserMapper;
 import com.jcanseco.inventoryapi.identity.users.persistence.UserRepository;
 import com.jcanseco.inventoryapi.shared.pagination.PagedList;
+import com.jcanseco.inventoryapi.shared.streaming.EntityStreamer;
+import com.jcanseco.inventoryapi.shared.streaming.RowSource;
 import com.jcanseco.inventoryapi.shared.utils.IndexUtility;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ import org.springframework.util.StringUtils;
 import static com.jcanseco.inventoryapi.identity.users.persistence.UserSpecifications.byEmailLike;
 import static com.jcanseco.inventoryapi.identity.users.persistence.UserSpecifications.byFullNameLike;
 import static com.jcanseco.inventoryapi.identity.users.persistence.UserSpecifications.excludeCurrentUser;
+import static com.jcanseco.inventoryapi.identity.users.persistence.UserSpecifications.fetchRole;
 import static com.jcanseco.inventoryapi.identity.users.persistence.UserSpecifications.orderByCreatedAtAsc;
 import static com.jcanseco.inventoryapi.identity.users.persistence.UserSpecifications.orderByCreatedAtDesc;
 import static com.jcanseco.inventoryapi.identity.users.persistence.UserSpecifications.orderByEmailAsc;
@@ -37,6 +40,7 @@ public class GetUsersUseCase {
     private final UserMapper mapper;
     private final IndexUtility indexUtility;
     private final AuthenticatedUserService authenticatedUserService;
+    private final EntityStreamer entityStreamer;
 
     @Transactional(readOnly = true)
     public List<UserDto> execute(GetUsersRequest request) {
@@ -57,6 +61,12 @@ public class GetUsersUseCase {
         return mapper.pageToPagedList(page);
     }
 
+    // The specification is built right away, rows are only read and mapped one at a time once the source is written.
+    public RowSource<UserDto> stream(GetUsersRequest request) {
+        var specification = composeSpecification(request).and(fetchRole());
+        return writer -> entityStreamer.stream(User.class, specification, user -> writer.write(mapper.entityToDto(user)));
+    }
+
     private Specification<User> composeSpecification(GetUsersRequest request) {
         Long currentUserId = authenticatedUserService.getCurrentUser().getId();
         Specification<User> spec = Specification.where(null);
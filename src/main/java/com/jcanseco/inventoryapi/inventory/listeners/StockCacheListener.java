@@ -0,0 +1,34 @@
+package com.jcanseco.inventoryapi.inventory.listeners;
+
+import com.jcanseco.inventoryapi.catalog.products.events.ProductCreatedEvent;
+import com.jcanseco.inventoryapi.catalog.products.events.ProductDeletedEvent;
+import com.jcanseco.inventoryapi.inventory.stock.cache.StockCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class StockCacheListener {
+    private final StockCache stockCache;
+
+    /**
+     * Adds and removes the stock rows of created and deleted products once they are committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(ProductCreatedEvent event) {
+        stockCache.onProductCreated(event.productId(), event.quantity());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(ProductDeletedEvent event) {
+        stockCache.onProductDeleted(event.productId());
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,61 @@
+package com.jcanseco.inventoryapi.inventory.stock.api;
+
+import com.jcanseco.inventoryapi.inventory.stock.dto.*;
+import com.jcanseco.inventoryapi.inventory.stock.usecases.adjust.AdjustStockUseCase;
+import com.jcanseco.inventoryapi.inventory.stock.usecases.asof.GetStockAsOfUseCase;
+import com.jcanseco.inventoryapi.inventory.stock.usecases.availability.GetStockAvailabilityUseCase;
+import com.jcanseco.inventoryapi.inventory.stock.usecases.consistency.CheckStockCacheConsistencyUseCase;
+import com.jcanseco.inventoryapi.inventory.stock.usecases.movements.GetStockMovementsUseCase;
+import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@Validated
+@RestControllerAdvice
+@RequestMapping("api/stock")
+@RestController
+@RequiredArgsConstructor
+public class StockController {
+
+    private final GetStockAvailabilityUseCase getStockAvailabilityUseCase;
+    private final AdjustStockUseCase adjustStockUseCase;
+    private final GetStockAsOfUseCase getStockAsOfUseCase;
+    private final GetStockMovementsUseCase getStockMovementsUseCase;
+    private final CheckStockCacheConsistencyUseCase checkStockCacheConsistencyUseCase;
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.View))")
+    @GetMapping("availability")
+    public ResponseEntity<List<StockAvailabilityDto>> getAvailability(@Valid GetStockAvailabilityRequest request) {
+        return ResponseEntity.ok(getStockAvailabilityUseCase.execute(request));
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.Update))")
+    @PostMapping("adjustments")
+    public ResponseEntity<Void> adjust(@RequestBody @Valid AdjustStockDto dto) {
+        adjustStockUseCase.execute(dto);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.View))")
+    @GetMapping("{productId}/as-of")
+    public ResponseEntity<StockAsOfDto> getAsOf(@PathVariable Long productId, @RequestParam LocalDateTime date) {
+        return ResponseEntity.ok(getStockAsOfUseCase.execute(productId, date));
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.View))")
+    @GetMapping("{productId}/movements")
+    public ResponseEntity<List<StockMovementDto>> getMovements(@PathVariable Long productId, @Valid GetStockMovementsRequest request) {
+        return ResponseEntity.ok(getStockMovementsUseCase.execute(productId, request));
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Products, @Action.View))")
+    @GetMapping("cache/consistency")
+    public ResponseEntity<StockCacheConsistencyDto> checkCacheConsistency() {
+        return ResponseEntity.ok(checkStockCacheConsistencyUseCase.execute());
+    }
+}
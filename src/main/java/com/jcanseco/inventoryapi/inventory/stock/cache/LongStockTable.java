@@ -0,0 +1,196 @@
+package com.jcanseco.inventoryapi.inventory.stock.cache;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table from a product id to its on-hand and reserved quantities, stored in
+ * parallel {@code long[]} arrays so lookups never box. Product ids are always positive, so {@code 0}
+ * marks a free slot. Not thread-safe; {@link StockCache} guards every access.
+ */
+public class LongStockTable {
+
+    private static final long FREE = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] quantities;
+    private long[] reserved;
+    private int size;
+    private int mask;
+
+    public LongStockTable(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(long productId) {
+        return indexOf(productId) >= 0;
+    }
+
+    /**
+     * Returns the on-hand quantity of the product or {@code -1} when the product is unknown.
+     */
+    public long getQuantity(long productId) {
+        var index = indexOf(productId);
+        return index < 0 ? -1 : quantities[index];
+    }
+
+    /**
+     * Returns the reserved quantity of the product or {@code -1} when the product is unknown.
+     */
+    public long getReserved(long productId) {
+        var index = indexOf(productId);
+        return index < 0 ? -1 : reserved[index];
+    }
+
+    public void put(long productId, long quantity, long reservedQuantity) {
+        checkKey(productId);
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        var index = slotOf(productId);
+        if (keys[index] == FREE) {
+            keys[index] = productId;
+            size++;
+        }
+        quantities[index] = quantity;
+        reserved[index] = reservedQuantity;
+    }
+
+    /**
+     * Adds the deltas to a known product. Reserved quantities never drop below zero, mirroring the SQL updates.
+     * Returns {@code false} when the product is unknown.
+     */
+    public boolean add(long productId, long quantityDelta, long reservedDelta) {
+        var index = indexOf(productId);
+        if (index < 0) {
+            return false;
+        }
+        quantities[index] += quantityDelta;
+        reserved[index] = Math.max(reserved[index] + reservedDelta, 0);
+        return true;
+    }
+
+    public boolean remove(long productId) {
+        var index = indexOf(productId);
+        if (index < 0) {
+            return false;
+        }
+        // Backward-shift deletion keeps every probe chain intact without tombstones.
+        var free = index;
+        var next = (free + 1) & mask;
+        while (keys[next] != FREE) {
+            var home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                quantities[free] = quantities[next];
+                reserved[free] = reserved[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[free] = FREE;
+        quantities[free] = 0;
+        reserved[free] = 0;
+        size--;
+        return true;
+    }
+
+    public int countWithQuantityAtMost(long threshold) {
+        var count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE && quantities[i] <= threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int countWithQuantityEqualTo(long quantity) {
+        var count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE && quantities[i] == quantity) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the product ids stored in the table, in no particular order.
+     */
+    public long[] productIds() {
+        var ids = new long[size];
+        var next = 0;
+        for (long key : keys) {
+            if (key != FREE) {
+                ids[next++] = key;
+            }
+        }
+        return ids;
+    }
+
+    private int indexOf(long productId) {
+        if (productId == FREE) {
+            return -1;
+        }
+        var index = slotOf(productId);
+        return keys[index] == productId ? index : -1;
+    }
+
+    private int slotOf(long productId) {
+        var index = hash(productId) & mask;
+        while (keys[index] != FREE && keys[index] != productId) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(int newCapacity) {
+        var oldKeys = keys;
+        var oldQuantities = quantities;
+        var oldReserved = reserved;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                var index = slotOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                quantities[index] = oldQuantities[i];
+                reserved[index] = oldReserved[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        quantities = new long[capacity];
+        reserved = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+        Arrays.fill(keys, FREE);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        var capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(long key) {
+        // Mixes the bits so sequential ids do not form long probe chains.
+        var h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static void checkKey(long productId) {
+        if (productId <= FREE) {
+            throw new IllegalArgumentException("Product ids must be positive: " + productId);
+        }
+    }
+}
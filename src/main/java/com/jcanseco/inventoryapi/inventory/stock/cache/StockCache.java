@@ -0,0 +1,134 @@
+package com.jcanseco.inventoryapi.inventory.stock.cache;
+
+import com.jcanseco.inventoryapi.shared.utils.AfterCommit;
+import com.jcanseco.inventoryapi.shared.utils.LockedState;
+import java.util.Arrays;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-local copy of {@code products_stock} keyed by primitive product id.
+ * <p>
+ * The stock mutations report their deltas here and they are applied once the surrounding transaction
+ * commits, so rolled back changes never reach the cache; those committing while {@link #reload()} reads
+ * the table are replayed on the fresh copy. Until the first reload the cache is not loaded, changes are
+ * ignored and readers are expected to fall back to the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockCache {
+
+    private static final String SELECT_STOCK_SQL = "SELECT product_id, quantity, reserved FROM products_stock";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LockedState<LongStockTable> table = new LockedState<>();
+
+    public boolean isLoaded() {
+        return table.isLoaded();
+    }
+
+    /**
+     * Replaces the cached table with a fresh copy of {@code products_stock}.
+     */
+    public void reload() {
+        var newTable = table.load(() -> {
+            var count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products_stock", Long.class);
+            var loaded = new LongStockTable(count == null ? 0 : count.intValue());
+            jdbcTemplate.query(SELECT_STOCK_SQL, rs -> {
+                loaded.put(rs.getLong(1), rs.getLong(2), rs.getLong(3));
+            });
+            return loaded;
+        });
+        log.info("Stock cache loaded with {} products.", newTable.size());
+    }
+
+    /**
+     * Returns the on-hand quantity or {@code -1} when the product is unknown or the cache is not loaded.
+     */
+    public long getQuantity(long productId) {
+        return table.readLong(current -> current.getQuantity(productId), -1);
+    }
+
+    /**
+     * Returns the reserved quantity or {@code -1} when the product is unknown or the cache is not loaded.
+     */
+    public long getReserved(long productId) {
+        return table.readLong(current -> current.getReserved(productId), -1);
+    }
+
+    /**
+     * Copies the on-hand quantity of each product into {@code quantities} and the reserved quantity into
+     * {@code reservedQuantities}, writing {@code -1} for unknown products.
+     */
+    public void getQuantities(long[] productIds, long[] quantities, long[] reservedQuantities) {
+        var loaded = table.read(current -> {
+            for (int i = 0; i < productIds.length; i++) {
+                quantities[i] = current.getQuantity(productIds[i]);
+                reservedQuantities[i] = current.getReserved(productIds[i]);
+            }
+            return true;
+        });
+        if (loaded == null) {
+            Arrays.fill(quantities, 0, productIds.length, -1);
+            Arrays.fill(reservedQuantities, 0, productIds.length, -1);
+        }
+    }
+
+    public long countWithQuantityAtMost(long threshold) {
+        return table.readLong(current -> current.countWithQuantityAtMost(threshold), -1);
+    }
+
+    public long countOutOfStock() {
+        return table.readLong(current -> current.countWithQuantityEqualTo(0), -1);
+    }
+
+    /**
+     * Returns every cached product id, or an empty array when the cache is not loaded.
+     */
+    public long[] productIds() {
+        var productIds = table.read(LongStockTable::productIds);
+        return productIds == null ? new long[0] : productIds;
+    }
+
+    public void onStockAdded(Map<Long, Long> productsWithQuantities) {
+        table.updateAfterCommit(current -> productsWithQuantities.forEach((productId, quantity) -> current.add(productId, quantity, 0)));
+    }
+
+    public void onStockRemoved(Map<Long, Long> productsWithQuantities) {
+        table.updateAfterCommit(current -> productsWithQuantities.forEach((productId, quantity) -> current.add(productId, -quantity, 0)));
+    }
+
+    public void onStockReserved(Map<Long, Long> productsWithQuantities) {
+        table.updateAfterCommit(current -> productsWithQuantities.forEach((productId, quantity) -> current.add(productId, 0, quantity)));
+    }
+
+    public void onStockReleased(Map<Long, Long> productsWithQuantities) {
+        table.updateAfterCommit(current -> productsWithQuantities.forEach((productId, quantity) -> current.add(productId, 0, -quantity)));
+    }
+
+    public void onReservedStockConsumed(Map<Long, Long> productsWithQuantities) {
+        table.updateAfterCommit(current -> productsWithQuantities.forEach((productId, quantity) -> current.add(productId, -quantity, -quantity)));
+    }
+
+    public void onProductCreated(long productId, long quantity) {
+        table.updateAfterCommit(current -> current.put(productId, quantity, 0));
+    }
+
+    public void onProductDeleted(long productId) {
+        table.updateAfterCommit(current -> current.remove(productId));
+    }
+
+    /**
+     * Reloads the whole table after commit, for bulk changes that cannot be expressed as deltas.
+     */
+    public void onStockRecalculated() {
+        if (!table.isTracking()) {
+            return;
+        }
+        AfterCommit.run(this::reload);
+    }
+}
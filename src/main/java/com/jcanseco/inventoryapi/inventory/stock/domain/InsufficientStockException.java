@@ -0,0 +1,20 @@
+package com.jcanseco.inventoryapi.inventory.stock.domain;
+
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class InsufficientStockException extends DomainException {
+
+    private final List<Long> productIds;
+
+    public InsufficientStockException(List<Long> productIds) {
+        super(messageOf(productIds));
+        this.productIds = List.copyOf(productIds);
+    }
+
+    public static String messageOf(List<Long> productIds) {
+        return String.format("Invalid stock operation: Not enough stock available for the following ProductIds: %s.", productIds);
+    }
+}
@@ -31,6 +31,10 @@ public class Stock {
     @Column(nullable = false)
     private Long quantity;
 
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long reserved = 0L;
+
     @UpdateTimestamp
     @Column(updatable = false)
     private LocalDateTime updatedAt;
@@ -41,6 +45,10 @@ public class Stock {
     @JsonIgnore
     private Product product;
 
+    public Long getAvailableQuantity() {
+        return getQuantity() - getReserved();
+    }
+
     public void addStock(Long addQuantity) {
         var newQuantity = getQuantity() + addQuantity;
         setQuantity(newQuantity);
@@ -0,0 +1,44 @@
+package com.jcanseco.inventoryapi.inventory.stock.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * Append-only record of a change to the on-hand quantity of a product. Rows are never updated;
+ * the quantity is signed (positive adds stock, negative removes it).
+ */
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@Entity
+@Table(name = "stock_movements", indexes = {
+        @Index(name = "ix_stock_movements_product_id", columnList = "product_id, id"),
+        @Index(name = "ix_stock_movements_occurred_at", columnList = "occurred_at")
+})
+public class StockMovement {
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    @Column(nullable = false, updatable = false)
+    private Long quantity;
+
+    @Column(nullable = false, updatable = false, length = 30)
+    private String type;
+
+    @Column(name = "reference_id", updatable = false)
+    private Long referenceId;
+
+    @Column(length = 300, updatable = false)
+    private String comments;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+}
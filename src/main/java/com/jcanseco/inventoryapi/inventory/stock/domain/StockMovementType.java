@@ -0,0 +1,11 @@
+package com.jcanseco.inventoryapi.inventory.stock.domain;
+
+public final class StockMovementType {
+    public static final String OpeningBalance = "OpeningBalance";
+    public static final String PurchaseReceived = "PurchaseReceived";
+    public static final String OrderDelivered = "OrderDelivered";
+    public static final String Adjustment = "Adjustment";
+
+    private StockMovementType() {
+    }
+}
@@ -0,0 +1,37 @@
+package com.jcanseco.inventoryapi.inventory.stock.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * On-hand quantity of a product after applying every movement up to {@code lastMovementId}.
+ * As-of queries start from the latest snapshot and only replay the movements recorded after it.
+ */
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@Entity
+@Table(name = "stock_snapshots", indexes = {
+        @Index(name = "ix_stock_snapshots_product_id", columnList = "product_id, taken_at")
+})
+public class StockSnapshot {
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    @Column(nullable = false, updatable = false)
+    private Long quantity;
+
+    @Column(name = "last_movement_id", nullable = false, updatable = false)
+    private Long lastMovementId;
+
+    @Column(name = "taken_at", nullable = false, updatable = false)
+    private LocalDateTime takenAt;
+}
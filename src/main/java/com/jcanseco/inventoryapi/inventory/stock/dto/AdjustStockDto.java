@@ -0,0 +1,32 @@
+package com.jcanseco.inventoryapi.inventory.stock.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@EqualsAndHashCode
+@Builder
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdjustStockDto {
+
+    @NotNull
+    @Min(1)
+    private Long productId;
+
+    /**
+     * Signed quantity: positive values add stock and negative values remove it.
+     */
+    @NotNull
+    private Long quantity;
+
+    @NotEmpty
+    @NotBlank
+    @Size(max = 300)
+    private String comment;
+}
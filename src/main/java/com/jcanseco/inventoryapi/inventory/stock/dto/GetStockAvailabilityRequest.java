@@ -0,0 +1,18 @@
+package com.jcanseco.inventoryapi.inventory.stock.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.*;
+
+@Builder
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetStockAvailabilityRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<Long> productIds;
+}
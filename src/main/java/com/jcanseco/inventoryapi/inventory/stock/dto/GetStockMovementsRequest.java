@@ -0,0 +1,19 @@
+package com.jcanseco.inventoryapi.inventory.stock.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.*;
+
+@Builder
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetStockMovementsRequest {
+
+    @NotNull
+    private LocalDateTime from;
+
+    @NotNull
+    private LocalDateTime to;
+}
@@ -0,0 +1,7 @@
+package com.jcanseco.inventoryapi.inventory.stock.dto;
+
+public record ProductQuantityDto(
+        Long productId,
+        Long quantity
+) {
+}
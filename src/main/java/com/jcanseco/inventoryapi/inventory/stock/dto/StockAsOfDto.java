@@ -0,0 +1,10 @@
+package com.jcanseco.inventoryapi.inventory.stock.dto;
+
+import java.time.LocalDateTime;
+
+public record StockAsOfDto(
+        Long productId,
+        LocalDateTime asOf,
+        Long quantity
+) {
+}
@@ -0,0 +1,9 @@
+package com.jcanseco.inventoryapi.inventory.stock.dto;
+
+public record StockAvailabilityDto(
+        Long productId,
+        Long onHandQuantity,
+        Long reservedQuantity,
+        Long availableQuantity
+) {
+}
@@ -0,0 +1,10 @@
+package com.jcanseco.inventoryapi.inventory.stock.dto;
+
+import java.util.List;
+
+public record StockCacheConsistencyDto(
+        boolean loaded,
+        int checkedProducts,
+        List<StockCacheMismatchDto> mismatches
+) {
+}
@@ -0,0 +1,10 @@
+package com.jcanseco.inventoryapi.inventory.stock.dto;
+
+public record StockCacheMismatchDto(
+        Long productId,
+        Long cachedQuantity,
+        Long cachedReservedQuantity,
+        Long actualQuantity,
+        Long actualReservedQuantity
+) {
+}
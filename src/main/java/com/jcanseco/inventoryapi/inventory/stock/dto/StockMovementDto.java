@@ -0,0 +1,14 @@
+package com.jcanseco.inventoryapi.inventory.stock.dto;
+
+import java.time.LocalDateTime;
+
+public record StockMovementDto(
+        Long id,
+        Long productId,
+        Long quantity,
+        String type,
+        Long referenceId,
+        String comments,
+        LocalDateTime occurredAt
+) {
+}
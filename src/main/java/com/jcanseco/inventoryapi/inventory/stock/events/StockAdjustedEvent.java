@@ -0,0 +1,3 @@
+package com.jcanseco.inventoryapi.inventory.stock.events;
+
+public record StockAdjustedEvent(long productId, long quantity) {}
@@ -0,0 +1,5 @@
+package com.jcanseco.inventoryapi.inventory.stock.events;
+
+import java.util.Map;
+
+public record StockQuantitiesChangedEvent(Map<Long, Long> quantityChanges) {}
@@ -0,0 +1,49 @@
+package com.jcanseco.inventoryapi.inventory.stock.persistence;
+
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockMovement;
+import com.jcanseco.inventoryapi.inventory.stock.dto.StockMovementDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockMovementRepository extends JpaRepository<StockMovement, Long>, StockMovementRepositoryCustom {
+
+    @Query("""
+     SELECT COALESCE(SUM(m.quantity), 0)
+     FROM StockMovement m
+     WHERE m.productId = :productId
+     AND m.id > :afterMovementId
+     AND m.occurredAt <= :asOf
+     """)
+    Long sumQuantitiesAfter(
+            @Param("productId") Long productId,
+            @Param("afterMovementId") Long afterMovementId,
+            @Param("asOf") LocalDateTime asOf
+    );
+
+    @Query("""
+     SELECT new com.jcanseco.inventoryapi.inventory.stock.dto.StockMovementDto(
+        m.id,
+        m.productId,
+        m.quantity,
+        m.type,
+        m.referenceId,
+        m.comments,
+        m.occurredAt
+     )
+     FROM StockMovement m
+     WHERE m.productId = :productId
+     AND m.occurredAt >= :from
+     AND m.occurredAt <= :to
+     ORDER BY m.id
+     """)
+    List<StockMovementDto> findByProductIdBetween(
+            @Param("productId") Long productId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
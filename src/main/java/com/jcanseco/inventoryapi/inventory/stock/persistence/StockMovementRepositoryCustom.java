@@ -0,0 +1,37 @@
+package com.jcanseco.inventoryapi.inventory.stock.persistence;
+
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockMovement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockMovementRepositoryCustom {
+
+    /**
+     * Appends the given movements to the ledger in a single JDBC batch.
+     */
+    void insertAll(List<StockMovement> movements);
+
+    /**
+     * Appends one negative movement per item of the given orders with a single {@code INSERT ... SELECT}.
+     */
+    int recordOrderDeliveries(Collection<Long> orderIds, String comments, LocalDateTime occurredAt);
+
+    /**
+     * Appends one positive movement per item of the given purchases with a single {@code INSERT ... SELECT}.
+     */
+    int recordPurchaseReceipts(Collection<Long> purchaseIds, String comments, LocalDateTime occurredAt);
+
+    /**
+     * Records the current quantity as an opening balance for every product with stock and no movements yet,
+     * so the ledger also accounts for the stock that existed before it.
+     */
+    int recordOpeningBalances(LocalDateTime occurredAt);
+
+    /**
+     * Writes a new snapshot for every product with movements after its latest snapshot. The watermark is
+     * the newest movement id recorded up to {@code settledBefore}, captured once, and every movement up to
+     * that id is folded in.
+     */
+    int takeSnapshots(LocalDateTime settledBefore);
+}
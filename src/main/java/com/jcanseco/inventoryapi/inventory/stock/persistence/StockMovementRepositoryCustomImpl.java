@@ -0,0 +1,122 @@
+package com.jcanseco.inventoryapi.inventory.stock.persistence;
+
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockMovement;
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockMovementType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@RequiredArgsConstructor
+public class StockMovementRepositoryCustomImpl implements StockMovementRepositoryCustom {
+
+    private static final String INSERT_MOVEMENT_SQL = """
+            INSERT INTO stock_movements (product_id, quantity, type, reference_id, comments, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String RECORD_ORDER_DELIVERIES_SQL = """
+            INSERT INTO stock_movements (product_id, quantity, type, reference_id, comments, occurred_at)
+            SELECT oi.product_id, -oi.quantity, :type, oi.order_id, :comments, :occurredAt
+            FROM order_items oi
+            WHERE oi.order_id IN (:ids)
+            ORDER BY oi.order_id, oi.product_id
+            """;
+
+    private static final String RECORD_PURCHASE_RECEIPTS_SQL = """
+            INSERT INTO stock_movements (product_id, quantity, type, reference_id, comments, occurred_at)
+            SELECT pi.product_id, pi.quantity, :type, pi.purchase_id, :comments, :occurredAt
+            FROM purchase_items pi
+            WHERE pi.purchase_id IN (:ids)
+            ORDER BY pi.purchase_id, pi.product_id
+            """;
+
+    private static final String RECORD_OPENING_BALANCES_SQL = """
+            INSERT INTO stock_movements (product_id, quantity, type, reference_id, comments, occurred_at)
+            SELECT s.product_id, s.quantity, ?, NULL, NULL, ?
+            FROM products_stock s
+            WHERE s.quantity <> 0
+            AND NOT EXISTS (SELECT 1 FROM stock_movements m WHERE m.product_id = s.product_id)
+            """;
+
+    private static final String SETTLED_MOVEMENT_ID_SQL = """
+            SELECT COALESCE(MAX(m.id), 0)
+            FROM stock_movements m
+            WHERE m.occurred_at <= ?
+            """;
+
+    // Folds movements by id only; taken_at is the latest occurred_at folded in, so an as-of read never
+    // picks a snapshot that already contains a movement from after its point in time.
+    private static final String TAKE_SNAPSHOTS_SQL = """
+            INSERT INTO stock_snapshots (product_id, quantity, last_movement_id, taken_at)
+            SELECT m.product_id, COALESCE(ls.quantity, 0) + SUM(m.quantity), MAX(m.id),
+                   GREATEST(MAX(m.occurred_at), COALESCE(ls.taken_at, MAX(m.occurred_at)))
+            FROM stock_movements m
+            LEFT JOIN stock_snapshots ls ON ls.id = (
+                SELECT MAX(x.id) FROM stock_snapshots x WHERE x.product_id = m.product_id
+            )
+            WHERE m.id > COALESCE(ls.last_movement_id, 0)
+            AND m.id <= ?
+            GROUP BY m.product_id, ls.quantity, ls.taken_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public void insertAll(List<StockMovement> movements) {
+        if (movements == null || movements.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_MOVEMENT_SQL, movements.stream()
+                .map(movement -> new Object[]{
+                        movement.getProductId(),
+                        movement.getQuantity(),
+                        movement.getType(),
+                        movement.getReferenceId(),
+                        movement.getComments(),
+                        Timestamp.valueOf(movement.getOccurredAt())
+                })
+                .toList());
+    }
+
+    @Override
+    public int recordOrderDeliveries(Collection<Long> orderIds, String comments, LocalDateTime occurredAt) {
+        return recordItemMovements(RECORD_ORDER_DELIVERIES_SQL, StockMovementType.OrderDelivered, orderIds, comments, occurredAt);
+    }
+
+    @Override
+    public int recordPurchaseReceipts(Collection<Long> purchaseIds, String comments, LocalDateTime occurredAt) {
+        return recordItemMovements(RECORD_PURCHASE_RECEIPTS_SQL, StockMovementType.PurchaseReceived, purchaseIds, comments, occurredAt);
+    }
+
+    @Override
+    public int recordOpeningBalances(LocalDateTime occurredAt) {
+        return jdbcTemplate.update(RECORD_OPENING_BALANCES_SQL, StockMovementType.OpeningBalance, Timestamp.valueOf(occurredAt));
+    }
+
+    @Override
+    public int takeSnapshots(LocalDateTime settledBefore) {
+        var maxMovementId = jdbcTemplate.queryForObject(SETTLED_MOVEMENT_ID_SQL, Long.class, Timestamp.valueOf(settledBefore));
+        if (maxMovementId == null || maxMovementId == 0) {
+            return 0;
+        }
+        return jdbcTemplate.update(TAKE_SNAPSHOTS_SQL, maxMovementId);
+    }
+
+    private int recordItemMovements(String sql, String type, Collection<Long> ids, String comments, LocalDateTime occurredAt) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        var parameters = new MapSqlParameterSource()
+                .addValue("type", type)
+                .addValue("ids", ids)
+                .addValue("comments", comments)
+                .addValue("occurredAt", Timestamp.valueOf(occurredAt));
+        return namedParameterJdbcTemplate.update(sql, parameters);
+    }
+}
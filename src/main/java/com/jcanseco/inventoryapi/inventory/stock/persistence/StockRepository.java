@@ -1,6 +1,7 @@
 package com.jcanseco.inventoryapi.inventory.stock.persistence;
 
 import com.jcanseco.inventoryapi.inventory.stock.domain.Stock;
+import com.jcanseco.inventoryapi.inventory.stock.dto.StockAvailabilityDto;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,10 +11,35 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface StockRepository extends JpaRepository<Stock, Long>, JpaSpecificationExecutor<Stock> {
+public interface StockRepository extends JpaRepository<Stock, Long>, JpaSpecificationExecutor<Stock>, StockRepositoryCustom {
     @Query("SELECT s from Stock s WHERE s.productId in :ids")
     List<Stock> getStockByProducts(@Param("ids") List<Long> ids);
     Optional<Stock> findByProductId(Long productId);
+
+    @Query("""
+    SELECT new com.jcanseco.inventoryapi.inventory.stock.dto.StockAvailabilityDto(
+        s.productId,
+        s.quantity,
+        s.reserved,
+        s.quantity - s.reserved
+    )
+    FROM Stock s
+    WHERE s.productId IN :ids
+    ORDER BY s.productId
+    """)
+    List<StockAvailabilityDto> getAvailabilityByProducts(@Param("ids") List<Long> ids);
+
+    @Query("""
+    SELECT new com.jcanseco.inventoryapi.inventory.stock.dto.StockAvailabilityDto(
+        s.productId,
+        s.quantity,
+        s.reserved,
+        s.quantity - s.reserved
+    )
+    FROM Stock s
+    ORDER BY s.productId
+    """)
+    List<StockAvailabilityDto> getAvailability();
 }
 
 
@@ -0,0 +1,48 @@
+package com.jcanseco.inventoryapi.inventory.stock.persistence;
+
+import java.util.List;
+import java.util.Map;
+
+public interface StockRepositoryCustom {
+
+    /**
+     * Adds the given quantities to the stock of each product in a single JDBC batch.
+     */
+    void addStock(Map<Long, Long> productsWithQuantities);
+
+    /**
+     * Subtracts the given quantities from the stock of each product using conditional updates
+     * ({@code quantity = quantity - ? WHERE quantity >= ?}) sent as a single JDBC batch.
+     * Throws {@link com.jcanseco.inventoryapi.inventory.stock.domain.InsufficientStockException}
+     * with every product that ran short, so the surrounding transaction is rolled back.
+     */
+    void removeStock(Map<Long, Long> productsWithQuantities);
+
+    /**
+     * Places a hold on the given quantities as long as they fit in the available (on-hand minus reserved) stock.
+     * Throws {@link com.jcanseco.inventoryapi.inventory.stock.domain.InsufficientStockException} with every product
+     * that cannot be reserved.
+     */
+    void reserveStock(Map<Long, Long> productsWithQuantities);
+
+    /**
+     * Same as {@link #reserveStock(Map)} but reports the products that could not be reserved instead of throwing.
+     * Holds on the remaining products are kept, so callers that need all-or-nothing semantics must release them.
+     */
+    List<Long> reserveAvailableStock(Map<Long, Long> productsWithQuantities);
+
+    /**
+     * Releases holds previously placed with {@link #reserveStock(Map)}.
+     */
+    void releaseStock(Map<Long, Long> productsWithQuantities);
+
+    /**
+     * Removes the given quantities from the on-hand stock and releases their holds in the same statement.
+     */
+    void consumeReservedStock(Map<Long, Long> productsWithQuantities);
+
+    /**
+     * Recomputes every reserved quantity from the items of the orders that have not been delivered yet.
+     */
+    int recalculateReservations();
+}
@@ -0,0 +1,186 @@
+package com.jcanseco.inventoryapi.inventory.stock.persistence;
+
+import com.jcanseco.inventoryapi.inventory.stock.cache.StockCache;
+import com.jcanseco.inventoryapi.inventory.stock.domain.InsufficientStockException;
+import com.jcanseco.inventoryapi.inventory.stock.events.StockQuantitiesChangedEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class StockRepositoryCustomImpl implements StockRepositoryCustom {
+
+    private static final String ADD_STOCK_SQL = """
+            UPDATE products_stock
+            SET quantity = quantity + ?
+            WHERE product_id = ?
+            """;
+
+    private static final String REMOVE_STOCK_SQL = """
+            UPDATE products_stock
+            SET quantity = quantity - ?
+            WHERE product_id = ?
+            AND quantity >= ?
+            """;
+
+    private static final String RESERVE_STOCK_SQL = """
+            UPDATE products_stock
+            SET reserved = reserved + ?
+            WHERE product_id = ?
+            AND quantity - reserved >= ?
+            """;
+
+    private static final String RELEASE_STOCK_SQL = """
+            UPDATE products_stock
+            SET reserved = GREATEST(reserved - ?, 0)
+            WHERE product_id = ?
+            """;
+
+    private static final String CONSUME_RESERVED_STOCK_SQL = """
+            UPDATE products_stock
+            SET quantity = quantity - ?,
+                reserved = GREATEST(reserved - ?, 0)
+            WHERE product_id = ?
+            AND quantity >= ?
+            """;
+
+    private static final String RECALCULATE_RESERVATIONS_SQL = """
+            UPDATE products_stock s
+            SET s.reserved = COALESCE((
+                SELECT SUM(oi.quantity)
+                FROM order_items oi
+                INNER JOIN orders o ON o.id = oi.order_id
+                WHERE o.delivered = false
+                AND oi.product_id = s.product_id
+            ), 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    // Optional so repository slices (e.g. @DataJpaTest) start without the cache.
+    private final ObjectProvider<StockCache> stockCache;
+
+    @Override
+    public void addStock(Map<Long, Long> productsWithQuantities) {
+        var rows = sortedByProductId(productsWithQuantities);
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_STOCK_SQL, rows.stream()
+                .map(row -> new Object[]{row.getValue(), row.getKey()})
+                .toList());
+        stockCache.ifAvailable(cache -> cache.onStockAdded(productsWithQuantities));
+        eventPublisher.publishEvent(new StockQuantitiesChangedEvent(Map.copyOf(productsWithQuantities)));
+    }
+
+    @Override
+    public void removeStock(Map<Long, Long> productsWithQuantities) {
+        var rows = sortedByProductId(productsWithQuantities);
+        if (rows.isEmpty()) {
+            return;
+        }
+        var updateCounts = jdbcTemplate.batchUpdate(REMOVE_STOCK_SQL, rows.stream()
+                .map(row -> new Object[]{row.getValue(), row.getKey(), row.getValue()})
+                .toList());
+        throwIfAnyProductRanShort(rows, updateCounts);
+        stockCache.ifAvailable(cache -> cache.onStockRemoved(productsWithQuantities));
+        eventPublisher.publishEvent(new StockQuantitiesChangedEvent(negated(productsWithQuantities)));
+    }
+
+    @Override
+    public void reserveStock(Map<Long, Long> productsWithQuantities) {
+        var shortProductIds = reserveAvailableStock(productsWithQuantities);
+        if (!shortProductIds.isEmpty()) {
+            throw new InsufficientStockException(shortProductIds);
+        }
+    }
+
+    @Override
+    public List<Long> reserveAvailableStock(Map<Long, Long> productsWithQuantities) {
+        var rows = sortedByProductId(productsWithQuantities);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        var updateCounts = jdbcTemplate.batchUpdate(RESERVE_STOCK_SQL, rows.stream()
+                .map(row -> new Object[]{row.getValue(), row.getKey(), row.getValue()})
+                .toList());
+        var reserved = new HashMap<Long, Long>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] != 0) {
+                reserved.put(rows.get(i).getKey(), rows.get(i).getValue());
+            }
+        }
+        stockCache.ifAvailable(cache -> cache.onStockReserved(reserved));
+        return shortProductIds(rows, updateCounts);
+    }
+
+    @Override
+    public void releaseStock(Map<Long, Long> productsWithQuantities) {
+        var rows = sortedByProductId(productsWithQuantities);
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(RELEASE_STOCK_SQL, rows.stream()
+                .map(row -> new Object[]{row.getValue(), row.getKey()})
+                .toList());
+        stockCache.ifAvailable(cache -> cache.onStockReleased(productsWithQuantities));
+    }
+
+    @Override
+    public void consumeReservedStock(Map<Long, Long> productsWithQuantities) {
+        var rows = sortedByProductId(productsWithQuantities);
+        if (rows.isEmpty()) {
+            return;
+        }
+        var updateCounts = jdbcTemplate.batchUpdate(CONSUME_RESERVED_STOCK_SQL, rows.stream()
+                .map(row -> new Object[]{row.getValue(), row.getValue(), row.getKey(), row.getValue()})
+                .toList());
+        throwIfAnyProductRanShort(rows, updateCounts);
+        stockCache.ifAvailable(cache -> cache.onReservedStockConsumed(productsWithQuantities));
+        eventPublisher.publishEvent(new StockQuantitiesChangedEvent(negated(productsWithQuantities)));
+    }
+
+    @Override
+    public int recalculateReservations() {
+        var updatedRows = jdbcTemplate.update(RECALCULATE_RESERVATIONS_SQL);
+        stockCache.ifAvailable(StockCache::onStockRecalculated);
+        return updatedRows;
+    }
+
+    private static Map<Long, Long> negated(Map<Long, Long> productsWithQuantities) {
+        var negated = new HashMap<Long, Long>(productsWithQuantities.size() * 2);
+        productsWithQuantities.forEach((productId, quantity) -> negated.put(productId, -quantity));
+        return negated;
+    }
+
+    private static void throwIfAnyProductRanShort(List<Map.Entry<Long, Long>> rows, int[] updateCounts) {
+        var shortProductIds = shortProductIds(rows, updateCounts);
+        if (!shortProductIds.isEmpty()) {
+            throw new InsufficientStockException(shortProductIds);
+        }
+    }
+
+    private static List<Long> shortProductIds(List<Map.Entry<Long, Long>> rows, int[] updateCounts) {
+        var shortProductIds = new ArrayList<Long>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                shortProductIds.add(rows.get(i).getKey());
+            }
+        }
+        return shortProductIds;
+    }
+
+    // Rows are always updated in product id order so concurrent batches acquire row locks in the same order.
+    private static List<Map.Entry<Long, Long>> sortedByProductId(Map<Long, Long> productsWithQuantities) {
+        if (productsWithQuantities == null) {
+            return List.of();
+        }
+        return new ArrayList<>(new TreeMap<>(productsWithQuantities).entrySet());
+    }
+}
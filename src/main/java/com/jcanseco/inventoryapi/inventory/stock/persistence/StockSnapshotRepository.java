@@ -0,0 +1,12 @@
+package com.jcanseco.inventoryapi.inventory.stock.persistence;
+
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockSnapshot;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, Long> {
+    Optional<StockSnapshot> findFirstByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(Long productId, LocalDateTime takenAt);
+}
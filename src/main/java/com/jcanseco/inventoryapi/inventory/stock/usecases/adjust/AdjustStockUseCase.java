@@ -0,0 +1,54 @@
+package com.jcanseco.inventoryapi.inventory.stock.usecases.adjust;
+
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockMovement;
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockMovementType;
+import com.jcanseco.inventoryapi.inventory.stock.dto.AdjustStockDto;
+import com.jcanseco.inventoryapi.inventory.stock.events.StockAdjustedEvent;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockMovementRepository;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class AdjustStockUseCase {
+
+    private final StockRepository stockRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final ClockProvider clockProvider;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void execute(AdjustStockDto dto) {
+        if (dto.getQuantity() == 0) {
+            throw new DomainException("The adjustment quantity cannot be zero.");
+        }
+
+        var stock = stockRepository.findByProductId(dto.getProductId())
+                .orElseThrow(() -> new NotFoundException(String.format("Stock for the Product with the Id : {%d} was not found.", dto.getProductId())));
+
+        if (dto.getQuantity() > 0) {
+            stockRepository.addStock(Map.of(stock.getProductId(), dto.getQuantity()));
+        } else {
+            stockRepository.removeStock(Map.of(stock.getProductId(), -dto.getQuantity()));
+        }
+
+        var movement = StockMovement.builder()
+                .productId(stock.getProductId())
+                .quantity(dto.getQuantity())
+                .type(StockMovementType.Adjustment)
+                .comments(dto.getComment())
+                .occurredAt(clockProvider.now())
+                .build();
+
+        stockMovementRepository.insertAll(List.of(movement));
+        eventPublisher.publishEvent(new StockAdjustedEvent(stock.getProductId(), dto.getQuantity()));
+    }
+}
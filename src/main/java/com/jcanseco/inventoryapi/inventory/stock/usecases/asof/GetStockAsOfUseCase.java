@@ -0,0 +1,40 @@
+package com.jcanseco.inventoryapi.inventory.stock.usecases.asof;
+
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockSnapshot;
+import com.jcanseco.inventoryapi.inventory.stock.dto.StockAsOfDto;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockMovementRepository;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockSnapshotRepository;
+import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class GetStockAsOfUseCase {
+
+    private final StockRepository stockRepository;
+    private final StockSnapshotRepository stockSnapshotRepository;
+    private final StockMovementRepository stockMovementRepository;
+
+    /**
+     * Reads the latest snapshot taken up to {@code asOf} and adds the movements recorded after it,
+     * so the cost is bounded by the movements of one snapshot interval instead of the whole history.
+     */
+    @Transactional(readOnly = true)
+    public StockAsOfDto execute(Long productId, LocalDateTime asOf) {
+        if (stockRepository.findByProductId(productId).isEmpty()) {
+            throw new NotFoundException(String.format("Stock for the Product with the Id : {%d} was not found.", productId));
+        }
+
+        var snapshot = stockSnapshotRepository.findFirstByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(productId, asOf);
+        var baseQuantity = snapshot.map(StockSnapshot::getQuantity).orElse(0L);
+        var lastMovementId = snapshot.map(StockSnapshot::getLastMovementId).orElse(0L);
+
+        var tailQuantity = stockMovementRepository.sumQuantitiesAfter(productId, lastMovementId, asOf);
+
+        return new StockAsOfDto(productId, asOf, baseQuantity + tailQuantity);
+    }
+}
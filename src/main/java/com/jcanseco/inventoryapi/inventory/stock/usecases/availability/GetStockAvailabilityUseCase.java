@@ -0,0 +1,42 @@
+package com.jcanseco.inventoryapi.inventory.stock.usecases.availability;
+
+import com.jcanseco.inventoryapi.inventory.stock.cache.StockCache;
+import com.jcanseco.inventoryapi.inventory.stock.dto.GetStockAvailabilityRequest;
+import com.jcanseco.inventoryapi.inventory.stock.dto.StockAvailabilityDto;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class GetStockAvailabilityUseCase {
+
+    private final StockRepository stockRepository;
+    private final StockCache stockCache;
+
+    @Transactional(readOnly = true)
+    public List<StockAvailabilityDto> execute(GetStockAvailabilityRequest request) {
+        var productIds = request.getProductIds().stream()
+                .mapToLong(Long::longValue)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        var quantities = new long[productIds.length];
+        var reserved = new long[productIds.length];
+        stockCache.getQuantities(productIds, quantities, reserved);
+
+        var availability = new ArrayList<StockAvailabilityDto>(productIds.length);
+        for (int i = 0; i < productIds.length; i++) {
+            if (quantities[i] < 0) {
+                // Not loaded or unknown to the cache, the table has the final word.
+                return stockRepository.getAvailabilityByProducts(request.getProductIds());
+            }
+            availability.add(new StockAvailabilityDto(productIds[i], quantities[i], reserved[i], quantities[i] - reserved[i]));
+        }
+        return availability;
+    }
+}
@@ -0,0 +1,64 @@
+package com.jcanseco.inventoryapi.inventory.stock.usecases.consistency;
+
+import com.jcanseco.inventoryapi.inventory.stock.cache.StockCache;
+import com.jcanseco.inventoryapi.inventory.stock.dto.StockCacheConsistencyDto;
+import com.jcanseco.inventoryapi.inventory.stock.dto.StockCacheMismatchDto;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CheckStockCacheConsistencyUseCase {
+
+    private final StockRepository stockRepository;
+    private final StockCache stockCache;
+
+    /**
+     * Compares every row of {@code products_stock} with the cache and reports the products that differ,
+     * including the ones only known to one side. Writes committed while the check runs may show up as mismatches.
+     */
+    @Transactional(readOnly = true)
+    public StockCacheConsistencyDto execute() {
+        if (!stockCache.isLoaded()) {
+            return new StockCacheConsistencyDto(false, 0, List.of());
+        }
+
+        var rows = stockRepository.getAvailability();
+        var mismatches = new ArrayList<StockCacheMismatchDto>();
+        var tableProductIds = new HashSet<Long>(rows.size());
+
+        for (var row : rows) {
+            tableProductIds.add(row.productId());
+            var cachedQuantity = stockCache.getQuantity(row.productId());
+            var cachedReserved = stockCache.getReserved(row.productId());
+            if (cachedQuantity != row.onHandQuantity() || cachedReserved != row.reservedQuantity()) {
+                mismatches.add(new StockCacheMismatchDto(
+                        row.productId(),
+                        cachedQuantity < 0 ? null : cachedQuantity,
+                        cachedReserved < 0 ? null : cachedReserved,
+                        row.onHandQuantity(),
+                        row.reservedQuantity()
+                ));
+            }
+        }
+
+        for (long productId : stockCache.productIds()) {
+            if (!tableProductIds.contains(productId)) {
+                mismatches.add(new StockCacheMismatchDto(
+                        productId,
+                        stockCache.getQuantity(productId),
+                        stockCache.getReserved(productId),
+                        null,
+                        null
+                ));
+            }
+        }
+
+        return new StockCacheConsistencyDto(true, rows.size(), mismatches);
+    }
+}
@@ -0,0 +1,21 @@
+package com.jcanseco.inventoryapi.inventory.stock.usecases.movements;
+
+import com.jcanseco.inventoryapi.inventory.stock.dto.GetStockMovementsRequest;
+import com.jcanseco.inventoryapi.inventory.stock.dto.StockMovementDto;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockMovementRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class GetStockMovementsUseCase {
+
+    private final StockMovementRepository stockMovementRepository;
+
+    @Transactional(readOnly = true)
+    public List<StockMovementDto> execute(Long productId, GetStockMovementsRequest request) {
+        return stockMovementRepository.findByProductIdBetween(productId, request.getFrom(), request.getTo());
+    }
+}
@@ -0,0 +1,34 @@
+package com.jcanseco.inventoryapi.inventory.stock.usecases.snapshots;
+
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockMovementRepository;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TakeStockSnapshotsUseCase {
+
+    /**
+     * The snapshot watermark is the newest movement id older than this. A movement id can be assigned
+     * before its transaction commits, so folding in the newest ids could skip a lower id that
+     * becomes visible later.
+     */
+    private static final Duration SETTLE_TIME = Duration.ofMinutes(5);
+
+    private final StockMovementRepository stockMovementRepository;
+    private final ClockProvider clockProvider;
+
+    @Scheduled(cron = "${app.stock.snapshots.cron:0 0 3 * * *}")
+    @Transactional
+    public void execute() {
+        var settledBefore = clockProvider.now().minus(SETTLE_TIME);
+        var snapshots = stockMovementRepository.takeSnapshots(settledBefore);
+        log.info("Took {} stock snapshots of the movements recorded up to {}.", snapshots, settledBefore);
+    }
+}
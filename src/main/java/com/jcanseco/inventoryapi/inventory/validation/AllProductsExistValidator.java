@@ -1,6 +1,6 @@
 package com.jcanseco.inventoryapi.inventory.validation;
 
-import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
+import com.jcanseco.inventoryapi.catalog.products.persistence.ProductLookup;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import java.util.Map;
@@ -11,22 +11,24 @@ import org.springframework.stereotype.Component;
 @Component
 public class AllProductsExistValidator implements ConstraintValidator<AllProductsExist, Map<Long, Long>> {
 
-    private final ProductRepository productRepository;
+    private final ProductLookup productLookup;
 
     @Override
     public boolean isValid(Map<Long, Long> productsWithQuantities, ConstraintValidatorContext context) {
 
-        if (productsWithQuantities == null) {
+        if (productsWithQuantities == null || productsWithQuantities.isEmpty()) {
             return true;
         }
 
-        for (Long productId : productsWithQuantities.keySet()) {
-            if (!productRepository.existsById(productId)) {
-                return false;
-            }
+        var missingIds = productLookup.findMissingIds(productsWithQuantities.keySet());
+        if (missingIds.isEmpty()) {
+            return true;
         }
 
-        return true;
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(String.format("Products with the Ids : %s were not found.", missingIds))
+                .addConstraintViolation();
+        return false;
     }
 }
 
@@ -2,19 +2,29 @@ package com.jcanseco.inventoryapi.orders.api;
 
 import com.jcanseco.inventoryapi.orders.dto.*;
 import com.jcanseco.inventoryapi.orders.usecases.create.CreateOrderUseCase;
+import com.jcanseco.inventoryapi.orders.usecases.createbatch.CreateOrdersBatchUseCase;
 import com.jcanseco.inventoryapi.orders.usecases.delete.DeleteOrderUseCase;
 import com.jcanseco.inventoryapi.orders.usecases.deliver.DeliverOrderUseCase;
+import com.jcanseco.inventoryapi.orders.usecases.deliverbatch.DeliverOrdersBatchUseCase;
+import com.jcanseco.inventoryapi.orders.usecases.export.ExportOrdersUseCase;
 import com.jcanseco.inventoryapi.orders.usecases.getall.GetOrdersUseCase;
 import com.jcanseco.inventoryapi.orders.usecases.getbyid.GetOrderByIdUseCase;
 import com.jcanseco.inventoryapi.orders.usecases.update.UpdateOrderUseCase;
+import com.jcanseco.inventoryapi.shared.export.ExportResponses;
+import com.jcanseco.inventoryapi.shared.idempotency.IdempotentRequestExecutor;
+import com.jcanseco.inventoryapi.shared.streaming.StreamingResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.net.URI;
-import java.net.URISyntaxException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @Validated
 @RestControllerAdvice
@@ -24,18 +34,34 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final CreateOrderUseCase createOrderUseCase;
+    private final CreateOrdersBatchUseCase createOrdersBatchUseCase;
     private final UpdateOrderUseCase updateOrderUseCase;
     private final DeliverOrderUseCase deliverOrderUseCase;
+    private final DeliverOrdersBatchUseCase deliverOrdersBatchUseCase;
     private final DeleteOrderUseCase deleteOrderUseCase;
     private final GetOrderByIdUseCase getOrderByIdUseCase;
     private final GetOrdersUseCase getOrdersUseCase;
+    private final ExportOrdersUseCase exportOrdersUseCase;
+    private final ExportResponses exportResponses;
+    private final StreamingResponses streamingResponses;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
 
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Orders, @Action.Create))")
     @PostMapping
-    public ResponseEntity<Long> create(@RequestBody @Valid CreateOrderDto dto) throws URISyntaxException {
-        var orderId = createOrderUseCase.execute(dto);
-        var location = new URI("/api/orders/" + orderId);
-        return ResponseEntity.created(location).body(orderId);
+    public ResponseEntity<Long> create(
+            @RequestHeader(name = IdempotentRequestExecutor.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid CreateOrderDto dto) {
+        return idempotentRequestExecutor.execute("orders.create", idempotencyKey, dto, Long.class, () -> {
+            var orderId = createOrderUseCase.execute(dto);
+            var location = URI.create("/api/orders/" + orderId);
+            return ResponseEntity.created(location).body(orderId);
+        });
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Orders, @Action.Create))")
+    @PostMapping("batch")
+    public ResponseEntity<List<OrderBatchResultDto>> createBatch(@RequestBody @Valid CreateOrdersBatchDto dto) {
+        return ResponseEntity.ok(createOrdersBatchUseCase.execute(dto));
     }
 
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Orders, @Action.Update))")
@@ -50,8 +76,19 @@ public class OrderController {
 
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Orders, @Action.Deliver))")
     @PutMapping("deliver")
-    public ResponseEntity<Void> deliver(@RequestBody @Valid DeliverOrderDto dto) {
-        deliverOrderUseCase.execute(dto);
+    public ResponseEntity<Void> deliver(
+            @RequestHeader(name = IdempotentRequestExecutor.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid DeliverOrderDto dto) {
+        return idempotentRequestExecutor.execute("orders.deliver", idempotencyKey, dto, Void.class, () -> {
+            deliverOrderUseCase.execute(dto);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Orders, @Action.Deliver))")
+    @PutMapping("deliver/batch")
+    public ResponseEntity<Void> deliverBatch(@RequestBody @Valid DeliverOrdersBatchDto dto) {
+        deliverOrdersBatchUseCase.execute(dto);
         return ResponseEntity.noContent().build();
     }
 
@@ -72,9 +109,30 @@ public class OrderController {
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Orders, @Action.View))")
     @GetMapping
     public ResponseEntity<?> getAll(@Valid GetOrdersRequest request) {
+        if (request.getCursor() != null) {
+            return ResponseEntity.ok(getOrdersUseCase.executeCursorPaged(request));
+        }
         if (request.getPageSize() == null || request.getPageNumber() == null) {
             return ResponseEntity.ok(getOrdersUseCase.execute(request));
         }
         return ResponseEntity.ok(getOrdersUseCase.executePaged(request));
     }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Orders, @Action.Export))")
+    @GetMapping("export")
+    public WebAsyncTask<Void> export(
+            @RequestParam(defaultValue = "csv") String format,
+            @Valid GetOrdersRequest request,
+            HttpServletResponse response) {
+        return exportResponses.ok(format, exportOrdersUseCase.execute(request), response);
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Orders, @Action.View))")
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, StreamingResponses.TEXT_CSV_VALUE})
+    public WebAsyncTask<Void> stream(
+            @RequestHeader(HttpHeaders.ACCEPT) String accept,
+            @Valid GetOrdersRequest request,
+            HttpServletResponse response) {
+        return streamingResponses.ok(accept, getOrdersUseCase.stream(request), response);
+    }
 }
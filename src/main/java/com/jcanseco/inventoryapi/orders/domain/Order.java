@@ -20,7 +20,9 @@ import lombok.*;
 @Setter
 @Getter
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "ix_orders_delivered_at", columnList = "delivered_at")
+})
 public class Order {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -54,11 +56,24 @@ public class Order {
         if (isDelivered()) {
             throw new DomainException(String.format("Order with Id %d has already delivered and cannot be updated.", getId()));
         }
-        this.items.clear();
-        var newItems = getItemsByProducts(this, products, productsWithQuantities);
-        var total = getTotalFromItems(newItems);
-        this.items.addAll(newItems);
-        setTotal(total);
+        // Items are diffed instead of rebuilt, so editing one line issues one UPDATE rather than a DELETE and INSERT per line.
+        this.items.removeIf(item -> !productsWithQuantities.containsKey(item.getProductId()));
+
+        var existingItems = this.items.stream()
+                .collect(Collectors.toMap(OrderItem::getProductId, item -> item));
+
+        var newProducts = new ArrayList<Product>();
+        for (var product : products) {
+            var item = existingItems.get(product.getId());
+            if (item == null) {
+                newProducts.add(product);
+            } else {
+                item.update(product.getName(), product.getUnit().getName(), product.getSalePrice(), productsWithQuantities.get(product.getId()));
+            }
+        }
+
+        this.items.addAll(getItemsByProducts(this, newProducts, productsWithQuantities));
+        setTotal(getTotalFromItems(this.items));
     }
 
     public void deliver(String comments, LocalDateTime deliveredAt) {
@@ -49,6 +49,14 @@ public class OrderItem {
     @JoinColumn(name = "product_id", referencedColumnName = "id")
     @JsonIgnore
     private Product product;
+
+    public void update(String productName, String productUnit, BigDecimal price, Long quantity) {
+        setProductName(productName);
+        setProductUnit(productUnit);
+        setPrice(price);
+        setQuantity(quantity);
+        setTotal(price.multiply(BigDecimal.valueOf(quantity)));
+    }
 }
 
 
@@ -0,0 +1,20 @@
+package com.jcanseco.inventoryapi.orders.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.*;
+
+@EqualsAndHashCode
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreateOrdersBatchDto {
+
+    // Orders are validated one by one by the use case so a single invalid order does not reject the whole batch.
+    @NotEmpty
+    @Size(max = 500)
+    private List<CreateOrderDto> orders;
+}
@@ -0,0 +1,27 @@
+package com.jcanseco.inventoryapi.orders.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.*;
+
+@EqualsAndHashCode
+@Builder
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeliverOrdersBatchDto {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotNull @Min(1) Long> orderIds;
+
+    @NotEmpty
+    @NotBlank
+    @Size(max = 300)
+    private String comment;
+}
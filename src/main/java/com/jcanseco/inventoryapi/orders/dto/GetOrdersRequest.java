@@ -20,6 +20,9 @@ public class GetOrdersRequest {
     @Min(1)
     private Integer pageSize;
 
+    // Opt-in keyset pagination, an empty cursor requests the first page.
+    private String cursor;
+
     @OrderBy(
             message = "Invalid Order By field. The following options are valid: 'id', 'customer', 'total', 'orderedAt', 'deliveredAt', 'delivered'.",
             fields = {"id", "customer", "total", "orderedAt", "deliveredAt", "delivered"}
@@ -0,0 +1,24 @@
+package com.jcanseco.inventoryapi.orders.dto;
+
+import lombok.*;
+
+@EqualsAndHashCode
+@Builder
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderBatchResultDto {
+    private int index;
+    private Long orderId;
+    private boolean success;
+    private String error;
+
+    public static OrderBatchResultDto succeeded(int index, Long orderId) {
+        return new OrderBatchResultDto(index, orderId, true, null);
+    }
+
+    public static OrderBatchResultDto failed(int index, String error) {
+        return new OrderBatchResultDto(index, null, false, error);
+    }
+}
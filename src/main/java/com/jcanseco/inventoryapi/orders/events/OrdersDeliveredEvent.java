@@ -0,0 +1,5 @@
+package com.jcanseco.inventoryapi.orders.events;
+
+import java.util.List;
+
+public record OrdersDeliveredEvent(List<Long> orderIds) {}
@@ -1,15 +1,23 @@
 package com.jcanseco.inventoryapi.orders.persistence;
 
+import com.jcanseco.inventoryapi.inventory.stock.dto.ProductQuantityDto;
 import com.jcanseco.inventoryapi.orders.domain.Order;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order>, OrderRepositoryCustom {
     @Query("""
      SELECT DISTINCT o
      FROM Order o 
@@ -19,6 +27,70 @@ public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecific
      """)
 
     Optional<Order> findWithDetailsById(Long id);
+
+    /**
+     * Same as {@link #findWithDetailsById(Long)} but locks the order row until the transaction ends, so
+     * changes that depend on the order not being delivered yet are serialized with its delivery.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+     SELECT DISTINCT o
+     FROM Order o
+     LEFT JOIN FETCH o.customer
+     LEFT join FETCH o.items
+     WHERE o.id = :id
+     """)
+    Optional<Order> findLockedWithDetailsById(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+     UPDATE Order o
+     SET o.delivered = true,
+         o.deliveredAt = :deliveredAt,
+         o.deliverComments = :comments
+     WHERE o.id = :id
+     AND o.delivered = false
+     """)
+    int markAsDelivered(
+            @Param("id") Long id,
+            @Param("comments") String comments,
+            @Param("deliveredAt") LocalDateTime deliveredAt
+    );
+
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns the ids of the given orders that exist and locks their rows until the transaction ends.
+     */
+    @Query(value = "SELECT o.id FROM orders o WHERE o.id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("""
+     UPDATE Order o
+     SET o.delivered = true,
+         o.deliveredAt = :deliveredAt,
+         o.deliverComments = :comments
+     WHERE o.id IN :ids
+     AND o.delivered = false
+     """)
+    int markAllAsDelivered(
+            @Param("ids") Collection<Long> ids,
+            @Param("comments") String comments,
+            @Param("deliveredAt") LocalDateTime deliveredAt
+    );
+
+    @Query("""
+     SELECT new com.jcanseco.inventoryapi.inventory.stock.dto.ProductQuantityDto(
+        i.productId,
+        SUM(i.quantity)
+     )
+     FROM OrderItem i
+     WHERE i.order.id IN :ids
+     GROUP BY i.productId
+     """)
+    List<ProductQuantityDto> sumItemQuantitiesByProduct(@Param("ids") Collection<Long> ids);
 }
 
 
@@ -0,0 +1,13 @@
+package com.jcanseco.inventoryapi.orders.persistence;
+
+import com.jcanseco.inventoryapi.orders.domain.Order;
+import java.util.List;
+
+public interface OrderRepositoryCustom {
+
+    /**
+     * Inserts new orders and their items using two JDBC batches (one for orders, one for items)
+     * and assigns the generated ids back to the entities. The entities are not attached to the persistence context.
+     */
+    void insertAll(List<Order> orders);
+}
@@ -0,0 +1,114 @@
+package com.jcanseco.inventoryapi.orders.persistence;
+
+import com.jcanseco.inventoryapi.orders.domain.Order;
+import com.jcanseco.inventoryapi.orders.domain.OrderItem;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+@RequiredArgsConstructor
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    private static final String INSERT_ORDER_SQL = """
+            INSERT INTO orders (customer_id, total, ordered_at, delivered, delivered_at, deliver_comments)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ORDER_ITEM_SQL = """
+            INSERT INTO order_items (order_id, product_id, product_name, product_unit, quantity, price, total)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Order> orders) {
+        if (orders == null || orders.isEmpty()) {
+            return;
+        }
+
+        var orderKeys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_ORDER_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        var order = orders.get(i);
+                        ps.setLong(1, order.getCustomer().getId());
+                        ps.setBigDecimal(2, order.getTotal());
+                        ps.setTimestamp(3, Timestamp.valueOf(order.getOrderedAt()));
+                        ps.setBoolean(4, order.isDelivered());
+                        if (order.getDeliveredAt() != null) {
+                            ps.setTimestamp(5, Timestamp.valueOf(order.getDeliveredAt()));
+                        } else {
+                            ps.setNull(5, Types.TIMESTAMP);
+                        }
+                        ps.setString(6, order.getDeliverComments());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return orders.size();
+                    }
+                },
+                orderKeys
+        );
+        assignGeneratedIds(orderKeys, orders.size(), (i, id) -> orders.get(i).setId(id));
+
+        var items = orders.stream()
+                .flatMap(order -> order.getItems().stream())
+                .toList();
+        if (items.isEmpty()) {
+            return;
+        }
+
+        var itemKeys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_ORDER_ITEM_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OrderItem item = items.get(i);
+                        ps.setLong(1, item.getOrder().getId());
+                        ps.setLong(2, item.getProductId());
+                        ps.setString(3, item.getProductName());
+                        ps.setString(4, item.getProductUnit());
+                        ps.setLong(5, item.getQuantity());
+                        ps.setBigDecimal(6, item.getPrice());
+                        ps.setBigDecimal(7, item.getTotal());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                },
+                itemKeys
+        );
+        assignGeneratedIds(itemKeys, items.size(), (i, id) -> items.get(i).setId(id));
+    }
+
+    private static void assignGeneratedIds(KeyHolder keyHolder, int expectedKeys, GeneratedIdConsumer consumer) {
+        var keys = keyHolder.getKeyList();
+        if (keys.size() != expectedKeys) {
+            throw new IllegalStateException(String.format("Expected %d generated keys but the driver returned %d.", expectedKeys, keys.size()));
+        }
+        for (int i = 0; i < expectedKeys; i++) {
+            var key = (Number) keys.get(i).values().iterator().next();
+            consumer.accept(i, key.longValue());
+        }
+    }
+
+    @FunctionalInterface
+    private interface GeneratedIdConsumer {
+        void accept(int index, Long id);
+    }
+}
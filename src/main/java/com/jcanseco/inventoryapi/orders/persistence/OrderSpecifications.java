@@ -9,6 +9,14 @@ import org.springframework.data.jpa.domain.Specification;
 
 public class OrderSpecifications {
 
+    // Loads the customer in the same query, only meant for queries that are not counted.
+    public static Specification<Order> fetchCustomer() {
+        return (root, query, builder) -> {
+            root.fetch("customer", JoinType.LEFT);
+            return null;
+        };
+    }
+
     public static Specification<Order> byCustomer(Customer customer) {
         return (root, query, builder) -> builder.equal(root.get("customer"), customer);
     }
@@ -1,7 +1,8 @@
 package com.jcanseco.inventoryapi.orders.usecases.create;
 
-import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
+import com.jcanseco.inventoryapi.catalog.products.persistence.ProductLookup;
 import com.jcanseco.inventoryapi.customers.persistence.CustomerRepository;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
 import com.jcanseco.inventoryapi.orders.dto.CreateOrderDto;
 import com.jcanseco.inventoryapi.orders.domain.Order;
 import com.jcanseco.inventoryapi.orders.persistence.OrderRepository;
@@ -15,9 +16,10 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CreateOrderUseCase {
 
-    private final ProductRepository productRepository;
+    private final ProductLookup productLookup;
     private final CustomerRepository customerRepository;
     private final OrderRepository orderRepository;
+    private final StockRepository stockRepository;
     private final ClockProvider clockProvider;
 
     @Transactional
@@ -26,7 +28,9 @@ public class CreateOrderUseCase {
                 .orElseThrow(() -> new DomainException(String.format("Customer with the Id : {%d} was not found.", dto.getCustomerId())));
 
         var productsWithQuantities = dto.getProductsWithQuantities();
-        var products = productRepository.findAllById(productsWithQuantities.keySet());
+        var products = productLookup.findAllById(productsWithQuantities.keySet());
+
+        stockRepository.reserveStock(productsWithQuantities);
 
         var savedOrder = orderRepository.saveAndFlush(Order.createNew(customer, products, productsWithQuantities, clockProvider.now()));
         return savedOrder.getId();
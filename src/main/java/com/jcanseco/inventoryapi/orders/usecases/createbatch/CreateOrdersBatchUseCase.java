@@ -0,0 +1,130 @@
+package com.jcanseco.inventoryapi.orders.usecases.createbatch;
+
+import com.jcanseco.inventoryapi.catalog.products.domain.Product;
+import com.jcanseco.inventoryapi.catalog.products.persistence.ProductLookup;
+import com.jcanseco.inventoryapi.customers.domain.Customer;
+import com.jcanseco.inventoryapi.customers.persistence.CustomerRepository;
+import com.jcanseco.inventoryapi.inventory.stock.domain.InsufficientStockException;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
+import com.jcanseco.inventoryapi.orders.domain.Order;
+import com.jcanseco.inventoryapi.orders.dto.CreateOrderDto;
+import com.jcanseco.inventoryapi.orders.dto.CreateOrdersBatchDto;
+import com.jcanseco.inventoryapi.orders.dto.OrderBatchResultDto;
+import com.jcanseco.inventoryapi.orders.persistence.OrderRepository;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CreateOrdersBatchUseCase {
+
+    private final ProductLookup productLookup;
+    private final CustomerRepository customerRepository;
+    private final OrderRepository orderRepository;
+    private final StockRepository stockRepository;
+    private final ClockProvider clockProvider;
+    private final Validator validator;
+
+    @Transactional
+    public List<OrderBatchResultDto> execute(CreateOrdersBatchDto dto) {
+        var requests = dto.getOrders();
+        var customers = findCustomers(requests);
+        var products = findProducts(requests);
+        var createdAt = clockProvider.now();
+
+        var orders = new ArrayList<Order>(requests.size());
+        var errors = new HashMap<Integer, String>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            var error = validate(request, customers);
+            if (error == null) {
+                error = reserve(request.getProductsWithQuantities());
+            }
+            if (error != null) {
+                errors.put(i, error);
+                orders.add(null);
+                continue;
+            }
+
+            var orderProducts = request.getProductsWithQuantities().keySet().stream()
+                    .map(products::get)
+                    .toList();
+            orders.add(Order.createNew(customers.get(request.getCustomerId()), orderProducts, request.getProductsWithQuantities(), createdAt));
+        }
+
+        orderRepository.insertAll(orders.stream().filter(Objects::nonNull).toList());
+
+        var results = new ArrayList<OrderBatchResultDto>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            var order = orders.get(i);
+            results.add(order != null
+                    ? OrderBatchResultDto.succeeded(i, order.getId())
+                    : OrderBatchResultDto.failed(i, errors.get(i)));
+        }
+        return results;
+    }
+
+    private Map<Long, Customer> findCustomers(List<CreateOrderDto> requests) {
+        var customerIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateOrderDto::getCustomerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return customerRepository.findAllById(customerIds).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+    }
+
+    // Loads every product of the batch at once; the per-order AllProductsExist checks then reuse this lookup.
+    private Map<Long, Product> findProducts(List<CreateOrderDto> requests) {
+        var productIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateOrderDto::getProductsWithQuantities)
+                .filter(Objects::nonNull)
+                .flatMap(productsWithQuantities -> productsWithQuantities.keySet().stream())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return productLookup.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    // Applies the same constraints as a single order, then checks the customer against the batch lookup.
+    private String validate(CreateOrderDto request, Map<Long, Customer> customers) {
+        if (request == null) {
+            return "The order must not be null.";
+        }
+        var violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!customers.containsKey(request.getCustomerId())) {
+            return String.format("Customer with the Id : {%d} was not found.", request.getCustomerId());
+        }
+        return null;
+    }
+
+    // Reserves the whole order or nothing: holds taken before a product ran short are released again.
+    private String reserve(Map<Long, Long> productsWithQuantities) {
+        var shortProductIds = stockRepository.reserveAvailableStock(productsWithQuantities);
+        if (shortProductIds.isEmpty()) {
+            return null;
+        }
+        var reserved = new HashMap<>(productsWithQuantities);
+        shortProductIds.forEach(reserved::remove);
+        stockRepository.releaseStock(reserved);
+        return InsufficientStockException.messageOf(shortProductIds);
+    }
+}
@@ -1,8 +1,11 @@
 package com.jcanseco.inventoryapi.orders.usecases.delete;
 
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
+import com.jcanseco.inventoryapi.orders.domain.OrderItem;
 import com.jcanseco.inventoryapi.orders.persistence.OrderRepository;
 import com.jcanseco.inventoryapi.shared.errors.DomainException;
 import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,16 +15,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteOrderUseCase {
 
     private final OrderRepository orderRepository;
+    private final StockRepository stockRepository;
 
     @Transactional
     public void execute(Long orderId) {
-        var order = orderRepository.findById(orderId)
+        // The order is locked so a concurrent delivery cannot consume the reservations released here.
+        var order = orderRepository.findLockedWithDetailsById(orderId)
                 .orElseThrow(() -> new NotFoundException(String.format("Order with the Id : {%d} was not found.", orderId)));
 
         if (order.isDelivered()) {
             throw new DomainException(String.format("Cannot delete the order with ID %d because it has already delivered.", orderId));
         }
 
+        var reservedQuantities = order.getItems().stream()
+                .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity));
+        stockRepository.releaseStock(reservedQuantities);
+
         orderRepository.delete(order);
     }
 }
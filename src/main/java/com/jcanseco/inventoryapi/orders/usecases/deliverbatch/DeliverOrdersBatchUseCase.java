@@ -0,0 +1,61 @@
+package com.jcanseco.inventoryapi.orders.usecases.deliverbatch;
+
+import com.jcanseco.inventoryapi.inventory.stock.dto.ProductQuantityDto;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockMovementRepository;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
+import com.jcanseco.inventoryapi.orders.dto.DeliverOrdersBatchDto;
+import com.jcanseco.inventoryapi.orders.events.OrdersDeliveredEvent;
+import com.jcanseco.inventoryapi.orders.persistence.OrderRepository;
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class DeliverOrdersBatchUseCase {
+
+    private final StockRepository stockRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final OrderRepository orderRepository;
+    private final ClockProvider clockProvider;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Delivers all the given orders or none of them. The stock of every product is consumed
+     * once with the quantities of all the orders merged, and a single event is published.
+     */
+    @Transactional
+    public void execute(DeliverOrdersBatchDto dto) {
+        var orderIds = new ArrayList<>(new LinkedHashSet<>(dto.getOrderIds()));
+
+        var missingIds = new ArrayList<>(orderIds);
+        // Locking the orders first makes the quantities summed below those of the latest committed items.
+        missingIds.removeAll(new HashSet<>(orderRepository.lockExistingIds(orderIds)));
+        if (!missingIds.isEmpty()) {
+            throw new NotFoundException(String.format("Orders with the following Ids were not found: %s.", missingIds));
+        }
+
+        var deliveredAt = clockProvider.now();
+
+        // Same conditional update as the single delivery; any order already delivered rolls the whole batch back.
+        if (orderRepository.markAllAsDelivered(orderIds, dto.getComment(), deliveredAt) != orderIds.size()) {
+            throw new DomainException("One or more of the orders have already been marked as 'delivered'.");
+        }
+
+        var productsWithQuantities = orderRepository.sumItemQuantitiesByProduct(orderIds).stream()
+                .collect(Collectors.toMap(ProductQuantityDto::productId, ProductQuantityDto::quantity));
+
+        stockRepository.consumeReservedStock(productsWithQuantities);
+        stockMovementRepository.recordOrderDeliveries(orderIds, dto.getComment(), deliveredAt);
+
+        eventPublisher.publishEvent(new OrdersDeliveredEvent(orderIds));
+    }
+}
@@ -0,0 +1,36 @@
+package com.jcanseco.inventoryapi.orders.usecases.export;
+
+import com.jcanseco.inventoryapi.orders.dto.GetOrdersRequest;
+import com.jcanseco.inventoryapi.orders.dto.OrderDto;
+import com.jcanseco.inventoryapi.orders.usecases.getall.GetOrdersUseCase;
+import com.jcanseco.inventoryapi.shared.export.ExportColumn;
+import com.jcanseco.inventoryapi.shared.export.ExportTable;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ExportOrdersUseCase {
+
+    private static final List<ExportColumn<OrderDto>> COLUMNS = List.of(
+            new ExportColumn<>("Id", OrderDto::getId),
+            new ExportColumn<>("Customer", OrderDto::getCustomer),
+            new ExportColumn<>("Total", OrderDto::getTotal),
+            new ExportColumn<>("Delivered", OrderDto::isDelivered),
+            new ExportColumn<>("Ordered At", OrderDto::getOrderedAt),
+            new ExportColumn<>("Delivered At", OrderDto::getDeliveredAt)
+    );
+
+    private final GetOrdersUseCase getOrdersUseCase;
+
+    public ExportTable<OrderDto> execute(GetOrdersRequest request) {
+        return new ExportTable<>("orders", COLUMNS, getOrdersUseCase.stream(request));
+    }
+}
+
+
+
+
+
+
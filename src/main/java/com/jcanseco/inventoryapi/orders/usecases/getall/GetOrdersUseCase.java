@@ -6,7 +6,11 @@ import com.jcanseco.inventoryapi.orders.dto.OrderDto;
 import com.jcanseco.inventoryapi.orders.domain.Order;
 import com.jcanseco.inventoryapi.orders.mapping.OrderMapper;
 import com.jcanseco.inventoryapi.orders.persistence.OrderRepository;
+import com.jcanseco.inventoryapi.shared.pagination.Cursor;
+import com.jcanseco.inventoryapi.shared.pagination.CursorPagedList;
 import com.jcanseco.inventoryapi.shared.pagination.PagedList;
+import com.jcanseco.inventoryapi.shared.streaming.EntityStreamer;
+import com.jcanseco.inventoryapi.shared.streaming.RowSource;
 import com.jcanseco.inventoryapi.shared.utils.IndexUtility;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,10 +19,12 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import static com.jcanseco.inventoryapi.shared.pagination.KeysetSpecifications.seek;
 import static com.jcanseco.inventoryapi.orders.persistence.OrderSpecifications.byCustomer;
 import static com.jcanseco.inventoryapi.orders.persistence.OrderSpecifications.byDelivered;
 import static com.jcanseco.inventoryapi.orders.persistence.OrderSpecifications.byDeliveredBetween;
 import static com.jcanseco.inventoryapi.orders.persistence.OrderSpecifications.byOrderedBetween;
+import static com.jcanseco.inventoryapi.orders.persistence.OrderSpecifications.fetchCustomer;
 import static com.jcanseco.inventoryapi.orders.persistence.OrderSpecifications.orderByCustomerAsc;
 import static com.jcanseco.inventoryapi.orders.persistence.OrderSpecifications.orderByCustomerDesc;
 import static com.jcanseco.inventoryapi.orders.persistence.OrderSpecifications.orderByDeliveredAsc;
@@ -40,6 +46,7 @@ public class GetOrdersUseCase {
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
     private final IndexUtility indexUtility;
+    private final EntityStreamer entityStreamer;
 
     @Transactional(readOnly = true)
     public List<OrderDto> execute(GetOrdersRequest request) {
@@ -60,6 +67,28 @@ public class GetOrdersUseCase {
         return orderMapper.pageToPagedList(page);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPagedList<OrderDto> executeCursorPaged(GetOrdersRequest request) {
+        var pageSize = request.getPageSize() != null ? request.getPageSize() : CursorPagedList.DEFAULT_PAGE_SIZE;
+        var orderBy = !StringUtils.hasText(request.getOrderBy()) ? "orderedAt" : request.getOrderBy();
+        var isAscending = indexUtility.isAscendingOrder(request.getSortOrder());
+        var cursor = Cursor.decodeFor(request.getCursor(), orderBy, isAscending);
+        var specification = seek(composeSpecification(request), cursor);
+        var rows = orderRepository.findBy(specification, query -> query.limit(pageSize + 1).all());
+        return CursorPagedList.fromRows(
+                rows,
+                pageSize,
+                orderMapper::entityToDto,
+                order -> Cursor.of(orderBy, isAscending, sortKeyOf(order, orderBy), order.getId())
+        );
+    }
+
+    // The specification is built right away, rows are only read and mapped one at a time once the source is written.
+    public RowSource<OrderDto> stream(GetOrdersRequest request) {
+        var specification = composeSpecification(request).and(fetchCustomer());
+        return writer -> entityStreamer.stream(Order.class, specification, order -> writer.write(orderMapper.entityToDto(order)));
+    }
+
     private Specification<Order> composeSpecification(GetOrdersRequest request) {
         Specification<Order> spec = Specification.where(null);
 
@@ -93,9 +122,20 @@ public class GetOrdersUseCase {
             case "total" -> isAscending ? orderByTotalAsc(spec) : orderByTotalDesc(spec);
             case "delivered" -> isAscending ? orderByDeliveredAsc(spec) : orderByDeliveredDesc(spec);
             case "deliveredAt" -> isAscending ? orderByDeliveredAtAsc(spec) : orderByDeliveredAtDesc(spec);
-            case "orderedAt" -> isAscending ? orderByOrderedAtAsc(spec) : orderByOrderedAtDesc(spec);
             default -> isAscending ? orderByOrderedAtAsc(spec) : orderByOrderedAtDesc(spec);
         };
     }
+
+    private Object sortKeyOf(Order order, String orderBy) {
+        return switch (orderBy) {
+            case "id" -> order.getId();
+            case "customer" -> order.getCustomer().getFullName();
+            case "total" -> order.getTotal();
+            case "delivered" -> order.isDelivered();
+            case "deliveredAt" -> order.getDeliveredAt();
+            case "orderedAt" -> order.getOrderedAt();
+            default -> order.getOrderedAt();
+        };
+    }
 }
 
@@ -1,10 +1,15 @@
 package com.jcanseco.inventoryapi.orders.usecases.update;
 
-import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
+import com.jcanseco.inventoryapi.catalog.products.persistence.ProductLookup;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
+import com.jcanseco.inventoryapi.orders.domain.OrderItem;
 import com.jcanseco.inventoryapi.orders.dto.UpdateOrderDto;
 import com.jcanseco.inventoryapi.orders.persistence.OrderRepository;
 import com.jcanseco.inventoryapi.shared.errors.DomainException;
 import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,12 +18,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UpdateOrderUseCase {
 
-    private final ProductRepository productRepository;
+    private final ProductLookup productLookup;
     private final OrderRepository orderRepository;
+    private final StockRepository stockRepository;
 
     @Transactional
     public void execute(UpdateOrderDto dto) {
-        var order = orderRepository.findWithDetailsById(dto.getOrderId())
+        // The order is locked so a concurrent delivery cannot consume the reservations being changed here.
+        var order = orderRepository.findLockedWithDetailsById(dto.getOrderId())
                 .orElseThrow(() -> new NotFoundException(String.format("Order with the Id : {%d} was not found.", dto.getOrderId())));
 
         if (order.isDelivered()) {
@@ -26,10 +33,38 @@ public class UpdateOrderUseCase {
         }
 
         var productsWithQuantities = dto.getProductsWithQuantities();
-        var products = productRepository.findAllById(productsWithQuantities.keySet());
+        var reservedQuantities = order.getItems().stream()
+                .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity));
+        adjustReservations(reservedQuantities, productsWithQuantities);
+
+        var products = productLookup.findAllById(productsWithQuantities.keySet());
         order.update(products, productsWithQuantities);
 
         orderRepository.save(order);
     }
+
+    // Only the difference between the previous and the new quantities is reserved or released.
+    private void adjustReservations(Map<Long, Long> reservedQuantities, Map<Long, Long> requestedQuantities) {
+        var toReserve = new HashMap<Long, Long>();
+        var toRelease = new HashMap<Long, Long>();
+
+        requestedQuantities.forEach((productId, quantity) -> {
+            var delta = quantity - reservedQuantities.getOrDefault(productId, 0L);
+            if (delta > 0) {
+                toReserve.put(productId, delta);
+            } else if (delta < 0) {
+                toRelease.put(productId, -delta);
+            }
+        });
+
+        reservedQuantities.forEach((productId, quantity) -> {
+            if (!requestedQuantities.containsKey(productId)) {
+                toRelease.put(productId, quantity);
+            }
+        });
+
+        stockRepository.releaseStock(toRelease);
+        stockRepository.reserveStock(toReserve);
+    }
 }
 
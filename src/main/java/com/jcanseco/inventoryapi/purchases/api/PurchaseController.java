@@ -1,20 +1,31 @@
 package com.jcanseco.inventoryapi.purchases.api;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.jcanseco.inventoryapi.purchases.dto.*;
 import com.jcanseco.inventoryapi.purchases.usecases.create.CreatePurchaseUseCase;
 import com.jcanseco.inventoryapi.purchases.usecases.delete.DeletePurchaseUseCase;
 import com.jcanseco.inventoryapi.purchases.usecases.getall.GetPurchasesUseCase;
 import com.jcanseco.inventoryapi.purchases.usecases.getbyid.GetPurchaseByIdUseCase;
 import com.jcanseco.inventoryapi.purchases.usecases.receive.ReceivePurchaseUseCase;
+import com.jcanseco.inventoryapi.purchases.usecases.receivebatch.ReceivePurchasesBatchUseCase;
+import com.jcanseco.inventoryapi.purchases.usecases.replenish.CreateReplenishmentPurchasesUseCase;
+import com.jcanseco.inventoryapi.purchases.usecases.suggest.GetReplenishmentSuggestionsUseCase;
 import com.jcanseco.inventoryapi.purchases.usecases.update.UpdatePurchaseUseCase;
+import com.jcanseco.inventoryapi.shared.idempotency.IdempotentRequestExecutor;
+import com.jcanseco.inventoryapi.shared.streaming.StreamingResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.net.URI;
-import java.net.URISyntaxException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @Validated
 @RestControllerAdvice
@@ -26,16 +37,25 @@ public class PurchaseController {
     private final CreatePurchaseUseCase createPurchaseUseCase;
     private final UpdatePurchaseUseCase updatePurchaseUseCase;
     private final ReceivePurchaseUseCase receivePurchaseUseCase;
+    private final ReceivePurchasesBatchUseCase receivePurchasesBatchUseCase;
     private final DeletePurchaseUseCase deletePurchaseUseCase;
     private final GetPurchaseByIdUseCase getPurchaseByIdUseCase;
     private final GetPurchasesUseCase getPurchasesUseCase;
+    private final GetReplenishmentSuggestionsUseCase getReplenishmentSuggestionsUseCase;
+    private final CreateReplenishmentPurchasesUseCase createReplenishmentPurchasesUseCase;
+    private final StreamingResponses streamingResponses;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
 
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Purchases, @Action.Create))")
     @PostMapping
-    public ResponseEntity<Long> create(@RequestBody @Valid CreatePurchaseDto dto) throws URISyntaxException {
-        var purchaseId = createPurchaseUseCase.execute(dto);
-        var location = new URI("/api/purchases/" + purchaseId);
-        return ResponseEntity.created(location).body(purchaseId);
+    public ResponseEntity<Long> create(
+            @RequestHeader(name = IdempotentRequestExecutor.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid CreatePurchaseDto dto) {
+        return idempotentRequestExecutor.execute("purchases.create", idempotencyKey, dto, Long.class, () -> {
+            var purchaseId = createPurchaseUseCase.execute(dto);
+            var location = URI.create("/api/purchases/" + purchaseId);
+            return ResponseEntity.created(location).body(purchaseId);
+        });
     }
 
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Purchases, @Action.Update))")
@@ -50,8 +70,19 @@ public class PurchaseController {
 
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Purchases, @Action.Receive))")
     @PutMapping("receive")
-    public ResponseEntity<Void> receive(@RequestBody @Valid ReceivePurchaseDto dto) {
-        receivePurchaseUseCase.execute(dto);
+    public ResponseEntity<Void> receive(
+            @RequestHeader(name = IdempotentRequestExecutor.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid ReceivePurchaseDto dto) {
+        return idempotentRequestExecutor.execute("purchases.receive", idempotencyKey, dto, Void.class, () -> {
+            receivePurchaseUseCase.execute(dto);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Purchases, @Action.Receive))")
+    @PutMapping("receive/batch")
+    public ResponseEntity<Void> receiveBatch(@RequestBody @Valid ReceivePurchasesBatchDto dto) {
+        receivePurchasesBatchUseCase.execute(dto);
         return ResponseEntity.noContent().build();
     }
 
@@ -69,12 +100,41 @@ public class PurchaseController {
         return ResponseEntity.ok(response);
     }
 
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Purchases, @Action.View))")
+    @GetMapping("replenishment")
+    public ResponseEntity<List<SupplierReplenishmentDto>> getReplenishmentSuggestions(@Valid GetReplenishmentSuggestionsRequest request) {
+        return ResponseEntity.ok(getReplenishmentSuggestionsUseCase.execute(request));
+    }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Purchases, @Action.Create))")
+    @PostMapping("replenishment")
+    public ResponseEntity<List<Long>> createReplenishmentPurchases(
+            @RequestHeader(name = IdempotentRequestExecutor.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid CreateReplenishmentPurchasesDto dto) {
+        return idempotentRequestExecutor.execute("purchases.replenish", idempotencyKey, dto, new TypeReference<List<Long>>() {}, () -> {
+            var purchaseIds = createReplenishmentPurchasesUseCase.execute(dto);
+            return ResponseEntity.status(HttpStatus.CREATED).body(purchaseIds);
+        });
+    }
+
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Purchases, @Action.View))")
     @GetMapping
     public ResponseEntity<?> getAll(@Valid GetPurchasesRequest request) {
+        if (request.getCursor() != null) {
+            return ResponseEntity.ok(getPurchasesUseCase.executeCursorPaged(request));
+        }
         if (request.getPageSize() == null || request.getPageNumber() == null) {
             return ResponseEntity.ok(getPurchasesUseCase.execute(request));
         }
         return ResponseEntity.ok(getPurchasesUseCase.executePaged(request));
     }
+
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Purchases, @Action.View))")
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, StreamingResponses.TEXT_CSV_VALUE})
+    public WebAsyncTask<Void> stream(
+            @RequestHeader(HttpHeaders.ACCEPT) String accept,
+            @Valid GetPurchasesRequest request,
+            HttpServletResponse response) {
+        return streamingResponses.ok(accept, getPurchasesUseCase.stream(request), response);
+    }
 }
@@ -6,6 +6,7 @@ import com.jcanseco.inventoryapi.suppliers.domain.Supplier;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,7 +20,9 @@ import lombok.*;
 @Setter
 @Getter
 @Entity
-@Table(name = "purchases")
+@Table(name = "purchases", indexes = {
+        @Index(name = "ix_purchases_arrived_at", columnList = "arrived_at")
+})
 public class Purchase {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -55,11 +58,24 @@ public class Purchase {
         if (isArrived()) {
             throw new DomainException(String.format("Purchase with Id %d has already arrived and cannot be updated.", getId()));
         }
-        var items = getItemsByProducts(this, products, productsWithQuantities);
-        var total = getTotalFromItems(items);
-        this.items.clear();
-        this.items.addAll(items);
-        setTotal(total);
+        // Items are diffed instead of rebuilt, so editing one line issues one UPDATE rather than a DELETE and INSERT per line.
+        this.items.removeIf(item -> !productsWithQuantities.containsKey(item.getProductId()));
+
+        var existingItems = this.items.stream()
+                .collect(Collectors.toMap(PurchaseItem::getProductId, item -> item));
+
+        var newProducts = new ArrayList<Product>();
+        for (var product : products) {
+            var item = existingItems.get(product.getId());
+            if (item == null) {
+                newProducts.add(product);
+            } else {
+                item.update(product.getName(), product.getUnit().getName(), product.getPurchasePrice(), productsWithQuantities.get(product.getId()));
+            }
+        }
+
+        this.items.addAll(getItemsByProducts(this, newProducts, productsWithQuantities));
+        setTotal(getTotalFromItems(this.items));
     }
 
     public void markAsArrived(String comments, LocalDateTime arrivedAt) {
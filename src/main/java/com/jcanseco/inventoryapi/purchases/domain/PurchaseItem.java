@@ -10,6 +10,7 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Setter
 @Getter
 @Entity
 @Table(name = "purchase_items")
@@ -45,6 +46,14 @@ public class PurchaseItem {
     @JoinColumn(name = "product_id", referencedColumnName = "id")
     @JsonIgnore
     private Product product;
+
+    public void update(String productName, String productUnit, BigDecimal price, Long quantity) {
+        setProductName(productName);
+        setProductUnit(productUnit);
+        setPrice(price);
+        setQuantity(quantity);
+        setTotal(price.multiply(BigDecimal.valueOf(quantity)));
+    }
 }
 
 
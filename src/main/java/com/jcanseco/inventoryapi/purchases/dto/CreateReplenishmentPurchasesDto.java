@@ -0,0 +1,25 @@
+package com.jcanseco.inventoryapi.purchases.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.*;
+
+@EqualsAndHashCode
+@Builder
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreateReplenishmentPurchasesDto {
+
+    /**
+     * Suppliers to create purchases for; when missing or empty every supplier with a suggestion gets one.
+     */
+    private List<@NotNull Long> supplierIds;
+}
+
+
+
+
+
+
@@ -26,6 +26,9 @@ public class GetPurchasesRequest {
     @Min(1)
     private Integer pageSize;
 
+    // Opt-in keyset pagination, an empty cursor requests the first page.
+    private String cursor;
+
     @OrderBy(
             message = "Invalid Order By field. The following options are valid: 'id', 'supplier', 'total', 'orderedAt', 'arrivedAt', 'arrived'.",
             fields = {"id", "supplier", "total", "orderedAt", "arrivedAt", "arrived"}
@@ -0,0 +1,24 @@
+package com.jcanseco.inventoryapi.purchases.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.*;
+
+@Builder
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetReplenishmentSuggestionsRequest {
+
+    /**
+     * Limits the suggestions to one supplier; when missing every supplier is included.
+     */
+    @Min(1)
+    Long supplierId;
+}
+
+
+
+
+
+
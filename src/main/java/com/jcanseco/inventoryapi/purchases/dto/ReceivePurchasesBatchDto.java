@@ -0,0 +1,27 @@
+package com.jcanseco.inventoryapi.purchases.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.*;
+
+@EqualsAndHashCode
+@Builder
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReceivePurchasesBatchDto {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotNull @Min(1) Long> purchaseIds;
+
+    @NotEmpty
+    @NotBlank
+    @Size(max = 300)
+    private String comment;
+}
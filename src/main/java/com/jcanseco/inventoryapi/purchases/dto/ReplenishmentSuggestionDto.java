@@ -0,0 +1,24 @@
+package com.jcanseco.inventoryapi.purchases.dto;
+
+import java.math.BigDecimal;
+
+public record ReplenishmentSuggestionDto(
+        Long productId,
+        String productName,
+        BigDecimal dailySales,
+        Long stockQuantity,
+        Long reservedQuantity,
+        Long onOrderQuantity,
+        Long reorderPoint,
+        Long suggestedQuantity,
+        BigDecimal purchasePrice,
+        BigDecimal estimatedCost
+) {
+
+}
+
+
+
+
+
+
@@ -0,0 +1,20 @@
+package com.jcanseco.inventoryapi.purchases.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record SupplierReplenishmentDto(
+        Long supplierId,
+        String supplierName,
+        BigDecimal leadTimeDays,
+        List<ReplenishmentSuggestionDto> products,
+        BigDecimal estimatedTotal
+) {
+
+}
+
+
+
+
+
+
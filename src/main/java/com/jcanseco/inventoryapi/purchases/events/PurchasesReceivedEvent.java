@@ -0,0 +1,5 @@
+package com.jcanseco.inventoryapi.purchases.events;
+
+import java.util.List;
+
+public record PurchasesReceivedEvent(List<Long> purchaseIds) { }
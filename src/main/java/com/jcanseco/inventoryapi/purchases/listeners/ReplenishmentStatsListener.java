@@ -0,0 +1,49 @@
+package com.jcanseco.inventoryapi.purchases.listeners;
+
+import com.jcanseco.inventoryapi.orders.events.OrderDeliveredEvent;
+import com.jcanseco.inventoryapi.orders.events.OrdersDeliveredEvent;
+import com.jcanseco.inventoryapi.purchases.events.PurchaseReceivedEvent;
+import com.jcanseco.inventoryapi.purchases.events.PurchasesReceivedEvent;
+import com.jcanseco.inventoryapi.purchases.replenishment.ReplenishmentStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ReplenishmentStatsListener {
+    private final ReplenishmentStats replenishmentStats;
+
+    /**
+     * Reads the sales and lead times inside the same transaction, so the statistics only take them
+     * in once the orders and purchases are committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(OrderDeliveredEvent event) {
+        replenishmentStats.onOrdersDelivered(List.of(event.orderId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(OrdersDeliveredEvent event) {
+        replenishmentStats.onOrdersDelivered(event.orderIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(PurchaseReceivedEvent event) {
+        replenishmentStats.onPurchasesReceived(List.of(event.purchaseId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(PurchasesReceivedEvent event) {
+        replenishmentStats.onPurchasesReceived(event.purchaseIds());
+    }
+}
+
+
+
+
+
+
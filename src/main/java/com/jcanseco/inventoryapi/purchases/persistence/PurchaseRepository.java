@@ -1,12 +1,64 @@
 package com.jcanseco.inventoryapi.purchases.persistence;
 
+import com.jcanseco.inventoryapi.inventory.stock.dto.ProductQuantityDto;
 import com.jcanseco.inventoryapi.purchases.domain.Purchase;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface PurchaseRepository extends JpaRepository<Purchase, Long>, JpaSpecificationExecutor<Purchase> { }
+public interface PurchaseRepository extends JpaRepository<Purchase, Long>, JpaSpecificationExecutor<Purchase> {
+    @Modifying
+    @Query("""
+     UPDATE Purchase p
+     SET p.arrived = true,
+         p.arrivedAt = :arrivedAt,
+         p.receiveComments = :comments
+     WHERE p.id = :id
+     AND p.arrived = false
+     """)
+    int markAsArrived(
+            @Param("id") Long id,
+            @Param("comments") String comments,
+            @Param("arrivedAt") LocalDateTime arrivedAt
+    );
+
+    @Query("SELECT p.id FROM Purchase p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("""
+     UPDATE Purchase p
+     SET p.arrived = true,
+         p.arrivedAt = :arrivedAt,
+         p.receiveComments = :comments
+     WHERE p.id IN :ids
+     AND p.arrived = false
+     """)
+    int markAllAsArrived(
+            @Param("ids") Collection<Long> ids,
+            @Param("comments") String comments,
+            @Param("arrivedAt") LocalDateTime arrivedAt
+    );
+
+    @Query("""
+     SELECT new com.jcanseco.inventoryapi.inventory.stock.dto.ProductQuantityDto(
+        i.productId,
+        SUM(i.quantity)
+     )
+     FROM PurchaseItem i
+     WHERE i.purchase.id IN :ids
+     GROUP BY i.productId
+     """)
+    List<ProductQuantityDto> sumItemQuantitiesByProduct(@Param("ids") Collection<Long> ids);
+}
 
 
 
@@ -12,6 +12,14 @@ import org.springframework.data.jpa.domain.Specification;
 
 public class PurchaseSpecifications {
 
+    // Loads the supplier in the same query, only meant for queries that are not counted.
+    public static Specification<Purchase> fetchSupplier() {
+        return (root, query, builder) -> {
+            root.fetch("supplier", JoinType.LEFT);
+            return null;
+        };
+    }
+
     public static Specification<Purchase> bySupplier(Supplier supplier) {
         return (root, query, builder) -> builder.equal(root.get("supplier"), supplier);
     }
@@ -0,0 +1,137 @@
+package com.jcanseco.inventoryapi.purchases.persistence;
+
+import com.jcanseco.inventoryapi.purchases.replenishment.LeadTimeSample;
+import com.jcanseco.inventoryapi.purchases.replenishment.ProductSale;
+import com.jcanseco.inventoryapi.purchases.replenishment.ReplenishmentCandidate;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads the sales and lead time history behind the replenishment statistics, and the current stock
+ * position of the products they are applied to.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReplenishmentRepository {
+
+    // The daily facts are folded in by the transaction that delivers the orders, so they match the orders.
+    private static final String DAILY_SALES_SQL = """
+            SELECT product_id, sales_date AS day, quantity
+            FROM daily_product_sales
+            """;
+
+    private static final String DELIVERED_SALES_SQL = """
+            SELECT oi.product_id, DATE(o.delivered_at) AS day, SUM(oi.quantity) AS quantity
+            FROM orders o
+            INNER JOIN order_items oi ON oi.order_id = o.id
+            WHERE o.id IN (:ids) AND o.delivered = true
+            GROUP BY oi.product_id, DATE(o.delivered_at)
+            """;
+
+    private static final String LEAD_TIMES_SQL = """
+            SELECT p.supplier_id, p.ordered_at, p.arrived_at
+            FROM purchases p
+            WHERE p.arrived = true AND p.arrived_at IS NOT NULL %s
+            ORDER BY p.arrived_at, p.id
+            """;
+
+    private static final String CANDIDATES_SQL = """
+            SELECT p.id, p.name, p.supplier_id, sp.company_name, p.purchase_price, p.reorder_point, p.reorder_quantity,
+                   s.quantity, s.reserved, COALESCE(oo.quantity, 0) AS on_order
+            FROM products p
+            INNER JOIN products_stock s ON s.product_id = p.id
+            INNER JOIN suppliers sp ON sp.id = p.supplier_id
+            LEFT JOIN (
+                SELECT pi.product_id, SUM(pi.quantity) AS quantity
+                FROM purchase_items pi
+                INNER JOIN purchases pu ON pu.id = pi.purchase_id
+                WHERE pu.arrived = false
+                GROUP BY pi.product_id
+            ) oo ON oo.product_id = p.id
+            %s
+            ORDER BY p.supplier_id, p.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Streams the units sold per product and delivery day.
+     */
+    public void forEachDailySale(Consumer<ProductSale> consumer) {
+        jdbcTemplate.query(DAILY_SALES_SQL, rs -> {
+            consumer.accept(toProductSale(rs));
+        });
+    }
+
+    /**
+     * Returns the units the given orders sold per product and delivery day.
+     */
+    public List<ProductSale> getDeliveredSales(Collection<Long> orderIds) {
+        return namedParameterJdbcTemplate.query(DELIVERED_SALES_SQL, new MapSqlParameterSource("ids", orderIds),
+                (rs, rowNum) -> toProductSale(rs));
+    }
+
+    /**
+     * Streams the lead time of every received purchase, in the order they arrived.
+     */
+    public void forEachLeadTime(Consumer<LeadTimeSample> consumer) {
+        jdbcTemplate.query(LEAD_TIMES_SQL.formatted(""), rs -> {
+            consumer.accept(toLeadTimeSample(rs));
+        });
+    }
+
+    public List<LeadTimeSample> getLeadTimes(Collection<Long> purchaseIds) {
+        return namedParameterJdbcTemplate.query(LEAD_TIMES_SQL.formatted("AND p.id IN (:ids)"),
+                new MapSqlParameterSource("ids", purchaseIds), (rs, rowNum) -> toLeadTimeSample(rs));
+    }
+
+    /**
+     * Returns the stock position of every product, or only of the supplier's products when
+     * {@code supplierId} is set, ordered by supplier.
+     */
+    public List<ReplenishmentCandidate> getCandidates(Long supplierId) {
+        var parameters = new MapSqlParameterSource();
+        var filter = "";
+        if (supplierId != null) {
+            filter = "WHERE p.supplier_id = :supplierId";
+            parameters.addValue("supplierId", supplierId);
+        }
+        return namedParameterJdbcTemplate.query(CANDIDATES_SQL.formatted(filter), parameters,
+                (rs, rowNum) -> new ReplenishmentCandidate(
+                        rs.getLong("id"),
+                        rs.getString("name"),
+                        rs.getLong("supplier_id"),
+                        rs.getString("company_name"),
+                        rs.getBigDecimal("purchase_price"),
+                        rs.getLong("reorder_point"),
+                        rs.getLong("reorder_quantity"),
+                        rs.getLong("quantity"),
+                        rs.getLong("reserved"),
+                        rs.getLong("on_order")
+                ));
+    }
+
+    private static ProductSale toProductSale(ResultSet rs) throws SQLException {
+        return new ProductSale(rs.getLong("product_id"), rs.getDate("day").toLocalDate().atStartOfDay(), rs.getLong("quantity"));
+    }
+
+    private static LeadTimeSample toLeadTimeSample(ResultSet rs) throws SQLException {
+        return new LeadTimeSample(rs.getLong("supplier_id"), rs.getTimestamp("ordered_at").toLocalDateTime(),
+                rs.getTimestamp("arrived_at").toLocalDateTime());
+    }
+}
+
+
+
+
+
+
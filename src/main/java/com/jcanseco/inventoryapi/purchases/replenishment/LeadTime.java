@@ -0,0 +1,13 @@
+package com.jcanseco.inventoryapi.purchases.replenishment;
+
+/**
+ * Smoothed lead time of a supplier in days, with its standard deviation.
+ */
+public record LeadTime(double meanDays, double stdDevDays) {
+}
+
+
+
+
+
+
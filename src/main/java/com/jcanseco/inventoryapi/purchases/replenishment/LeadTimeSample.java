@@ -0,0 +1,15 @@
+package com.jcanseco.inventoryapi.purchases.replenishment;
+
+import java.time.LocalDateTime;
+
+/**
+ * One received purchase of a supplier, from the moment it was ordered to the moment it arrived.
+ */
+public record LeadTimeSample(long supplierId, LocalDateTime orderedAt, LocalDateTime arrivedAt) {
+}
+
+
+
+
+
+
@@ -0,0 +1,15 @@
+package com.jcanseco.inventoryapi.purchases.replenishment;
+
+import java.time.LocalDateTime;
+
+/**
+ * Units of a product delivered to customers at a point in time.
+ */
+public record ProductSale(long productId, LocalDateTime deliveredAt, long quantity) {
+}
+
+
+
+
+
+
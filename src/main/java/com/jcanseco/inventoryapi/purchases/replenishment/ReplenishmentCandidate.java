@@ -0,0 +1,27 @@
+package com.jcanseco.inventoryapi.purchases.replenishment;
+
+import java.math.BigDecimal;
+
+/**
+ * Current stock position of a product: what is on hand, what is reserved for pending orders and what
+ * is still on its way in purchases that have not arrived.
+ */
+public record ReplenishmentCandidate(
+        long productId,
+        String productName,
+        long supplierId,
+        String supplierName,
+        BigDecimal purchasePrice,
+        long reorderPoint,
+        long reorderQuantity,
+        long stockQuantity,
+        long reservedQuantity,
+        long onOrderQuantity
+) {
+}
+
+
+
+
+
+
@@ -0,0 +1,124 @@
+package com.jcanseco.inventoryapi.purchases.replenishment;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sales velocity per product and lead time per supplier, both kept as exponentially weighted statistics
+ * so each sale or receipt updates them in O(1) and reading them never walks the history.
+ * <p>
+ * Each product keeps one counter of units sold whose weight halves every {@code velocityHalfLife}
+ * days; the daily velocity is that counter times the decay rate. Each supplier keeps an exponentially
+ * weighted mean and variance of its lead times. Not thread-safe; {@link ReplenishmentStats} guards
+ * every access.
+ */
+public class ReplenishmentEstimates {
+
+    private static final double SECONDS_PER_DAY = 86_400d;
+
+    private final double decayRate;
+    private final double leadTimeSmoothing;
+    private final Map<Long, DecayedCounter> sales = new HashMap<>();
+    private final Map<Long, SmoothedLeadTime> leadTimes = new HashMap<>();
+
+    public ReplenishmentEstimates(double velocityHalfLifeDays, double leadTimeSmoothing) {
+        if (velocityHalfLifeDays <= 0) {
+            throw new IllegalArgumentException("The velocity half-life must be positive: " + velocityHalfLifeDays);
+        }
+        if (leadTimeSmoothing <= 0 || leadTimeSmoothing > 1) {
+            throw new IllegalArgumentException("The lead time smoothing must be in (0, 1]: " + leadTimeSmoothing);
+        }
+        this.decayRate = Math.log(2) / velocityHalfLifeDays;
+        this.leadTimeSmoothing = leadTimeSmoothing;
+    }
+
+    /**
+     * Returns the units of the product sold per day around {@code now}, or {@code 0} without sales.
+     */
+    public double getDailyVelocity(long productId, LocalDateTime now) {
+        var counter = sales.get(productId);
+        return counter == null ? 0 : decayRate * counter.valueAt(dayOf(now), decayRate);
+    }
+
+    /**
+     * Returns the smoothed lead time of the supplier, or {@code null} when none of its purchases arrived yet.
+     */
+    public LeadTime getLeadTime(long supplierId) {
+        var leadTime = leadTimes.get(supplierId);
+        return leadTime == null ? null : new LeadTime(leadTime.mean, Math.sqrt(leadTime.variance));
+    }
+
+    public int productCount() {
+        return sales.size();
+    }
+
+    public int supplierCount() {
+        return leadTimes.size();
+    }
+
+    void addSale(ProductSale sale) {
+        sales.computeIfAbsent(sale.productId(), productId -> new DecayedCounter())
+                .add(dayOf(sale.deliveredAt()), sale.quantity(), decayRate);
+    }
+
+    /**
+     * Folds one lead time into the supplier statistics. Samples should arrive in the order the
+     * purchases did, so the most recent ones weigh the most.
+     */
+    void addLeadTime(LeadTimeSample sample) {
+        var days = dayOf(sample.arrivedAt()) - dayOf(sample.orderedAt());
+        var leadTime = leadTimes.get(sample.supplierId());
+        if (leadTime == null) {
+            leadTimes.put(sample.supplierId(), new SmoothedLeadTime(Math.max(days, 0)));
+        } else {
+            leadTime.add(Math.max(days, 0), leadTimeSmoothing);
+        }
+    }
+
+    static double dayOf(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_DAY;
+    }
+
+    private static class DecayedCounter {
+        private double value;
+        private double day = Double.NEGATIVE_INFINITY;
+
+        private void add(double atDay, long quantity, double decayRate) {
+            if (atDay >= day) {
+                value = valueAt(atDay, decayRate) + quantity;
+                day = atDay;
+            } else {
+                // A late sale is decayed to the counter's own day instead of rewinding it.
+                value += quantity * Math.exp(-decayRate * (day - atDay));
+            }
+        }
+
+        private double valueAt(double atDay, double decayRate) {
+            return atDay <= day ? value : value * Math.exp(-decayRate * (atDay - day));
+        }
+    }
+
+    private static class SmoothedLeadTime {
+        private double mean;
+        private double variance;
+
+        private SmoothedLeadTime(double days) {
+            this.mean = days;
+        }
+
+        private void add(double days, double smoothing) {
+            var difference = days - mean;
+            var increment = smoothing * difference;
+            mean += increment;
+            variance = (1 - smoothing) * (variance + difference * increment);
+        }
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,103 @@
+package com.jcanseco.inventoryapi.purchases.replenishment;
+
+import com.jcanseco.inventoryapi.purchases.persistence.ReplenishmentRepository;
+import com.jcanseco.inventoryapi.shared.utils.LockedState;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Process-local sales velocity and supplier lead time statistics behind the replenishment suggestions.
+ * <p>
+ * Delivered orders and received purchases are read inside the transaction that changes them and folded
+ * in once it commits; those committing while {@link #reload()} or the first {@link #read(Function)} loads
+ * the history are replayed on the fresh statistics. Until then the statistics are not loaded and changes
+ * are ignored.
+ */
+@Slf4j
+@Component
+public class ReplenishmentStats {
+
+    private final ReplenishmentRepository repository;
+    private final double velocityHalfLifeDays;
+    private final double leadTimeSmoothing;
+    private final LockedState<ReplenishmentEstimates> estimates = new LockedState<>();
+
+    public ReplenishmentStats(
+            ReplenishmentRepository repository,
+            @Value("${app.purchases.replenishment.velocity-half-life:P28D}") Duration velocityHalfLife,
+            @Value("${app.purchases.replenishment.lead-time-smoothing:0.3}") double leadTimeSmoothing) {
+        this.repository = repository;
+        this.velocityHalfLifeDays = velocityHalfLife.toSeconds() / 86_400d;
+        this.leadTimeSmoothing = leadTimeSmoothing;
+    }
+
+    public boolean isLoaded() {
+        return estimates.isLoaded();
+    }
+
+    /**
+     * Replaces the statistics with a fresh pass over every delivered order and received purchase.
+     */
+    public void reload() {
+        var newEstimates = estimates.load(this::load);
+        log.info("Replenishment statistics loaded for {} products and {} suppliers.",
+                newEstimates.productCount(), newEstimates.supplierCount());
+    }
+
+    /**
+     * Runs the reader against the current statistics under the read lock, loading them from the history
+     * first when not loaded. The caller's transaction is suspended, so a lazy load reads what is committed
+     * now rather than an older snapshot the caller already holds.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public <T> T read(Function<ReplenishmentEstimates, T> reader) {
+        return estimates.readOrLoad(this::load, reader);
+    }
+
+    /**
+     * Reads the units the given orders sold and folds them in after commit. Must be called inside the
+     * transaction that delivers them, and only once per order.
+     */
+    public void onOrdersDelivered(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        estimates.readAndUpdateAfterCommit(() -> {
+            var sales = repository.getDeliveredSales(orderIds);
+            return current -> sales.forEach(current::addSale);
+        });
+    }
+
+    /**
+     * Reads the lead times of the given purchases and folds them in after commit. Must be called inside
+     * the transaction that receives them, and only once per purchase.
+     */
+    public void onPurchasesReceived(Collection<Long> purchaseIds) {
+        if (purchaseIds.isEmpty()) {
+            return;
+        }
+        estimates.readAndUpdateAfterCommit(() -> {
+            var samples = repository.getLeadTimes(purchaseIds);
+            return current -> samples.forEach(current::addLeadTime);
+        });
+    }
+
+    private ReplenishmentEstimates load() {
+        var newEstimates = new ReplenishmentEstimates(velocityHalfLifeDays, leadTimeSmoothing);
+        repository.forEachDailySale(newEstimates::addSale);
+        repository.forEachLeadTime(newEstimates::addLeadTime);
+        return newEstimates;
+    }
+}
+
+
+
+
+
+
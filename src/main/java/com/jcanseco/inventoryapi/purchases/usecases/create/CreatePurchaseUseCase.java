@@ -1,6 +1,6 @@
 package com.jcanseco.inventoryapi.purchases.usecases.create;
 
-import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
+import com.jcanseco.inventoryapi.catalog.products.persistence.ProductLookup;
 import com.jcanseco.inventoryapi.purchases.dto.CreatePurchaseDto;
 import com.jcanseco.inventoryapi.purchases.domain.Purchase;
 import com.jcanseco.inventoryapi.purchases.persistence.PurchaseRepository;
@@ -15,7 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CreatePurchaseUseCase {
 
-    private final ProductRepository productRepository;
+    private final ProductLookup productLookup;
     private final SupplierRepository supplierRepository;
     private final PurchaseRepository purchaseRepository;
     private final ClockProvider clockProvider;
@@ -25,7 +25,7 @@ public class CreatePurchaseUseCase {
         var supplier = supplierRepository.findById(dto.getSupplierId())
                 .orElseThrow(() -> new DomainException(String.format("Supplier with the Id : {%d} was not found.", dto.getSupplierId())));
         var productsWithQuantities = dto.getProductsWithQuantities();
-        var products = productRepository.findAllById(productsWithQuantities.keySet());
+        var products = productLookup.findAllById(productsWithQuantities.keySet());
 
         var savedPurchase = purchaseRepository.saveAndFlush(
                 Purchase.createNew(supplier, products, productsWithQuantities, clockProvider.now())
@@ -5,7 +5,11 @@ import com.jcanseco.inventoryapi.purchases.dto.PurchaseDto;
 import com.jcanseco.inventoryapi.purchases.domain.Purchase;
 import com.jcanseco.inventoryapi.purchases.mapping.PurchaseMapper;
 import com.jcanseco.inventoryapi.purchases.persistence.PurchaseRepository;
+import com.jcanseco.inventoryapi.shared.pagination.Cursor;
+import com.jcanseco.inventoryapi.shared.pagination.CursorPagedList;
 import com.jcanseco.inventoryapi.shared.pagination.PagedList;
+import com.jcanseco.inventoryapi.shared.streaming.EntityStreamer;
+import com.jcanseco.inventoryapi.shared.streaming.RowSource;
 import com.jcanseco.inventoryapi.shared.utils.IndexUtility;
 import com.jcanseco.inventoryapi.suppliers.persistence.SupplierRepository;
 import java.util.List;
@@ -15,10 +19,12 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import static com.jcanseco.inventoryapi.shared.pagination.KeysetSpecifications.seek;
 import static com.jcanseco.inventoryapi.purchases.persistence.PurchaseSpecifications.byArrived;
 import static com.jcanseco.inventoryapi.purchases.persistence.PurchaseSpecifications.byArrivedBetween;
 import static com.jcanseco.inventoryapi.purchases.persistence.PurchaseSpecifications.byOrderedBetween;
 import static com.jcanseco.inventoryapi.purchases.persistence.PurchaseSpecifications.bySupplier;
+import static com.jcanseco.inventoryapi.purchases.persistence.PurchaseSpecifications.fetchSupplier;
 import static com.jcanseco.inventoryapi.purchases.persistence.PurchaseSpecifications.orderByArrivedAsc;
 import static com.jcanseco.inventoryapi.purchases.persistence.PurchaseSpecifications.orderByArrivedAtAsc;
 import static com.jcanseco.inventoryapi.purchases.persistence.PurchaseSpecifications.orderByArrivedAtDesc;
@@ -40,6 +46,7 @@ public class GetPurchasesUseCase {
     private final PurchaseRepository purchaseRepository;
     private final PurchaseMapper purchaseMapper;
     private final IndexUtility indexUtility;
+    private final EntityStreamer entityStreamer;
 
     @Transactional(readOnly = true)
     public List<PurchaseDto> execute(GetPurchasesRequest request) {
@@ -60,6 +67,28 @@ public class GetPurchasesUseCase {
         return purchaseMapper.pageToPagedList(page);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPagedList<PurchaseDto> executeCursorPaged(GetPurchasesRequest request) {
+        var pageSize = request.getPageSize() != null ? request.getPageSize() : CursorPagedList.DEFAULT_PAGE_SIZE;
+        var orderBy = !StringUtils.hasText(request.getOrderBy()) ? "orderedAt" : request.getOrderBy();
+        var isAscending = indexUtility.isAscendingOrder(request.getSortOrder());
+        var cursor = Cursor.decodeFor(request.getCursor(), orderBy, isAscending);
+        var specification = seek(composeSpecification(request), cursor);
+        var rows = purchaseRepository.findBy(specification, query -> query.limit(pageSize + 1).all());
+        return CursorPagedList.fromRows(
+                rows,
+                pageSize,
+                purchaseMapper::entityToDto,
+                purchase -> Cursor.of(orderBy, isAscending, sortKeyOf(purchase, orderBy), purchase.getId())
+        );
+    }
+
+    // The specification is built right away, rows are only read and mapped one at a time once the source is written.
+    public RowSource<PurchaseDto> stream(GetPurchasesRequest request) {
+        var specification = composeSpecification(request).and(fetchSupplier());
+        return writer -> entityStreamer.stream(Purchase.class, specification, purchase -> writer.write(purchaseMapper.entityToDto(purchase)));
+    }
+
     private Specification<Purchase> composeSpecification(GetPurchasesRequest request) {
         Specification<Purchase> spec = Specification.where(null);
 
@@ -93,9 +122,20 @@ public class GetPurchasesUseCase {
             case "total" -> isAscending ? orderByTotalAsc(spec) : orderByTotalDesc(spec);
             case "arrived" -> isAscending ? orderByArrivedAsc(spec) : orderByArrivedDesc(spec);
             case "arrivedAt" -> isAscending ? orderByArrivedAtAsc(spec) : orderByArrivedAtDesc(spec);
-            case "orderedAt" -> isAscending ? orderByOrderedAtAsc(spec) : orderByOrderedAtDesc(spec);
             default -> isAscending ? orderByOrderedAtAsc(spec) : orderByOrderedAtDesc(spec);
         };
     }
+
+    private Object sortKeyOf(Purchase purchase, String orderBy) {
+        return switch (orderBy) {
+            case "id" -> purchase.getId();
+            case "supplier" -> purchase.getSupplier().getCompanyName();
+            case "total" -> purchase.getTotal();
+            case "arrived" -> purchase.isArrived();
+            case "arrivedAt" -> purchase.getArrivedAt();
+            case "orderedAt" -> purchase.getOrderedAt();
+            default -> purchase.getOrderedAt();
+        };
+    }
 }
 
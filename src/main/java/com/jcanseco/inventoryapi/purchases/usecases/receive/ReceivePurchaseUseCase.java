@@ -1,11 +1,12 @@
 package com.jcanseco.inventoryapi.purchases.usecases.receive;
 
-import com.jcanseco.inventoryapi.inventory.stock.domain.Stock;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockMovementRepository;
 import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
 import com.jcanseco.inventoryapi.purchases.domain.PurchaseItem;
 import com.jcanseco.inventoryapi.purchases.dto.ReceivePurchaseDto;
 import com.jcanseco.inventoryapi.purchases.events.PurchaseReceivedEvent;
 import com.jcanseco.inventoryapi.purchases.persistence.PurchaseRepository;
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
 import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,13 +16,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import static com.jcanseco.inventoryapi.inventory.stock.persistence.StockSpecifications.byProductIds;
 
 @Service
 @RequiredArgsConstructor
 public class ReceivePurchaseUseCase {
 
     private final StockRepository stockRepository;
+    private final StockMovementRepository stockMovementRepository;
     private final PurchaseRepository purchaseRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final ClockProvider clockProvider;
@@ -31,17 +32,18 @@ public class ReceivePurchaseUseCase {
         var purchase = purchaseRepository.findById(dto.getPurchaseId())
                 .orElseThrow(() -> new NotFoundException(String.format("Purchase with the Id : {%d} was not found.", dto.getPurchaseId())));
 
-        purchase.markAsArrived(dto.getComment(), clockProvider.now());
+        var arrivedAt = clockProvider.now();
+
+        // The arrived flag is flipped with a conditional update so the stock is only added once under concurrent receives.
+        if (purchaseRepository.markAsArrived(purchase.getId(), dto.getComment(), arrivedAt) == 0) {
+            throw new DomainException(String.format("The purchase with ID %d has already been marked as 'arrived'.", purchase.getId()));
+        }
 
         var productsWithQuantities = purchase.getItems().stream()
                 .collect(Collectors.toMap(PurchaseItem::getProductId, PurchaseItem::getQuantity));
 
-        var productIds = productsWithQuantities.keySet().stream().toList();
-        List<Stock> stocks = stockRepository.findAll(byProductIds(productIds));
-        stocks.forEach(stock -> stock.addStock(productsWithQuantities.get(stock.getProductId())));
-
-        purchaseRepository.saveAndFlush(purchase);
-        stockRepository.saveAllAndFlush(stocks);
+        stockRepository.addStock(productsWithQuantities);
+        stockMovementRepository.recordPurchaseReceipts(List.of(purchase.getId()), dto.getComment(), arrivedAt);
 
         eventPublisher.publishEvent(new PurchaseReceivedEvent(purchase.getId()));
     }
@@ -0,0 +1,60 @@
+package com.jcanseco.inventoryapi.purchases.usecases.receivebatch;
+
+import com.jcanseco.inventoryapi.inventory.stock.dto.ProductQuantityDto;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockMovementRepository;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
+import com.jcanseco.inventoryapi.purchases.dto.ReceivePurchasesBatchDto;
+import com.jcanseco.inventoryapi.purchases.events.PurchasesReceivedEvent;
+import com.jcanseco.inventoryapi.purchases.persistence.PurchaseRepository;
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ReceivePurchasesBatchUseCase {
+
+    private final StockRepository stockRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final PurchaseRepository purchaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClockProvider clockProvider;
+
+    /**
+     * Receives all the given purchases or none of them. The stock of every product is increased
+     * once with the quantities of all the purchases merged, and a single event is published.
+     */
+    @Transactional
+    public void execute(ReceivePurchasesBatchDto dto) {
+        var purchaseIds = new ArrayList<>(new LinkedHashSet<>(dto.getPurchaseIds()));
+
+        var missingIds = new ArrayList<>(purchaseIds);
+        missingIds.removeAll(new HashSet<>(purchaseRepository.findExistingIds(purchaseIds)));
+        if (!missingIds.isEmpty()) {
+            throw new NotFoundException(String.format("Purchases with the following Ids were not found: %s.", missingIds));
+        }
+
+        var arrivedAt = clockProvider.now();
+
+        // Same conditional update as the single receive; any purchase already arrived rolls the whole batch back.
+        if (purchaseRepository.markAllAsArrived(purchaseIds, dto.getComment(), arrivedAt) != purchaseIds.size()) {
+            throw new DomainException("One or more of the purchases have already been marked as 'arrived'.");
+        }
+
+        var productsWithQuantities = purchaseRepository.sumItemQuantitiesByProduct(purchaseIds).stream()
+                .collect(Collectors.toMap(ProductQuantityDto::productId, ProductQuantityDto::quantity));
+
+        stockRepository.addStock(productsWithQuantities);
+        stockMovementRepository.recordPurchaseReceipts(purchaseIds, dto.getComment(), arrivedAt);
+
+        eventPublisher.publishEvent(new PurchasesReceivedEvent(purchaseIds));
+    }
+}
@@ -0,0 +1,49 @@
+package com.jcanseco.inventoryapi.purchases.usecases.replenish;
+
+import com.jcanseco.inventoryapi.purchases.dto.CreatePurchaseDto;
+import com.jcanseco.inventoryapi.purchases.dto.CreateReplenishmentPurchasesDto;
+import com.jcanseco.inventoryapi.purchases.dto.GetReplenishmentSuggestionsRequest;
+import com.jcanseco.inventoryapi.purchases.dto.ReplenishmentSuggestionDto;
+import com.jcanseco.inventoryapi.purchases.usecases.create.CreatePurchaseUseCase;
+import com.jcanseco.inventoryapi.purchases.usecases.suggest.GetReplenishmentSuggestionsUseCase;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Turns the current replenishment suggestions into one pending purchase per supplier. The new
+ * purchases count as on order, so running it again only creates purchases for what is still missing.
+ */
+@Service
+@RequiredArgsConstructor
+public class CreateReplenishmentPurchasesUseCase {
+
+    private final GetReplenishmentSuggestionsUseCase getReplenishmentSuggestionsUseCase;
+    private final CreatePurchaseUseCase createPurchaseUseCase;
+
+    @Transactional
+    public List<Long> execute(CreateReplenishmentPurchasesDto dto) {
+        var supplierIds = dto.getSupplierIds() == null ? new HashSet<Long>() : new HashSet<>(dto.getSupplierIds());
+        var request = new GetReplenishmentSuggestionsRequest(supplierIds.size() == 1 ? supplierIds.iterator().next() : null);
+        var purchaseIds = new ArrayList<Long>();
+        for (var supplier : getReplenishmentSuggestionsUseCase.execute(request)) {
+            if (!supplierIds.isEmpty() && !supplierIds.contains(supplier.supplierId())) {
+                continue;
+            }
+            var productsWithQuantities = new HashMap<Long, Long>();
+            supplier.products().forEach(product -> productsWithQuantities.put(product.productId(), product.suggestedQuantity()));
+            purchaseIds.add(createPurchaseUseCase.execute(new CreatePurchaseDto(supplier.supplierId(), productsWithQuantities)));
+        }
+        return purchaseIds;
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,127 @@
+package com.jcanseco.inventoryapi.purchases.usecases.suggest;
+
+import com.jcanseco.inventoryapi.purchases.dto.GetReplenishmentSuggestionsRequest;
+import com.jcanseco.inventoryapi.purchases.dto.ReplenishmentSuggestionDto;
+import com.jcanseco.inventoryapi.purchases.dto.SupplierReplenishmentDto;
+import com.jcanseco.inventoryapi.purchases.persistence.ReplenishmentRepository;
+import com.jcanseco.inventoryapi.purchases.replenishment.LeadTime;
+import com.jcanseco.inventoryapi.purchases.replenishment.ReplenishmentCandidate;
+import com.jcanseco.inventoryapi.purchases.replenishment.ReplenishmentEstimates;
+import com.jcanseco.inventoryapi.purchases.replenishment.ReplenishmentStats;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Suggests purchase quantities per supplier from the decayed sales velocity of each product and the
+ * smoothed lead time of its supplier.
+ * <p>
+ * A product is suggested once its stock position (on hand, minus reserved, plus pending purchases)
+ * falls to its reorder level: the larger of its reorder point and the expected demand over the lead
+ * time plus {@code serviceFactor} standard deviations of it. The suggested quantity brings the position
+ * back to the reorder level plus {@code coverage} days of demand, and is never less than the product's
+ * reorder quantity.
+ */
+@Service
+public class GetReplenishmentSuggestionsUseCase {
+
+    private final ReplenishmentRepository replenishmentRepository;
+    private final ReplenishmentStats replenishmentStats;
+    private final ClockProvider clockProvider;
+    private final double defaultLeadTimeDays;
+    private final double coverageDays;
+    private final double serviceFactor;
+
+    public GetReplenishmentSuggestionsUseCase(
+            ReplenishmentRepository replenishmentRepository,
+            ReplenishmentStats replenishmentStats,
+            ClockProvider clockProvider,
+            @Value("${app.purchases.replenishment.default-lead-time:P7D}") Duration defaultLeadTime,
+            @Value("${app.purchases.replenishment.coverage:P14D}") Duration coverage,
+            @Value("${app.purchases.replenishment.service-factor:1.65}") double serviceFactor) {
+        this.replenishmentRepository = replenishmentRepository;
+        this.replenishmentStats = replenishmentStats;
+        this.clockProvider = clockProvider;
+        this.defaultLeadTimeDays = defaultLeadTime.toSeconds() / 86_400d;
+        this.coverageDays = coverage.toSeconds() / 86_400d;
+        this.serviceFactor = serviceFactor;
+    }
+
+    public List<SupplierReplenishmentDto> execute(GetReplenishmentSuggestionsRequest request) {
+        var candidates = replenishmentRepository.getCandidates(request.getSupplierId());
+        var now = clockProvider.now();
+        return replenishmentStats.read(estimates -> suggest(candidates, estimates, now));
+    }
+
+    private List<SupplierReplenishmentDto> suggest(List<ReplenishmentCandidate> candidates,
+                                                   ReplenishmentEstimates estimates, LocalDateTime now) {
+        var suppliers = new ArrayList<SupplierReplenishmentDto>();
+        var products = new ArrayList<ReplenishmentSuggestionDto>();
+        LeadTime leadTime = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            var candidate = candidates.get(i);
+            if (i == 0 || candidates.get(i - 1).supplierId() != candidate.supplierId()) {
+                leadTime = estimates.getLeadTime(candidate.supplierId());
+            }
+            var suggestion = suggest(candidate, estimates.getDailyVelocity(candidate.productId(), now), leadTime);
+            if (suggestion != null) {
+                products.add(suggestion);
+            }
+            var lastOfSupplier = i == candidates.size() - 1 || candidates.get(i + 1).supplierId() != candidate.supplierId();
+            if (lastOfSupplier && !products.isEmpty()) {
+                suppliers.add(new SupplierReplenishmentDto(
+                        candidate.supplierId(),
+                        candidate.supplierName(),
+                        BigDecimal.valueOf(leadTimeDays(leadTime)).setScale(1, RoundingMode.HALF_UP),
+                        List.copyOf(products),
+                        products.stream().map(ReplenishmentSuggestionDto::estimatedCost).reduce(BigDecimal.ZERO, BigDecimal::add)
+                ));
+                products.clear();
+            }
+        }
+        return suppliers;
+    }
+
+    private ReplenishmentSuggestionDto suggest(ReplenishmentCandidate candidate, double dailyVelocity, LeadTime leadTime) {
+        var leadTimeDemand = dailyVelocity * leadTimeDays(leadTime);
+        var safetyStock = leadTime == null ? 0 : serviceFactor * dailyVelocity * leadTime.stdDevDays();
+        var reorderLevel = Math.max(candidate.reorderPoint(), leadTimeDemand + safetyStock);
+        var position = candidate.stockQuantity() - candidate.reservedQuantity() + candidate.onOrderQuantity();
+        if (position > reorderLevel) {
+            return null;
+        }
+        var quantity = Math.max((long) Math.ceil(reorderLevel + dailyVelocity * coverageDays - position),
+                candidate.reorderQuantity());
+        if (quantity <= 0) {
+            return null;
+        }
+        return new ReplenishmentSuggestionDto(
+                candidate.productId(),
+                candidate.productName(),
+                BigDecimal.valueOf(dailyVelocity).setScale(2, RoundingMode.HALF_UP),
+                candidate.stockQuantity(),
+                candidate.reservedQuantity(),
+                candidate.onOrderQuantity(),
+                candidate.reorderPoint(),
+                quantity,
+                candidate.purchasePrice(),
+                candidate.purchasePrice().multiply(BigDecimal.valueOf(quantity))
+        );
+    }
+
+    private double leadTimeDays(LeadTime leadTime) {
+        return leadTime == null ? defaultLeadTimeDays : leadTime.meanDays();
+    }
+}
+
+
+
+
+
+
@@ -1,6 +1,6 @@
 package com.jcanseco.inventoryapi.purchases.usecases.update;
 
-import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
+import com.jcanseco.inventoryapi.catalog.products.persistence.ProductLookup;
 import com.jcanseco.inventoryapi.purchases.dto.UpdatePurchaseDto;
 import com.jcanseco.inventoryapi.purchases.persistence.PurchaseRepository;
 import com.jcanseco.inventoryapi.shared.errors.DomainException;
@@ -13,7 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UpdatePurchaseUseCase {
 
-    private final ProductRepository productRepository;
+    private final ProductLookup productLookup;
     private final PurchaseRepository purchaseRepository;
 
     @Transactional
@@ -26,7 +26,7 @@ public class UpdatePurchaseUseCase {
         }
 
         var productsWithQuantities = dto.getProductsWithQuantities();
-        var products = productRepository.findAllById(productsWithQuantities.keySet());
+        var products = productLookup.findAllById(productsWithQuantities.keySet());
         purchase.update(products, productsWithQuantities);
 
         purchaseRepository.saveAndFlush(purchase);
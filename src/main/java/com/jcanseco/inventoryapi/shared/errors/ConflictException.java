@@ -0,0 +1,7 @@
+package com.jcanseco.inventoryapi.shared.errors;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.jcanseco.inventoryapi.shared.errors.handler;
 
+import com.jcanseco.inventoryapi.shared.errors.ConflictException;
 import com.jcanseco.inventoryapi.shared.errors.DomainException;
 import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -126,6 +127,13 @@ public class  GeneralExceptionHandler extends ResponseEntityExceptionHandler {
         return buildErrorResponse(exception, exception.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY, request);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<Object> handleConflictException(ConflictException exception, WebRequest request) {
+        logger.error("Conflict exception occurred", exception);
+        return buildErrorResponse(exception, exception.getMessage(), HttpStatus.CONFLICT, request);
+    }
+
     // Security
     @ExceptionHandler(BadCredentialsException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
@@ -0,0 +1,55 @@
+package com.jcanseco.inventoryapi.shared.export;
+
+import com.jcanseco.inventoryapi.shared.streaming.CsvFormat;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class CsvTableWriter implements TableWriter {
+
+    private final Writer output;
+
+    public CsvTableWriter(OutputStream output) {
+        this.output = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                output.write(',');
+            }
+            output.write(CsvFormat.escape(toText(values.get(i))));
+        }
+        output.write(CsvFormat.LINE_SEPARATOR);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        output.flush();
+    }
+
+    private static String toText(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String text) {
+            return CsvFormat.neutralizeFormula(text);
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+}
+
+
+
+
+
+
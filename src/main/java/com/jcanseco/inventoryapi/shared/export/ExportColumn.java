@@ -0,0 +1,11 @@
+package com.jcanseco.inventoryapi.shared.export;
+
+import java.util.function.Function;
+
+public record ExportColumn<T>(String header, Function<T, Object> value) { }
+
+
+
+
+
+
@@ -0,0 +1,38 @@
+package com.jcanseco.inventoryapi.shared.export;
+
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8), CsvTableWriter::new),
+    XLSX("xlsx", MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"), XlsxTableWriter::new);
+
+    private final String extension;
+    private final MediaType mediaType;
+    private final Function<OutputStream, TableWriter> writerFactory;
+
+    public TableWriter newWriter(OutputStream output) {
+        return writerFactory.apply(output);
+    }
+
+    public static ExportFormat fromExtension(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(extension))
+                .findFirst()
+                .orElseThrow(() -> new DomainException(String.format("Export format '%s' is not supported. The following formats are valid: 'csv', 'xlsx'.", extension)));
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,76 @@
+package com.jcanseco.inventoryapi.shared.export;
+
+import com.jcanseco.inventoryapi.shared.streaming.StreamingResponses;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+/**
+ * Streams an {@link ExportTable} as a file download. Rows go from the database scroll to the response
+ * through a fixed size buffer, nothing but the current row is held in memory. Like the streaming list
+ * responses, the file is written on the {@code streamingTaskExecutor} pool with the {@code app.streaming.timeout}
+ * timeout.
+ */
+@Component
+public class ExportResponses {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ClockProvider clockProvider;
+    private final AsyncTaskExecutor taskExecutor;
+    private final Duration timeout;
+
+    public ExportResponses(
+            ClockProvider clockProvider,
+            @Qualifier("streamingTaskExecutor") AsyncTaskExecutor taskExecutor,
+            @Value("${app.streaming.timeout:PT30M}") Duration timeout) {
+        this.clockProvider = clockProvider;
+        this.taskExecutor = taskExecutor;
+        this.timeout = timeout;
+    }
+
+    public <T> WebAsyncTask<Void> ok(String format, ExportTable<T> table, HttpServletResponse response) {
+        var exportFormat = ExportFormat.fromExtension(format);
+        var fileName = table.name() + "-" + clockProvider.now().format(FILE_TIMESTAMP) + "." + exportFormat.getExtension();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(exportFormat.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+
+        Callable<Void> body = () -> {
+            var buffered = new BufferedOutputStream(response.getOutputStream(), StreamingResponses.BUFFER_SIZE);
+            var writer = exportFormat.newWriter(buffered);
+            writer.writeRow(table.columns().stream().map(ExportColumn::header).toList());
+
+            var values = new ArrayList<>(table.columns().size());
+            table.rows().writeTo(row -> {
+                values.clear();
+                for (var column : table.columns()) {
+                    values.add(column.value().apply(row));
+                }
+                writer.writeRow(values);
+            });
+
+            writer.finish();
+            buffered.flush();
+            return null;
+        };
+        return new WebAsyncTask<>(timeout.toMillis(), taskExecutor, body);
+    }
+}
+
+
+
+
+
+
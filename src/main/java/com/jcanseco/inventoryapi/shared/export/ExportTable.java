@@ -0,0 +1,15 @@
+package com.jcanseco.inventoryapi.shared.export;
+
+import com.jcanseco.inventoryapi.shared.streaming.RowSource;
+import java.util.List;
+
+/**
+ * What an export writes: the columns and the rows they are read from.
+ */
+public record ExportTable<T>(String name, List<ExportColumn<T>> columns, RowSource<T> rows) { }
+
+
+
+
+
+
@@ -0,0 +1,17 @@
+package com.jcanseco.inventoryapi.shared.export;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface TableWriter {
+    void writeRow(List<?> values) throws IOException;
+
+    // Completes the document, the underlying stream is left open.
+    void finish() throws IOException;
+}
+
+
+
+
+
+
@@ -0,0 +1,199 @@
+package com.jcanseco.inventoryapi.shared.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes a minimal SpreadsheetML (xlsx) package straight to the output stream. Rows are written to the
+ * current worksheet entry as they arrive with inline strings, so no workbook or shared string table is
+ * kept in memory. A new worksheet is started when a sheet reaches the Excel row limit.
+ */
+public class XlsxTableWriter implements TableWriter {
+
+    public static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    private final ZipOutputStream zip;
+    private final Writer output;
+    private final int maxRowsPerSheet;
+    private List<?> header;
+    private int sheetCount;
+    private int rowNumber;
+
+    public XlsxTableWriter(OutputStream output) {
+        this(output, MAX_ROWS_PER_SHEET);
+    }
+
+    XlsxTableWriter(OutputStream output, int maxRowsPerSheet) {
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        this.zip = new ZipOutputStream(output, StandardCharsets.UTF_8);
+        this.zip.setLevel(Deflater.BEST_SPEED);
+        this.output = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+    }
+
+    // The first row written is taken as the header and repeated on every worksheet.
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        if (header == null) {
+            header = values;
+        }
+        if (sheetCount == 0 || rowNumber == maxRowsPerSheet) {
+            startSheet();
+            if (values == header) {
+                return;
+            }
+        }
+        appendRow(values);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (sheetCount == 0) {
+            startSheet();
+        }
+        endSheet();
+
+        writeEntry("[Content_Types].xml", contentTypes());
+        writeEntry("_rels/.rels", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+                <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>\
+                </Relationships>""");
+        writeEntry("xl/workbook.xml", workbook());
+        writeEntry("xl/_rels/workbook.xml.rels", workbookRelationships());
+        zip.finish();
+        zip.flush();
+    }
+
+    private void startSheet() throws IOException {
+        if (sheetCount > 0) {
+            endSheet();
+        }
+        sheetCount++;
+        rowNumber = 0;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetCount + ".xml"));
+        output.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        output.write("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+        if (header != null) {
+            appendRow(header);
+        }
+    }
+
+    private void endSheet() throws IOException {
+        output.write("</sheetData></worksheet>");
+        output.flush();
+        zip.closeEntry();
+    }
+
+    private void appendRow(List<?> values) throws IOException {
+        rowNumber++;
+        output.write("<row r=\"");
+        output.write(Integer.toString(rowNumber));
+        output.write("\">");
+        for (int i = 0; i < values.size(); i++) {
+            appendCell(columnName(i) + rowNumber, values.get(i));
+        }
+        output.write("</row>");
+    }
+
+    private void appendCell(String reference, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number number) {
+            output.write("<c r=\"" + reference + "\"><v>");
+            output.write(number instanceof BigDecimal decimal ? decimal.toPlainString() : number.toString());
+            output.write("</v></c>");
+        } else if (value instanceof Boolean flag) {
+            output.write("<c r=\"" + reference + "\" t=\"b\"><v>" + (flag ? 1 : 0) + "</v></c>");
+        } else {
+            output.write("<c r=\"" + reference + "\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+            writeEscaped(value.toString());
+            output.write("</t></is></c>");
+        }
+    }
+
+    // Characters that are not allowed in XML 1.0 are dropped.
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+            switch (c) {
+                case '<' -> output.write("&lt;");
+                case '>' -> output.write("&gt;");
+                case '&' -> output.write("&amp;");
+                case '"' -> output.write("&quot;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        output.write(c);
+                    }
+                }
+            }
+        }
+    }
+
+    static String columnName(int index) {
+        var name = new StringBuilder();
+        for (int n = index + 1; n > 0; n = (n - 1) / 26) {
+            name.insert(0, (char) ('A' + (n - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        output.write(content);
+        output.flush();
+        zip.closeEntry();
+    }
+
+    private String contentTypes() {
+        var xml = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">\
+                <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>\
+                <Default Extension="xml" ContentType="application/xml"/>\
+                <Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>""");
+        for (int i = 1; i <= sheetCount; i++) {
+            xml.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        return xml.append("</Types>").toString();
+    }
+
+    private String workbook() {
+        var xml = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+                xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships"><sheets>""");
+        for (int i = 1; i <= sheetCount; i++) {
+            xml.append("<sheet name=\"Sheet").append(i).append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+        }
+        return xml.append("</sheets></workbook>").toString();
+    }
+
+    private String workbookRelationships() {
+        var xml = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">""");
+        for (int i = 1; i <= sheetCount; i++) {
+            xml.append("<Relationship Id=\"rId").append(i)
+                    .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet")
+                    .append(i).append(".xml\"/>");
+        }
+        return xml.append("</Relationships>").toString();
+    }
+}
+
+
+
+
+
+
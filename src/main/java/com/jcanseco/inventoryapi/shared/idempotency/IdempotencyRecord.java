@@ -0,0 +1,49 @@
+package com.jcanseco.inventoryapi.shared.idempotency;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "ix_idempotency_keys_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecord {
+
+    /**
+     * The scope of the request followed by a digest of the user and the client's key.
+     */
+    @Id
+    @Column(name = "idempotency_key", length = 150)
+    private String key;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * {@code false} while the request holding the key is still running; the response columns are only set once it completes.
+     */
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT false")
+    private boolean completed;
+
+    @Column(name = "status_code", nullable = false)
+    private int statusCode;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(length = 300)
+    private String location;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
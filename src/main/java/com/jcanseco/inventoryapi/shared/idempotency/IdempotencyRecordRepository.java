@@ -0,0 +1,63 @@
+package com.jcanseco.inventoryapi.shared.idempotency;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Reserves the key with a pending row. A plain insert, so it fails with a duplicate key error when any
+     * request, on this node or another one, already holds or completed the key.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO idempotency_keys (idempotency_key, request_hash, completed, status_code, created_at, expires_at)
+            VALUES (:key, :requestHash, false, 0, :createdAt, :expiresAt)
+            """, nativeQuery = true)
+    int insertPending(
+            @Param("key") String key,
+            @Param("requestHash") String requestHash,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.completed = true,
+                r.statusCode = :statusCode,
+                r.responseBody = :responseBody,
+                r.location = :location,
+                r.expiresAt = :expiresAt
+            WHERE r.key = :key
+            AND r.completed = false
+            """)
+    int complete(
+            @Param("key") String key,
+            @Param("statusCode") int statusCode,
+            @Param("responseBody") String responseBody,
+            @Param("location") String location,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.key = :key AND r.completed = false")
+    int deletePending(@Param("key") String key);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.key = :key AND r.expiresAt <= :now")
+    int deleteExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+}
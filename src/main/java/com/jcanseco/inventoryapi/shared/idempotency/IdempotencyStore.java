@@ -0,0 +1,150 @@
+package com.jcanseco.inventoryapi.shared.idempotency;
+
+import com.jcanseco.inventoryapi.shared.errors.ConflictException;
+import com.jcanseco.inventoryapi.shared.utils.AfterCommit;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Responses recorded under an idempotency key. A key is reserved by inserting a pending row into the
+ * {@code idempotency_keys} table, so only one request across every node holds it, and the row is completed
+ * with the response in the request's own transaction once it succeeds. Completed responses are also kept in a bounded LRU map so
+ * replays rarely reach the table. Completed entries expire after {@code app.idempotency.ttl}; pending ones
+ * after {@code app.idempotency.pending-timeout}, so a node that died mid-request does not block the key.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final ClockProvider clockProvider;
+    private final Duration ttl;
+    private final Duration pendingTimeout;
+    private final Map<String, IdempotencyRecord> records;
+
+    public IdempotencyStore(
+            IdempotencyRecordRepository repository,
+            ClockProvider clockProvider,
+            @Value("${app.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${app.idempotency.pending-timeout:PT5M}") Duration pendingTimeout,
+            @Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this.repository = repository;
+        this.clockProvider = clockProvider;
+        this.ttl = ttl;
+        this.pendingTimeout = pendingTimeout;
+        this.records = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the completed response recorded under the key, if any.
+     */
+    public Optional<IdempotencyRecord> find(String key) {
+        var now = clockProvider.now();
+        synchronized (records) {
+            var record = records.get(key);
+            if (record != null) {
+                if (record.getExpiresAt().isAfter(now)) {
+                    return Optional.of(record);
+                }
+                records.remove(key);
+            }
+        }
+        var stored = repository.findById(key)
+                .filter(IdempotencyRecord::isCompleted)
+                .filter(record -> record.getExpiresAt().isAfter(now));
+        stored.ifPresent(record -> {
+            synchronized (records) {
+                records.put(key, record);
+            }
+        });
+        return stored;
+    }
+
+    /**
+     * Reserves the key for a request. Returns {@code false} when another request holds it or already
+     * completed with it; an expired row is removed and the reservation retried once.
+     */
+    public boolean tryAcquire(String key, String requestHash) {
+        var now = clockProvider.now();
+        try {
+            repository.insertPending(key, requestHash, now, now.plus(pendingTimeout));
+            return true;
+        } catch (DataIntegrityViolationException exception) {
+            if (repository.deleteExpired(key, now) == 0) {
+                return false;
+            }
+        }
+        try {
+            repository.insertPending(key, requestHash, now, now.plus(pendingTimeout));
+            return true;
+        } catch (DataIntegrityViolationException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Gives up a reservation that did not complete, so the request can be retried with the same key.
+     */
+    public void release(String key) {
+        try {
+            repository.deletePending(key);
+        } catch (DataAccessException exception) {
+            log.warn("Could not release the idempotency key {}; it frees up once it expires", key, exception);
+        }
+    }
+
+    /**
+     * Completes the reservation held by the caller with the response of its request. Runs in the caller's
+     * transaction, so the response is recorded only if the request's own changes commit; the record is cached
+     * once that transaction has committed.
+     */
+    public IdempotencyRecord complete(String key, String requestHash, int statusCode, String responseBody, String location) {
+        var now = clockProvider.now();
+        var record = IdempotencyRecord.builder()
+                .key(key)
+                .requestHash(requestHash)
+                .completed(true)
+                .statusCode(statusCode)
+                .responseBody(responseBody)
+                .location(location)
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build();
+        if (repository.complete(key, statusCode, responseBody, location, record.getExpiresAt()) == 0) {
+            // The reservation expired and was taken over; failing here rolls the request back instead of running it twice.
+            throw new ConflictException(String.format("The reservation of the idempotency key %s expired before the request completed.", key));
+        }
+        AfterCommit.run(() -> {
+            synchronized (records) {
+                records.put(key, record);
+            }
+        });
+        return record;
+    }
+
+    @Scheduled(cron = "${app.idempotency.purge-cron:0 0 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        var now = clockProvider.now();
+        synchronized (records) {
+            records.values().removeIf(record -> !record.getExpiresAt().isAfter(now));
+        }
+        var deleted = repository.deleteExpired(now);
+        log.info("Purged {} expired idempotency keys.", deleted);
+    }
+}
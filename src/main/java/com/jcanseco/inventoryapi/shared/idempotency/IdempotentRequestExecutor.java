@@ -0,0 +1,168 @@
+package com.jcanseco.inventoryapi.shared.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jcanseco.inventoryapi.shared.errors.ConflictException;
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * Runs a mutation at most once per {@code Idempotency-Key} and user. A retry carrying the same key and payload
+ * gets the recorded response back without running the use case again; the same key with a different payload is
+ * rejected. Only successful responses are recorded, so a failed request can be retried with the same key.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotentRequestExecutor {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    public <T> ResponseEntity<T> execute(
+            String scope,
+            String idempotencyKey,
+            Object request,
+            Class<T> bodyType,
+            Supplier<ResponseEntity<T>> action) {
+        return execute(scope, idempotencyKey, request, objectMapper.constructType(bodyType), action);
+    }
+
+    /**
+     * Same as above, for generic response bodies such as lists.
+     */
+    public <T> ResponseEntity<T> execute(
+            String scope,
+            String idempotencyKey,
+            Object request,
+            TypeReference<T> bodyType,
+            Supplier<ResponseEntity<T>> action) {
+        return execute(scope, idempotencyKey, request, objectMapper.constructType(bodyType), action);
+    }
+
+    private <T> ResponseEntity<T> execute(
+            String scope,
+            String idempotencyKey,
+            Object request,
+            JavaType bodyType,
+            Supplier<ResponseEntity<T>> action) {
+
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new DomainException(String.format("The %s header cannot be longer than %d characters.", IDEMPOTENCY_KEY_HEADER, MAX_KEY_LENGTH));
+        }
+
+        var key = scope + ":" + digest(currentUser() + ":" + idempotencyKey);
+        var requestHash = hash(request);
+
+        var recorded = idempotencyStore.find(key);
+        if (recorded.isPresent()) {
+            return replay(recorded.get(), requestHash, bodyType);
+        }
+
+        if (!idempotencyStore.tryAcquire(key, requestHash)) {
+            // Another request holds the key, or finished with it between the lookup and the acquire.
+            return idempotencyStore.find(key)
+                    .map(record -> this.<T>replay(record, requestHash, bodyType))
+                    .orElseThrow(() -> new ConflictException(
+                            String.format("A request with the same %s is still being processed.", IDEMPOTENCY_KEY_HEADER)));
+        }
+        var completed = false;
+        try {
+            // The use case joins this transaction, so its changes and the recorded response commit together.
+            var response = new TransactionTemplate(transactionManager).execute(status -> {
+                var result = action.get();
+                if (result.getStatusCode().is2xxSuccessful()) {
+                    var location = result.getHeaders().getLocation();
+                    idempotencyStore.complete(
+                            key,
+                            requestHash,
+                            result.getStatusCode().value(),
+                            result.hasBody() ? toJson(result.getBody()) : null,
+                            location == null ? null : location.toString()
+                    );
+                }
+                return result;
+            });
+            completed = response.getStatusCode().is2xxSuccessful();
+            return response;
+        } finally {
+            if (!completed) {
+                idempotencyStore.release(key);
+            }
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotencyRecord record, String requestHash, JavaType bodyType) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new DomainException(String.format("The %s has already been used with a different request.", IDEMPOTENCY_KEY_HEADER));
+        }
+        var builder = ResponseEntity.status(record.getStatusCode());
+        if (record.getLocation() != null) {
+            builder.location(URI.create(record.getLocation()));
+        }
+        if (record.getResponseBody() == null) {
+            return builder.build();
+        }
+        try {
+            return builder.body(objectMapper.readValue(record.getResponseBody(), bodyType));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("The recorded response cannot be read as " + bodyType, exception);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            // Map entries are sorted so equal payloads always hash the same.
+            return digest(objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).writeValueAsBytes(request));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("The request cannot be hashed", exception);
+        }
+    }
+
+    // Keys are kept per user, so two users sending the same key never share a response.
+    private static String currentUser() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "" : authentication.getName();
+    }
+
+    private static String digest(String value) {
+        return digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String digest(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("The value cannot be written as JSON", exception);
+        }
+    }
+}
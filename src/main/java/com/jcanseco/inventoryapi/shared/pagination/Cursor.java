@@ -0,0 +1,69 @@
+package com.jcanseco.inventoryapi.shared.pagination;
+
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.util.StringUtils;
+
+/**
+ * Continuation token for keyset pagination. It carries the sort key and id of the last row
+ * returned, together with the sort it was issued for, and is handed to clients as an opaque
+ * url-safe string.
+ */
+public record Cursor(String orderBy, boolean ascending, String value, long id) {
+
+    private static final String SEPARATOR = "\n";
+
+    public static Cursor of(String orderBy, boolean ascending, Object value, long id) {
+        return new Cursor(orderBy, ascending, valueToString(value), id);
+    }
+
+    public String encode() {
+        var text = orderBy + SEPARATOR + (ascending ? "asc" : "desc") + SEPARATOR + id;
+        if (value != null) {
+            text += SEPARATOR + value;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        try {
+            var text = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var parts = text.split(SEPARATOR, 4);
+            if (parts.length < 3 || !(parts[1].equals("asc") || parts[1].equals("desc"))) {
+                throw new DomainException("The cursor is not valid.");
+            }
+            var value = parts.length == 4 ? parts[3] : null;
+            return new Cursor(parts[0], parts[1].equals("asc"), value, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            throw new DomainException("The cursor is not valid.");
+        }
+    }
+
+    // Returns null for an empty token (first page). A cursor only makes sense for the sort it was issued for.
+    public static Cursor decodeFor(String token, String orderBy, boolean ascending) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+
+        var cursor = decode(token);
+        if (!cursor.orderBy().equals(orderBy) || cursor.ascending() != ascending) {
+            throw new DomainException("The cursor was issued for a different sort order.");
+        }
+        return cursor;
+    }
+
+    private static String valueToString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+    }
+}
+
+
+
+
+
+
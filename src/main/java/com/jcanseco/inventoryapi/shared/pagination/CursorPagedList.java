@@ -0,0 +1,37 @@
+package com.jcanseco.inventoryapi.shared.pagination;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class CursorPagedList<T> {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final List<T> items;
+    private final int pageSize;
+    private final String nextCursor;
+
+    @JsonSerialize
+    public boolean hasNextPage() {
+        return nextCursor != null;
+    }
+
+    // Rows are expected to be fetched with a limit of pageSize + 1, the extra row only tells whether there is a next page.
+    public static <E, T> CursorPagedList<T> fromRows(List<E> rows, int pageSize, Function<E, T> mapper, Function<E, Cursor> cursorOf) {
+        var hasNextPage = rows.size() > pageSize;
+        var pageRows = hasNextPage ? rows.subList(0, pageSize) : rows;
+        var nextCursor = hasNextPage ? cursorOf.apply(pageRows.get(pageSize - 1)).encode() : null;
+        return new CursorPagedList<>(pageRows.stream().map(mapper).toList(), pageSize, nextCursor);
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,117 @@
+package com.jcanseco.inventoryapi.shared.pagination;
+
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import org.springframework.data.jpa.domain.Specification;
+
+public class KeysetSpecifications {
+
+    /**
+     * Wraps one of the {@code orderBy...} specifications: the sort it sets is kept, the id is appended as a
+     * tie-breaker and, when a cursor is given, only the rows that come after it are selected.
+     * NULL sort keys are expected first on ascending order and last on descending order, as MySQL sorts them.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> seek(Specification<T> orderedSpec, Cursor cursor) {
+        return (root, query, builder) -> {
+            var predicate = orderedSpec.toPredicate(root, query, builder);
+            var sortOrder = query.getOrderList().get(0);
+            var ascending = sortOrder.isAscending();
+            var key = (Expression<Comparable>) sortOrder.getExpression();
+            Expression<Long> id = root.get("id");
+
+            query.orderBy(sortOrder, ascending ? builder.asc(id) : builder.desc(id));
+
+            if (cursor == null) {
+                return predicate;
+            }
+
+            var value = cursor.value() == null ? null : parseValue(cursor.value(), key.getJavaType());
+            var seek = ascending
+                    ? after(builder, key, value, id, cursor.id())
+                    : before(builder, key, value, id, cursor.id());
+            return predicate == null ? seek : builder.and(predicate, seek);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate after(CriteriaBuilder builder, Expression<Comparable> key, Comparable value, Expression<Long> id, long lastId) {
+        if (value == null) {
+            return builder.or(
+                    builder.and(builder.isNull(key), builder.greaterThan(id, lastId)),
+                    builder.isNotNull(key)
+            );
+        }
+        return builder.or(
+                greaterThan(builder, key, value),
+                builder.and(builder.equal(key, value), builder.greaterThan(id, lastId))
+        );
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate before(CriteriaBuilder builder, Expression<Comparable> key, Comparable value, Expression<Long> id, long lastId) {
+        if (value == null) {
+            return builder.and(builder.isNull(key), builder.lessThan(id, lastId));
+        }
+        return builder.or(
+                lessThan(builder, key, value),
+                builder.and(builder.equal(key, value), builder.lessThan(id, lastId)),
+                builder.isNull(key)
+        );
+    }
+
+    // Booleans are not ordered comparisons in JPQL, so they are rewritten as equality checks.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate greaterThan(CriteriaBuilder builder, Expression<Comparable> key, Comparable value) {
+        if (value instanceof Boolean flag) {
+            return flag ? builder.disjunction() : builder.equal(key, true);
+        }
+        return builder.greaterThan(key, value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate lessThan(CriteriaBuilder builder, Expression<Comparable> key, Comparable value) {
+        if (value instanceof Boolean flag) {
+            return flag ? builder.equal(key, false) : builder.disjunction();
+        }
+        return builder.lessThan(key, value);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Comparable parseValue(String value, Class<?> type) {
+        try {
+            if (type == String.class) {
+                return value;
+            }
+            if (type == Long.class || type == long.class) {
+                return Long.valueOf(value);
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(value);
+            }
+            if (type == BigDecimal.class) {
+                return new BigDecimal(value);
+            }
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            }
+            if (type == Boolean.class || type == boolean.class) {
+                return Boolean.valueOf(value);
+            }
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new DomainException("The cursor is not valid.");
+        }
+        throw new IllegalStateException("Unsupported keyset sort type: " + type);
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,184 @@
+package com.jcanseco.inventoryapi.shared.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Sorted {@code (key, id)} pairs held in parallel arrays, so a prefix lookup is one binary search
+ * followed by a forward scan over the matching keys. Every indexed text contributes its whole value,
+ * the value from each word onwards and, when it has any, its digits alone, so "doe", "john d" and
+ * "5551234" all find "John Doe" with the phone "555-1234". Keys ignore case and accents. Not thread-safe;
+ * {@link TypeaheadIndex} guards every access.
+ *
+ * @param <T> the suggestion returned for each indexed id
+ */
+public class PrefixIndex<T> {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+
+    private final Map<Long, T> values = new HashMap<>();
+    private final Map<Long, List<String>> keysById = new HashMap<>();
+    private String[] keys = new String[MIN_CAPACITY];
+    private long[] ids = new long[MIN_CAPACITY];
+    private int size;
+
+    public record Document<T>(long id, T value, Collection<String> texts) {
+    }
+
+    /**
+     * Builds the index in one sort instead of one insertion per key.
+     */
+    public static <T> PrefixIndex<T> of(Collection<Document<T>> documents) {
+        var index = new PrefixIndex<T>();
+        var pairs = new ArrayList<Map.Entry<String, Long>>();
+        for (var document : documents) {
+            var documentKeys = keysOf(document.texts());
+            index.values.put(document.id(), document.value());
+            index.keysById.put(document.id(), documentKeys);
+            documentKeys.forEach(key -> pairs.add(Map.entry(key, document.id())));
+        }
+        pairs.sort(Map.Entry.<String, Long>comparingByKey().thenComparing(Map.Entry.comparingByValue()));
+
+        index.ensureCapacity(pairs.size());
+        for (var pair : pairs) {
+            index.keys[index.size] = pair.getKey();
+            index.ids[index.size] = pair.getValue();
+            index.size++;
+        }
+        return index;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public void put(long id, T value, Collection<String> texts) {
+        remove(id);
+        var documentKeys = keysOf(texts);
+        values.put(id, value);
+        keysById.put(id, documentKeys);
+        for (var key : documentKeys) {
+            insert(key, id);
+        }
+    }
+
+    public void remove(long id) {
+        values.remove(id);
+        var documentKeys = keysById.remove(id);
+        if (documentKeys != null) {
+            documentKeys.forEach(key -> delete(key, id));
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} suggestions whose keys start with {@code prefix}, in key order so
+     * the shortest completions come first.
+     */
+    public List<T> complete(String prefix, int limit) {
+        var text = normalize(prefix);
+        if (text.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        var matchedIds = new LinkedHashSet<Long>();
+        for (int i = lowerBound(text, Long.MIN_VALUE); i < size && keys[i].startsWith(text) && matchedIds.size() < limit; i++) {
+            matchedIds.add(ids[i]);
+        }
+        return matchedIds.stream().map(values::get).toList();
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        var withoutMarks = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(withoutMarks).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> keysOf(Collection<String> texts) {
+        var documentKeys = new LinkedHashSet<String>();
+        for (var text : texts) {
+            var value = normalize(text);
+            if (value.isEmpty()) {
+                continue;
+            }
+            documentKeys.add(value);
+            for (int i = 1; i < value.length(); i++) {
+                if (value.charAt(i - 1) == ' ') {
+                    documentKeys.add(value.substring(i));
+                }
+            }
+            var digits = NON_DIGITS.matcher(value).replaceAll("");
+            if (!digits.isEmpty()) {
+                documentKeys.add(digits);
+            }
+        }
+        return List.copyOf(documentKeys);
+    }
+
+    private void insert(String key, long id) {
+        var index = lowerBound(key, id);
+        if (index < size && keys[index].equals(key) && ids[index] == id) {
+            return;
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        keys[index] = key;
+        ids[index] = id;
+        size++;
+    }
+
+    private void delete(String key, long id) {
+        var index = lowerBound(key, id);
+        if (index == size || !keys[index].equals(key) || ids[index] != id) {
+            return;
+        }
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        keys[size] = null;
+    }
+
+    // First position whose pair is not less than (key, id).
+    private int lowerBound(String key, long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            var comparison = keys[middle].compareTo(key);
+            if (comparison < 0 || (comparison == 0 && ids[middle] < id)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= keys.length) {
+            return;
+        }
+        var newCapacity = Math.max(capacity, keys.length * 2);
+        keys = Arrays.copyOf(keys, newCapacity);
+        ids = Arrays.copyOf(ids, newCapacity);
+    }
+}
+
+
+
+
+
+
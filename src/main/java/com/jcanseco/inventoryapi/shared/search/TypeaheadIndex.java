@@ -0,0 +1,56 @@
+package com.jcanseco.inventoryapi.shared.search;
+
+import com.jcanseco.inventoryapi.shared.utils.LockedState;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Process-local {@link PrefixIndex} for one entity, used by the typeahead endpoints.
+ * <p>
+ * Changes are reported here and applied once the surrounding transaction commits, and replayed on the
+ * fresh copy when they commit while {@link #reload()} reads the entities. Until the first reload the
+ * index is not loaded, changes are ignored and callers are expected to fall back to the database.
+ *
+ * @param <T> the suggestion returned for each entity
+ */
+@Slf4j
+public abstract class TypeaheadIndex<T> {
+
+    private final LockedState<PrefixIndex<T>> index = new LockedState<>();
+
+    /**
+     * Reads every entity of the index from the database.
+     */
+    protected abstract List<PrefixIndex.Document<T>> loadDocuments();
+
+    public boolean isLoaded() {
+        return index.isLoaded();
+    }
+
+    public void reload() {
+        var newIndex = index.load(() -> PrefixIndex.of(loadDocuments()));
+        log.info("{} loaded with {} entries.", getClass().getSimpleName(), newIndex.size());
+    }
+
+    /**
+     * Returns up to {@code limit} suggestions for the prefix, or {@code null} when the index is not loaded.
+     */
+    public List<T> complete(String prefix, int limit) {
+        return index.read(current -> current.complete(prefix, limit));
+    }
+
+    protected void onSaved(long id, T value, Collection<String> texts) {
+        index.updateAfterCommit(current -> current.put(id, value, texts));
+    }
+
+    public void onDeleted(long id) {
+        index.updateAfterCommit(current -> current.remove(id));
+    }
+}
+
+
+
+
+
+
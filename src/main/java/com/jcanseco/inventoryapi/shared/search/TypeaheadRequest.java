@@ -0,0 +1,34 @@
+package com.jcanseco.inventoryapi.shared.search;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+@EqualsAndHashCode
+@Builder
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TypeaheadRequest {
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    @NotBlank
+    private String query;
+
+    @Min(1)
+    @Max(50)
+    private Integer limit;
+
+    public int limitOrDefault() {
+        return limit != null ? limit : DEFAULT_LIMIT;
+    }
+}
+
+
+
+
+
+
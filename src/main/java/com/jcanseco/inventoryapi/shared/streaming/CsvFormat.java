@@ -0,0 +1,31 @@
+package com.jcanseco.inventoryapi.shared.streaming;
+
+public class CsvFormat {
+
+    public static final String LINE_SEPARATOR = "\r\n";
+
+    // Quotes the value only when it contains a separator, a quote or a line break (RFC 4180).
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // Text starting with a formula character would be evaluated by spreadsheet applications.
+    public static String neutralizeFormula(String value) {
+        if (value != null && !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            return "'" + value;
+        }
+        return value;
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,113 @@
+package com.jcanseco.inventoryapi.shared.streaming;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records one at a time, so files of any size are parsed with a single row in memory.
+ * Quoted fields may contain separators, doubled quotes and line breaks.
+ */
+public class CsvReader {
+
+    private static final int NONE = -2;
+
+    private final Reader input;
+    private final StringBuilder field = new StringBuilder();
+    private long currentLine = 1;
+    private long rowLine;
+    private int lookahead = NONE;
+
+    public CsvReader(Reader input) {
+        this.input = input;
+    }
+
+    /**
+     * Returns the line on which the last record returned by {@link #readRow()} started.
+     */
+    public long getLineNumber() {
+        return rowLine;
+    }
+
+    /**
+     * Returns the next record or {@code null} at the end of the input. Blank lines are skipped.
+     */
+    public List<String> readRow() throws IOException {
+        var c = next();
+        while (c == '\r' || c == '\n') {
+            skipLineBreak(c);
+            c = next();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        rowLine = currentLine;
+        var values = new ArrayList<String>();
+        var quoted = false;
+        field.setLength(0);
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    break;
+                }
+                if (c == '"' && peek() == '"') {
+                    next();
+                    field.append('"');
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    if (c == '\n') {
+                        currentLine++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                skipLineBreak(c);
+                break;
+            } else if (c == -1) {
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = next();
+        }
+        values.add(field.toString());
+        return values;
+    }
+
+    private void skipLineBreak(int c) throws IOException {
+        if (c == '\r' && peek() == '\n') {
+            next();
+        }
+        currentLine++;
+    }
+
+    private int next() throws IOException {
+        if (lookahead != NONE) {
+            var c = lookahead;
+            lookahead = NONE;
+            return c;
+        }
+        return input.read();
+    }
+
+    private int peek() throws IOException {
+        if (lookahead == NONE) {
+            lookahead = input.read();
+        }
+        return lookahead;
+    }
+}
+
+
+
+
+
+
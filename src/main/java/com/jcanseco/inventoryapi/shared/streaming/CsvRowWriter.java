@@ -0,0 +1,85 @@
+package com.jcanseco.inventoryapi.shared.streaming;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes rows as RFC 4180 CSV. Columns are taken from the JSON representation of the first row,
+ * nested objects are flattened with dotted names and arrays are written as JSON.
+ */
+public class CsvRowWriter<T> implements RowWriter<T> {
+
+    private final Writer output;
+    private final ObjectMapper objectMapper;
+    private List<String> columns;
+
+    public CsvRowWriter(OutputStream output, ObjectMapper objectMapper) {
+        this.output = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        var values = new LinkedHashMap<String, String>();
+        flatten("", objectMapper.valueToTree(row), values);
+
+        if (columns == null) {
+            columns = new ArrayList<>(values.keySet());
+            writeLine(columns);
+        }
+
+        var line = new ArrayList<String>(columns.size());
+        for (var column : columns) {
+            line.add(values.get(column));
+        }
+        writeLine(line);
+    }
+
+    // The character writer is only flushed, the underlying stream is owned by the caller.
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    private void flatten(String prefix, JsonNode node, Map<String, String> values) {
+        if (node.isObject()) {
+            node.fields().forEachRemaining(field -> flatten(prefix + field.getKey() + ".", field.getValue(), values));
+            return;
+        }
+
+        var column = prefix.substring(0, prefix.length() - 1);
+        if (node.isNull() || node.isMissingNode()) {
+            values.put(column, null);
+        } else if (node.isArray()) {
+            values.put(column, node.toString());
+        } else if (node.isTextual()) {
+            values.put(column, CsvFormat.neutralizeFormula(node.asText()));
+        } else {
+            values.put(column, node.asText());
+        }
+    }
+
+    private void writeLine(List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                output.write(',');
+            }
+            output.write(CsvFormat.escape(values.get(i)));
+        }
+        output.write(CsvFormat.LINE_SEPARATOR);
+    }
+}
+
+
+
+
+
+
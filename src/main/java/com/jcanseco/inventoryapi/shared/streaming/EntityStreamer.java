@@ -0,0 +1,70 @@
+package com.jcanseco.inventoryapi.shared.streaming;
+
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.Session;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reads every entity matching a specification through a forward-only scroll and hands them one by one
+ * to a {@link RowWriter}. The persistence context is cleared every {@link #CLEAR_INTERVAL} rows so memory
+ * use does not depend on the number of rows. The scroll asks the MySQL driver to stream the result row by
+ * row, so only this query reads incrementally and the rest keep the driver defaults. A streamed result must
+ * be read to the end before the connection runs another statement, which is why the specifications fetch
+ * every association the rows need.
+ */
+@RequiredArgsConstructor
+@Component
+public class EntityStreamer {
+
+    public static final int CLEAR_INTERVAL = 500;
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    public <T> long stream(Class<T> type, Specification<T> specification, RowWriter<T> writer) throws IOException {
+        var transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        try {
+            var count = transaction.execute(status -> scroll(type, specification, writer));
+            return count == null ? 0 : count;
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private <T> long scroll(Class<T> type, Specification<T> specification, RowWriter<T> writer) {
+        var session = entityManager.unwrap(Session.class);
+        var builder = session.getCriteriaBuilder();
+        var query = builder.createQuery(type);
+        var root = query.from(type);
+        var predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        long count = 0;
+        try (var results = session.createQuery(query)
+                .setReadOnly(true)
+                .setFetchSize(STREAMING_FETCH_SIZE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                writer.write(results.get());
+                if (++count % CLEAR_INTERVAL == 0) {
+                    session.clear();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return count;
+    }
+}
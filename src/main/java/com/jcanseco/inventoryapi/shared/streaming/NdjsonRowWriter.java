@@ -0,0 +1,25 @@
+package com.jcanseco.inventoryapi.shared.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes one JSON document per line.
+ */
+public class NdjsonRowWriter<T> implements RowWriter<T> {
+
+    private final OutputStream output;
+    private final ObjectMapper objectMapper;
+
+    public NdjsonRowWriter(OutputStream output, ObjectMapper objectMapper) {
+        this.output = output;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(row));
+        output.write('\n');
+    }
+}
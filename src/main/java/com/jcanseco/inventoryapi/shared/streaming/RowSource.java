@@ -0,0 +1,17 @@
+package com.jcanseco.inventoryapi.shared.streaming;
+
+import java.io.IOException;
+
+/**
+ * Rows ready to be written, the query behind them only runs once {@link #writeTo} is called.
+ */
+@FunctionalInterface
+public interface RowSource<T> {
+    long writeTo(RowWriter<T> writer) throws IOException;
+}
+
+
+
+
+
+
@@ -0,0 +1,8 @@
+package com.jcanseco.inventoryapi.shared.streaming;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface RowWriter<T> {
+    void write(T row) throws IOException;
+}
@@ -0,0 +1,85 @@
+package com.jcanseco.inventoryapi.shared.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+/**
+ * Builds streaming list responses in the format negotiated through the {@code Accept} header. The rows are
+ * written on the {@code streamingTaskExecutor} pool with the {@code app.streaming.timeout} timeout; the rest
+ * of the asynchronous requests keep the MVC defaults.
+ */
+@Component
+public class StreamingResponses {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor taskExecutor;
+    private final Duration timeout;
+
+    public StreamingResponses(
+            ObjectMapper objectMapper,
+            @Qualifier("streamingTaskExecutor") AsyncTaskExecutor taskExecutor,
+            @Value("${app.streaming.timeout:PT30M}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.taskExecutor = taskExecutor;
+        this.timeout = timeout;
+    }
+
+    public <T> WebAsyncTask<Void> ok(String accept, RowSource<T> source, HttpServletResponse response) {
+        var csv = negotiate(accept).equals(TEXT_CSV);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(csv ? new MediaType(TEXT_CSV, StandardCharsets.UTF_8).toString() : MediaType.APPLICATION_NDJSON_VALUE);
+
+        Callable<Void> body = () -> {
+            var buffered = new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE);
+            if (csv) {
+                var writer = new CsvRowWriter<T>(buffered, objectMapper);
+                source.writeTo(writer);
+                writer.flush();
+            } else {
+                source.writeTo(new NdjsonRowWriter<>(buffered, objectMapper));
+            }
+            buffered.flush();
+            return null;
+        };
+        return new WebAsyncTask<>(timeout.toMillis(), taskExecutor, body);
+    }
+
+    private MediaType negotiate(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return MediaType.APPLICATION_NDJSON;
+        }
+
+        List<MediaType> acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (var mediaType : acceptable) {
+            if (mediaType.isWildcardType()) {
+                continue;
+            }
+            if (TEXT_CSV.isCompatibleWith(mediaType)) {
+                return TEXT_CSV;
+            }
+            if (MediaType.APPLICATION_NDJSON.isCompatibleWith(mediaType)) {
+                return MediaType.APPLICATION_NDJSON;
+            }
+        }
+        return MediaType.APPLICATION_NDJSON;
+    }
+}
@@ -0,0 +1,225 @@
+package com.jcanseco.inventoryapi.shared.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A process-local structure guarded by a read-write lock, for the in-memory indexes that are loaded from the
+ * database and then kept in step with committed changes. Until a first {@link #load(Supplier)} starts it is
+ * not loaded: readers get nothing back and changes are dropped, since the load reads them from the database.
+ * <p>
+ * Changes that commit while a load runs are applied to the current state and buffered, then replayed on the
+ * loaded state before it is swapped in, so a load never loses a change that committed after it read the
+ * database. A load starts only once every change already committing has been applied; a change that commits
+ * in the short moment between the start of the load and its first query is both read and replayed.
+ */
+public class LockedState<S> {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Held shared from just before a change's transaction commits until the change was applied, and
+    // exclusively while a load starts, so a load never starts between a commit and its change.
+    private final ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile S state;
+    private volatile List<Consumer<S>> buffered;
+
+    public boolean isLoaded() {
+        return state != null;
+    }
+
+    /**
+     * Whether changes are being kept, because a state is loaded or a load is running.
+     */
+    public boolean isTracking() {
+        return state != null || buffered != null;
+    }
+
+    /**
+     * Loads a fresh state and swaps it in, replaying the changes that committed while {@code loader} ran.
+     * Loads run one at a time; readers keep reading the current state until the swap. Returns the new state.
+     */
+    public S load(Supplier<S> loader) {
+        return load(loader, (current, loaded) -> { });
+    }
+
+    /**
+     * Same as {@link #load(Supplier)}, handing the current state (or {@code null}) and the loaded one to
+     * {@code beforeSwap} under the write lock, once both hold the same committed changes.
+     */
+    public S load(Supplier<S> loader, BiConsumer<S, S> beforeSwap) {
+        if (commitGate.getReadHoldCount() > 0) {
+            throw new IllegalStateException("A load cannot start while this thread is committing a change to the same state");
+        }
+        loadLock.lock();
+        try {
+            commitGate.writeLock().lock();
+            try {
+                buffered = new ArrayList<>();
+            } finally {
+                commitGate.writeLock().unlock();
+            }
+            S loaded = null;
+            try {
+                loaded = loader.get();
+            } finally {
+                swap(loaded, beforeSwap);
+            }
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Runs the reader under the read lock. Returns {@code null} when not loaded.
+     */
+    public <R> R read(Function<S, R> reader) {
+        lock.readLock().lock();
+        try {
+            return state == null ? null : reader.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs the reader under the read lock, loading the state first when not loaded. Concurrent readers
+     * wait for a single load instead of each running their own.
+     */
+    public <R> R readOrLoad(Supplier<S> loader, Function<S, R> reader) {
+        if (!isLoaded()) {
+            loadLock.lock();
+            try {
+                if (!isLoaded()) {
+                    load(loader);
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return read(reader);
+    }
+
+    public long readLong(ToLongFunction<S> reader, long whenNotLoaded) {
+        lock.readLock().lock();
+        try {
+            return state == null ? whenNotLoaded : reader.applyAsLong(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies the change under the write lock once the surrounding transaction commits, or right away
+     * outside a transaction. Dropped when nothing is tracked by the time it is applied.
+     */
+    public void updateAfterCommit(Consumer<S> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyNow(() -> change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new ChangeSynchronization(change, null));
+    }
+
+    /**
+     * Same as {@link #updateAfterCommit(Consumer)} for changes read from the database inside the transaction,
+     * such as what a delivery adds. The reader only runs while changes are tracked; should a load start
+     * before the transaction commits, the skipped change is read just before the commit instead.
+     */
+    public void readAndUpdateAfterCommit(Supplier<Consumer<S>> reader) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyNow(reader);
+            return;
+        }
+        var change = isTracking() ? reader.get() : null;
+        TransactionSynchronizationManager.registerSynchronization(new ChangeSynchronization(change, change == null ? reader : null));
+    }
+
+    private void applyNow(Supplier<Consumer<S>> reader) {
+        commitGate.readLock().lock();
+        try {
+            if (isTracking()) {
+                apply(reader.get());
+            }
+        } finally {
+            commitGate.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<S> change) {
+        lock.writeLock().lock();
+        try {
+            if (state != null) {
+                change.accept(state);
+            }
+            if (buffered != null) {
+                buffered.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void swap(S loaded, BiConsumer<S, S> beforeSwap) {
+        lock.writeLock().lock();
+        try {
+            if (loaded != null) {
+                buffered.forEach(change -> change.accept(loaded));
+                beforeSwap.accept(state, loaded);
+                state = loaded;
+            }
+            buffered = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Enters the commit gate in {@code beforeCompletion}, which also runs for synchronizations registered
+     * by {@code BEFORE_COMMIT} listeners, and leaves it once the transaction completed.
+     */
+    private class ChangeSynchronization implements TransactionSynchronization {
+
+        private Consumer<S> change;
+        private final Supplier<Consumer<S>> lateReader;
+        private boolean entered;
+
+        ChangeSynchronization(Consumer<S> change, Supplier<Consumer<S>> lateReader) {
+            this.change = change;
+            this.lateReader = lateReader;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            commitGate.readLock().lock();
+            entered = true;
+            if (change == null && lateReader != null && isTracking()) {
+                change = lateReader.get();
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (change != null) {
+                apply(change);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (entered) {
+                entered = false;
+                commitGate.readLock().unlock();
+            }
+        }
+    }
+}
@@ -2,16 +2,20 @@ package com.jcanseco.inventoryapi.suppliers.api;
 
 import com.jcanseco.inventoryapi.suppliers.dto.CreateSupplierDto;
 import com.jcanseco.inventoryapi.suppliers.dto.GetSuppliersRequest;
+import com.jcanseco.inventoryapi.shared.search.TypeaheadRequest;
 import com.jcanseco.inventoryapi.suppliers.dto.SupplierDetailsDto;
+import com.jcanseco.inventoryapi.suppliers.dto.SupplierSuggestionDto;
 import com.jcanseco.inventoryapi.suppliers.dto.UpdateSupplierDto;
 import com.jcanseco.inventoryapi.suppliers.usecases.create.CreateSupplierUseCase;
 import com.jcanseco.inventoryapi.suppliers.usecases.delete.DeleteSupplierUseCase;
 import com.jcanseco.inventoryapi.suppliers.usecases.getall.GetSuppliersUseCase;
 import com.jcanseco.inventoryapi.suppliers.usecases.getbyid.GetSupplierByIdUseCase;
+import com.jcanseco.inventoryapi.suppliers.usecases.typeahead.SupplierTypeaheadUseCase;
 import com.jcanseco.inventoryapi.suppliers.usecases.update.UpdateSupplierUseCase;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -30,6 +34,7 @@ public class SupplierController {
     private final DeleteSupplierUseCase deleteSupplierUseCase;
     private final GetSupplierByIdUseCase getSupplierByIdUseCase;
     private final GetSuppliersUseCase getSuppliersUseCase;
+    private final SupplierTypeaheadUseCase supplierTypeaheadUseCase;
 
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Suppliers, @Action.Create))")
     @PostMapping
@@ -56,6 +61,12 @@ public class SupplierController {
         return ResponseEntity.noContent().build();
     }
 
+    @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Suppliers, @Action.View))")
+    @GetMapping("typeahead")
+    public ResponseEntity<List<SupplierSuggestionDto>> typeahead(@Valid TypeaheadRequest request) {
+        return ResponseEntity.ok(supplierTypeaheadUseCase.execute(request));
+    }
+
     @PreAuthorize("hasAuthority(@Permissions.permissionOf(@Resource.Suppliers, @Action.View))")
     @GetMapping("{supplierId}")
     public ResponseEntity<SupplierDetailsDto> getById(@PathVariable Long supplierId) {
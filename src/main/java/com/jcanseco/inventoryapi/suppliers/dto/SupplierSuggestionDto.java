@@ -0,0 +1,26 @@
+package com.jcanseco.inventoryapi.suppliers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@EqualsAndHashCode
+@Builder
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupplierSuggestionDto {
+    private Long id;
+    private String companyName;
+    private String contactName;
+}
+
+
+
+
+
+
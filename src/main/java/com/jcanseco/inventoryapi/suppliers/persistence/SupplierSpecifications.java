@@ -12,6 +12,10 @@ public class SupplierSpecifications {
             return spec.toPredicate(root, query, builder);
         };
     }
+    public static Specification<Supplier> byCompanyNameStartingWith(String prefix) {
+        return (root, query, builder) -> builder.like(root.get("companyName"), prefix + "%");
+    }
+
     public static Specification<Supplier> byCompanyNameLike(String companyName) {
         return (root, query, builder) -> builder.like(root.get("companyName"), "%" + companyName + "%");
     }
@@ -0,0 +1,43 @@
+package com.jcanseco.inventoryapi.suppliers.search;
+
+import com.jcanseco.inventoryapi.shared.search.PrefixIndex;
+import com.jcanseco.inventoryapi.shared.search.TypeaheadIndex;
+import com.jcanseco.inventoryapi.suppliers.domain.Supplier;
+import com.jcanseco.inventoryapi.suppliers.dto.SupplierSuggestionDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Suppliers by company name prefixes.
+ */
+@Component
+@RequiredArgsConstructor
+public class SupplierTypeaheadIndex extends TypeaheadIndex<SupplierSuggestionDto> {
+
+    private static final String SELECT_SUPPLIERS_SQL = "SELECT id, company_name, contact_name FROM suppliers";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    protected List<PrefixIndex.Document<SupplierSuggestionDto>> loadDocuments() {
+        return jdbcTemplate.query(SELECT_SUPPLIERS_SQL, (rs, rowNumber) -> documentOf(
+                new SupplierSuggestionDto(rs.getLong(1), rs.getString(2), rs.getString(3))));
+    }
+
+    public void onSupplierSaved(Supplier supplier) {
+        var document = documentOf(new SupplierSuggestionDto(supplier.getId(), supplier.getCompanyName(), supplier.getContactName()));
+        onSaved(document.id(), document.value(), document.texts());
+    }
+
+    private static PrefixIndex.Document<SupplierSuggestionDto> documentOf(SupplierSuggestionDto suggestion) {
+        return new PrefixIndex.Document<>(suggestion.getId(), suggestion, List.of(suggestion.getCompanyName()));
+    }
+}
+
+
+
+
+
+
@@ -3,6 +3,7 @@ package com.jcanseco.inventoryapi.suppliers.usecases.create;
 import com.jcanseco.inventoryapi.suppliers.dto.CreateSupplierDto;
 import com.jcanseco.inventoryapi.suppliers.mapping.SupplierMapper;
 import com.jcanseco.inventoryapi.suppliers.persistence.SupplierRepository;
+import com.jcanseco.inventoryapi.suppliers.search.SupplierTypeaheadIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,11 +12,13 @@ import org.springframework.stereotype.Service;
 public class CreateSupplierUseCase {
 
     private final SupplierRepository supplierRepository;
+    private final SupplierTypeaheadIndex supplierTypeaheadIndex;
     private final SupplierMapper supplierMapper;
 
     public Long execute(CreateSupplierDto dto) {
         var supplier = supplierMapper.createDtoToEntity(dto);
         var newSupplier = supplierRepository.saveAndFlush(supplier);
+        supplierTypeaheadIndex.onSupplierSaved(newSupplier);
         return newSupplier.getId();
     }
 }
@@ -2,6 +2,7 @@ package com.jcanseco.inventoryapi.suppliers.usecases.delete;
 
 import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
 import com.jcanseco.inventoryapi.suppliers.persistence.SupplierRepository;
+import com.jcanseco.inventoryapi.suppliers.search.SupplierTypeaheadIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,6 +13,7 @@ public class DeleteSupplierUseCase {
     private static final String NOT_FOUND_MESSAGE = "Supplier with the Id {%d} was not found.";
 
     private final SupplierRepository supplierRepository;
+    private final SupplierTypeaheadIndex supplierTypeaheadIndex;
 
     public void execute(Long supplierId) {
         var supplier = supplierRepository
@@ -19,6 +21,7 @@ public class DeleteSupplierUseCase {
                 .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_MESSAGE, supplierId)));
 
         supplierRepository.delete(supplier);
+        supplierTypeaheadIndex.onDeleted(supplierId);
     }
 }
 
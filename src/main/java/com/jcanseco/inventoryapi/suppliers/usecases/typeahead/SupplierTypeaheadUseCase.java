@@ -0,0 +1,41 @@
+package com.jcanseco.inventoryapi.suppliers.usecases.typeahead;
+
+import com.jcanseco.inventoryapi.shared.search.TypeaheadRequest;
+import com.jcanseco.inventoryapi.suppliers.dto.SupplierSuggestionDto;
+import com.jcanseco.inventoryapi.suppliers.persistence.SupplierRepository;
+import com.jcanseco.inventoryapi.suppliers.search.SupplierTypeaheadIndex;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import static com.jcanseco.inventoryapi.suppliers.persistence.SupplierSpecifications.byCompanyNameStartingWith;
+import static com.jcanseco.inventoryapi.suppliers.persistence.SupplierSpecifications.orderBy;
+
+@Service
+@RequiredArgsConstructor
+public class SupplierTypeaheadUseCase {
+
+    private final SupplierTypeaheadIndex supplierTypeaheadIndex;
+    private final SupplierRepository supplierRepository;
+
+    // Falls back to a prefix query while the index is not loaded.
+    @Transactional(readOnly = true)
+    public List<SupplierSuggestionDto> execute(TypeaheadRequest request) {
+        var limit = request.limitOrDefault();
+        var suggestions = supplierTypeaheadIndex.complete(request.getQuery(), limit);
+        if (suggestions != null) {
+            return suggestions;
+        }
+        var specification = orderBy(byCompanyNameStartingWith(request.getQuery().trim()), "companyName", true);
+        return supplierRepository.findBy(specification, query -> query.limit(limit).all())
+                .stream()
+                .map(supplier -> new SupplierSuggestionDto(supplier.getId(), supplier.getCompanyName(), supplier.getContactName()))
+                .toList();
+    }
+}
+
+
+
+
+
+
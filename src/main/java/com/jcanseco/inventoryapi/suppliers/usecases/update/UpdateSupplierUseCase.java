@@ -4,6 +4,7 @@ import com.jcanseco.inventoryapi.shared.errors.NotFoundException;
 import com.jcanseco.inventoryapi.suppliers.dto.UpdateSupplierDto;
 import com.jcanseco.inventoryapi.suppliers.mapping.SupplierMapper;
 import com.jcanseco.inventoryapi.suppliers.persistence.SupplierRepository;
+import com.jcanseco.inventoryapi.suppliers.search.SupplierTypeaheadIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,6 +15,7 @@ public class UpdateSupplierUseCase {
     private static final String NOT_FOUND_MESSAGE = "Supplier with the Id {%d} was not found.";
 
     private final SupplierRepository supplierRepository;
+    private final SupplierTypeaheadIndex supplierTypeaheadIndex;
     private final SupplierMapper supplierMapper;
 
     public void execute(UpdateSupplierDto dto) {
@@ -27,6 +29,7 @@ public class UpdateSupplierUseCase {
         supplier.setAddress(supplierMapper.dtoToAddress(dto.getAddress()));
 
         supplierRepository.saveAndFlush(supplier);
+        supplierTypeaheadIndex.onSupplierSaved(supplier);
     }
 }
 
@@ -0,0 +1,77 @@
+package com.jcanseco.inventoryapi.catalog.products;
+
+import com.jcanseco.inventoryapi.catalog.categories.persistence.CategoryRepository;
+import com.jcanseco.inventoryapi.catalog.products.domain.Product;
+import com.jcanseco.inventoryapi.catalog.products.dto.GetProductsRequest;
+import com.jcanseco.inventoryapi.catalog.products.dto.ProductDto;
+import com.jcanseco.inventoryapi.catalog.products.mapping.ProductMapper;
+import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
+import com.jcanseco.inventoryapi.catalog.products.search.ProductSearchIndex;
+import com.jcanseco.inventoryapi.catalog.products.usecases.getall.GetProductsUseCase;
+import com.jcanseco.inventoryapi.catalog.units.persistence.UnitOfMeasurementRepository;
+import com.jcanseco.inventoryapi.shared.streaming.EntityStreamer;
+import com.jcanseco.inventoryapi.shared.utils.IndexUtility;
+import com.jcanseco.inventoryapi.suppliers.persistence.SupplierRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GetProductsUseCaseTests {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private SupplierRepository supplierRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private UnitOfMeasurementRepository unitRepository;
+    @Mock
+    private ProductMapper productMapper;
+    @Mock
+    private IndexUtility indexUtility;
+    @Mock
+    private EntityStreamer entityStreamer;
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @InjectMocks
+    private GetProductsUseCase useCase;
+
+    @Test
+    public void executeShouldHydrateALongRankingInChunksAndKeepItsOrder() {
+        // Ranked from the highest id down, so a lost ordering would show.
+        var rankedIds = LongStream.rangeClosed(1, 2_500).map(id -> 2_501 - id).boxed().toList();
+        var chunkSizes = new ArrayList<Integer>();
+        when(productSearchIndex.search("a", null, null, null)).thenReturn(rankedIds);
+        when(productRepository.findAllWithDetailsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            chunkSizes.add(ids.size());
+            return ids.stream().map(id -> Product.builder().id(id).build()).toList();
+        });
+        when(productMapper.entityToDto(any())).thenAnswer(invocation ->
+                ProductDto.builder().id(invocation.<Product>getArgument(0).getId()).build());
+
+        var products = useCase.execute(GetProductsRequest.builder().name("a").build());
+
+        assertEquals(List.of(1_000, 1_000, 500), chunkSizes);
+        assertEquals(rankedIds, products.stream().map(ProductDto::getId).toList());
+    }
+}
+
+
+
+
+
+
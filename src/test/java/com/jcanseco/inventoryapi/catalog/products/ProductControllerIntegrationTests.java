@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jcanseco.inventoryapi.catalog.categories.dto.CategoryDto;
 import com.jcanseco.inventoryapi.catalog.products.dto.CreateProductDto;
 import com.jcanseco.inventoryapi.catalog.products.dto.ProductDetailsDto;
+import com.jcanseco.inventoryapi.catalog.products.dto.ProductImportDto;
 import com.jcanseco.inventoryapi.catalog.products.dto.UpdateProductDto;
+import com.jcanseco.inventoryapi.catalog.products.imports.ProductImportStatus;
 import com.jcanseco.inventoryapi.catalog.units.dto.UnitOfMeasurementDto;
 import com.jcanseco.inventoryapi.shared.testing.TestcontainersConfiguration;
 import com.jcanseco.inventoryapi.suppliers.dto.SupplierDto;
@@ -15,12 +17,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +40,8 @@ public class ProductControllerIntegrationTests {
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper mapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     @WithMockUser(authorities = {"Permissions.Products.Create"})
     @Sql("/multiple-products.sql")
@@ -200,6 +207,88 @@ public class ProductControllerIntegrationTests {
                 .andExpect(jsonPath("$.hasPreviousPage").value(false))
                 .andExpect(jsonPath("$.hasNextPage").value(true));
     }
+
+    @WithMockUser(authorities = {"Permissions.Products.Create"})
+    @Sql("/multiple-products.sql")
+    @Test
+    public void importProductsShouldInsertValidRowsAndReportInvalidOnes() throws Exception {
+        var csv = """
+                name,supplier,category,unit,purchasePrice,salePrice,quantity
+                Gaming Laptop,ABC Corp,Electronics,Piece,900,1300,5
+                "Desk Lamp, LED",2,2,set,10,15,
+                Bad Prices,1,1,1,20,10,1
+                Unknown Supplier,Nobody Inc,1,1,10,20,1
+                """;
+        var file = new MockMultipartFile("file", "products.csv", "text/csv", csv.getBytes());
+
+        var response = mockMvc.perform(multipart("/api/products/imports").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, startsWith("/api/products/imports/")))
+                .andReturn();
+        var productImport = mapper.readValue(response.getResponse().getContentAsString(), ProductImportDto.class);
+
+        productImport = waitForImport(productImport.getId());
+
+        assertEquals(ProductImportStatus.COMPLETED, productImport.getStatus());
+        assertEquals(100, productImport.getProgress());
+        assertEquals(4, productImport.getProcessedRows());
+        assertEquals(2, productImport.getImportedRows());
+        assertEquals(2, productImport.getFailedRows());
+        assertEquals(5L, jdbcTemplate.queryForObject(
+                "SELECT s.quantity FROM products p JOIN products_stock s ON s.product_id = p.id WHERE p.name = 'Gaming Laptop'", Long.class));
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT s.quantity FROM products p JOIN products_stock s ON s.product_id = p.id WHERE p.name = 'Desk Lamp, LED'", Long.class));
+
+        var report = mockMvc.perform(get("/api/products/imports/{importId}/errors", productImport.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString()
+                .lines()
+                .toList();
+        assertEquals(3, report.size());
+        assertTrue(report.get(1).startsWith("4,Bad Prices,salePrice: "));
+        assertTrue(report.get(2).startsWith("5,Unknown Supplier,supplier: "));
+    }
+
+    @WithMockUser(authorities = {"Permissions.Products.Create"})
+    @Test
+    public void importProductsWithMissingColumnsShouldFail() throws Exception {
+        var file = new MockMultipartFile("file", "products.csv", "text/csv", "name,price\nLaptop,10\n".getBytes());
+
+        var response = mockMvc.perform(multipart("/api/products/imports").file(file))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        var productImport = mapper.readValue(response.getResponse().getContentAsString(), ProductImportDto.class);
+
+        productImport = waitForImport(productImport.getId());
+
+        assertEquals(ProductImportStatus.FAILED, productImport.getStatus());
+        assertTrue(productImport.getMessage().contains("supplier"));
+    }
+
+    @WithMockUser(authorities = {"Permissions.Products.Create"})
+    @Test
+    public void getImportWhenImportDoesNotExistStatusShouldBeNotFound() throws Exception {
+        mockMvc.perform(get("/api/products/imports/{importId}", "unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    private ProductImportDto waitForImport(String importId) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            var content = mockMvc.perform(get("/api/products/imports/{importId}", importId))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            var productImport = mapper.readValue(content, ProductImportDto.class);
+            if (productImport.getStatus() == ProductImportStatus.COMPLETED || productImport.getStatus() == ProductImportStatus.FAILED) {
+                return productImport;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("The import did not finish in time.");
+    }
 }
 
 
@@ -0,0 +1,79 @@
+package com.jcanseco.inventoryapi.catalog.products;
+
+import com.jcanseco.inventoryapi.catalog.products.search.ProductNameIndex;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductNameIndexTests {
+
+    private ProductNameIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = new ProductNameIndex();
+        index.put(1L, "Laptop", 1L, 1L, 1L);
+        index.put(9L, "Vacuum Cleaner", 1L, 1L, 1L);
+        index.put(10L, "Toaster", 1L, 1L, 1L);
+        index.put(11L, "Coffee Maker", 2L, 2L, 2L);
+        index.put(18L, "Coffee Table", 2L, 2L, 2L);
+        index.put(19L, "Vacuum Cleaner", 2L, 2L, 2L);
+        index.put(21L, "Café Crème Espresso", 2L, 2L, 2L);
+    }
+
+    @Test
+    public void searchShouldMatchSubstringsIgnoringCaseAndAccents() {
+        assertEquals(List.of(9L, 19L), index.search("CLEAN", null, null, null));
+        assertEquals(List.of(21L), index.search("creme", null, null, null));
+        assertEquals(List.of(), index.search("cleaners", null, null, null));
+    }
+
+    @Test
+    public void searchShouldRankExactThenPrefixThenWordPrefixThenShorterNames() {
+        index.put(30L, "Table", 2L, 2L, 2L);
+        index.put(31L, "Tablet", 1L, 1L, 1L);
+        index.put(32L, "Portable Table", 1L, 1L, 1L);
+
+        assertEquals(List.of(30L, 31L, 18L, 32L), index.search("table", null, null, null));
+    }
+
+    @Test
+    public void searchShouldIntersectFilters() {
+        assertEquals(List.of(19L), index.search("vacuum", 2L, null, null));
+        assertEquals(List.of(9L), index.search("vacuum", null, 1L, 1L));
+        assertEquals(List.of(), index.search("vacuum", 3L, null, null));
+        assertEquals(List.of(11L, 18L, 19L, 21L), index.search("", null, 2L, null));
+    }
+
+    @Test
+    public void searchWithQueryShorterThanGramShouldCheckEveryName() {
+        assertEquals(List.of(10L, 1L), index.search("to", null, null, null));
+        assertEquals(List.of(11L, 18L, 21L), index.search("o", 2L, null, null));
+    }
+
+    @Test
+    public void putShouldReplacePreviousNameAndFilters() {
+        index.put(10L, "Sandwich Maker", 2L, 2L, 2L);
+
+        assertEquals(List.of(), index.search("toaster", null, null, null));
+        assertEquals(List.of(11L, 10L), index.search("maker", 2L, null, null));
+        assertEquals(List.of(1L, 9L), index.search("", 1L, null, null));
+    }
+
+    @Test
+    public void removeShouldDropProductFromNameAndFilterPostings() {
+        index.remove(9L);
+        index.remove(99L);
+
+        assertEquals(List.of(19L), index.search("vacuum", null, null, null));
+        assertEquals(List.of(1L, 10L), index.search("", 1L, null, null));
+        assertEquals(6, index.size());
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,49 @@
+package com.jcanseco.inventoryapi.catalog.products;
+
+import com.jcanseco.inventoryapi.catalog.products.search.ProductSearchIndex;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductSearchIndexTests {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ProductSearchIndex productSearchIndex;
+
+    @Test
+    public void searchBeforeLoadShouldReturnNullAndIgnoreChanges() {
+        productSearchIndex.onProductSaved(1L, "Laptop", 1L, 1L, 1L);
+
+        assertFalse(productSearchIndex.isLoaded());
+        assertNull(productSearchIndex.search("laptop", null, null, null));
+    }
+
+    @Test
+    public void changesOutsideTransactionsShouldApplyImmediately() {
+        productSearchIndex.reload();
+
+        productSearchIndex.onProductSaved(1L, "Laptop", 1L, 1L, 1L);
+        productSearchIndex.onProductSaved(2L, "Laptop Stand", 2L, 1L, 1L);
+        productSearchIndex.onProductSaved(3L, "Gaming Laptop", 1L, 2L, 1L);
+        productSearchIndex.onProductDeleted(1L);
+
+        assertTrue(productSearchIndex.isLoaded());
+        assertEquals(List.of(2L, 3L), productSearchIndex.search("laptop", null, null, null));
+        assertEquals(List.of(3L), productSearchIndex.search("laptop", 1L, null, null));
+    }
+}
+
+
+
+
+
+
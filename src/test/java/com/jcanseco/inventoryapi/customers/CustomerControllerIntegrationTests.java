@@ -271,6 +271,29 @@ public class CustomerControllerIntegrationTests {
                 .andExpect(status().isUnauthorized());
     }
 
+    @WithMockUser(authorities = {"Permissions.Customers.View"})
+    @Sql("/multiple-customers.sql")
+    @Test
+    public void typeaheadCustomersShouldReturnPrefixMatches() throws Exception {
+        mockMvc.perform(
+                        get("/api/customers/typeahead")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .param("query", "ja")
+                                .param("limit", "5")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].fullName").value("Jane Smith"));
+    }
+
+    @WithMockUser(authorities = {"Permissions.Customers.View"})
+    @Test
+    public void typeaheadCustomersWithoutQueryStatusShouldBeBadRequest() throws Exception {
+        mockMvc.perform(get("/api/customers/typeahead").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @WithMockUser(authorities = {"Permissions.Customers.View"})
     @Sql("/multiple-customers.sql")
     @Test
@@ -0,0 +1,109 @@
+package com.jcanseco.inventoryapi.dashboard;
+
+import com.jcanseco.inventoryapi.dashboard.persistence.DailyCustomerSalesRepository;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailyFactsRepository;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailyProductSalesRepository;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailySalesRepository;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailySupplierPurchasesRepository;
+import com.jcanseco.inventoryapi.shared.testing.TestcontainersConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Transactional
+@Testcontainers
+@Import({TestcontainersConfiguration.class, DailyFactsRepository.class})
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class DailyFactsRepositoryTests {
+
+    private static final LocalDate JANUARY = LocalDate.of(2024, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2024, 2, 1);
+    private static final LocalDate MARCH = LocalDate.of(2024, 3, 1);
+
+    @Autowired
+    private DailyFactsRepository dailyFactsRepository;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Autowired
+    private DailyCustomerSalesRepository dailyCustomerSalesRepository;
+
+    @Autowired
+    private DailySupplierPurchasesRepository dailySupplierPurchasesRepository;
+
+    @Test
+    @Sql("/dashboard-data.sql")
+    public void addDeliveredOrdersShouldAccumulateTheSalesFacts() {
+        dailyFactsRepository.addDeliveredOrders(List.of(1L));
+        dailyFactsRepository.addDeliveredOrders(List.of(2L, 3L));
+
+        assertEquals(0, dailySalesRepository.getSalesTotal(JANUARY, FEBRUARY).compareTo(BigDecimal.valueOf(1110)));
+        assertEquals(0, dailySalesRepository.getSalesTotal(FEBRUARY, MARCH).compareTo(BigDecimal.valueOf(480)));
+
+        var topProducts = dailyProductSalesRepository.getTopSoldProducts(JANUARY, MARCH, Pageable.ofSize(2));
+        assertEquals(2, topProducts.size());
+        assertEquals(3L, topProducts.get(0).productId());
+        assertEquals(5L, topProducts.get(0).totalSold());
+        assertEquals(1L, topProducts.get(1).productId());
+        assertEquals(4L, topProducts.get(1).totalSold());
+
+        var topCustomers = dailyCustomerSalesRepository.getTopCustomersByRevenue(JANUARY, MARCH, Pageable.ofSize(2));
+        assertEquals(1L, topCustomers.get(0).id());
+        assertEquals(0, topCustomers.get(0).totalRevenue().compareTo(BigDecimal.valueOf(990)));
+        assertEquals(2L, topCustomers.get(1).id());
+        assertEquals(0, topCustomers.get(1).totalRevenue().compareTo(BigDecimal.valueOf(600)));
+    }
+
+    @Test
+    @Sql("/dashboard-data.sql")
+    public void addReceivedPurchasesShouldSkipPurchasesThatHaveNotArrived() {
+        dailyFactsRepository.addReceivedPurchases(List.of(1L, 2L, 3L));
+
+        assertEquals(0, dailySupplierPurchasesRepository.getPurchasesTotal(JANUARY, MARCH).compareTo(BigDecimal.valueOf(580)));
+
+        var topSuppliers = dailySupplierPurchasesRepository.getTopSuppliersByRevenue(JANUARY, MARCH, Pageable.ofSize(2));
+        assertEquals(2, topSuppliers.size());
+        assertEquals(1L, topSuppliers.get(0).id());
+        assertEquals(0, topSuppliers.get(0).totalRevenue().compareTo(BigDecimal.valueOf(300)));
+    }
+
+    @Test
+    @Sql("/dashboard-data.sql")
+    public void rebuildShouldReplaceDriftedFacts() {
+        dailyFactsRepository.addDeliveredOrders(List.of(1L));
+        dailyFactsRepository.addDeliveredOrders(List.of(1L));
+
+        dailyFactsRepository.rebuild();
+
+        var monthlySales = dailySalesRepository.getMonthlySales(JANUARY, MARCH);
+        assertEquals(2, monthlySales.size());
+        assertEquals(1, monthlySales.get(0).month());
+        assertEquals(0, monthlySales.get(0).totalValue().compareTo(BigDecimal.valueOf(1110)));
+        assertEquals(2, monthlySales.get(1).month());
+        assertEquals(0, monthlySales.get(1).totalValue().compareTo(BigDecimal.valueOf(480)));
+        assertEquals(0, dailySupplierPurchasesRepository.getPurchasesTotal(JANUARY, MARCH).compareTo(BigDecimal.valueOf(580)));
+    }
+}
+
+
+
+
+
+
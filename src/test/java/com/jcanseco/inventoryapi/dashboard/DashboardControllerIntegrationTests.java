@@ -1,7 +1,10 @@
 package com.jcanseco.inventoryapi.dashboard;
 
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.usecases.RebuildDailyFactsUseCase;
 import com.jcanseco.inventoryapi.shared.testing.TestcontainersConfiguration;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -28,6 +31,19 @@ public class DashboardControllerIntegrationTests {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private RebuildDailyFactsUseCase rebuildDailyFactsUseCase;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    @BeforeEach
+    public void setup() {
+        // The test data is inserted directly, so the daily facts are rebuilt and cached widgets dropped.
+        rebuildDailyFactsUseCase.execute();
+        dashboardCache.invalidateAll();
+    }
+
     @WithMockUser(authorities = {"Permissions.Dashboard.View"})
     @Sql("/dashboard-data.sql")
     @Test
@@ -95,6 +111,35 @@ public class DashboardControllerIntegrationTests {
                 .andExpect(jsonPath("$[1].stockQuantity").value(1));
     }
 
+    @WithMockUser(authorities = {"Permissions.Dashboard.View"})
+    @Sql("/dashboard-data.sql")
+    @Sql(statements = {
+            "UPDATE products SET reorder_point = 20 WHERE id = 1",
+            "UPDATE products SET reorder_point = 4 WHERE id = 2",
+            "UPDATE products SET reorder_point = 5 WHERE id = 3",
+            "UPDATE products SET reorder_point = 2 WHERE id = 4",
+            "UPDATE products SET reorder_point = 0 WHERE id = 5"
+    })
+    @Test
+    public void getProductsWithLowStockWithoutThresholdShouldPageByUrgency() throws Exception {
+        mockMvc.perform(
+                        get("/api/dashboard/products/low-stock")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .param("limit", "2")
+                                .param("pageNumber", "2")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].reorderPoint").value(4))
+                .andExpect(jsonPath("$[1].id").value(4));
+
+        mockMvc.perform(get("/api/dashboard/products/low-stock/count").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(4));
+    }
+
     @WithMockUser(authorities = {"Permissions.Dashboard.View"})
     @Sql("/dashboard-data.sql")
     @Test
@@ -111,6 +156,57 @@ public class DashboardControllerIntegrationTests {
                 .andExpect(jsonPath("$.totalValue").value(1110));
     }
 
+    @WithMockUser(authorities = {"Permissions.Dashboard.View"})
+    @Sql("/dashboard-data.sql")
+    @Test
+    public void getSalesValueSummaryByPartialDaysShouldOnlyCountOrdersWithinThePeriod() throws Exception {
+        mockMvc.perform(
+                        get("/api/dashboard/sales-value/summary/by-period")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .param("startDate", "2024-01-11T00:00:01")
+                                .param("endDate", "2024-01-20T12:00:00")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalValue").value(600));
+    }
+
+    @WithMockUser(authorities = {"Permissions.Dashboard.View"})
+    @Sql("/dashboard-data.sql")
+    @Test
+    public void getSalesSeriesStatusShouldBeOk() throws Exception {
+        mockMvc.perform(
+                        get("/api/dashboard/sales-value/series")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .param("startDate", "2024-01-01")
+                                .param("endDate", "2024-04-01")
+                                .param("granularity", "month")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("month"))
+                .andExpect(jsonPath("$.points", hasSize(3)))
+                .andExpect(jsonPath("$.points[0].startDate").value("2024-01-01"))
+                .andExpect(jsonPath("$.points[0].totalValue").value(1110))
+                .andExpect(jsonPath("$.points[0].unitsSold").value(10))
+                .andExpect(jsonPath("$.points[1].totalValue").value(480))
+                .andExpect(jsonPath("$.points[1].unitsSold").value(4))
+                .andExpect(jsonPath("$.points[2].totalValue").value(0));
+    }
+
+    @WithMockUser(authorities = {"Permissions.Dashboard.View"})
+    @Test
+    public void getSalesSeriesWhenGranularityIsUnknownStatusShouldBeUnprocessableEntity() throws Exception {
+        mockMvc.perform(
+                        get("/api/dashboard/sales-value/series")
+                                .param("startDate", "2024-01-01")
+                                .param("endDate", "2024-04-01")
+                                .param("granularity", "decade")
+                )
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @WithMockUser(authorities = {"Permissions.Dashboard.View"})
     @Sql("/dashboard-data.sql")
     @Test
@@ -202,6 +298,27 @@ public class DashboardControllerIntegrationTests {
                 .andExpect(jsonPath("$[1].totalSold").value(3));
     }
 
+    @WithMockUser(authorities = {"Permissions.Dashboard.View"})
+    @Sql("/dashboard-data.sql")
+    @Test
+    public void getTopSoldProductsByPartialDaysShouldMergeFactsAndEdges() throws Exception {
+        mockMvc.perform(
+                        get("/api/dashboard/top-products/by-sales")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .param("startDate", "2024-01-10T12:00:00")
+                                .param("endDate", "2024-01-20T00:00:01")
+                                .param("limit", "2")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].productId").value(3))
+                .andExpect(jsonPath("$[0].totalSold").value(5))
+                .andExpect(jsonPath("$[1].productId").value(2))
+                .andExpect(jsonPath("$[1].totalSold").value(3));
+    }
+
     @WithMockUser(authorities = {"Permissions.Dashboard.View"})
     @Sql("/dashboard-data.sql")
     @Test
@@ -239,4 +356,63 @@ public class DashboardControllerIntegrationTests {
                 .andExpect(jsonPath("$.totalValue").value(1300))
                 .andExpect(jsonPath("$", Matchers.notNullValue()));
     }
+
+    @WithMockUser(authorities = {"Permissions.Dashboard.View"})
+    @Sql("/dashboard-data.sql")
+    @Test
+    public void getSummaryShouldReturnEveryWidget() throws Exception {
+        mockMvc.perform(
+                        get("/api/dashboard/summary")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .param("startDate", "2024-01-01T00:00:00")
+                                .param("endDate", "2024-02-01T00:00:00")
+                                .param("limit", "2")
+                                .param("stockThreshold", "5")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.salesValue.totalValue").value(1110))
+                .andExpect(jsonPath("$.purchasesValue.totalValue").value(580))
+                .andExpect(jsonPath("$.monthlySales", hasSize(1)))
+                .andExpect(jsonPath("$.topCustomers[0].id").value(2))
+                .andExpect(jsonPath("$.topProducts[0].productId").value(3))
+                .andExpect(jsonPath("$.topSuppliers[0].id").value(1))
+                .andExpect(jsonPath("$.lowStockProducts", hasSize(2)))
+                .andExpect(jsonPath("$.lowStockCount").value(4))
+                .andExpect(jsonPath("$.outOfStockCount").value(1))
+                .andExpect(jsonPath("$.inventoryValue.totalValue").value(1300))
+                .andExpect(jsonPath("$.productsByCategory", hasSize(2)))
+                .andExpect(jsonPath("$.failures", hasSize(0)));
+    }
+
+    @WithMockUser(authorities = {"Permissions.Dashboard.View"})
+    @Test
+    public void getSummaryWhenLimitIsInvalidStatusShouldBeBadRequest() throws Exception {
+        mockMvc.perform(get("/api/dashboard/summary").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(authorities = {"Permissions.Dashboard.View"})
+    @Sql("/dashboard-data.sql")
+    @Test
+    public void getCacheStatsShouldCountRepeatedWidgetRequestsAsHits() throws Exception {
+        var before = dashboardCache.getStats();
+        for (var i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/dashboard/inventory-value/summary/total"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalValue").value(1300));
+        }
+
+        mockMvc.perform(get("/api/dashboard/cache/stats").accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.misses").value(before.misses() + 1))
+                .andExpect(jsonPath("$.hits").value(before.hits() + 1));
+    }
 }
+
+
+
+
+
+
@@ -0,0 +1,126 @@
+package com.jcanseco.inventoryapi.dashboard;
+
+import com.jcanseco.inventoryapi.dashboard.dto.ProductWithLowStockDto;
+import com.jcanseco.inventoryapi.dashboard.persistence.DashboardDeltaRepository;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaCalculator;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaMessage.SoldProduct;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaMessage.StockLevel;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardDeltaCalculatorTests {
+
+    @Mock
+    private DashboardDeltaRepository repository;
+
+    private DashboardDeltaCalculator calculator;
+
+    @BeforeEach
+    public void setup() {
+        calculator = new DashboardDeltaCalculator(repository);
+    }
+
+    @Test
+    public void findNewLowStockProductsShouldOnlyReportProductsThatCrossedTheirReorderPoint() {
+        var orderIds = List.of(1L, 2L);
+        Map<Long, Long> quantities = new LinkedHashMap<>();
+        quantities.put(1L, 4L);
+        quantities.put(2L, 1L);
+        quantities.put(3L, 2L);
+        when(repository.getDeliveredQuantities(orderIds)).thenReturn(quantities);
+        when(repository.getStockLevels(Set.of(1L, 2L, 3L))).thenReturn(List.of(
+                new StockLevel(1L, "Laptop", 3L, 5L, 20L),
+                new StockLevel(2L, "Mouse", 4L, 5L, 20L),
+                new StockLevel(3L, "Desk", 9L, 5L, 20L)
+        ));
+
+        // The mouse was already low before the delivery, the desk is still above its reorder point.
+        assertEquals(List.of(1L), calculator.findNewLowStockProducts(orderIds));
+    }
+
+    @Test
+    public void findNewLowStockProductsShouldUseTheReorderPointOfEachProduct() {
+        var orderIds = List.of(1L);
+        when(repository.getDeliveredQuantities(orderIds)).thenReturn(Map.of(1L, 30L, 2L, 3L));
+        when(repository.getStockLevels(Set.of(1L, 2L))).thenReturn(List.of(
+                new StockLevel(1L, "Screw", 40L, 50L, 500L),
+                new StockLevel(2L, "Server Rack", 2L, 1L, 1L)
+        ));
+
+        assertEquals(List.of(1L), calculator.findNewLowStockProducts(orderIds));
+    }
+
+    @Test
+    public void calculateShouldOnlyReportNewLowStockProductsThatAreStillLow() {
+        var orderIds = List.of(1L, 2L);
+        Map<Long, Long> quantities = new LinkedHashMap<>();
+        quantities.put(1L, 4L);
+        quantities.put(2L, 1L);
+        when(repository.getDeliveredQuantities(orderIds)).thenReturn(quantities);
+        when(repository.getStockLevels(Set.of(1L, 2L))).thenReturn(List.of(
+                new StockLevel(1L, "Laptop", 3L, 5L, 20L),
+                new StockLevel(2L, "Mouse", 8L, 5L, 20L)
+        ));
+        when(repository.getDeliveredValue(orderIds)).thenReturn(BigDecimal.valueOf(530));
+
+        var delta = calculator.calculate(orderIds, List.of(), Set.of(1L, 2L), 2);
+
+        assertEquals(orderIds, delta.orderIds());
+        assertEquals(2, delta.absorbedEvents());
+        assertEquals(List.of(new SoldProduct(1L, 4L), new SoldProduct(2L, 1L)), delta.soldProducts());
+        // The mouse went low with its delivery but was adjusted back up before the window was flushed.
+        assertEquals(List.of(new ProductWithLowStockDto(1L, "Laptop", 3L, 5L, 20L)), delta.newLowStockProducts());
+        assertEquals(0, delta.inventoryValueDelta().compareTo(BigDecimal.valueOf(-530)));
+        verify(repository, never()).getReceivedQuantities(any());
+    }
+
+    @Test
+    public void calculateShouldNetDeliveriesAndReceiptsOfTheSameWindow() {
+        var orderIds = List.of(1L);
+        var purchaseIds = List.of(7L);
+        when(repository.getDeliveredQuantities(orderIds)).thenReturn(Map.of(1L, 6L));
+        when(repository.getReceivedQuantities(purchaseIds)).thenReturn(Map.of(1L, 2L));
+        when(repository.getStockLevels(Set.of(1L))).thenReturn(List.of(new StockLevel(1L, "Laptop", 4L, 5L, 20L)));
+        when(repository.getDeliveredValue(orderIds)).thenReturn(BigDecimal.valueOf(600));
+        when(repository.getReceivedValue(purchaseIds)).thenReturn(BigDecimal.valueOf(200));
+
+        var delta = calculator.calculate(orderIds, purchaseIds, Set.of(1L), 2);
+
+        // The delivery took the product below its reorder point and the receipt did not lift it back.
+        assertEquals(List.of(new ProductWithLowStockDto(1L, "Laptop", 4L, 5L, 20L)), delta.newLowStockProducts());
+        assertEquals(purchaseIds, delta.purchaseIds());
+        assertEquals(0, delta.inventoryValueDelta().compareTo(BigDecimal.valueOf(-400)));
+    }
+
+    @Test
+    public void calculateWhenOnlyPurchasesShouldNotReportLowStock() {
+        var purchaseIds = List.of(1L);
+        when(repository.getReceivedQuantities(purchaseIds)).thenReturn(Map.of(1L, 2L));
+        when(repository.getStockLevels(Set.of(1L))).thenReturn(List.of(new StockLevel(1L, "Laptop", 7L, 5L, 20L)));
+        when(repository.getReceivedValue(purchaseIds)).thenReturn(BigDecimal.valueOf(200));
+
+        var delta = calculator.calculate(List.of(), purchaseIds, Set.of(), 1);
+
+        assertEquals(List.of(new StockLevel(1L, "Laptop", 7L, 5L, 20L)), delta.stockLevels());
+        assertTrue(delta.newLowStockProducts().isEmpty());
+        assertTrue(delta.sales().isEmpty());
+        assertEquals(0, delta.inventoryValueDelta().compareTo(BigDecimal.valueOf(200)));
+        verify(repository, never()).getDeliveredQuantities(any());
+    }
+}
@@ -0,0 +1,135 @@
+package com.jcanseco.inventoryapi.dashboard;
+
+import com.jcanseco.inventoryapi.dashboard.persistence.CustomerReportsRepository;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailyFactsRepository;
+import com.jcanseco.inventoryapi.dashboard.persistence.DashboardRankingsRepository;
+import com.jcanseco.inventoryapi.dashboard.persistence.ProductReportsRepository;
+import com.jcanseco.inventoryapi.dashboard.persistence.SuppliersReportsRepository;
+import com.jcanseco.inventoryapi.dashboard.rankings.DashboardRankings;
+import com.jcanseco.inventoryapi.dashboard.rankings.RankingDimension;
+import com.jcanseco.inventoryapi.shared.testing.TestcontainersConfiguration;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the in-memory rankings with the GROUP BY queries over the orders and purchases they replace.
+ */
+@Transactional
+@Testcontainers
+@Import({TestcontainersConfiguration.class, DailyFactsRepository.class, DashboardRankingsRepository.class, DashboardRankings.class})
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class DashboardRankingsRepositoryTests {
+
+    private static final List<LocalDate[]> PERIODS = List.of(
+            new LocalDate[]{LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)},
+            new LocalDate[]{LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)},
+            new LocalDate[]{LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)},
+            new LocalDate[]{LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 10)},
+            new LocalDate[]{LocalDate.of(2024, 1, 11), LocalDate.of(2024, 1, 12)},
+            new LocalDate[]{LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 1)}
+    );
+
+    private static final Comparator<Map.Entry<Long, Long>> BEST_FIRST = Map.Entry.<Long, Long>comparingByValue()
+            .reversed()
+            .thenComparing(Map.Entry.comparingByKey());
+
+    @Autowired
+    private DailyFactsRepository dailyFactsRepository;
+
+    @Autowired
+    private DashboardRankings dashboardRankings;
+
+    @Autowired
+    private ProductReportsRepository productReportsRepository;
+
+    @Autowired
+    private CustomerReportsRepository customerReportsRepository;
+
+    @Autowired
+    private SuppliersReportsRepository suppliersReportsRepository;
+
+    @Test
+    @Sql("/dashboard-data.sql")
+    public void topSoldProductsShouldMatchTheOrderItemsQuery() {
+        loadRankings();
+
+        for (var period : PERIODS) {
+            var expected = productReportsRepository.getTopSoldProducts(period[0].atStartOfDay(), period[1].atStartOfDay(), Pageable.unpaged())
+                    .stream()
+                    .map(row -> Map.entry(row.productId(), row.totalSold()))
+                    .sorted(BEST_FIRST)
+                    .toList();
+            var actual = dashboardRankings.top(RankingDimension.SOLD_PRODUCTS, period[0], period[1], Map.of(), 100)
+                    .stream()
+                    .map(entry -> Map.entry(entry.id(), entry.score()))
+                    .toList();
+
+            assertEquals(expected, actual, "Period " + period[0] + " - " + period[1]);
+        }
+    }
+
+    @Test
+    @Sql("/dashboard-data.sql")
+    public void topCustomersShouldMatchTheOrdersQuery() {
+        loadRankings();
+
+        for (var period : PERIODS) {
+            var expected = customerReportsRepository.getTopCustomerByRevenue(period[0].atStartOfDay(), period[1].atStartOfDay(), Pageable.unpaged())
+                    .stream()
+                    .map(row -> Map.entry(row.id(), DashboardRankings.toCents(row.totalRevenue())))
+                    .sorted(BEST_FIRST)
+                    .toList();
+            var actual = dashboardRankings.top(RankingDimension.CUSTOMERS_BY_REVENUE, period[0], period[1], Map.of(), 100)
+                    .stream()
+                    .map(entry -> Map.entry(entry.id(), entry.score()))
+                    .toList();
+
+            assertEquals(expected, actual, "Period " + period[0] + " - " + period[1]);
+        }
+    }
+
+    @Test
+    @Sql("/dashboard-data.sql")
+    public void topSuppliersShouldMatchThePurchasesQuery() {
+        loadRankings();
+
+        for (var period : PERIODS) {
+            var expected = suppliersReportsRepository.getTopSuppliersByRevenue(period[0].atStartOfDay(), period[1].atStartOfDay(), Pageable.unpaged())
+                    .stream()
+                    .map(row -> Map.entry(row.id(), DashboardRankings.toCents(row.totalRevenue())))
+                    .sorted(BEST_FIRST)
+                    .toList();
+            var actual = dashboardRankings.top(RankingDimension.SUPPLIERS_BY_REVENUE, period[0], period[1], Map.of(), 100)
+                    .stream()
+                    .map(entry -> Map.entry(entry.id(), entry.score()))
+                    .toList();
+
+            assertEquals(expected, actual, "Period " + period[0] + " - " + period[1]);
+        }
+    }
+
+    private void loadRankings() {
+        dailyFactsRepository.rebuild();
+        dashboardRankings.reload();
+    }
+}
+
+
+
+
+
+
@@ -1,7 +1,10 @@
 package com.jcanseco.inventoryapi.dashboard;
 
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaMessage;
 import com.jcanseco.inventoryapi.dashboard.realtime.DashboardSocketPublisher;
 import com.jcanseco.inventoryapi.dashboard.realtime.DashboardUpdatedMessage;
+import java.math.BigDecimal;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -29,4 +32,17 @@ public class DashboardSocketPublisherTests {
                 DashboardUpdatedMessage.create()
         );
     }
+
+    @Test
+    public void publishDeltaShouldSendTheDeltaToTopic() {
+        var delta = new DashboardDeltaMessage(
+                DashboardDeltaMessage.TYPE, List.of(1L), List.of(), 1,
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
+                BigDecimal.ZERO
+        );
+
+        dashboardSocketPublisher.publishDelta(delta);
+
+        verify(messagingTemplate).convertAndSend(DashboardSocketPublisher.DASHBOARD_UPDATES_TOPIC, delta);
+    }
 }
@@ -0,0 +1,95 @@
+package com.jcanseco.inventoryapi.dashboard;
+
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaCalculator;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaMessage;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardSocketPublisher;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardUpdateNotifier;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardUpdateNotifierTests {
+
+    @Mock
+    private DashboardDeltaCalculator dashboardDeltaCalculator;
+
+    @Mock
+    private DashboardSocketPublisher dashboardSocketPublisher;
+
+    @InjectMocks
+    private DashboardUpdateNotifier notifier;
+
+    @Test
+    public void flushWhenNothingHappenedShouldNotPublish() {
+        notifier.flush();
+
+        verifyNoInteractions(dashboardDeltaCalculator, dashboardSocketPublisher);
+    }
+
+    @Test
+    public void flushShouldPublishOneDeltaForAllEventsOfTheWindow() {
+        var delta = emptyDelta();
+        when(dashboardDeltaCalculator.calculate(List.of(1L, 2L, 3L), List.of(7L), Set.of(5L, 6L), 4)).thenReturn(delta);
+
+        notifier.ordersDelivered(List.of(1L), List.of(5L));
+        notifier.ordersDelivered(List.of(2L, 3L), List.of(6L));
+        notifier.purchasesReceived(List.of(7L));
+        notifier.ordersDelivered(List.of(1L), List.of(5L));
+        notifier.flush();
+        notifier.flush();
+
+        verify(dashboardDeltaCalculator, times(1)).calculate(any(), any(), any(), anyInt());
+        verify(dashboardSocketPublisher, times(1)).publishDelta(delta);
+    }
+
+    @Test
+    public void flushShouldStartANewWindow() {
+        var delta = emptyDelta();
+        when(dashboardDeltaCalculator.calculate(List.of(1L), List.of(), Set.of(5L), 1)).thenReturn(delta);
+        when(dashboardDeltaCalculator.calculate(List.of(2L), List.of(), Set.of(), 1)).thenReturn(delta);
+
+        notifier.ordersDelivered(List.of(1L), List.of(5L));
+        notifier.flush();
+        notifier.ordersDelivered(List.of(2L), List.of());
+        notifier.flush();
+
+        verify(dashboardSocketPublisher, times(2)).publishDelta(delta);
+    }
+
+    @Test
+    public void flushWhenTheDeltaCannotBeComputedShouldSendTheUpdateSignal() {
+        when(dashboardDeltaCalculator.calculate(List.of(1L), List.of(), Set.of(), 1)).thenThrow(new IllegalStateException());
+
+        notifier.ordersDelivered(List.of(1L), List.of());
+        notifier.flush();
+
+        verify(dashboardSocketPublisher).publishUpdateSignal();
+    }
+
+    private static DashboardDeltaMessage emptyDelta() {
+        return new DashboardDeltaMessage(
+                DashboardDeltaMessage.TYPE, List.of(), List.of(), 0,
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
+                BigDecimal.ZERO
+        );
+    }
+}
+
+
+
+
+
+
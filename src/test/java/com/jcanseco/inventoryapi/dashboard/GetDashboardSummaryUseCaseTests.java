@@ -0,0 +1,178 @@
+package com.jcanseco.inventoryapi.dashboard;
+
+import com.jcanseco.inventoryapi.dashboard.dto.GetDashboardSummaryRequest;
+import com.jcanseco.inventoryapi.dashboard.dto.InventoryValueSummaryDto;
+import com.jcanseco.inventoryapi.dashboard.dto.TopSoldProductDto;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetDashboardSummaryUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetMonthlySalesSeriesUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetOutOfStockProductsCountUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetProductsCountByCategoryUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetProductsWithLowStockCountUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetProductsWithLowStockUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetPurchasesValueSummaryByPeriodUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetSalesValueSummaryByPeriodUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetTopCustomersByRevenueUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetTopSoldProductsUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetTopSuppliersByRevenueUseCase;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetTotalInventoryValueSummaryUseCase;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class GetDashboardSummaryUseCaseTests {
+
+    @Mock
+    private GetSalesValueSummaryByPeriodUseCase getSalesValueSummaryByPeriodUseCase;
+    @Mock
+    private GetPurchasesValueSummaryByPeriodUseCase getPurchasesValueSummaryByPeriodUseCase;
+    @Mock
+    private GetMonthlySalesSeriesUseCase getMonthlySalesSeriesUseCase;
+    @Mock
+    private GetTopCustomersByRevenueUseCase getTopCustomersByRevenueUseCase;
+    @Mock
+    private GetTopSoldProductsUseCase getTopSoldProductsUseCase;
+    @Mock
+    private GetTopSuppliersByRevenueUseCase getTopSuppliersByRevenueUseCase;
+    @Mock
+    private GetProductsWithLowStockUseCase getProductsWithLowStockUseCase;
+    @Mock
+    private GetProductsWithLowStockCountUseCase getProductsWithLowStockCountUseCase;
+    @Mock
+    private GetOutOfStockProductsCountUseCase getOutOfStockProductsCountUseCase;
+    @Mock
+    private GetTotalInventoryValueSummaryUseCase getTotalInventoryValueSummaryUseCase;
+    @Mock
+    private GetProductsCountByCategoryUseCase getProductsCountByCategoryUseCase;
+
+    private ThreadPoolTaskExecutor executor;
+    private GetDashboardSummaryUseCase useCase;
+
+    @BeforeEach
+    public void setup() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(11);
+        executor.setMaxPoolSize(11);
+        executor.initialize();
+
+        var environment = new MockEnvironment()
+                .withProperty("app.dashboard.summary.timeouts.top-sold-products", "PT0.2S");
+        useCase = new GetDashboardSummaryUseCase(
+                getSalesValueSummaryByPeriodUseCase,
+                getPurchasesValueSummaryByPeriodUseCase,
+                getMonthlySalesSeriesUseCase,
+                getTopCustomersByRevenueUseCase,
+                getTopSoldProductsUseCase,
+                getTopSuppliersByRevenueUseCase,
+                getProductsWithLowStockUseCase,
+                getProductsWithLowStockCountUseCase,
+                getOutOfStockProductsCountUseCase,
+                getTotalInventoryValueSummaryUseCase,
+                getProductsCountByCategoryUseCase,
+                executor,
+                environment,
+                Duration.ofSeconds(5)
+        );
+
+        when(getSalesValueSummaryByPeriodUseCase.execute(any())).thenReturn(new InventoryValueSummaryDto(BigDecimal.valueOf(1110)));
+        when(getPurchasesValueSummaryByPeriodUseCase.execute(any())).thenReturn(new InventoryValueSummaryDto(BigDecimal.valueOf(580)));
+        when(getMonthlySalesSeriesUseCase.execute(any())).thenReturn(List.of());
+        when(getTopCustomersByRevenueUseCase.execute(any())).thenReturn(List.of());
+        when(getTopSoldProductsUseCase.execute(any())).thenReturn(List.of(new TopSoldProductDto(3L, "Desk", 5L)));
+        when(getTopSuppliersByRevenueUseCase.execute(any())).thenReturn(List.of());
+        when(getProductsWithLowStockUseCase.execute(any())).thenReturn(List.of());
+        when(getProductsWithLowStockCountUseCase.execute(any())).thenReturn(4L);
+        when(getOutOfStockProductsCountUseCase.execute()).thenReturn(1L);
+        when(getTotalInventoryValueSummaryUseCase.execute()).thenReturn(new InventoryValueSummaryDto(BigDecimal.valueOf(1300)));
+        when(getProductsCountByCategoryUseCase.execute()).thenReturn(List.of());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void executeShouldReturnEveryWidget() {
+        var summary = useCase.execute(new GetDashboardSummaryRequest());
+
+        assertEquals(BigDecimal.valueOf(1110), summary.getSalesValue().totalValue());
+        assertEquals(BigDecimal.valueOf(580), summary.getPurchasesValue().totalValue());
+        assertEquals(1, summary.getTopProducts().size());
+        assertEquals(4L, summary.getLowStockCount());
+        assertEquals(1L, summary.getOutOfStockCount());
+        assertEquals(BigDecimal.valueOf(1300), summary.getInventoryValue().totalValue());
+        assertTrue(summary.getFailures().isEmpty());
+    }
+
+    @Test
+    public void executeShouldReportASlowWidgetWithoutWaitingForIt() {
+        when(getTopSoldProductsUseCase.execute(any())).thenAnswer(invocation -> {
+            Thread.sleep(3_000);
+            return List.of();
+        });
+
+        var startedAt = System.nanoTime();
+        var summary = useCase.execute(new GetDashboardSummaryRequest());
+        var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(2)) < 0, "took " + elapsed);
+        assertNull(summary.getTopProducts());
+        assertEquals(BigDecimal.valueOf(1110), summary.getSalesValue().totalValue());
+        assertEquals(1, summary.getFailures().size());
+        assertEquals("top-sold-products", summary.getFailures().get(0).widget());
+    }
+
+    @Test
+    public void executeShouldReportAFailedWidget() {
+        when(getTotalInventoryValueSummaryUseCase.execute()).thenThrow(new IllegalStateException("Database unavailable"));
+
+        var summary = useCase.execute(new GetDashboardSummaryRequest());
+
+        assertNull(summary.getInventoryValue());
+        assertEquals(4L, summary.getLowStockCount());
+        assertEquals(1, summary.getFailures().size());
+        assertEquals("total-inventory-value", summary.getFailures().get(0).widget());
+    }
+
+    @Test
+    public void executeShouldRunWidgetsConcurrently() {
+        Answer<Object> delay = invocation -> {
+            Thread.sleep(300);
+            return List.of();
+        };
+        when(getMonthlySalesSeriesUseCase.execute(any())).thenAnswer(delay);
+        when(getTopCustomersByRevenueUseCase.execute(any())).thenAnswer(delay);
+        when(getTopSuppliersByRevenueUseCase.execute(any())).thenAnswer(delay);
+        when(getProductsCountByCategoryUseCase.execute()).thenAnswer(delay);
+
+        var startedAt = System.nanoTime();
+        var summary = useCase.execute(new GetDashboardSummaryRequest());
+        var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        assertTrue(elapsed.compareTo(Duration.ofMillis(1_000)) < 0, "took " + elapsed);
+        assertTrue(summary.getFailures().isEmpty());
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,57 @@
+package com.jcanseco.inventoryapi.dashboard;
+
+import com.jcanseco.inventoryapi.dashboard.dto.GetSalesSeriesRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GetSalesSeriesRequestValidationTests {
+
+    private Validator validator;
+
+    @BeforeEach
+    public void setup() {
+        var factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @Test
+    public void getSalesSeriesRequestWhenPeriodIsSetValidationShouldNotFail() {
+        var request = GetSalesSeriesRequest.builder()
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 2, 1))
+                .build();
+        var violations = validator.validate(request);
+        assertTrue(violations.isEmpty());
+        assertEquals(GetSalesSeriesRequest.DEFAULT_MAX_POINTS, request.maxPointsOrDefault());
+    }
+
+    @Test
+    public void getSalesSeriesRequestWhenPeriodIsMissingValidationShouldFail() {
+        var request = GetSalesSeriesRequest.builder().build();
+        var violations = validator.validate(request);
+        assertEquals(2, violations.size());
+    }
+
+    @Test
+    public void getSalesSeriesRequestWhenMaxPointsIsOutOfRangeValidationShouldFail() {
+        var request = GetSalesSeriesRequest.builder()
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 2, 1))
+                .maxPoints(1001)
+                .build();
+        var violations = validator.validate(request);
+        assertEquals(1, violations.size());
+    }
+}
+
+
+
+
+
+
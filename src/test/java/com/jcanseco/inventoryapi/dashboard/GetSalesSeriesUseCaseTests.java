@@ -0,0 +1,121 @@
+package com.jcanseco.inventoryapi.dashboard;
+
+import com.jcanseco.inventoryapi.dashboard.dto.GetSalesSeriesRequest;
+import com.jcanseco.inventoryapi.dashboard.persistence.SalesSeriesRepository;
+import com.jcanseco.inventoryapi.dashboard.persistence.SalesSeriesRepository.SlotConsumer;
+import com.jcanseco.inventoryapi.dashboard.series.SalesTimeSeries;
+import com.jcanseco.inventoryapi.dashboard.usecases.GetSalesSeriesUseCase;
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class GetSalesSeriesUseCaseTests {
+
+    private static final LocalDate JANUARY = LocalDate.of(2024, 1, 1);
+
+    @Mock
+    private SalesSeriesRepository repository;
+
+    private GetSalesSeriesUseCase useCase;
+
+    @BeforeEach
+    public void setup() {
+        // Delivery times are stored in UTC; 2024-01-31 23:30 UTC is still January 31st in Mexico City (UTC-6)
+        // but already February 1st in Tokyo (UTC+9).
+        doAnswer(invocation -> {
+            SlotConsumer consumer = invocation.getArgument(2);
+            consumer.accept(LocalDateTime.of(2024, 1, 10, 12, 0), 51000, 5);
+            consumer.accept(LocalDateTime.of(2024, 1, 31, 23, 30), 60000, 5);
+            consumer.accept(LocalDateTime.of(2024, 2, 6, 10, 15), 48000, 4);
+            return null;
+        }).when(repository).forEachSlot(isNull(), isNull(), any());
+
+        var salesTimeSeries = new SalesTimeSeries(repository, "UTC");
+        salesTimeSeries.reload();
+        useCase = new GetSalesSeriesUseCase(salesTimeSeries);
+    }
+
+    @Test
+    public void executeShouldBucketByTheRequestedZone() {
+        var mexicoCity = useCase.execute(request("month", "America/Mexico_City", null));
+        var tokyo = useCase.execute(request("month", "Asia/Tokyo", null));
+
+        assertEquals("month", mexicoCity.granularity());
+        assertEquals(2, mexicoCity.points().size());
+        assertEquals(0, mexicoCity.points().get(0).totalValue().compareTo(BigDecimal.valueOf(1110)));
+        assertEquals(10, mexicoCity.points().get(0).unitsSold());
+        assertEquals(0, mexicoCity.points().get(1).totalValue().compareTo(BigDecimal.valueOf(480)));
+
+        assertEquals("Asia/Tokyo", tokyo.zone());
+        assertEquals(0, tokyo.points().get(0).totalValue().compareTo(BigDecimal.valueOf(510)));
+        assertEquals(0, tokyo.points().get(1).totalValue().compareTo(BigDecimal.valueOf(1080)));
+        assertEquals(9, tokyo.points().get(1).unitsSold());
+    }
+
+    @Test
+    public void executeShouldClipTheBucketsToThePeriod() {
+        var request = request("week", "UTC", null);
+        request.setStartDate(LocalDate.of(2024, 1, 10));
+
+        var series = useCase.execute(request);
+
+        assertEquals(LocalDate.of(2024, 1, 10), series.points().get(0).startDate());
+        assertEquals(LocalDate.of(2024, 1, 15), series.points().get(0).endDate());
+        assertEquals(0, series.points().get(0).totalValue().compareTo(BigDecimal.valueOf(510)));
+        assertEquals(LocalDate.of(2024, 2, 26), series.points().get(series.points().size() - 1).startDate());
+        assertEquals(LocalDate.of(2024, 3, 1), series.points().get(series.points().size() - 1).endDate());
+    }
+
+    @Test
+    public void executeWhenTooManyPointsShouldDownsample() {
+        var series = useCase.execute(request("day", "UTC", 10));
+
+        assertEquals("week", series.granularity());
+        assertEquals(9, series.points().size());
+        var total = series.points().stream().map(point -> point.totalValue()).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, total.compareTo(BigDecimal.valueOf(1590)));
+    }
+
+    @Test
+    public void executeWhenRequestIsInvalidShouldThrowException() {
+        assertThrows(DomainException.class, () -> useCase.execute(request("decade", "UTC", null)));
+        assertThrows(DomainException.class, () -> useCase.execute(request("day", "Mars/Olympus", null)));
+
+        var emptyPeriod = request("day", "UTC", null);
+        emptyPeriod.setEndDate(JANUARY);
+        assertThrows(DomainException.class, () -> useCase.execute(emptyPeriod));
+
+        var longPeriod = request("day", "UTC", 1);
+        longPeriod.setEndDate(JANUARY.plusYears(2));
+        assertThrows(DomainException.class, () -> useCase.execute(longPeriod));
+    }
+
+    private static GetSalesSeriesRequest request(String granularity, String zone, Integer maxPoints) {
+        return GetSalesSeriesRequest.builder()
+                .startDate(JANUARY)
+                .endDate(LocalDate.of(2024, 3, 1))
+                .granularity(granularity)
+                .zone(zone)
+                .maxPoints(maxPoints)
+                .build();
+    }
+}
+
+
+
+
+
+
@@ -1,8 +1,16 @@
 package com.jcanseco.inventoryapi.dashboard;
 
 import com.jcanseco.inventoryapi.dashboard.listeners.OrderDeliveredDashboardListener;
-import com.jcanseco.inventoryapi.dashboard.realtime.DashboardSocketPublisher;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardChange;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailyFactsRepository;
+import com.jcanseco.inventoryapi.dashboard.rankings.DashboardRankings;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardDeltaCalculator;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardUpdateNotifier;
+import com.jcanseco.inventoryapi.dashboard.series.SalesTimeSeries;
 import com.jcanseco.inventoryapi.orders.events.OrderDeliveredEvent;
+import com.jcanseco.inventoryapi.orders.events.OrdersDeliveredEvent;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -10,20 +18,76 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class OrderDeliveredDashboardListenerTests {
 
     @Mock
-    private DashboardSocketPublisher dashboardSocketPublisher;
+    private DailyFactsRepository dailyFactsRepository;
+
+    @Mock
+    private DashboardRankings dashboardRankings;
+
+    @Mock
+    private SalesTimeSeries salesTimeSeries;
+
+    @Mock
+    private DashboardCache dashboardCache;
+
+    @Mock
+    private DashboardUpdateNotifier dashboardUpdateNotifier;
+
+    @Mock
+    private DashboardDeltaCalculator dashboardDeltaCalculator;
 
     @InjectMocks
     private OrderDeliveredDashboardListener listener;
 
     @Test
-    public void handleShouldPublishDashboardUpdateSignal() {
-        listener.handle(new OrderDeliveredEvent(10L));
+    public void recordShouldAddTheOrdersToTheDailyFactsRankingsAndSeries() {
+        when(dashboardDeltaCalculator.findNewLowStockProducts(List.of(10L))).thenReturn(List.of(3L));
+
+        listener.record(new OrderDeliveredEvent(10L));
+
+        verify(dailyFactsRepository).addDeliveredOrders(List.of(10L));
+        verify(dashboardRankings).onOrdersDelivered(List.of(10L));
+        verify(salesTimeSeries).onOrdersDelivered(List.of(10L));
+        // Outside a transaction the orders are handed to the notifier right away.
+        verify(dashboardUpdateNotifier).ordersDelivered(List.of(10L), List.of(3L));
+    }
+
+    @Test
+    public void recordBatchShouldHandAllIdsToTheNotifierAtOnce() {
+        when(dashboardDeltaCalculator.findNewLowStockProducts(List.of(10L, 11L, 12L))).thenReturn(List.of());
 
-        verify(dashboardSocketPublisher).publishUpdateSignal();
+        listener.record(new OrdersDeliveredEvent(List.of(10L, 11L, 12L)));
+
+        verify(dailyFactsRepository).addDeliveredOrders(List.of(10L, 11L, 12L));
+        verify(dashboardRankings).onOrdersDelivered(List.of(10L, 11L, 12L));
+        verify(salesTimeSeries).onOrdersDelivered(List.of(10L, 11L, 12L));
+        verify(dashboardUpdateNotifier).ordersDelivered(List.of(10L, 11L, 12L), List.of());
+    }
+
+    @Test
+    public void evictShouldInvalidateSalesAndStockWidgets() {
+        listener.evict(new OrderDeliveredEvent(10L));
+
+        verify(dashboardCache).invalidate(DashboardChange.SALES, DashboardChange.STOCK);
+        verifyNoInteractions(dashboardUpdateNotifier);
+    }
+
+    @Test
+    public void evictBatchShouldInvalidateSalesAndStockWidgets() {
+        listener.evict(new OrdersDeliveredEvent(List.of(10L, 11L, 12L)));
+
+        verify(dashboardCache).invalidate(DashboardChange.SALES, DashboardChange.STOCK);
     }
 }
+
+
+
+
+
+
@@ -44,13 +44,32 @@ public class ProductReportsRepositoryTests {
         var products = productReportsRepository.getProductsWithLowStock(5L, Pageable.ofSize(2));
 
         var expectedProducts = List.of(
-                new ProductWithLowStockDto(5L, "Keyboard", 0L),
-                new ProductWithLowStockDto(4L, "Chair", 1L)
+                new ProductWithLowStockDto(5L, "Keyboard", 0L, 10L, 0L),
+                new ProductWithLowStockDto(4L, "Chair", 1L, 10L, 0L)
         );
 
         assertEquals(expectedProducts, products);
     }
 
+    @Test
+    @Sql("/dashboard-data.sql")
+    @Sql(statements = {
+            "UPDATE products SET reorder_point = 20, reorder_quantity = 40 WHERE id = 1",
+            "UPDATE products SET reorder_point = 4 WHERE id = 2",
+            "UPDATE products SET reorder_point = 5 WHERE id = 3",
+            "UPDATE products SET reorder_point = 2 WHERE id = 4",
+            "UPDATE products SET reorder_point = 0 WHERE id = 5"
+    })
+    public void getProductsBelowReorderPointShouldReturnMostUrgentFirst() {
+        var products = productReportsRepository.getProductsBelowReorderPoint(Pageable.ofSize(10));
+
+        // Keyboard has nothing left, Laptop a quarter of its reorder point; Mouse and Chair tie on half,
+        // Mouse is short of more units.
+        assertEquals(List.of(5L, 1L, 2L, 4L), products.stream().map(ProductWithLowStockDto::id).toList());
+        assertEquals(new ProductWithLowStockDto(1L, "Laptop", 5L, 20L, 40L), products.get(1));
+        assertEquals(4L, productReportsRepository.getProductsBelowReorderPointCount());
+    }
+
     @Test
     @Sql("/dashboard-data.sql")
     public void getTopSoldProductsShouldReturnOrderedList() {
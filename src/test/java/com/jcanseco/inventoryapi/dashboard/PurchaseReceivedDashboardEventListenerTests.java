@@ -1,8 +1,14 @@
 package com.jcanseco.inventoryapi.dashboard;
 
 import com.jcanseco.inventoryapi.dashboard.listeners.PurchaseReceivedDashboardEventListener;
-import com.jcanseco.inventoryapi.dashboard.realtime.DashboardSocketPublisher;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardCache;
+import com.jcanseco.inventoryapi.dashboard.cache.DashboardChange;
+import com.jcanseco.inventoryapi.dashboard.persistence.DailyFactsRepository;
+import com.jcanseco.inventoryapi.dashboard.rankings.DashboardRankings;
+import com.jcanseco.inventoryapi.dashboard.realtime.DashboardUpdateNotifier;
 import com.jcanseco.inventoryapi.purchases.events.PurchaseReceivedEvent;
+import com.jcanseco.inventoryapi.purchases.events.PurchasesReceivedEvent;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -10,20 +16,76 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class PurchaseReceivedDashboardEventListenerTests {
 
     @Mock
-    private DashboardSocketPublisher dashboardSocketPublisher;
+    private DailyFactsRepository dailyFactsRepository;
+
+    @Mock
+    private DashboardRankings dashboardRankings;
+
+    @Mock
+    private DashboardCache dashboardCache;
+
+    @Mock
+    private DashboardUpdateNotifier dashboardUpdateNotifier;
 
     @InjectMocks
     private PurchaseReceivedDashboardEventListener listener;
 
     @Test
-    public void handleShouldPublishDashboardUpdateSignal() {
+    public void handleShouldHandTheIdToTheNotifier() {
         listener.handle(new PurchaseReceivedEvent(10L));
 
-        verify(dashboardSocketPublisher).publishUpdateSignal();
+        verify(dashboardUpdateNotifier).purchasesReceived(List.of(10L));
+    }
+
+    @Test
+    public void handleBatchShouldHandAllIdsToTheNotifierAtOnce() {
+        listener.handle(new PurchasesReceivedEvent(List.of(10L, 11L, 12L)));
+
+        verify(dashboardUpdateNotifier).purchasesReceived(List.of(10L, 11L, 12L));
+    }
+
+    @Test
+    public void recordShouldAddThePurchasesToTheDailyFactsAndRankings() {
+        listener.record(new PurchaseReceivedEvent(10L));
+
+        verify(dailyFactsRepository).addReceivedPurchases(List.of(10L));
+        verify(dashboardRankings).onPurchasesReceived(List.of(10L));
+        verifyNoInteractions(dashboardUpdateNotifier);
+    }
+
+    @Test
+    public void recordBatchShouldAddThePurchasesToTheDailyFactsAndRankings() {
+        listener.record(new PurchasesReceivedEvent(List.of(10L, 11L, 12L)));
+
+        verify(dailyFactsRepository).addReceivedPurchases(List.of(10L, 11L, 12L));
+        verify(dashboardRankings).onPurchasesReceived(List.of(10L, 11L, 12L));
+        verifyNoInteractions(dashboardUpdateNotifier);
+    }
+
+    @Test
+    public void evictShouldInvalidatePurchasesAndStockWidgets() {
+        listener.evict(new PurchaseReceivedEvent(10L));
+
+        verify(dashboardCache).invalidate(DashboardChange.PURCHASES, DashboardChange.STOCK);
+        verifyNoInteractions(dashboardUpdateNotifier);
+    }
+
+    @Test
+    public void evictBatchShouldInvalidatePurchasesAndStockWidgets() {
+        listener.evict(new PurchasesReceivedEvent(List.of(10L, 11L, 12L)));
+
+        verify(dashboardCache).invalidate(DashboardChange.PURCHASES, DashboardChange.STOCK);
     }
 }
+
+
+
+
+
+
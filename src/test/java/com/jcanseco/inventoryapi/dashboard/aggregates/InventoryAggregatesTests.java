@@ -0,0 +1,99 @@
+package com.jcanseco.inventoryapi.dashboard.aggregates;
+
+import com.jcanseco.inventoryapi.dashboard.dto.ProductWithLowStockDto;
+import com.jcanseco.inventoryapi.dashboard.dto.ProductsByCategoryDto;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class InventoryAggregatesTests {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private InventoryAggregates inventoryAggregates;
+
+    @Test
+    public void changesBeforeLoadShouldBeIgnored() {
+        inventoryAggregates.onProductCreated(1L, "Laptop", 1L, BigDecimal.TEN, 10L, 0L, 5L);
+        inventoryAggregates.reconcile();
+
+        assertFalse(inventoryAggregates.isLoaded());
+        assertNull(inventoryAggregates.getTotalValue());
+        assertNull(inventoryAggregates.getOutOfStockCount());
+        assertNull(inventoryAggregates.getCountByCategory());
+    }
+
+    @Test
+    public void changesOutsideTransactionsShouldApplyImmediately() {
+        inventoryAggregates.reload();
+
+        inventoryAggregates.onCategorySaved(1L, "Drinks");
+        inventoryAggregates.onProductCreated(1L, "Laptop", 1L, new BigDecimal("12.50"), 10L, 0L, 0L);
+        inventoryAggregates.onProductCreated(2L, "Mouse", 1L, new BigDecimal("3.00"), 10L, 20L, 0L);
+        inventoryAggregates.onQuantitiesChanged(Map.of(1L, 10L, 2L, 4L));
+        inventoryAggregates.onQuantitiesChanged(Map.of(2L, -4L));
+        inventoryAggregates.onProductUpdated(1L, "Laptop", 1L, new BigDecimal("10.00"), 5L, 0L);
+        inventoryAggregates.onProductDeleted(3L);
+
+        assertTrue(inventoryAggregates.isLoaded());
+        assertEquals(0, inventoryAggregates.getTotalValue().compareTo(BigDecimal.valueOf(100)));
+        assertEquals(1L, inventoryAggregates.getOutOfStockCount());
+        assertEquals(List.of(new ProductsByCategoryDto(1L, "Drinks", 2L)), inventoryAggregates.getCountByCategory());
+        assertEquals(1L, inventoryAggregates.getLowStockCount());
+        assertEquals(List.of(new ProductWithLowStockDto(2L, "Mouse", 0L, 10L, 20L)), inventoryAggregates.getLowStock(0, 10));
+    }
+
+    @Test
+    public void reconcileShouldReplaceDriftedTotalsWithTheDatabase() {
+        inventoryAggregates.reload();
+        inventoryAggregates.onCategorySaved(1L, "Drinks");
+        inventoryAggregates.onProductCreated(1L, "Laptop", 1L, BigDecimal.TEN, 10L, 0L, 3L);
+
+        // The mocked database is empty, so every change above counts as drift.
+        inventoryAggregates.reconcile();
+
+        assertEquals(0, inventoryAggregates.getTotalValue().compareTo(BigDecimal.ZERO));
+        assertEquals(0L, inventoryAggregates.getOutOfStockCount());
+        assertEquals(List.of(), inventoryAggregates.getCountByCategory());
+        assertEquals(0L, inventoryAggregates.getLowStockCount());
+    }
+
+    @Test
+    public void reconcileShouldReplayChangesCommittedWhileItReadsTheDatabase() {
+        inventoryAggregates.reload();
+        doAnswer(invocation -> {
+            // Commits after the products were read, so the fresh totals only get it from the replay.
+            inventoryAggregates.onProductCreated(1L, "Laptop", 1L, BigDecimal.TEN, 10L, 0L, 0L);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        inventoryAggregates.reconcile();
+
+        assertEquals(1L, inventoryAggregates.getOutOfStockCount());
+        assertEquals(1L, inventoryAggregates.getLowStockCount());
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,146 @@
+package com.jcanseco.inventoryapi.dashboard.aggregates;
+
+import com.jcanseco.inventoryapi.dashboard.dto.ProductWithLowStockDto;
+import com.jcanseco.inventoryapi.dashboard.dto.ProductsByCategoryDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class InventoryTotalsTests {
+
+    @Test
+    public void totalsShouldFollowStockPriceAndCategoryChanges() {
+        var totals = new InventoryTotals();
+        totals.putCategory(1L, "Drinks");
+        totals.putCategory(2L, "Snacks");
+
+        totals.putProduct(10L, "Soda", 1L, 1250, 10, 0, 0L);
+        totals.putProduct(11L, "Water", 1L, 300, 10, 0, 4L);
+        totals.putProduct(12L, "Chips", 2L, 100, 10, 0, null);
+        assertEquals(1200, totals.getValueCents());
+        assertEquals(1, totals.getOutOfStockCount());
+
+        totals.addQuantity(10L, 2);
+        totals.addQuantity(11L, -4);
+        assertFalse(totals.addQuantity(12L, 5));
+        assertEquals(2500, totals.getValueCents());
+        assertEquals(1, totals.getOutOfStockCount());
+
+        totals.putProduct(10L, "Soda", 2L, 1000, 10, 0, null);
+        totals.putCategory(2L, "Chips");
+        assertEquals(2000, totals.getValueCents());
+        assertEquals(List.of(
+                new ProductsByCategoryDto(2L, "Chips", 2L),
+                new ProductsByCategoryDto(1L, "Drinks", 1L)
+        ), totals.getCountByCategory());
+
+        totals.removeProduct(11L);
+        assertEquals(0, totals.getOutOfStockCount());
+        assertEquals(List.of(new ProductsByCategoryDto(2L, "Chips", 2L)), totals.getCountByCategory());
+    }
+
+    @Test
+    public void lowStockShouldBeOrderedByUrgencyAndFollowReorderPointChanges() {
+        var totals = new InventoryTotals();
+        totals.putProduct(1L, "Laptop", null, 0, 20, 40, 5L);
+        totals.putProduct(2L, "Mouse", null, 0, 4, 0, 2L);
+        totals.putProduct(3L, "Desk", null, 0, 5, 0, 8L);
+        totals.putProduct(4L, "Chair", null, 0, 2, 0, 1L);
+        totals.putProduct(5L, "Keyboard", null, 0, 0, 0, 0L);
+
+        assertEquals(4, totals.getLowStockCount());
+        assertEquals(List.of(5L, 1L, 2L, 4L), ids(totals.getLowStock(0, 10)));
+        assertEquals(List.of(2L, 4L), ids(totals.getLowStock(2, 2)));
+        assertEquals(List.of(), totals.getLowStock(4, 2));
+
+        totals.addQuantity(3L, -3);
+        totals.addQuantity(5L, 1);
+        totals.putProduct(1L, "Laptop", null, 0, 4, 40, null);
+
+        assertEquals(List.of(2L, 4L, 3L), ids(totals.getLowStock(0, 10)));
+    }
+
+    @Test
+    public void totalsShouldMatchAFullRecalculationAfterRandomChanges() {
+        var random = new Random(23);
+        var totals = new InventoryTotals();
+        for (long categoryId = 1; categoryId <= 5; categoryId++) {
+            totals.putCategory(categoryId, "Category " + categoryId);
+        }
+        // productId -> {categoryId, purchasePriceCents, quantity, reorderPoint}
+        var expected = new HashMap<Long, long[]>();
+
+        for (int i = 0; i < 5_000; i++) {
+            var productId = 1L + random.nextInt(200);
+            var product = expected.get(productId);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    var categoryId = 1L + random.nextInt(5);
+                    var price = 1L + random.nextInt(10_000);
+                    var quantity = product == null ? random.nextInt(3) : product[2];
+                    var reorderPoint = random.nextInt(6);
+                    totals.putProduct(productId, "Product " + productId, categoryId, price, reorderPoint, 0,
+                            product == null ? quantity : null);
+                    expected.put(productId, new long[]{categoryId, price, quantity, reorderPoint});
+                }
+                case 1 -> {
+                    totals.removeProduct(productId);
+                    expected.remove(productId);
+                }
+                default -> {
+                    if (product != null) {
+                        var delta = random.nextInt(7) - product[2];
+                        totals.addQuantity(productId, delta);
+                        product[2] += delta;
+                    }
+                }
+            }
+
+            assertEquals(valueOf(expected), totals.getValueCents(), "After change " + i);
+            assertEquals(expected.values().stream().filter(p -> p[2] == 0).count(), totals.getOutOfStockCount(), "After change " + i);
+            assertEquals(lowStockOf(expected), ids(totals.getLowStock(0, expected.size())), "After change " + i);
+        }
+        assertEquals(countByCategory(expected), totals.getCountByCategory());
+    }
+
+    private static List<Long> ids(List<ProductWithLowStockDto> products) {
+        return products.stream().map(ProductWithLowStockDto::id).toList();
+    }
+
+    private static List<Long> lowStockOf(Map<Long, long[]> products) {
+        return products.entrySet().stream()
+                .filter(entry -> entry.getValue()[2] <= entry.getValue()[3])
+                .sorted(Comparator.<Map.Entry<Long, long[]>>comparingDouble(entry -> entry.getValue()[3] == 0 ? 0 : (double) entry.getValue()[2] / entry.getValue()[3])
+                        .thenComparing(entry -> entry.getValue()[3] - entry.getValue()[2], Comparator.reverseOrder())
+                        .thenComparing(Map.Entry::getKey))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static long valueOf(Map<Long, long[]> products) {
+        return products.values().stream().mapToLong(p -> p[1] * p[2]).sum();
+    }
+
+    private static List<ProductsByCategoryDto> countByCategory(Map<Long, long[]> products) {
+        var counts = new HashMap<Long, Long>();
+        products.values().forEach(p -> counts.merge(p[0], 1L, Long::sum));
+        var result = new ArrayList<ProductsByCategoryDto>();
+        counts.forEach((categoryId, count) -> result.add(new ProductsByCategoryDto(categoryId, "Category " + categoryId, count)));
+        result.sort(Comparator.comparing(ProductsByCategoryDto::productCount).reversed()
+                .thenComparing(ProductsByCategoryDto::categoryName));
+        return result;
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,155 @@
+package com.jcanseco.inventoryapi.dashboard.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DashboardCacheTests {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private DashboardCache cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new DashboardCache(Duration.ofSeconds(60), 3, now::get);
+    }
+
+    @Test
+    public void getShouldComputeOncePerKey() {
+        assertEquals(1, cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, List.of(5), this::load));
+        assertEquals(1, cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, List.of(5), this::load));
+        assertEquals(2, cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, List.of(10), this::load));
+
+        var stats = cache.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.size());
+    }
+
+    @Test
+    public void parametersShouldAllowOpenBounds() {
+        cache.get(DashboardWidget.SALES_VALUE_SUMMARY, DashboardCache.parameters(null, null), this::load);
+        cache.get(DashboardWidget.SALES_VALUE_SUMMARY, DashboardCache.parameters(null, null), this::load);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void entriesShouldExpireAfterTheTtl() {
+        cache.get(DashboardWidget.PRODUCTS_COUNT_BY_CATEGORY, this::load);
+        now.addAndGet(Duration.ofSeconds(59).toNanos());
+        cache.get(DashboardWidget.PRODUCTS_COUNT_BY_CATEGORY, this::load);
+        assertEquals(1, loads.get());
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(2, cache.get(DashboardWidget.PRODUCTS_COUNT_BY_CATEGORY, this::load));
+    }
+
+    @Test
+    public void invalidateShouldOnlyEvictAffectedWidgets() {
+        cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, this::load);
+        cache.get(DashboardWidget.TOP_SUPPLIERS_BY_REVENUE, this::load);
+        cache.get(DashboardWidget.PRODUCTS_COUNT_BY_CATEGORY, this::load);
+
+        cache.invalidate(DashboardChange.SALES, DashboardChange.STOCK);
+
+        assertEquals(4, cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, this::load));
+        assertEquals(2, cache.get(DashboardWidget.TOP_SUPPLIERS_BY_REVENUE, this::load));
+        assertEquals(3, cache.get(DashboardWidget.PRODUCTS_COUNT_BY_CATEGORY, this::load));
+        assertEquals(1, cache.getStats().invalidations());
+    }
+
+    @Test
+    public void cacheShouldEvictTheLeastRecentlyUsedEntryWhenFull() {
+        cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, List.of(1), this::load);
+        cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, List.of(2), this::load);
+        cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, List.of(3), this::load);
+        cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, List.of(1), this::load);
+        cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, List.of(4), this::load);
+
+        assertEquals(1, cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, List.of(1), this::load));
+        assertEquals(5, cache.get(DashboardWidget.TOP_SOLD_PRODUCTS, List.of(2), this::load));
+        assertEquals(2, cache.getStats().evictions());
+    }
+
+    @Test
+    public void failedLoadsShouldNotBeCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get(DashboardWidget.TOTAL_INVENTORY_VALUE, () -> {
+            throw new IllegalStateException("Database unavailable");
+        }));
+
+        assertEquals(1, cache.get(DashboardWidget.TOTAL_INVENTORY_VALUE, this::load));
+        assertEquals(1, cache.getStats().loadFailures());
+    }
+
+    @Test
+    public void loadsFailingWithAnErrorShouldNotBeCached() {
+        assertThrows(StackOverflowError.class, () -> cache.get(DashboardWidget.TOTAL_INVENTORY_VALUE, () -> {
+            throw new StackOverflowError();
+        }));
+
+        assertEquals(1, cache.get(DashboardWidget.TOTAL_INVENTORY_VALUE, this::load));
+        assertEquals(1, cache.getStats().loadFailures());
+    }
+
+    @Test
+    public void concurrentMissesShouldShareOneComputation() throws Exception {
+        var threads = 8;
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            var results = new ArrayList<Future<Integer>>();
+            for (var i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get(DashboardWidget.MONTHLY_SALES_SERIES, () -> {
+                    started.countDown();
+                    await(release);
+                    return loads.incrementAndGet();
+                })));
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            // Give the other callers time to find the pending entry before the load completes.
+            Thread.sleep(100);
+            release.countDown();
+
+            for (var result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1, cache.getStats().misses());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Integer load() {
+        return loads.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,152 @@
+package com.jcanseco.inventoryapi.dashboard.rankings;
+
+import com.jcanseco.inventoryapi.dashboard.persistence.DashboardRankingsRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardRankingsTests {
+
+    private static final LocalDate JANUARY = LocalDate.of(2024, 1, 1);
+
+    @Mock
+    private DashboardRankingsRepository repository;
+
+    @InjectMocks
+    private DashboardRankings rankings;
+
+    @Test
+    public void changesBeforeLoadShouldBeIgnored() {
+        rankings.onOrdersDelivered(List.of(1L));
+        rankings.onPurchasesReceived(List.of(1L));
+
+        assertFalse(rankings.isLoaded());
+        assertTrue(rankings.top(RankingDimension.SOLD_PRODUCTS, JANUARY, JANUARY.plusYears(1), Map.of(), 5).isEmpty());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    public void topShouldRankByScoreThenIdAndDropUnknownEntities() {
+        load(RankingDimension.SOLD_PRODUCTS, List.of(
+                new RankingFact(JANUARY, 1L, 4L),
+                new RankingFact(JANUARY.plusDays(1), 2L, 6L),
+                new RankingFact(JANUARY.plusDays(2), 3L, 6L),
+                new RankingFact(JANUARY.plusDays(3), 4L, 9L)
+        ));
+        names(Map.of(1L, "Laptop", 2L, "Mouse", 3L, "Desk"));
+
+        var top = rankings.top(RankingDimension.SOLD_PRODUCTS, JANUARY, JANUARY.plusDays(3), Map.of(1L, 5L), 3);
+
+        assertEquals(List.of(
+                new RankedEntry(1L, "Laptop", 9L),
+                new RankedEntry(2L, "Mouse", 6L),
+                new RankedEntry(3L, "Desk", 6L)
+        ), top);
+    }
+
+    @Test
+    public void deliveredOrdersOutsideTransactionsShouldApplyImmediately() {
+        load(RankingDimension.SOLD_PRODUCTS, List.of(new RankingFact(JANUARY, 1L, 4L)));
+        when(repository.getDeliveredProductSales(List.of(10L))).thenReturn(List.of(new RankingFact(JANUARY, 2L, 5L)));
+        when(repository.getDeliveredCustomerSales(List.of(10L))).thenReturn(List.of(new RankingFact(JANUARY, 7L, 51000L)));
+        names(Map.of(1L, "Laptop", 2L, "Mouse", 7L, "John Doe"));
+
+        rankings.onOrdersDelivered(List.of(10L));
+
+        assertEquals(
+                List.of(new RankedEntry(2L, "Mouse", 5L), new RankedEntry(1L, "Laptop", 4L)),
+                rankings.top(RankingDimension.SOLD_PRODUCTS, JANUARY, JANUARY.plusDays(1), Map.of(), 5)
+        );
+        assertEquals(
+                List.of(new RankedEntry(7L, "John Doe", 51000L)),
+                rankings.top(RankingDimension.CUSTOMERS_BY_REVENUE, JANUARY, JANUARY.plusDays(1), Map.of(), 5)
+        );
+    }
+
+    @Test
+    public void topShouldMatchABruteForceRankingForRandomPeriods() {
+        var random = new Random(42);
+        var facts = new ArrayList<RankingFact>();
+        for (int i = 0; i < 5_000; i++) {
+            facts.add(new RankingFact(JANUARY.plusDays(random.nextInt(730)), 1 + random.nextInt(300), 1 + random.nextInt(50)));
+        }
+        load(RankingDimension.SOLD_PRODUCTS, facts);
+        lenient().when(repository.getNames(eq(RankingDimension.SOLD_PRODUCTS), anyCollection())).thenAnswer(invocation -> {
+            var ids = invocation.<List<Long>>getArgument(1);
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> "Product " + id));
+        });
+
+        for (int i = 0; i < 200; i++) {
+            var startDay = JANUARY.plusDays(random.nextInt(730));
+            var endDay = startDay.plusDays(random.nextInt(400));
+            var limit = 1 + random.nextInt(20);
+
+            var expected = bruteForce(facts, startDay, endDay, limit);
+            var actual = rankings.top(RankingDimension.SOLD_PRODUCTS, startDay, endDay, Map.of(), limit).stream()
+                    .map(entry -> Map.entry(entry.id(), entry.score()))
+                    .toList();
+
+            assertEquals(expected, actual, "Period " + startDay + " - " + endDay);
+        }
+    }
+
+    private void load(RankingDimension dimension, List<RankingFact> facts) {
+        when(repository.forEachFact(any(), any())).thenAnswer(invocation -> {
+            if (invocation.getArgument(0) != dimension) {
+                return 0L;
+            }
+            Consumer<RankingFact> consumer = invocation.getArgument(1);
+            facts.forEach(consumer);
+            return (long) facts.size();
+        });
+        rankings.reload();
+    }
+
+    private void names(Map<Long, String> names) {
+        when(repository.getNames(any(), anyCollection())).thenAnswer(invocation -> {
+            var ids = invocation.<List<Long>>getArgument(1);
+            var result = new HashMap<Long, String>();
+            ids.stream().filter(names::containsKey).forEach(id -> result.put(id, names.get(id)));
+            return result;
+        });
+    }
+
+    private static List<Map.Entry<Long, Long>> bruteForce(List<RankingFact> facts, LocalDate startDay, LocalDate endDay, int limit) {
+        var totals = new HashMap<Long, Long>();
+        facts.stream()
+                .filter(fact -> !fact.day().isBefore(startDay) && fact.day().isBefore(endDay))
+                .forEach(fact -> totals.merge(fact.id(), fact.score(), Long::sum));
+        return totals.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
+
+
+
+
+
+
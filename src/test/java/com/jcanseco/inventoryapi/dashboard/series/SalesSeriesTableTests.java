@@ -0,0 +1,70 @@
+package com.jcanseco.inventoryapi.dashboard.series;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SalesSeriesTableTests {
+
+    @Test
+    public void slotOfShouldFloorToTheQuarterHour() {
+        var slot = SalesSeriesTable.slotOf(LocalDateTime.of(2024, 1, 11, 10, 44, 59));
+
+        assertEquals(LocalDateTime.of(2024, 1, 11, 10, 30), SalesSeriesTable.startOf(slot));
+        assertEquals(slot, SalesSeriesTable.slotOf(LocalDateTime.of(2024, 1, 11, 10, 30)));
+        assertEquals(slot + 1, SalesSeriesTable.slotOf(LocalDateTime.of(2024, 1, 11, 10, 45)));
+    }
+
+    @Test
+    public void sumOutsideTheLoadedSlotsShouldBeZero() {
+        var table = new SalesSeriesTable();
+        assertTrue(table.isEmpty());
+        assertEquals(new SalesTotals(0, 0), table.sum(0, 1_000));
+
+        table.add(100, 5_000, 2);
+
+        assertEquals(new SalesTotals(0, 0), table.sum(0, 100));
+        assertEquals(new SalesTotals(0, 0), table.sum(101, 1_000));
+        assertEquals(new SalesTotals(5_000, 2), table.sum(0, 1_000));
+        assertEquals(new SalesTotals(0, 0), table.sum(200, 100));
+    }
+
+    @Test
+    public void sumShouldMatchABruteForceSumForUnorderedAdditions() {
+        var random = new Random(7);
+        var revenue = new long[2_000];
+        var units = new long[2_000];
+        var table = new SalesSeriesTable();
+        for (int i = 0; i < 3_000; i++) {
+            // Starting in the middle forces the table to grow at both ends.
+            var slot = i < 10 ? 1_000 + i : random.nextInt(revenue.length);
+            var cents = 1 + random.nextInt(100_000);
+            var quantity = 1 + random.nextInt(10);
+            revenue[slot] += cents;
+            units[slot] += quantity;
+            table.add(slot, cents, quantity);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            var from = random.nextInt(revenue.length + 100) - 50;
+            var to = from + random.nextInt(revenue.length);
+            var expectedRevenue = 0L;
+            var expectedUnits = 0L;
+            for (int slot = Math.max(from, 0); slot < Math.min(to, revenue.length); slot++) {
+                expectedRevenue += revenue[slot];
+                expectedUnits += units[slot];
+            }
+
+            assertEquals(new SalesTotals(expectedRevenue, expectedUnits), table.sum(from, to), "Slots " + from + " - " + to);
+        }
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,62 @@
+package com.jcanseco.inventoryapi.dashboard.series;
+
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SeriesGranularityTests {
+
+    private static final LocalDate THURSDAY = LocalDate.of(2024, 8, 15);
+
+    @Test
+    public void floorShouldReturnTheFirstDayOfTheBucket() {
+        assertEquals(THURSDAY, SeriesGranularity.DAY.floor(THURSDAY));
+        assertEquals(LocalDate.of(2024, 8, 12), SeriesGranularity.WEEK.floor(THURSDAY));
+        assertEquals(LocalDate.of(2024, 8, 1), SeriesGranularity.MONTH.floor(THURSDAY));
+        assertEquals(LocalDate.of(2024, 7, 1), SeriesGranularity.QUARTER.floor(THURSDAY));
+        assertEquals(LocalDate.of(2024, 1, 1), SeriesGranularity.YEAR.floor(THURSDAY));
+    }
+
+    @Test
+    public void nextShouldReturnTheFirstDayOfTheFollowingBucket() {
+        assertEquals(LocalDate.of(2024, 8, 19), SeriesGranularity.WEEK.next(THURSDAY));
+        assertEquals(LocalDate.of(2024, 10, 1), SeriesGranularity.QUARTER.next(THURSDAY));
+        assertEquals(LocalDate.of(2025, 1, 1), SeriesGranularity.YEAR.next(THURSDAY));
+    }
+
+    @Test
+    public void countShouldIncludePartialBucketsAtBothEnds() {
+        var start = LocalDate.of(2024, 1, 15);
+        var end = LocalDate.of(2024, 4, 2);
+
+        assertEquals(78, SeriesGranularity.DAY.count(start, end));
+        assertEquals(12, SeriesGranularity.WEEK.count(start, end));
+        assertEquals(4, SeriesGranularity.MONTH.count(start, end));
+        assertEquals(2, SeriesGranularity.QUARTER.count(start, end));
+        assertEquals(1, SeriesGranularity.YEAR.count(start, end));
+        assertEquals(0, SeriesGranularity.DAY.count(end, start));
+    }
+
+    @Test
+    public void coarserShouldWalkUpToYears() {
+        assertEquals(SeriesGranularity.WEEK, SeriesGranularity.DAY.coarser());
+        assertEquals(SeriesGranularity.YEAR, SeriesGranularity.QUARTER.coarser());
+        assertNull(SeriesGranularity.YEAR.coarser());
+    }
+
+    @Test
+    public void fromKeyWhenUnknownShouldThrowException() {
+        assertEquals(SeriesGranularity.QUARTER, SeriesGranularity.fromKey("Quarter"));
+        assertThrows(DomainException.class, () -> SeriesGranularity.fromKey("decade"));
+    }
+}
+
+
+
+
+
+
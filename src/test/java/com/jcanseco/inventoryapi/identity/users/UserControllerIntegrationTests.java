@@ -29,6 +29,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -248,6 +249,48 @@ public class UserControllerIntegrationTests {
                 .andExpect(jsonPath("$.hasPreviousPage").value(false))
                 .andExpect(jsonPath("$.hasNextPage").value(false));
     }
+
+    @WithMockUser(authorities = {"Permissions.Users.Export"})
+    @Sql("/multiple-users.sql")
+    @Test
+    public void exportUsersWithDefaultSortShouldWriteEveryUserWithItsRole() throws Exception {
+        Role role = Role.builder()
+                .id(10L)
+                .name("Admin")
+                .permissions(Set.of("Permissions.Users.Export"))
+                .build();
+
+        User currentUser = User.builder()
+                .id(10L)
+                .email("admin@mail.com")
+                .password("password")
+                .role(role)
+                .build();
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        currentUser,
+                        null,
+                        currentUser.getAuthorities()
+                );
+
+        var asyncResult = mockMvc.perform(
+                        get("/api/users/export")
+                                .with(authentication(authentication))
+                                .param("format", "csv")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var lines = result.getResponse().getContentAsString().lines().toList();
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(1).contains("Jane Doe") && lines.get(1).contains("Dashboard"));
+        assertTrue(lines.get(4).contains("John Smith") && lines.get(4).contains("Categories"));
+    }
 }
 
 
@@ -0,0 +1,42 @@
+package com.jcanseco.inventoryapi.inventory;
+
+import com.jcanseco.inventoryapi.inventory.stock.dto.GetStockAvailabilityRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GetStockAvailabilityRequestValidationTests {
+
+    private Validator validator;
+
+    @BeforeEach
+    public void setup() {
+        var factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @Test
+    public void getStockAvailabilityRequestWhenProductIdsArePresentValidationShouldNotFail() {
+        var request = GetStockAvailabilityRequest.builder()
+                .productIds(List.of(1L, 2L))
+                .build();
+        var violations = validator.validate(request);
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    public void getStockAvailabilityRequestWhenProductIdsAreEmptyValidationShouldFail() {
+        var request = GetStockAvailabilityRequest.builder()
+                .productIds(List.of())
+                .build();
+        var violations = validator.validate(request);
+        assertFalse(violations.isEmpty());
+        assertEquals(1, violations.size());
+    }
+}
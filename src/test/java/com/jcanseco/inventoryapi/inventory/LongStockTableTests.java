@@ -0,0 +1,90 @@
+package com.jcanseco.inventoryapi.inventory;
+
+import com.jcanseco.inventoryapi.inventory.stock.cache.LongStockTable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongStockTableTests {
+
+    @Test
+    public void getQuantityWhenProductIsUnknownShouldReturnMinusOne() {
+        var table = new LongStockTable(0);
+
+        assertEquals(-1, table.getQuantity(1));
+        assertEquals(-1, table.getReserved(1));
+        assertFalse(table.contains(1));
+    }
+
+    @Test
+    public void putShouldGrowBeyondInitialCapacity() {
+        var table = new LongStockTable(0);
+
+        for (long productId = 1; productId <= 1_000; productId++) {
+            table.put(productId, productId * 2, productId);
+        }
+
+        assertEquals(1_000, table.size());
+        for (long productId = 1; productId <= 1_000; productId++) {
+            assertEquals(productId * 2, table.getQuantity(productId));
+            assertEquals(productId, table.getReserved(productId));
+        }
+    }
+
+    @Test
+    public void addShouldNeverLeaveReservedBelowZero() {
+        var table = new LongStockTable(1);
+        table.put(7, 10, 3);
+
+        assertTrue(table.add(7, -4, -5));
+        assertFalse(table.add(8, 1, 1));
+
+        assertEquals(6, table.getQuantity(7));
+        assertEquals(0, table.getReserved(7));
+    }
+
+    @Test
+    public void removeShouldKeepOtherProductsReachable() {
+        var table = new LongStockTable(64);
+        var expected = new HashMap<Long, Long>();
+        var random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            var productId = 1 + random.nextInt(200);
+            if (random.nextBoolean()) {
+                table.put(productId, i, 0);
+                expected.put((long) productId, (long) i);
+            } else {
+                assertEquals(expected.remove((long) productId) != null, table.remove(productId));
+            }
+        }
+
+        assertEquals(expected.size(), table.size());
+        expected.forEach((productId, quantity) -> assertEquals(quantity, table.getQuantity(productId)));
+        var ids = table.productIds();
+        Arrays.sort(ids);
+        assertArrayEquals(expected.keySet().stream().mapToLong(Long::longValue).sorted().toArray(), ids);
+    }
+
+    @Test
+    public void countsShouldMatchThresholds() {
+        var table = new LongStockTable(4);
+        table.put(1, 0, 0);
+        table.put(2, 5, 0);
+        table.put(3, 10, 0);
+        table.put(4, 0, 0);
+
+        assertEquals(2, table.countWithQuantityEqualTo(0));
+        assertEquals(3, table.countWithQuantityAtMost(5));
+        assertEquals(4, table.countWithQuantityAtMost(10));
+    }
+
+    @Test
+    public void putWhenProductIdIsNotPositiveShouldThrow() {
+        var table = new LongStockTable(1);
+
+        assertThrows(IllegalArgumentException.class, () -> table.put(0, 1, 0));
+    }
+}
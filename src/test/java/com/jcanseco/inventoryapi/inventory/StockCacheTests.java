@@ -0,0 +1,60 @@
+package com.jcanseco.inventoryapi.inventory;
+
+import com.jcanseco.inventoryapi.inventory.stock.cache.StockCache;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class StockCacheTests {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private StockCache stockCache;
+
+    @Test
+    public void changesBeforeLoadShouldBeIgnored() {
+        stockCache.onProductCreated(1L, 5L);
+
+        assertFalse(stockCache.isLoaded());
+        assertEquals(-1, stockCache.getQuantity(1L));
+        assertEquals(-1, stockCache.countOutOfStock());
+    }
+
+    @Test
+    public void changesOutsideTransactionsShouldApplyImmediately() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+        stockCache.reload();
+
+        stockCache.onProductCreated(1L, 0L);
+        stockCache.onProductCreated(2L, 0L);
+        stockCache.onStockAdded(Map.of(1L, 10L, 2L, 4L));
+        stockCache.onStockReserved(Map.of(1L, 3L));
+        stockCache.onReservedStockConsumed(Map.of(1L, 2L));
+        stockCache.onStockRemoved(Map.of(2L, 4L));
+        stockCache.onProductDeleted(3L);
+
+        assertTrue(stockCache.isLoaded());
+        assertEquals(8L, stockCache.getQuantity(1L));
+        assertEquals(1L, stockCache.getReserved(1L));
+        assertEquals(0L, stockCache.getQuantity(2L));
+        assertEquals(1L, stockCache.countOutOfStock());
+        assertEquals(2L, stockCache.countWithQuantityAtMost(8L));
+
+        var quantities = new long[3];
+        var reserved = new long[3];
+        stockCache.getQuantities(new long[]{1L, 2L, 3L}, quantities, reserved);
+        assertArrayEquals(new long[]{8L, 0L, -1L}, quantities);
+        assertArrayEquals(new long[]{1L, 0L, -1L}, reserved);
+    }
+}
@@ -32,6 +32,12 @@ public class StockEntityTests {
         assertEquals(expectedStock, stock.getQuantity());
     }
 
+    @Test
+    public void availableQuantityShouldExcludeReservedQuantity() {
+        stock.setReserved(4L);
+        assertEquals(6L, stock.getAvailableQuantity());
+    }
+
     @Test
     public void removeStockWhenQuantityIsGreaterThanCurrentStockShouldThrowException() {
         assertThrows(DomainException.class, () -> stock.removeStock(11L));
@@ -0,0 +1,115 @@
+package com.jcanseco.inventoryapi.inventory;
+
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockMovement;
+import com.jcanseco.inventoryapi.inventory.stock.domain.StockMovementType;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockMovementRepository;
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockSnapshotRepository;
+import com.jcanseco.inventoryapi.shared.testing.TestcontainersConfiguration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+@Import(TestcontainersConfiguration.class)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class StockMovementRepositoryTests {
+
+    private static final LocalDateTime OPENED_AT = LocalDateTime.of(2023, Month.JUNE, 1, 0, 0);
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private StockSnapshotRepository stockSnapshotRepository;
+
+    @Test
+    @Sql("/multiple-products.sql")
+    public void recordOpeningBalancesShouldOnlyOpenProductsWithoutMovements() {
+        var firstRun = stockMovementRepository.recordOpeningBalances(OPENED_AT);
+        var secondRun = stockMovementRepository.recordOpeningBalances(OPENED_AT.plusDays(1));
+
+        assertTrue(firstRun > 0);
+        assertEquals(0, secondRun);
+    }
+
+    @Test
+    @Sql("/multiple-products.sql")
+    public void quantityAsOfShouldMatchSnapshotPlusTailMovements() {
+        stockMovementRepository.recordOpeningBalances(OPENED_AT);
+        stockMovementRepository.insertAll(List.of(
+                movement(1L, -4L, OPENED_AT.plusDays(1)),
+                movement(1L, 6L, OPENED_AT.plusDays(2))
+        ));
+
+        var snapshotsTaken = stockMovementRepository.takeSnapshots(OPENED_AT.plusDays(2));
+
+        stockMovementRepository.insertAll(List.of(
+                movement(1L, -3L, OPENED_AT.plusDays(3)),
+                movement(1L, -1L, OPENED_AT.plusDays(5))
+        ));
+
+        var snapshot = stockSnapshotRepository
+                .findFirstByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(1L, OPENED_AT.plusDays(4))
+                .orElseThrow();
+        var tail = stockMovementRepository.sumQuantitiesAfter(1L, snapshot.getLastMovementId(), OPENED_AT.plusDays(4));
+
+        assertTrue(snapshotsTaken > 0);
+        assertEquals(12L, snapshot.getQuantity());
+        assertEquals(9L, snapshot.getQuantity() + tail);
+    }
+
+    @Test
+    @Sql("/multiple-products.sql")
+    public void takeSnapshotsShouldSkipProductsWithoutNewMovements() {
+        stockMovementRepository.insertAll(List.of(movement(1L, 5L, OPENED_AT)));
+
+        assertEquals(1, stockMovementRepository.takeSnapshots(OPENED_AT.plusDays(1)));
+        assertEquals(0, stockMovementRepository.takeSnapshots(OPENED_AT.plusDays(2)));
+
+        stockMovementRepository.insertAll(List.of(movement(1L, 2L, OPENED_AT.plusDays(3))));
+
+        assertEquals(1, stockMovementRepository.takeSnapshots(OPENED_AT.plusDays(4)));
+        var latest = stockSnapshotRepository
+                .findFirstByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(1L, OPENED_AT.plusDays(4))
+                .orElseThrow();
+        assertEquals(7L, latest.getQuantity());
+    }
+
+    @Test
+    @Sql("/multiple-products.sql")
+    public void takeSnapshotsShouldNotSkipALowerIdThatOccurredAfterTheWatermark() {
+        stockMovementRepository.insertAll(List.of(
+                movement(1L, 5L, OPENED_AT.plusDays(5)),
+                movement(1L, 2L, OPENED_AT.plusDays(1))
+        ));
+
+        assertEquals(1, stockMovementRepository.takeSnapshots(OPENED_AT.plusDays(2)));
+        var snapshot = stockSnapshotRepository
+                .findFirstByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(1L, OPENED_AT.plusDays(6))
+                .orElseThrow();
+        var beforeSnapshot = stockSnapshotRepository
+                .findFirstByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(1L, OPENED_AT.plusDays(3));
+
+        assertEquals(7L, snapshot.getQuantity());
+        assertTrue(beforeSnapshot.isEmpty());
+        assertEquals(2L, stockMovementRepository.sumQuantitiesAfter(1L, 0L, OPENED_AT.plusDays(3)));
+    }
+
+    private static StockMovement movement(Long productId, Long quantity, LocalDateTime occurredAt) {
+        return StockMovement.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .type(StockMovementType.Adjustment)
+                .occurredAt(occurredAt)
+                .build();
+    }
+}
@@ -1,8 +1,10 @@
 package com.jcanseco.inventoryapi.inventory;
 
+import com.jcanseco.inventoryapi.inventory.stock.domain.InsufficientStockException;
 import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
 import com.jcanseco.inventoryapi.inventory.stock.persistence.StockSpecifications;
 import java.util.List;
+import java.util.Map;
 import com.jcanseco.inventoryapi.shared.testing.TestcontainersConfiguration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,10 +42,71 @@ public class StockRepositoryTests {
         assertEquals(3, stocks.size());
     }
 
-}
+    @Test
+    @Sql("/multiple-products.sql")
+    public void removeStockWhenQuantitiesAreAvailableShouldDecreaseStock() {
+        stockRepository.removeStock(Map.of(1L, 10L, 2L, 5L));
+
+        assertEquals(0L, stockRepository.findByProductId(1L).orElseThrow().getQuantity());
+        assertEquals(15L, stockRepository.findByProductId(2L).orElseThrow().getQuantity());
+    }
+
+    @Test
+    @Sql("/multiple-products.sql")
+    public void removeStockWhenQuantityIsNotAvailableShouldReportShortProducts() {
+        var exception = assertThrows(
+                InsufficientStockException.class,
+                () -> stockRepository.removeStock(Map.of(1L, 11L, 2L, 5L, 3L, 31L))
+        );
+
+        assertEquals(List.of(1L, 3L), exception.getProductIds());
+    }
+
+    @Test
+    @Sql("/multiple-products.sql")
+    public void addStockShouldIncreaseStock() {
+        stockRepository.addStock(Map.of(1L, 5L, 2L, 5L));
+
+        assertEquals(15L, stockRepository.findByProductId(1L).orElseThrow().getQuantity());
+        assertEquals(25L, stockRepository.findByProductId(2L).orElseThrow().getQuantity());
+    }
 
+    @Test
+    @Sql("/multiple-products.sql")
+    public void reserveStockWhenQuantityIsNotAvailableShouldReportShortProducts() {
+        stockRepository.reserveStock(Map.of(1L, 6L));
 
+        var exception = assertThrows(
+                InsufficientStockException.class,
+                () -> stockRepository.reserveStock(Map.of(1L, 5L, 2L, 20L))
+        );
 
+        assertEquals(List.of(1L), exception.getProductIds());
+    }
 
+    @Test
+    @Sql("/multiple-products.sql")
+    public void getAvailabilityByProductsShouldSubtractReservedQuantity() {
+        stockRepository.reserveStock(Map.of(1L, 4L));
 
+        var availability = stockRepository.getAvailabilityByProducts(List.of(1L, 2L));
 
+        assertEquals(2, availability.size());
+        assertEquals(10L, availability.get(0).onHandQuantity());
+        assertEquals(4L, availability.get(0).reservedQuantity());
+        assertEquals(6L, availability.get(0).availableQuantity());
+        assertEquals(20L, availability.get(1).availableQuantity());
+    }
+
+    @Test
+    @Sql("/multiple-products.sql")
+    public void consumeReservedStockShouldDecreaseQuantityAndReservation() {
+        stockRepository.reserveStock(Map.of(1L, 4L));
+        stockRepository.consumeReservedStock(Map.of(1L, 4L));
+
+        var availability = stockRepository.getAvailabilityByProducts(List.of(1L));
+
+        assertEquals(6L, availability.get(0).onHandQuantity());
+        assertEquals(0L, availability.get(0).reservedQuantity());
+    }
+}
@@ -1,5 +1,7 @@
 package com.jcanseco.inventoryapi.orders;
 
+import com.jcanseco.inventoryapi.catalog.products.domain.Product;
+import com.jcanseco.inventoryapi.catalog.products.persistence.ProductLookup;
 import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
 import com.jcanseco.inventoryapi.inventory.validation.AllProductsExistValidator;
 import com.jcanseco.inventoryapi.orders.dto.CreateOrderDto;
@@ -19,8 +21,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.Mock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,7 +51,7 @@ public class CreateOrderValidationTests {
     @BeforeEach
     public void setup() {
         List<ConstraintValidator<?,?>> customConstraintValidators = Collections.singletonList(
-                new AllProductsExistValidator(productRepository)
+                new AllProductsExistValidator(new ProductLookup(productRepository))
         );
         ValidatorFactory customValidatorFactory = new CustomLocalValidatorFactoryBean(customConstraintValidators);
         validator = customValidatorFactory.getValidator();
@@ -56,8 +60,10 @@ public class CreateOrderValidationTests {
     @Test
     public void createOrderDtoWhenDtoIsValidValidationShouldNotFail() {
 
-        when(productRepository.existsById(1L)).thenReturn(true);
-        when(productRepository.existsById(2L)).thenReturn(true);
+        when(productRepository.findAllWithDetailsByIdIn(anyCollection())).thenReturn(List.of(
+                Product.builder().id(1L).build(),
+                Product.builder().id(2L).build()
+        ));
 
         var dto = CreateOrderDto.builder()
                 .customerId(1L)
@@ -69,6 +75,29 @@ public class CreateOrderValidationTests {
         assertTrue(violations.isEmpty());
     }
 
+    @Test
+    public void createOrderDtoWhenSomeProductsDoNotExistValidationShouldReportMissingIds() {
+
+        when(productRepository.findAllWithDetailsByIdIn(anyCollection())).thenReturn(List.of(
+                Product.builder().id(1L).build()
+        ));
+
+        var productsWithQuantities = new HashMap<Long, Long>() {{
+            put(1L, 10L);
+            put(3L, 10L);
+            put(4L, 10L);
+        }};
+
+        var dto = CreateOrderDto.builder()
+                .customerId(1L)
+                .productsWithQuantities(productsWithQuantities)
+                .build();
+
+        var violations = validator.validate(dto);
+        assertEquals(1, violations.size());
+        assertEquals("Products with the Ids : [3, 4] were not found.", violations.iterator().next().getMessage());
+    }
+
     @ParameterizedTest
     @MethodSource("invalidDto")
     public void createOrderDtoWhenDtoIsInvalidValidationShouldFail(Long customerId, HashMap<Long, Long> productsWithQuantities) {
@@ -0,0 +1,92 @@
+package com.jcanseco.inventoryapi.orders;
+
+import com.jcanseco.inventoryapi.inventory.stock.persistence.StockRepository;
+import com.jcanseco.inventoryapi.orders.dto.CreateOrderDto;
+import com.jcanseco.inventoryapi.orders.dto.CreateOrdersBatchDto;
+import com.jcanseco.inventoryapi.orders.dto.OrderBatchResultDto;
+import com.jcanseco.inventoryapi.orders.persistence.OrderRepository;
+import com.jcanseco.inventoryapi.orders.usecases.create.CreateOrderUseCase;
+import com.jcanseco.inventoryapi.orders.usecases.createbatch.CreateOrdersBatchUseCase;
+import com.jcanseco.inventoryapi.shared.testing.TestcontainersConfiguration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares creating N orders through N calls of {@link CreateOrderUseCase} against one
+ * {@link CreateOrdersBatchUseCase} call. Throughput is logged; only correctness is asserted.
+ */
+@Testcontainers
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+public class CreateOrdersBatchThroughputTests {
+
+    private static final Logger log = LoggerFactory.getLogger(CreateOrdersBatchThroughputTests.class);
+
+    private static final int NUMBER_OF_ORDERS = 300;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+    @Autowired
+    private CreateOrdersBatchUseCase createOrdersBatchUseCase;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Sql("/multiple-orders.sql")
+    @Test
+    public void createOrdersBatchThroughputShouldBeReported() {
+        var productIds = LongStream.rangeClosed(1, 20).boxed().toList();
+        var initialStock = new HashMap<Long, Long>();
+        productIds.forEach(productId -> initialStock.put(productId, 10_000L));
+        stockRepository.addStock(initialStock);
+
+        var orders = createOrders(productIds);
+        var initialCount = orderRepository.count();
+
+        long singleStart = System.nanoTime();
+        orders.forEach(createOrderUseCase::execute);
+        long singleElapsed = System.nanoTime() - singleStart;
+
+        long batchStart = System.nanoTime();
+        var results = createOrdersBatchUseCase.execute(CreateOrdersBatchDto.builder().orders(orders).build());
+        long batchElapsed = System.nanoTime() - batchStart;
+
+        log.info("Single calls: {} orders in {} ms ({} orders/s)", NUMBER_OF_ORDERS, singleElapsed / 1_000_000, ordersPerSecond(singleElapsed));
+        log.info("Batch call: {} orders in {} ms ({} orders/s)", NUMBER_OF_ORDERS, batchElapsed / 1_000_000, ordersPerSecond(batchElapsed));
+
+        assertTrue(results.stream().allMatch(OrderBatchResultDto::isSuccess));
+        assertEquals(initialCount + 2L * NUMBER_OF_ORDERS, orderRepository.count());
+    }
+
+    private static List<CreateOrderDto> createOrders(List<Long> productIds) {
+        var orders = new ArrayList<CreateOrderDto>(NUMBER_OF_ORDERS);
+        for (int i = 0; i < NUMBER_OF_ORDERS; i++) {
+            var productsWithQuantities = new HashMap<Long, Long>();
+            for (int j = 0; j < 4; j++) {
+                productsWithQuantities.put(productIds.get((i + j * 5) % productIds.size()), 1L);
+            }
+            orders.add(CreateOrderDto.builder()
+                    .customerId((long) (i % 2) + 1)
+                    .productsWithQuantities(productsWithQuantities)
+                    .build());
+        }
+        return orders;
+    }
+
+    private static long ordersPerSecond(long elapsedNanos) {
+        return NUMBER_OF_ORDERS * 1_000_000_000L / Math.max(elapsedNanos, 1L);
+    }
+}
@@ -24,6 +24,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -70,6 +71,110 @@ public class OrderControllerIntegrationTests {
 
 
 
+    @WithMockUser(authorities = {"Permissions.Orders.Create"})
+    @Sql("/multiple-orders.sql")
+    @Test
+    public void createOrderWhenRetriedWithSameIdempotencyKeyShouldReplayResponse() throws Exception {
+        var dto = CreateOrderDto.builder()
+                .customerId(1L)
+                .productsWithQuantities(new HashMap<>() {{
+                    put(1L, 1L);
+                }})
+                .build();
+
+        var first = mockMvc.perform(
+                        post("/api/orders")
+                                .header("Idempotency-Key", "create-order-1")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(dto))
+                )
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        mockMvc.perform(
+                        post("/api/orders")
+                                .header("Idempotency-Key", "create-order-1")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(dto))
+                )
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(content().string(first.getResponse().getContentAsString()));
+
+        var availability = stockRepository.getAvailabilityByProducts(List.of(1L));
+        assertEquals(1L, availability.get(0).reservedQuantity());
+    }
+
+    @WithMockUser(authorities = {"Permissions.Orders.Create"})
+    @Sql("/multiple-orders.sql")
+    @Test
+    public void createOrdersBatchShouldReportResultPerOrder() throws Exception {
+
+        var validOrder = CreateOrderDto.builder()
+                .customerId(1L)
+                .productsWithQuantities(new HashMap<>() {{
+                    put(1L, 5L);
+                    put(2L, 5L);
+                }})
+                .build();
+
+        var orderWithUnknownCustomer = CreateOrderDto.builder()
+                .customerId(99L)
+                .productsWithQuantities(new HashMap<>() {{
+                    put(3L, 1L);
+                }})
+                .build();
+
+        var orderWithoutEnoughStock = CreateOrderDto.builder()
+                .customerId(2L)
+                .productsWithQuantities(new HashMap<>() {{
+                    put(4L, 5L);
+                    put(5L, 11L);
+                }})
+                .build();
+
+        var dto = CreateOrdersBatchDto.builder()
+                .orders(List.of(validOrder, orderWithUnknownCustomer, orderWithoutEnoughStock))
+                .build();
+
+        mockMvc.perform(
+                        post("/api/orders/batch")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(dto))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].orderId").isNumber())
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[2].success").value(false));
+
+        var availability = stockRepository.getAvailabilityByProducts(List.of(1L, 4L));
+        assertEquals(5L, availability.get(0).reservedQuantity());
+        assertEquals(0L, availability.get(1).reservedQuantity());
+    }
+
+    @WithMockUser(authorities = {"Permissions.Orders.Create"})
+    @Test
+    public void createOrdersBatchWhenOrdersAreEmptyStatusShouldBeBadRequest() throws Exception {
+        var dto = CreateOrdersBatchDto.builder()
+                .orders(List.of())
+                .build();
+
+        mockMvc.perform(
+                        post("/api/orders/batch")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(dto))
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @WithMockUser(authorities = {"Permissions.Orders.Update"})
     @Sql("/multiple-orders.sql")
     @Test
@@ -135,6 +240,137 @@ public class OrderControllerIntegrationTests {
         }
     }
 
+    @WithMockUser(authorities = "Permissions.Orders.Deliver")
+    @Sql("/multiple-orders.sql")
+    @Test
+    public void deliverOrdersBatchStatusShouldBeNoContent() throws Exception {
+        var dto = DeliverOrdersBatchDto.builder()
+                .orderIds(List.of(1L, 2L))
+                .comment("delivered")
+                .build();
+
+        mockMvc.perform(
+                        put("/api/orders/deliver/batch")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(dto))
+                )
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        var stocks = stockRepository.findAllById(List.of(1L, 2L, 3L, 4L));
+        for (Stock stock : stocks) {
+            assertEquals(0L, stock.getQuantity());
+        }
+    }
+
+    @WithMockUser(authorities = "Permissions.Orders.Deliver")
+    @Sql("/multiple-orders.sql")
+    @Test
+    public void deliverOrdersBatchWhenAnyOrderDoesNotExistStatusShouldBeNotFound() throws Exception {
+        var dto = DeliverOrdersBatchDto.builder()
+                .orderIds(List.of(1L, 99L))
+                .comment("delivered")
+                .build();
+
+        mockMvc.perform(
+                        put("/api/orders/deliver/batch")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(dto))
+                )
+                .andDo(print())
+                .andExpect(status().isNotFound());
+
+        var stocks = stockRepository.findAllById(List.of(1L, 2L));
+        for (Stock stock : stocks) {
+            assertEquals(10L, stock.getQuantity());
+        }
+    }
+
+    @WithMockUser(authorities = "Permissions.Orders.View")
+    @Sql("/multiple-orders.sql")
+    @Test
+    public void streamOrdersAsNdjsonShouldWriteOneOrderPerLine() throws Exception {
+        var asyncResult = mockMvc.perform(
+                        get("/api/orders")
+                                .param("orderBy", "id")
+                                .accept(MediaType.APPLICATION_NDJSON)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        var lines = result.getResponse().getContentAsString().lines().toList();
+        assertEquals(10, lines.size());
+        assertEquals(1L, mapper.readValue(lines.get(0), OrderDto.class).getId());
+        assertEquals(10L, mapper.readValue(lines.get(9), OrderDto.class).getId());
+    }
+
+    @WithMockUser(authorities = "Permissions.Orders.View")
+    @Sql("/multiple-orders.sql")
+    @Test
+    public void streamOrdersAsCsvShouldWriteHeaderAndOneOrderPerLine() throws Exception {
+        var asyncResult = mockMvc.perform(
+                        get("/api/orders")
+                                .param("customerId", "2")
+                                .accept("text/csv")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn();
+
+        var lines = result.getResponse().getContentAsString().lines().toList();
+        assertEquals("id,customer,total,delivered,orderedAt,deliveredAt", lines.get(0));
+        assertEquals(6, lines.size());
+        assertTrue(lines.stream().skip(1).allMatch(line -> line.contains(",Jane Smith,")));
+    }
+
+    @WithMockUser(authorities = "Permissions.Orders.Export")
+    @Sql("/multiple-orders.sql")
+    @Test
+    public void exportOrdersAsCsvShouldReturnAttachment() throws Exception {
+        var asyncResult = mockMvc.perform(
+                        get("/api/orders/export")
+                                .param("format", "csv")
+                                .param("customerId", "2")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment; filename=\"orders-")))
+                .andReturn();
+
+        var lines = result.getResponse().getContentAsString().lines().toList();
+        assertEquals(6, lines.size());
+    }
+
+    @WithMockUser(authorities = "Permissions.Orders.View")
+    @Sql("/multiple-orders.sql")
+    @Test
+    public void exportOrdersWithoutExportPermissionShouldBeForbidden() throws Exception {
+        mockMvc.perform(get("/api/orders/export"))
+                .andExpect(status().isForbidden());
+    }
+
+    @WithMockUser(authorities = "Permissions.Orders.Export")
+    @Test
+    public void exportOrdersWithUnknownFormatShouldBeUnprocessableEntity() throws Exception {
+        mockMvc.perform(get("/api/orders/export").param("format", "pdf"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @WithMockUser(authorities = "Permissions.Orders.View")
     @Sql("/multiple-orders.sql")
     @Test
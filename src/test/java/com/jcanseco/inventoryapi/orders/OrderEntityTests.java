@@ -111,6 +111,31 @@ public class OrderEntityTests {
         orderItemsEqualsToProductsWithQuantities(order.getItems(), products, productsWithQuantitiesForUpdate);
     }
 
+    @Test
+    public void updateOrderShouldOnlyTouchChangedItems() {
+        var order = Order.createNew(customer, products, productsWithQuantities, LocalDateTime.now());
+        var keptItem = order.getItems().stream().filter(i -> i.getProductId() == 9L).findFirst().orElseThrow();
+        var newProduct = Product.builder()
+                .id(11L)
+                .unit(products.get(0).getUnit())
+                .name("Coffee Maker")
+                .purchasePrice(BigDecimal.valueOf(50))
+                .salePrice(BigDecimal.valueOf(100))
+                .build();
+        var quantities = new HashMap<Long, Long>() {{
+            put(9L, 10L);
+            put(11L, 2L);
+        }};
+
+        order.update(List.of(products.get(0), newProduct), quantities);
+
+        assertEquals(2, order.getItems().size());
+        assertSame(keptItem, order.getItems().get(0));
+        assertEquals(11L, order.getItems().get(1).getProductId());
+        assertNull(order.getItems().get(1).getId());
+        assertEquals(BigDecimal.valueOf(1700), order.getTotal());
+    }
+
     @Test
     public void updateOrderWhenOrderIsDeliveredShouldThrowException() {
         var order = Order.createNew(customer, products, productsWithQuantities, LocalDateTime.now());
@@ -5,10 +5,15 @@ import com.jcanseco.inventoryapi.customers.persistence.CustomerRepository;
 import com.jcanseco.inventoryapi.orders.domain.Order;
 import com.jcanseco.inventoryapi.orders.persistence.OrderRepository;
 import com.jcanseco.inventoryapi.orders.persistence.OrderSpecifications;
+import com.jcanseco.inventoryapi.shared.pagination.Cursor;
+import com.jcanseco.inventoryapi.shared.pagination.KeysetSpecifications;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
 import com.jcanseco.inventoryapi.shared.testing.TestcontainersConfiguration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -265,6 +270,57 @@ public class OrderRepositoryTests {
         assertEquals(10, orders.size());
     }
 
+    @Test
+    @Sql("/multiple-orders.sql")
+    public void seekOrdersByTotalDescShouldWalkAllOrdersWithoutGapsOrDuplicates() {
+        var expected = orderRepository.findAll(Specification.where(null)).stream()
+                .sorted((a, b) -> b.getTotal().compareTo(a.getTotal()) != 0 ? b.getTotal().compareTo(a.getTotal()) : b.getId().compareTo(a.getId()))
+                .map(Order::getId)
+                .toList();
+
+        var walked = walkPages(
+                OrderSpecifications.orderByTotalDesc(Specification.where(null)),
+                order -> Cursor.of("total", false, order.getTotal(), order.getId())
+        );
+
+        assertEquals(expected, walked);
+    }
+
+    @Test
+    @Sql("/multiple-orders.sql")
+    public void seekOrdersByDeliveredAtAscShouldWalkNullsFirst() {
+        var walked = walkPages(
+                OrderSpecifications.orderByDeliveredAtAsc(Specification.where(null)),
+                order -> Cursor.of("deliveredAt", true, order.getDeliveredAt(), order.getId())
+        );
+
+        assertEquals(10, walked.size());
+        assertEquals(10, walked.stream().distinct().count());
+        var orders = orderRepository.findAllById(walked);
+        var undelivered = orders.stream().filter(order -> order.getDeliveredAt() == null).count();
+        for (int i = 0; i < walked.size(); i++) {
+            var id = walked.get(i);
+            var order = orders.stream().filter(o -> o.getId().equals(id)).findFirst().orElseThrow();
+            assertEquals(i < undelivered, order.getDeliveredAt() == null);
+        }
+    }
+
+    private List<Long> walkPages(Specification<Order> orderedSpec, Function<Order, Cursor> cursorOf) {
+        var pageSize = 3;
+        var ids = new ArrayList<Long>();
+        Cursor cursor = null;
+        while (true) {
+            var page = orderRepository.findBy(
+                    KeysetSpecifications.seek(orderedSpec, cursor),
+                    query -> query.limit(pageSize).all()
+            );
+            page.forEach(order -> ids.add(order.getId()));
+            if (page.size() < pageSize) {
+                return ids;
+            }
+            cursor = cursorOf.apply(page.get(page.size() - 1));
+        }
+    }
 }
 
 
@@ -0,0 +1,97 @@
+package com.jcanseco.inventoryapi.orders;
+
+import com.jcanseco.inventoryapi.catalog.categories.persistence.CategoryRepository;
+import com.jcanseco.inventoryapi.catalog.products.domain.Product;
+import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
+import com.jcanseco.inventoryapi.catalog.units.persistence.UnitOfMeasurementRepository;
+import com.jcanseco.inventoryapi.customers.persistence.CustomerRepository;
+import com.jcanseco.inventoryapi.orders.domain.Order;
+import com.jcanseco.inventoryapi.orders.persistence.OrderRepository;
+import com.jcanseco.inventoryapi.shared.testing.TestcontainersConfiguration;
+import com.jcanseco.inventoryapi.suppliers.persistence.SupplierRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements Hibernate issues when one line of a large order is edited.
+ */
+@Testcontainers
+@Import(TestcontainersConfiguration.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class OrderUpdateStatementsRepositoryTests {
+
+    private static final int NUMBER_OF_LINES = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private SupplierRepository supplierRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UnitOfMeasurementRepository unitRepository;
+
+    @Sql("/multiple-orders.sql")
+    @Test
+    public void updateOneLineOfLargeOrderShouldIssueOneItemUpdate() {
+        var supplier = supplierRepository.findById(1L).orElseThrow();
+        var category = categoryRepository.findById(1L).orElseThrow();
+        var unit = unitRepository.findById(1L).orElseThrow();
+
+        var newProducts = new ArrayList<Product>();
+        for (int i = 0; i < NUMBER_OF_LINES; i++) {
+            newProducts.add(Product.builder()
+                    .supplier(supplier)
+                    .category(category)
+                    .unit(unit)
+                    .name("Line product " + i)
+                    .purchasePrice(BigDecimal.valueOf(10))
+                    .salePrice(BigDecimal.valueOf(20))
+                    .build());
+        }
+        var products = productRepository.saveAll(newProducts);
+
+        var quantities = new HashMap<Long, Long>();
+        products.forEach(product -> quantities.put(product.getId(), 1L));
+
+        var order = orderRepository.saveAndFlush(Order.createNew(
+                customerRepository.findById(1L).orElseThrow(), products, quantities, LocalDateTime.now()));
+        entityManager.clear();
+
+        var storedOrder = orderRepository.findWithDetailsById(order.getId()).orElseThrow();
+        var storedProducts = productRepository.findAllById(quantities.keySet());
+        quantities.put(products.get(0).getId(), 5L);
+
+        var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        storedOrder.update(storedProducts, quantities);
+        orderRepository.saveAndFlush(storedOrder);
+
+        assertEquals(NUMBER_OF_LINES, storedOrder.getItems().size());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        // The edited item and the order total.
+        assertEquals(2, statistics.getEntityUpdateCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
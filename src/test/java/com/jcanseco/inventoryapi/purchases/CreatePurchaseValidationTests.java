@@ -1,5 +1,7 @@
 package com.jcanseco.inventoryapi.purchases;
 
+import com.jcanseco.inventoryapi.catalog.products.domain.Product;
+import com.jcanseco.inventoryapi.catalog.products.persistence.ProductLookup;
 import com.jcanseco.inventoryapi.catalog.products.persistence.ProductRepository;
 import com.jcanseco.inventoryapi.inventory.validation.AllProductsExistValidator;
 import com.jcanseco.inventoryapi.purchases.dto.CreatePurchaseDto;
@@ -21,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.Mock;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,7 +37,7 @@ public class CreatePurchaseValidationTests {
     public void setup() {
 
         List<ConstraintValidator<?,?>> customConstraintValidators = Collections.singletonList(
-                new AllProductsExistValidator(productRepository)
+                new AllProductsExistValidator(new ProductLookup(productRepository))
         );
         ValidatorFactory customValidatorFactory = new CustomLocalValidatorFactoryBean(customConstraintValidators);
         validator = customValidatorFactory.getValidator();
@@ -60,8 +63,10 @@ public class CreatePurchaseValidationTests {
     @Test
     public void createPurchaseDtoWhenDtoIsValidValidationShouldNotFail() {
 
-        when(productRepository.existsById(1L)).thenReturn(true);
-        when(productRepository.existsById(2L)).thenReturn(true);
+        when(productRepository.findAllWithDetailsByIdIn(anyCollection())).thenReturn(List.of(
+                Product.builder().id(1L).build(),
+                Product.builder().id(2L).build()
+        ));
 
         var dto = CreatePurchaseDto.builder()
                 .supplierId(1L)
@@ -0,0 +1,80 @@
+package com.jcanseco.inventoryapi.purchases;
+
+import com.jcanseco.inventoryapi.purchases.dto.CreatePurchaseDto;
+import com.jcanseco.inventoryapi.purchases.dto.CreateReplenishmentPurchasesDto;
+import com.jcanseco.inventoryapi.purchases.dto.ReplenishmentSuggestionDto;
+import com.jcanseco.inventoryapi.purchases.dto.SupplierReplenishmentDto;
+import com.jcanseco.inventoryapi.purchases.usecases.create.CreatePurchaseUseCase;
+import com.jcanseco.inventoryapi.purchases.usecases.replenish.CreateReplenishmentPurchasesUseCase;
+import com.jcanseco.inventoryapi.purchases.usecases.suggest.GetReplenishmentSuggestionsUseCase;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateReplenishmentPurchasesUseCaseTests {
+
+    @Mock
+    private GetReplenishmentSuggestionsUseCase getReplenishmentSuggestionsUseCase;
+
+    @Mock
+    private CreatePurchaseUseCase createPurchaseUseCase;
+
+    @InjectMocks
+    private CreateReplenishmentPurchasesUseCase useCase;
+
+    @Test
+    public void executeShouldCreateOnePurchasePerSupplier() {
+        when(getReplenishmentSuggestionsUseCase.execute(any())).thenReturn(List.of(
+                supplier(1L, Map.of(1L, 105L, 2L, 12L)),
+                supplier(2L, Map.of(4L, 6L))
+        ));
+        when(createPurchaseUseCase.execute(new CreatePurchaseDto(1L, new HashMap<>(Map.of(1L, 105L, 2L, 12L))))).thenReturn(7L);
+        when(createPurchaseUseCase.execute(new CreatePurchaseDto(2L, new HashMap<>(Map.of(4L, 6L))))).thenReturn(8L);
+
+        var purchaseIds = useCase.execute(new CreateReplenishmentPurchasesDto());
+
+        assertEquals(List.of(7L, 8L), purchaseIds);
+    }
+
+    @Test
+    public void executeShouldOnlyCreatePurchasesForTheRequestedSuppliers() {
+        when(getReplenishmentSuggestionsUseCase.execute(any())).thenReturn(List.of(
+                supplier(1L, Map.of(1L, 105L)),
+                supplier(2L, Map.of(4L, 6L)),
+                supplier(3L, Map.of(5L, 1L))
+        ));
+        when(createPurchaseUseCase.execute(new CreatePurchaseDto(3L, new HashMap<>(Map.of(5L, 1L))))).thenReturn(9L);
+
+        var purchaseIds = useCase.execute(new CreateReplenishmentPurchasesDto(List.of(3L, 4L)));
+
+        assertEquals(List.of(9L), purchaseIds);
+        verify(createPurchaseUseCase, never()).execute(new CreatePurchaseDto(1L, new HashMap<>(Map.of(1L, 105L))));
+    }
+
+    private static SupplierReplenishmentDto supplier(long supplierId, Map<Long, Long> quantities) {
+        var products = quantities.entrySet().stream()
+                .map(entry -> new ReplenishmentSuggestionDto(entry.getKey(), "Product " + entry.getKey(), BigDecimal.ONE,
+                        0L, 0L, 0L, 10L, entry.getValue(), BigDecimal.TEN, BigDecimal.TEN.multiply(BigDecimal.valueOf(entry.getValue()))))
+                .toList();
+        return new SupplierReplenishmentDto(supplierId, "Supplier " + supplierId, BigDecimal.valueOf(7), products, BigDecimal.ZERO);
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,149 @@
+package com.jcanseco.inventoryapi.purchases;
+
+import com.jcanseco.inventoryapi.purchases.dto.GetReplenishmentSuggestionsRequest;
+import com.jcanseco.inventoryapi.purchases.persistence.ReplenishmentRepository;
+import com.jcanseco.inventoryapi.purchases.replenishment.LeadTimeSample;
+import com.jcanseco.inventoryapi.purchases.replenishment.ProductSale;
+import com.jcanseco.inventoryapi.purchases.replenishment.ReplenishmentCandidate;
+import com.jcanseco.inventoryapi.purchases.replenishment.ReplenishmentStats;
+import com.jcanseco.inventoryapi.purchases.usecases.suggest.GetReplenishmentSuggestionsUseCase;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GetReplenishmentSuggestionsUseCaseTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    @Mock
+    private ReplenishmentRepository repository;
+
+    @Mock
+    private ClockProvider clockProvider;
+
+    private ReplenishmentStats stats;
+    private GetReplenishmentSuggestionsUseCase useCase;
+
+    @BeforeEach
+    public void setup() {
+        lenient().doAnswer(invocation -> {
+            Consumer<ProductSale> consumer = invocation.getArgument(0);
+            consumer.accept(new ProductSale(1L, NOW, 280));
+            return null;
+        }).when(repository).forEachDailySale(any());
+        doAnswer(invocation -> {
+            Consumer<LeadTimeSample> consumer = invocation.getArgument(0);
+            consumer.accept(new LeadTimeSample(1L, NOW.minusDays(20), NOW.minusDays(16)));
+            consumer.accept(new LeadTimeSample(1L, NOW.minusDays(10), NOW.minusDays(6)));
+            return null;
+        }).when(repository).forEachLeadTime(any());
+        when(repository.getCandidates(null)).thenReturn(List.of(
+                candidate(1L, 1L, 5, 0, 20, 0, 0),
+                candidate(2L, 1L, 5, 12, 3, 0, 0),
+                candidate(3L, 1L, 10, 0, 50, 0, 0),
+                candidate(4L, 2L, 5, 0, 2, 1, 10)
+        ));
+        when(clockProvider.now()).thenReturn(NOW);
+
+        stats = new ReplenishmentStats(repository, Duration.ofDays(28), 0.3);
+        useCase = new GetReplenishmentSuggestionsUseCase(repository, stats, clockProvider,
+                Duration.ofDays(7), Duration.ofDays(14), 1.65);
+    }
+
+    @Test
+    public void executeShouldSuggestProductsAtOrBelowTheirReorderLevel() {
+        stats.reload();
+
+        var suppliers = useCase.execute(new GetReplenishmentSuggestionsRequest());
+
+        // Supplier 2's only product has enough on order to stay above its reorder point.
+        assertEquals(1, suppliers.size());
+        var supplier = suppliers.get(0);
+        assertEquals(1L, supplier.supplierId());
+        assertEquals(0, supplier.leadTimeDays().compareTo(BigDecimal.valueOf(4)));
+        assertEquals(List.of(1L, 2L), supplier.products().stream().map(product -> product.productId()).toList());
+
+        // Lead time demand (4 days) plus 14 days of cover, minus the 20 on hand.
+        var velocity = Math.log(2) / 28 * 280;
+        var fastSeller = supplier.products().get(0);
+        assertEquals((long) Math.ceil(velocity * 4 + velocity * 14 - 20), fastSeller.suggestedQuantity());
+        assertEquals(0, fastSeller.dailySales().compareTo(BigDecimal.valueOf(6.93)));
+
+        // Without sales the reorder quantity wins over the 2 units missing to the reorder point.
+        var slowSeller = supplier.products().get(1);
+        assertEquals(12L, slowSeller.suggestedQuantity());
+        assertEquals(0, slowSeller.estimatedCost().compareTo(BigDecimal.valueOf(120)));
+
+        assertEquals(0, supplier.estimatedTotal()
+                .compareTo(BigDecimal.TEN.multiply(BigDecimal.valueOf(fastSeller.suggestedQuantity() + 12))));
+    }
+
+    @Test
+    public void executeShouldLoadTheHistoryOnceWhenTheStatsAreNotLoaded() {
+        var suppliers = useCase.execute(new GetReplenishmentSuggestionsRequest());
+        var again = useCase.execute(new GetReplenishmentSuggestionsRequest());
+
+        assertTrue(stats.isLoaded());
+        assertEquals(suppliers, again);
+        assertEquals(2, suppliers.get(0).products().size());
+        verify(repository, times(1)).forEachDailySale(any());
+    }
+
+    @Test
+    public void statsShouldTakeInDeliveredSalesOnceLoaded() {
+        stats.reload();
+        when(repository.getDeliveredSales(List.of(10L))).thenReturn(List.of(new ProductSale(3L, NOW, 2800)));
+
+        stats.onOrdersDelivered(List.of(10L));
+        var suppliers = useCase.execute(new GetReplenishmentSuggestionsRequest());
+
+        assertTrue(suppliers.get(0).products().stream().anyMatch(product -> product.productId() == 3L));
+        verify(repository, times(1)).forEachDailySale(any());
+    }
+
+    @Test
+    public void statsShouldTakeInSalesDeliveredWhileTheHistoryLoads() {
+        when(repository.getDeliveredSales(List.of(10L))).thenReturn(List.of(new ProductSale(3L, NOW, 2800)));
+        doAnswer(invocation -> {
+            // The delivery commits after the history was read, so only the replay brings it in.
+            stats.onOrdersDelivered(List.of(10L));
+            Consumer<ProductSale> consumer = invocation.getArgument(0);
+            consumer.accept(new ProductSale(1L, NOW, 280));
+            return null;
+        }).when(repository).forEachDailySale(any());
+
+        var suppliers = useCase.execute(new GetReplenishmentSuggestionsRequest());
+
+        assertTrue(suppliers.get(0).products().stream().anyMatch(product -> product.productId() == 3L));
+    }
+
+    private static ReplenishmentCandidate candidate(long productId, long supplierId, long reorderPoint, long reorderQuantity,
+                                                    long stock, long reserved, long onOrder) {
+        return new ReplenishmentCandidate(productId, "Product " + productId, supplierId, "Supplier " + supplierId,
+                BigDecimal.TEN, reorderPoint, reorderQuantity, stock, reserved, onOrder);
+    }
+}
+
+
+
+
+
+
@@ -131,6 +131,27 @@ public class PurchaseControllerIntegrationTests {
         stocks.forEach(s -> assertEquals(20L, s.getQuantity()));
     }
 
+    @WithMockUser(authorities = {"Permissions.Purchases.Receive"})
+    @Sql("/multiple-purchases.sql")
+    @Test
+    public void receivePurchasesBatchStatusShouldBeNoContent() throws Exception {
+        var receiveDto = ReceivePurchasesBatchDto.builder()
+                .purchaseIds(List.of(1L, 2L))
+                .comment("Received thanks")
+                .build();
+        mockMvc.perform(
+                        put("/api/purchases/receive/batch")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(receiveDto))
+                )
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        var stocks = stockRepository.findAllById(List.of(1L, 2L, 3L, 4L));
+        stocks.forEach(s -> assertEquals(20L, s.getQuantity()));
+    }
+
     @WithMockUser(authorities = {"Permissions.Purchases.View"})
     @Sql("/multiple-purchases.sql")
     @Test
@@ -100,6 +100,31 @@ public class PurchaseEntityTests {
         purchaseItemsEqualsToProductsWithQuantities(purchase.getItems(), products, productsWithQuantitiesForUpdate);
     }
 
+    @Test
+    public void updatePurchaseShouldOnlyTouchChangedItems() {
+        var purchase = Purchase.createNew(supplier, products, productsWithQuantities, LocalDateTime.now());
+        var keptItem = purchase.getItems().stream().filter(i -> i.getProductId() == 9L).findFirst().orElseThrow();
+        var newProduct = Product.builder()
+                .id(11L)
+                .unit(products.get(0).getUnit())
+                .name("Coffee Maker")
+                .purchasePrice(BigDecimal.valueOf(50))
+                .salePrice(BigDecimal.valueOf(100))
+                .build();
+        var quantities = new HashMap<Long, Long>() {{
+            put(9L, 10L);
+            put(11L, 2L);
+        }};
+
+        purchase.update(List.of(products.get(0), newProduct), quantities);
+
+        assertEquals(2, purchase.getItems().size());
+        assertSame(keptItem, purchase.getItems().get(0));
+        assertEquals(11L, purchase.getItems().get(1).getProductId());
+        assertNull(purchase.getItems().get(1).getId());
+        assertEquals(BigDecimal.valueOf(1000), purchase.getTotal());
+    }
+
     @Test
     public void updatePurchaseWhenPurchaseIsArrivedShouldThrowException() {
         var purchase = Purchase.createNew(supplier, products, productsWithQuantities, LocalDateTime.now());
@@ -0,0 +1,72 @@
+package com.jcanseco.inventoryapi.purchases.replenishment;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReplenishmentEstimatesTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void velocityShouldHalveEveryHalfLife() {
+        var estimates = new ReplenishmentEstimates(10, 0.5);
+        estimates.addSale(new ProductSale(1L, NOW, 100));
+
+        var rate = Math.log(2) / 10;
+        assertEquals(rate * 100, estimates.getDailyVelocity(1L, NOW), DELTA);
+        assertEquals(rate * 50, estimates.getDailyVelocity(1L, NOW.plusDays(10)), DELTA);
+        assertEquals(rate * 25, estimates.getDailyVelocity(1L, NOW.plusDays(20)), DELTA);
+        assertEquals(0, estimates.getDailyVelocity(2L, NOW), DELTA);
+    }
+
+    @Test
+    public void lateSalesShouldWeighAsOfTheirOwnDay() {
+        var inOrder = new ReplenishmentEstimates(10, 0.5);
+        inOrder.addSale(new ProductSale(1L, NOW.minusDays(10), 40));
+        inOrder.addSale(new ProductSale(1L, NOW, 20));
+
+        var outOfOrder = new ReplenishmentEstimates(10, 0.5);
+        outOfOrder.addSale(new ProductSale(1L, NOW, 20));
+        outOfOrder.addSale(new ProductSale(1L, NOW.minusDays(10), 40));
+
+        var rate = Math.log(2) / 10;
+        assertEquals(rate * 40, inOrder.getDailyVelocity(1L, NOW), DELTA);
+        assertEquals(inOrder.getDailyVelocity(1L, NOW.plusDays(3)), outOfOrder.getDailyVelocity(1L, NOW.plusDays(3)), DELTA);
+    }
+
+    @Test
+    public void leadTimeShouldFavourTheLatestPurchases() {
+        var estimates = new ReplenishmentEstimates(10, 0.5);
+        assertNull(estimates.getLeadTime(1L));
+
+        estimates.addLeadTime(new LeadTimeSample(1L, NOW, NOW.plusDays(4)));
+        assertEquals(4, estimates.getLeadTime(1L).meanDays(), DELTA);
+        assertEquals(0, estimates.getLeadTime(1L).stdDevDays(), DELTA);
+
+        estimates.addLeadTime(new LeadTimeSample(1L, NOW, NOW.plusDays(8)));
+        assertEquals(6, estimates.getLeadTime(1L).meanDays(), DELTA);
+        assertEquals(2, estimates.getLeadTime(1L).stdDevDays(), DELTA);
+
+        estimates.addLeadTime(new LeadTimeSample(1L, NOW, NOW.plusHours(12)));
+        assertEquals(3.25, estimates.getLeadTime(1L).meanDays(), DELTA);
+        assertEquals(1, estimates.supplierCount());
+    }
+
+    @Test
+    public void constructorShouldRejectInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ReplenishmentEstimates(0, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new ReplenishmentEstimates(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ReplenishmentEstimates(10, 1.5));
+    }
+}
+
+
+
+
+
+
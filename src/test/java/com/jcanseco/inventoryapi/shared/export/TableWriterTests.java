@@ -0,0 +1,107 @@
+package com.jcanseco.inventoryapi.shared.export;
+
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TableWriterTests {
+
+    @Test
+    public void csvTableWriterShouldWriteValuesAndEscapeText() throws Exception {
+        var output = new ByteArrayOutputStream();
+        var writer = new CsvTableWriter(output);
+
+        writer.writeRow(List.of("Id", "Name", "Total", "Delivered", "Ordered At"));
+        writer.writeRow(Arrays.asList(1L, "Smith, John", new BigDecimal("1E+2"), true, LocalDateTime.of(2023, 5, 1, 0, 0)));
+        writer.writeRow(Arrays.asList(2L, "=HYPERLINK(\"x\")", null, false, null));
+        writer.finish();
+
+        var lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals("Id,Name,Total,Delivered,Ordered At", lines[0]);
+        assertEquals("1,\"Smith, John\",100,true,2023-05-01T00:00", lines[1]);
+        assertEquals("2,\"'=HYPERLINK(\"\"x\"\")\",,false,", lines[2]);
+    }
+
+    @Test
+    public void xlsxTableWriterShouldWriteSpreadsheetPackage() throws Exception {
+        var output = new ByteArrayOutputStream();
+        var writer = new XlsxTableWriter(output);
+
+        writer.writeRow(List.of("Id", "Name", "Delivered"));
+        writer.writeRow(Arrays.asList(1L, "Tom & <Jerry>", true));
+        writer.writeRow(Arrays.asList(2L, null, false));
+        writer.finish();
+
+        var entries = unzip(output.toByteArray());
+        assertTrue(entries.containsKey("[Content_Types].xml"));
+        assertTrue(entries.containsKey("_rels/.rels"));
+        assertTrue(entries.containsKey("xl/workbook.xml"));
+        assertTrue(entries.containsKey("xl/_rels/workbook.xml.rels"));
+
+        var sheet = entries.get("xl/worksheets/sheet1.xml");
+        assertTrue(sheet.contains("<row r=\"1\"><c r=\"A1\" t=\"inlineStr\"><is><t xml:space=\"preserve\">Id</t></is></c>"));
+        assertTrue(sheet.contains("<c r=\"A2\"><v>1</v></c><c r=\"B2\" t=\"inlineStr\"><is><t xml:space=\"preserve\">Tom &amp; &lt;Jerry&gt;</t></is></c><c r=\"C2\" t=\"b\"><v>1</v></c>"));
+        assertTrue(sheet.contains("<row r=\"3\"><c r=\"A3\"><v>2</v></c><c r=\"C3\" t=\"b\"><v>0</v></c></row>"));
+        assertTrue(sheet.endsWith("</sheetData></worksheet>"));
+    }
+
+    @Test
+    public void xlsxTableWriterShouldStartNewSheetWithHeaderWhenSheetIsFull() throws Exception {
+        var output = new ByteArrayOutputStream();
+        var writer = new XlsxTableWriter(output, 3);
+
+        writer.writeRow(List.of("Id"));
+        for (long id = 1; id <= 5; id++) {
+            writer.writeRow(List.of(id));
+        }
+        writer.finish();
+
+        var entries = unzip(output.toByteArray());
+        var firstSheet = entries.get("xl/worksheets/sheet1.xml");
+        var secondSheet = entries.get("xl/worksheets/sheet2.xml");
+        var thirdSheet = entries.get("xl/worksheets/sheet3.xml");
+
+        assertTrue(firstSheet.contains("<row r=\"3\"><c r=\"A3\"><v>2</v></c></row></sheetData>"));
+        assertTrue(secondSheet.contains("<t xml:space=\"preserve\">Id</t>"));
+        assertTrue(secondSheet.contains("<row r=\"3\"><c r=\"A3\"><v>4</v></c></row></sheetData>"));
+        assertTrue(thirdSheet.contains("<row r=\"2\"><c r=\"A2\"><v>5</v></c></row></sheetData>"));
+        assertTrue(entries.get("xl/workbook.xml").contains("<sheet name=\"Sheet3\" sheetId=\"3\" r:id=\"rId3\"/>"));
+        assertTrue(entries.get("[Content_Types].xml").contains("/xl/worksheets/sheet3.xml"));
+    }
+
+    @Test
+    public void columnNameShouldFollowSpreadsheetLetters() {
+        assertEquals("A", XlsxTableWriter.columnName(0));
+        assertEquals("Z", XlsxTableWriter.columnName(25));
+        assertEquals("AA", XlsxTableWriter.columnName(26));
+        assertEquals("AZ", XlsxTableWriter.columnName(51));
+        assertEquals("BA", XlsxTableWriter.columnName(52));
+    }
+
+    @Test
+    public void exportFormatFromExtensionShouldIgnoreCase() {
+        assertEquals(ExportFormat.CSV, ExportFormat.fromExtension("CSV"));
+        assertEquals(ExportFormat.XLSX, ExportFormat.fromExtension("xlsx"));
+        assertThrows(DomainException.class, () -> ExportFormat.fromExtension("pdf"));
+    }
+
+    private static Map<String, String> unzip(byte[] content) throws Exception {
+        var entries = new HashMap<String, String>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(content))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
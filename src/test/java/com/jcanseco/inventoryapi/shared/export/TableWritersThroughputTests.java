@@ -0,0 +1,85 @@
+package com.jcanseco.inventoryapi.shared.export;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes a million order-like rows through each {@link TableWriter} into a discarding stream. Throughput
+ * is logged; the assertions only check that every byte reached the stream and that the heap stayed flat.
+ */
+public class TableWritersThroughputTests {
+
+    private static final Logger log = LoggerFactory.getLogger(TableWritersThroughputTests.class);
+
+    private static final int NUMBER_OF_ROWS = 1_000_000;
+    private static final long MAX_HEAP_GROWTH = 64L * 1024 * 1024;
+
+    @Test
+    public void csvExportThroughputShouldBeReported() throws Exception {
+        writeRows("csv", CsvTableWriter::new);
+    }
+
+    @Test
+    public void xlsxExportThroughputShouldBeReported() throws Exception {
+        writeRows("xlsx", XlsxTableWriter::new);
+    }
+
+    private void writeRows(String format, Function<OutputStream, TableWriter> writerFactory) throws Exception {
+        var output = new CountingOutputStream();
+        var writer = writerFactory.apply(output);
+        var orderedAt = LocalDateTime.of(2023, 5, 1, 10, 30);
+        var heapBefore = usedHeap();
+
+        long start = System.nanoTime();
+        writer.writeRow(List.of("Id", "Customer", "Total", "Delivered", "Ordered At"));
+        for (long id = 1; id <= NUMBER_OF_ROWS; id++) {
+            writer.writeRow(Arrays.asList(id, "Customer " + id % 1000, BigDecimal.valueOf(id % 10_000, 2), id % 2 == 0, orderedAt));
+        }
+        writer.finish();
+        long elapsed = System.nanoTime() - start;
+
+        var heapGrowth = usedHeap() - heapBefore;
+        log.info("{}: {} rows, {} bytes in {} ms ({} rows/s), heap growth {} KB",
+                format, NUMBER_OF_ROWS, output.count, elapsed / 1_000_000,
+                NUMBER_OF_ROWS * 1_000_000_000L / Math.max(elapsed, 1), heapGrowth / 1024);
+
+        assertTrue(output.count > NUMBER_OF_ROWS);
+        assertEquals(0, output.closeCount);
+        assertTrue(heapGrowth < MAX_HEAP_GROWTH, "Heap grew by " + heapGrowth + " bytes");
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+        private int closeCount;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void close() {
+            closeCount++;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.jcanseco.inventoryapi.shared.idempotency;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jcanseco.inventoryapi.shared.errors.ConflictException;
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import com.jcanseco.inventoryapi.shared.utils.ClockProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class IdempotentRequestExecutorTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, Month.MARCH, 1, 10, 0);
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    @Mock
+    private ClockProvider clockProvider;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotentRequestExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        when(clockProvider.now()).thenReturn(NOW);
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        when(repository.complete(anyString(), anyInt(), any(), any(), any())).thenReturn(1);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        var store = new IdempotencyStore(repository, clockProvider, Duration.ofHours(1), Duration.ofMinutes(5), 100);
+        executor = new IdempotentRequestExecutor(store, new ObjectMapper(), transactionManager);
+    }
+
+    @Test
+    public void executeWithoutKeyShouldAlwaysRunTheAction() {
+        var calls = new AtomicInteger();
+
+        executor.execute("orders.create", null, Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok((long) calls.incrementAndGet()));
+        executor.execute("orders.create", null, Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok((long) calls.incrementAndGet()));
+
+        assertEquals(2, calls.get());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    public void executeWithSameKeyShouldReplayRecordedResponse() {
+        var calls = new AtomicInteger();
+        var request = Map.of(1L, 2L, 3L, 4L);
+
+        var first = executor.execute("orders.create", "key-1", request, Long.class, () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.created(URI.create("/api/orders/15")).body(15L);
+        });
+        var second = executor.execute("orders.create", "key-1", request, Long.class, () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.created(URI.create("/api/orders/16")).body(16L);
+        });
+
+        assertEquals(1, calls.get());
+        assertEquals(HttpStatus.CREATED, second.getStatusCode());
+        assertEquals(first.getBody(), second.getBody());
+        assertEquals(URI.create("/api/orders/15"), second.getHeaders().getLocation());
+        verify(repository).insertPending(anyString(), anyString(), eq(NOW), eq(NOW.plusMinutes(5)));
+        verify(repository).complete(anyString(), eq(201), eq("15"), eq("/api/orders/15"), eq(NOW.plusHours(1)));
+    }
+
+    @Test
+    public void executeWithSameKeyInAnotherScopeShouldRunTheAction() {
+        var calls = new AtomicInteger();
+
+        executor.execute("orders.deliver", "key-1", Map.of(1L, 2L), Void.class, () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.noContent().build();
+        });
+        var replayed = executor.execute("purchases.receive", "key-1", Map.of(1L, 2L), Void.class, () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.noContent().build();
+        });
+
+        assertEquals(2, calls.get());
+        assertNull(replayed.getBody());
+    }
+
+    @Test
+    public void executeWithSameKeyAndDifferentRequestShouldThrow() {
+        executor.execute("orders.create", "key-1", Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok(1L));
+
+        assertThrows(DomainException.class, () ->
+                executor.execute("orders.create", "key-1", Map.of(1L, 3L), Long.class, () -> ResponseEntity.ok(2L)));
+    }
+
+    @Test
+    public void executeWhenActionFailsShouldNotRecordTheKey() {
+        var calls = new AtomicInteger();
+
+        assertThrows(DomainException.class, () ->
+                executor.execute("orders.deliver", "key-1", Map.of(1L, 2L), Void.class, () -> {
+                    calls.incrementAndGet();
+                    throw new DomainException("failed");
+                }));
+        executor.execute("orders.deliver", "key-1", Map.of(1L, 2L), Void.class, () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.noContent().build();
+        });
+
+        assertEquals(2, calls.get());
+        verify(repository).deletePending(anyString());
+    }
+
+    @Test
+    public void executeWhenTheReservationWasLostShouldRollBackTheRequest() {
+        when(repository.complete(anyString(), anyInt(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(ConflictException.class, () ->
+                executor.execute("orders.create", "key-1", Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok(1L)));
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(repository).deletePending(anyString());
+    }
+
+    @Test
+    public void executeShouldRecordTheResponseInTheRequestTransaction() {
+        var inOrder = inOrder(repository, transactionManager);
+
+        executor.execute("orders.create", "key-1", Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok(1L));
+
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(repository).complete(anyString(), eq(200), eq("1"), any(), any());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void executeWhenRecordHasExpiredShouldRunTheActionAgain() {
+        var calls = new AtomicInteger();
+        executor.execute("orders.create", "key-1", Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok((long) calls.incrementAndGet()));
+
+        when(clockProvider.now()).thenReturn(NOW.plusHours(2));
+        var response = executor.execute("orders.create", "key-1", Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok((long) calls.incrementAndGet()));
+
+        assertEquals(2, calls.get());
+        assertEquals(2L, response.getBody());
+    }
+
+    @Test
+    public void executeWhenOnlyTheTableHasTheKeyShouldReplayIt() {
+        var calls = new AtomicInteger();
+        executor.execute("orders.create", "key-1", Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok(7L));
+        var recorded = completedRecord();
+
+        // A new store starts empty, like after a restart or on another node.
+        when(repository.findById(recorded.getKey())).thenReturn(Optional.of(recorded));
+        var restarted = new IdempotentRequestExecutor(
+                new IdempotencyStore(repository, clockProvider, Duration.ofHours(1), Duration.ofMinutes(5), 100), new ObjectMapper(), transactionManager);
+        var response = restarted.execute("orders.create", "key-1", Map.of(1L, 2L), Long.class, () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.ok(8L);
+        });
+
+        assertEquals(0, calls.get());
+        assertEquals(7L, response.getBody());
+    }
+
+    @Test
+    public void executeWithGenericBodyShouldReplayItWithItsElementType() {
+        executor.execute("purchases.replenish", "key-1", Map.of(1L, 2L), new TypeReference<List<Long>>() {},
+                () -> ResponseEntity.ok(List.of(4L, 5L)));
+        var recorded = completedRecord();
+
+        when(repository.findById(recorded.getKey())).thenReturn(Optional.of(recorded));
+        var response = executor.execute("purchases.replenish", "key-1", Map.of(1L, 2L), new TypeReference<List<Long>>() {},
+                () -> ResponseEntity.ok(List.of(6L)));
+
+        assertEquals(List.of(4L, 5L), response.getBody());
+    }
+
+    @Test
+    public void executeWhenAnotherNodeHoldsTheKeyShouldThrowConflict() {
+        doThrow(new DataIntegrityViolationException("Duplicate entry"))
+                .when(repository).insertPending(anyString(), anyString(), any(), any());
+        var calls = new AtomicInteger();
+
+        assertThrows(ConflictException.class, () ->
+                executor.execute("orders.create", "key-1", Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok((long) calls.incrementAndGet())));
+
+        assertEquals(0, calls.get());
+        verify(repository, never()).deletePending(anyString());
+    }
+
+    @Test
+    public void executeWhenTheHeldKeyHasExpiredShouldTakeItOver() {
+        doThrow(new DataIntegrityViolationException("Duplicate entry")).doReturn(1)
+                .when(repository).insertPending(anyString(), anyString(), any(), any());
+        when(repository.deleteExpired(anyString(), eq(NOW))).thenReturn(1);
+
+        var response = executor.execute("orders.create", "key-1", Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok(3L));
+
+        assertEquals(3L, response.getBody());
+        verify(repository, times(2)).insertPending(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    public void executeWithSameKeyFromAnotherUserShouldRunTheAction() {
+        var calls = new AtomicInteger();
+        try {
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null));
+            executor.execute("orders.create", "key-1", Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok((long) calls.incrementAndGet()));
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", null));
+            var response = executor.execute("orders.create", "key-1", Map.of(1L, 2L), Long.class, () -> ResponseEntity.ok((long) calls.incrementAndGet()));
+
+            assertEquals(2, calls.get());
+            assertEquals(2L, response.getBody());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private IdempotencyRecord completedRecord() {
+        var key = ArgumentCaptor.forClass(String.class);
+        var requestHash = ArgumentCaptor.forClass(String.class);
+        var body = ArgumentCaptor.forClass(String.class);
+        verify(repository).insertPending(key.capture(), requestHash.capture(), any(), any());
+        verify(repository).complete(eq(key.getValue()), anyInt(), body.capture(), any(), any());
+        return IdempotencyRecord.builder()
+                .key(key.getValue())
+                .requestHash(requestHash.getValue())
+                .completed(true)
+                .statusCode(200)
+                .responseBody(body.getValue())
+                .createdAt(NOW)
+                .expiresAt(NOW.plusHours(1))
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.jcanseco.inventoryapi.shared.pagination;
+
+import com.jcanseco.inventoryapi.shared.errors.DomainException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CursorTests {
+
+    @Test
+    public void encodedCursorShouldDecodeToTheSameValues() {
+        var cursor = Cursor.of("orderedAt", false, LocalDateTime.of(2023, 5, 1, 10, 30), 42L);
+        var decoded = Cursor.decode(cursor.encode());
+        assertEquals(cursor, decoded);
+        assertEquals("2023-05-01T10:30", decoded.value());
+    }
+
+    @Test
+    public void encodedCursorWithNullValueShouldDecodeToNullValue() {
+        var cursor = Cursor.of("deliveredAt", true, null, 7L);
+        var decoded = Cursor.decode(cursor.encode());
+        assertNull(decoded.value());
+        assertEquals(7L, decoded.id());
+    }
+
+    @Test
+    public void encodedCursorShouldKeepDecimalsAndSeparatorsInValue() {
+        var decimalCursor = Cursor.of("total", true, new BigDecimal("1E+3"), 1L);
+        assertEquals("1000", Cursor.decode(decimalCursor.encode()).value());
+
+        var textCursor = Cursor.of("fullName", true, "Doe\nJohn", 2L);
+        assertEquals("Doe\nJohn", Cursor.decode(textCursor.encode()).value());
+    }
+
+    @Test
+    public void decodeForWhenTokenIsEmptyShouldReturnNull() {
+        assertNull(Cursor.decodeFor(null, "id", true));
+        assertNull(Cursor.decodeFor("", "id", true));
+    }
+
+    @Test
+    public void decodeForWhenSortDiffersShouldThrowException() {
+        var token = Cursor.of("total", true, BigDecimal.TEN, 1L).encode();
+        assertThrows(DomainException.class, () -> Cursor.decodeFor(token, "total", false));
+        assertThrows(DomainException.class, () -> Cursor.decodeFor(token, "orderedAt", true));
+    }
+
+    @Test
+    public void decodeWhenTokenIsMalformedShouldThrowException() {
+        assertThrows(DomainException.class, () -> Cursor.decode("not a cursor!"));
+        assertThrows(DomainException.class, () -> Cursor.decode("aWQKYXNjCng"));
+    }
+
+    @Test
+    public void fromRowsShouldReturnNextCursorOnlyWhenThereAreMoreRows() {
+        var rows = List.of(1L, 2L, 3L);
+
+        var firstPage = CursorPagedList.fromRows(rows, 2, String::valueOf, id -> Cursor.of("id", true, id, id));
+        assertEquals(List.of("1", "2"), firstPage.getItems());
+        assertTrue(firstPage.hasNextPage());
+        assertEquals(2L, Cursor.decode(firstPage.getNextCursor()).id());
+
+        var lastPage = CursorPagedList.fromRows(rows, 3, String::valueOf, id -> Cursor.of("id", true, id, id));
+        assertEquals(3, lastPage.getItems().size());
+        assertFalse(lastPage.hasNextPage());
+        assertNull(lastPage.getNextCursor());
+    }
+}
@@ -0,0 +1,89 @@
+package com.jcanseco.inventoryapi.shared.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrefixIndexTests {
+
+    private static PrefixIndex<String> customers() {
+        return PrefixIndex.of(List.of(
+                new PrefixIndex.Document<>(1L, "John Doe", List.of("John Doe", "123456789", "555-1234-1")),
+                new PrefixIndex.Document<>(2L, "Jane Smith", List.of("Jane Smith", "987654321", "555-1234-2")),
+                new PrefixIndex.Document<>(3L, "Bob Johnson", List.of("Bob Johnson", "456789012", "555-1234-3")),
+                new PrefixIndex.Document<>(4L, "José Ángel", List.of("José Ángel", "111", "555-9999-4"))
+        ));
+    }
+
+    @Test
+    public void completeShouldMatchWholeValuesWordsAndDigits() {
+        var index = customers();
+
+        assertEquals(List.of("Jane Smith", "John Doe", "Bob Johnson", "José Ángel"), index.complete("j", 10));
+        assertEquals(List.of("John Doe", "Bob Johnson"), index.complete("JOHN", 10));
+        assertEquals(List.of("John Doe"), index.complete("john  d", 10));
+        assertEquals(List.of("Jane Smith"), index.complete("smi", 10));
+        assertEquals(List.of("Jane Smith"), index.complete("98765", 10));
+        assertEquals(List.of("Bob Johnson"), index.complete("55512343", 10));
+        assertEquals(List.of("Bob Johnson"), index.complete("555-1234-3", 10));
+        assertEquals(List.of("José Ángel"), index.complete("jose an", 10));
+        assertEquals(List.of(), index.complete("x", 10));
+        assertEquals(List.of(), index.complete(" ", 10));
+    }
+
+    @Test
+    public void completeShouldStopAtLimitWithoutRepeatingIds() {
+        var index = customers();
+
+        assertEquals(List.of("John Doe", "Jane Smith"), index.complete("555", 2));
+        assertEquals(4, index.complete("555", 10).size());
+    }
+
+    @Test
+    public void putShouldReplaceKeysOfExistingId() {
+        var index = customers();
+
+        index.put(1L, "Johnny Walker", List.of("Johnny Walker"));
+        index.put(5L, "Ann Doe", List.of("Ann Doe"));
+
+        assertEquals(List.of("Ann Doe"), index.complete("doe", 10));
+        assertEquals(List.of("Johnny Walker"), index.complete("walk", 10));
+        assertEquals(List.of(), index.complete("123456789", 10));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    public void removeShouldDropAllKeysOfId() {
+        var index = customers();
+
+        index.remove(2L);
+        index.remove(42L);
+
+        assertEquals(List.of("John Doe", "Bob Johnson", "José Ángel"), index.complete("j", 10));
+        assertEquals(List.of(), index.complete("smith", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void incrementalPutsShouldMatchBulkBuild() {
+        var documents = new ArrayList<PrefixIndex.Document<String>>();
+        var incremental = new PrefixIndex<String>();
+        for (long id = 1; id <= 2_000; id++) {
+            var name = "Customer " + (id * 7919 % 2_000);
+            documents.add(new PrefixIndex.Document<>(id, name, List.of(name, "555-" + id)));
+            incremental.put(id, name, List.of(name, "555-" + id));
+        }
+        var bulk = PrefixIndex.of(documents);
+
+        for (var prefix : List.of("customer 1", "customer 19", "555-1", "5551999", "99")) {
+            assertEquals(bulk.complete(prefix, 25), incremental.complete(prefix, 25));
+        }
+    }
+}
+
+
+
+
+
+
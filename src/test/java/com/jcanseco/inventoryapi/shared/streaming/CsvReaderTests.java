@@ -0,0 +1,45 @@
+package com.jcanseco.inventoryapi.shared.streaming;
+
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvReaderTests {
+
+    @Test
+    public void readRowShouldSplitPlainFields() throws Exception {
+        var reader = new CsvReader(new StringReader("name,price\r\nLaptop,1200\r\n"));
+
+        assertEquals(List.of("name", "price"), reader.readRow());
+        assertEquals(List.of("Laptop", "1200"), reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRowShouldUnquoteFieldsWithSeparatorsQuotesAndLineBreaks() throws Exception {
+        var reader = new CsvReader(new StringReader("\"Smith, John\",\"say \"\"hi\"\"\",\"two\nlines\"\nlast,,"));
+
+        assertEquals(List.of("Smith, John", "say \"hi\"", "two\nlines"), reader.readRow());
+        assertEquals(List.of("last", "", ""), reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void getLineNumberShouldPointToLineWhereRowStarts() throws Exception {
+        var reader = new CsvReader(new StringReader("header\n\"multi\nline\"\n\nnext\r\n"));
+
+        reader.readRow();
+        assertEquals(1, reader.getLineNumber());
+        reader.readRow();
+        assertEquals(2, reader.getLineNumber());
+        assertEquals(List.of("next"), reader.readRow());
+        assertEquals(5, reader.getLineNumber());
+    }
+}
+
+
+
+
+
+
@@ -0,0 +1,55 @@
+package com.jcanseco.inventoryapi.shared.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jcanseco.inventoryapi.shared.address.AddressDto;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CsvRowWriterTests {
+
+    private record Row(Long id, String name, LocalDateTime createdAt, AddressDto address, List<Long> tags) {
+    }
+
+    private ObjectMapper objectMapper;
+    private ByteArrayOutputStream output;
+    private CsvRowWriter<Row> writer;
+
+    @BeforeEach
+    public void setup() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        output = new ByteArrayOutputStream();
+        writer = new CsvRowWriter<>(output, objectMapper);
+    }
+
+    @Test
+    public void writeShouldWriteHeaderFromFirstRowAndFlattenNestedObjects() throws Exception {
+        var address = AddressDto.builder().country("Mexico").city("CDMX").build();
+        writer.write(new Row(1L, "Laptop", LocalDateTime.of(2023, 5, 1, 10, 0), address, List.of(1L, 2L)));
+        writer.write(new Row(2L, null, null, null, List.of()));
+        writer.flush();
+
+        var lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,name,createdAt,address.country,address.state,address.city,address.zipCode,address.street,tags", lines[0]);
+        assertEquals("1,Laptop,2023-05-01T10:00:00,Mexico,,CDMX,,,\"[1,2]\"", lines[1]);
+        assertEquals("2,,,,,,,,[]", lines[2]);
+    }
+
+    @Test
+    public void writeShouldQuoteSpecialCharactersAndNeutralizeFormulas() throws Exception {
+        writer.write(new Row(1L, "Desk, \"Oak\"", null, null, null));
+        writer.write(new Row(2L, "=SUM(A1:A2)", null, null, null));
+        writer.flush();
+
+        var lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals("1,\"Desk, \"\"Oak\"\"\",,,", lines[1]);
+        assertEquals("2,'=SUM(A1:A2),,,", lines[2]);
+    }
+}
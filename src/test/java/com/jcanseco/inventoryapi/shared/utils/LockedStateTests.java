@@ -0,0 +1,100 @@
+package com.jcanseco.inventoryapi.shared.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LockedStateTests {
+
+    private final LockedState<List<String>> state = new LockedState<>();
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void changesBeforeTheFirstLoadShouldBeDropped() {
+        state.updateAfterCommit(current -> current.add("dropped"));
+
+        state.load(ArrayList::new);
+
+        assertEquals(List.of(), state.read(List::copyOf));
+    }
+
+    @Test
+    public void changesCommittedWhileLoadingShouldBeReplayedOnTheLoadedState() {
+        state.load(() -> new ArrayList<>(List.of("old")));
+
+        state.load(() -> {
+            // Commits after the loader read the database, so the loaded state misses it.
+            state.updateAfterCommit(current -> current.add("during"));
+            return new ArrayList<>(List.of("loaded"));
+        });
+
+        assertEquals(List.of("loaded", "during"), state.read(List::copyOf));
+    }
+
+    @Test
+    public void aFailedLoadShouldKeepTheCurrentStateWithItsChanges() {
+        state.load(() -> new ArrayList<>(List.of("old")));
+
+        assertThrows(IllegalStateException.class, () -> state.load(() -> {
+            state.updateAfterCommit(current -> current.add("during"));
+            throw new IllegalStateException("failed");
+        }));
+
+        assertEquals(List.of("old", "during"), state.read(List::copyOf));
+    }
+
+    @Test
+    public void changesShouldOnlyApplyOnceTheTransactionCommits() {
+        state.load(ArrayList::new);
+        TransactionSynchronizationManager.initSynchronization();
+        state.updateAfterCommit(current -> current.add("committed"));
+
+        assertEquals(List.of(), state.read(List::copyOf));
+        commit();
+
+        assertEquals(List.of("committed"), state.read(List::copyOf));
+    }
+
+    @Test
+    public void aSkippedReadShouldRunBeforeTheCommitWhenALoadStartedMeanwhile() {
+        var reads = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        state.readAndUpdateAfterCommit(() -> {
+            reads.incrementAndGet();
+            return current -> current.add("delivered");
+        });
+        assertEquals(0, reads.get());
+
+        // The load reads the database before the transaction commits, so the change must be read late.
+        state.load(ArrayList::new);
+        commit();
+
+        assertEquals(1, reads.get());
+        assertEquals(List.of("delivered"), state.read(List::copyOf));
+    }
+
+    private static void commit() {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::beforeCompletion);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
+
+
+
+
+
+
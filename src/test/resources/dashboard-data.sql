@@ -1,3 +1,7 @@
+DELETE FROM daily_sales;
+DELETE FROM daily_product_sales;
+DELETE FROM daily_customer_sales;
+DELETE FROM daily_supplier_purchases;
 DELETE FROM purchase_items;
 DELETE FROM purchases;
 DELETE FROM order_items;